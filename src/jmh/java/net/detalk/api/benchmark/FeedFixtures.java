@@ -0,0 +1,55 @@
+package net.detalk.api.benchmark;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import net.detalk.api.post.controller.v1.response.GetProductPostResponse;
+import net.detalk.api.post.controller.v1.response.GetProductPostResponse.Media;
+
+/**
+ * 벤치마크용 합성 피드 데이터
+ */
+final class FeedFixtures {
+
+    static final Instant CREATED_AT = Instant.parse("2025-01-01T12:00:00Z");
+
+    private FeedFixtures() {
+    }
+
+    static List<String> tags() {
+        return List.of("ai", "design", "productivity");
+    }
+
+    static List<Media> media() {
+        return List.of(
+            new Media("https://imagedelivery.net/hash/0000-image-1/public", 0),
+            new Media("https://imagedelivery.net/hash/0000-image-2/public", 1),
+            new Media("https://imagedelivery.net/hash/0000-image-3/public", 2)
+        );
+    }
+
+    /**
+     * id 내림차순 게시글 count 개
+     */
+    static List<GetProductPostResponse> posts(int count) {
+        List<GetProductPostResponse> posts = new ArrayList<>(count);
+        for (long id = count; id > 0; id--) {
+            posts.add(GetProductPostResponse.builder()
+                .id(id)
+                .nickname("nickname-" + id)
+                .userHandle("handle_" + id)
+                .createdAt(CREATED_AT)
+                .isMaker(id % 2 == 0)
+                .avatarUrl("https://imagedelivery.net/hash/avatar-" + id + "/public")
+                .title("product title " + id)
+                .description("a fairly typical product description used for benchmarking " + id)
+                .pricingPlan("FREE")
+                .recommendCount((int) id * 3)
+                .tags(tags())
+                .media(media())
+                .urls(List.of("https://example.com/products/" + id))
+                .build());
+        }
+        return posts;
+    }
+}
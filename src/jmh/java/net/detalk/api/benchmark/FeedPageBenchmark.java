@@ -0,0 +1,53 @@
+package net.detalk.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.detalk.api.post.controller.v1.response.GetProductPostResponse;
+import net.detalk.api.post.domain.ProductPostSort;
+import net.detalk.api.support.paging.CursorPageData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 피드 페이지 생성(CursorPageData.of)과 응답 JSON 직렬화 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeedPageBenchmark {
+
+    @Param({"5", "20"})
+    int pageSize;
+
+    private ObjectMapper objectMapper;
+    private List<GetProductPostResponse> fetched;
+    private CursorPageData<GetProductPostResponse> page;
+
+    @Setup
+    public void setUp() {
+        // 스프링 부트 기본 ObjectMapper 와 같은 설정 (JavaTimeModule 등)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        fetched = FeedFixtures.posts(pageSize + 1);
+        page = createCursorPage();
+    }
+
+    @Benchmark
+    public CursorPageData<GetProductPostResponse> createCursorPage() {
+        return CursorPageData.of(fetched, pageSize, ProductPostSort.LATEST::nextIdOf,
+            ProductPostSort.LATEST::cursorOf);
+    }
+
+    @Benchmark
+    public byte[] serializeCursorPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,79 @@
+package net.detalk.api.benchmark;
+
+import static net.detalk.jooq.tables.JProductPostCard.PRODUCT_POST_CARD;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.detalk.api.post.controller.v1.response.GetProductPostResponse;
+import net.detalk.api.post.domain.ProductPostSort;
+import net.detalk.api.post.repository.impl.ProductPostRepositoryImpl;
+import org.jooq.DSLContext;
+import org.jooq.JSONB;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 피드 목록 조회 (product_post_card row -> GetProductPostResponse) 매핑 비용
+ * DB 대신 jOOQ MockConnection 이 합성 row 를 돌려주므로, JDBC 결과 읽기부터 media JSONB 역직렬화까지 포함된다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductPostCardMappingBenchmark {
+
+    @Param({"5", "20"})
+    int pageSize;
+
+    private ProductPostRepositoryImpl repository;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        JSONB media = JSONB.valueOf(objectMapper.writeValueAsString(FeedFixtures.media()));
+
+        DSLContext create = DSL.using(SQLDialect.POSTGRES);
+        var cards = create.newResult(PRODUCT_POST_CARD);
+        for (long id = pageSize + 1; id > 0; id--) {
+            var card = create.newRecord(PRODUCT_POST_CARD);
+            card.set(PRODUCT_POST_CARD.POST_ID, id);
+            card.set(PRODUCT_POST_CARD.WRITER_ID, id);
+            card.set(PRODUCT_POST_CARD.SNAPSHOT_ID, id);
+            card.set(PRODUCT_POST_CARD.NICKNAME, "nickname-" + id);
+            card.set(PRODUCT_POST_CARD.USERHANDLE, "handle_" + id);
+            card.set(PRODUCT_POST_CARD.AVATAR_URL, "https://imagedelivery.net/hash/avatar/public");
+            card.set(PRODUCT_POST_CARD.IS_MAKER, id % 2 == 0);
+            card.set(PRODUCT_POST_CARD.TITLE, "product title " + id);
+            card.set(PRODUCT_POST_CARD.DESCRIPTION, "a fairly typical product description");
+            card.set(PRODUCT_POST_CARD.PRICING_PLAN, "FREE");
+            card.set(PRODUCT_POST_CARD.RECOMMEND_COUNT, id * 3);
+            card.set(PRODUCT_POST_CARD.TAGS, FeedFixtures.tags().toArray(String[]::new));
+            card.set(PRODUCT_POST_CARD.URLS, new String[]{"https://example.com/products/" + id});
+            card.set(PRODUCT_POST_CARD.MEDIA, media);
+            card.set(PRODUCT_POST_CARD.CREATED_AT, FeedFixtures.CREATED_AT);
+            cards.add(card);
+        }
+
+        DSLContext dsl = DSL.using(
+            new MockConnection(context -> new MockResult[]{new MockResult(cards.size(), cards)}),
+            SQLDialect.POSTGRES);
+        repository = new ProductPostRepositoryImpl(dsl, objectMapper);
+    }
+
+    @Benchmark
+    public List<GetProductPostResponse> findProductPosts() {
+        return repository.findProductPosts(pageSize + 1, ProductPostSort.LATEST, null);
+    }
+}
@@ -0,0 +1,108 @@
+package net.detalk.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import net.detalk.api.support.config.AppProperties;
+import net.detalk.api.support.error.ErrorCode;
+import net.detalk.api.support.error.ErrorMessage;
+import net.detalk.api.support.security.AccessToken;
+import net.detalk.api.support.security.SecurityRole;
+import net.detalk.api.support.security.SecurityUser;
+import net.detalk.api.support.security.TokenFilter;
+import net.detalk.api.support.security.TokenProvider;
+import net.detalk.api.support.util.SystemUUIDGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static net.detalk.api.support.util.Constant.COOKIE_ACCESS_TOKEN;
+
+/**
+ * 인증 필터 요청당 할당량
+ * -PjmhProfilers=gc 로 실행해 gc.alloc.rate.norm(B/op)을 legacy* 와 비교한다.
+ * legacy* 는 변경 전 TokenFilter / HasRoleArgumentResolver 구현을 옮긴 기준선이다.
+ * (SecurityUser 생성자는 현재 구현을 쓰므로 권한 목록 복사 1회가 기준선에 더해진다)
+ * 에러 응답은 현재 정적 바이트 배열을 그대로 쓰므로 legacyErrorBody 만큼의 할당이 사라진다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenFilterBenchmark {
+
+    private TokenProvider tokenProvider;
+    private TokenFilter tokenFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain filterChain;
+    private int requiredRoleMask;
+
+    @Setup
+    public void setUp() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setTokenSecret("benchmark-token-secret-benchmark-token-secret");
+        appProperties.setAccessTokenExpiresInSeconds(3600);
+        appProperties.setRefreshTokenExpiresInSeconds(3600);
+
+        tokenProvider = new TokenProvider(appProperties, new SystemUUIDGenerator());
+        tokenFilter = new TokenFilter(tokenProvider);
+
+        String accessToken = tokenProvider.createAccessToken(1L, List.of(SecurityRole.MEMBER.getName())).getValue();
+        request = new MockHttpServletRequest("GET", "/api/v1/posts");
+        request.setCookies(
+            new Cookie("JSESSIONID", "benchmark"),
+            new Cookie("theme", "dark"),
+            new Cookie(COOKIE_ACCESS_TOKEN, accessToken));
+        response = new MockHttpServletResponse();
+        filterChain = (req, res) -> { };
+        requiredRoleMask = SecurityRole.maskOf(SecurityRole.MEMBER, SecurityRole.ADMIN);
+    }
+
+    @Benchmark
+    public boolean filterAndResolve() throws Exception {
+        tokenFilter.doFilter(request, response, filterChain);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityUser user = (SecurityUser) authentication.getPrincipal();
+        return user.hasAnyRole(requiredRoleMask);
+    }
+
+    @Benchmark
+    public boolean legacyFilterAndResolve() {
+        Optional<Cookie> cookie = Arrays.stream(request.getCookies())
+            .filter(c -> c.getName().equals(COOKIE_ACCESS_TOKEN))
+            .findFirst();
+        AccessToken verified = tokenProvider.parseAccessToken(cookie.orElseThrow().getValue());
+
+        List<GrantedAuthority> authorities = AuthorityUtils.createAuthorityList(verified.getAuthorities());
+        SecurityUser principal = new SecurityUser(verified.getMemberId(), authorities);
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(principal, null, authorities));
+
+        SecurityUser user = (SecurityUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        return Arrays.stream(new SecurityRole[]{SecurityRole.MEMBER, SecurityRole.ADMIN})
+            .map(SecurityRole::getName)
+            .anyMatch(role -> user.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(role::equals));
+    }
+
+    @Benchmark
+    public String legacyErrorBody() throws Exception {
+        return new ObjectMapper().writeValueAsString(new ErrorMessage(ErrorCode.TOKEN_INVALID));
+    }
+}
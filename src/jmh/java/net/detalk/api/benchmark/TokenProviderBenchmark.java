@@ -0,0 +1,43 @@
+package net.detalk.api.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.detalk.api.support.config.AppProperties;
+import net.detalk.api.support.security.AccessToken;
+import net.detalk.api.support.security.TokenProvider;
+import net.detalk.api.support.util.SystemUUIDGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 요청마다 실행되는 액세스 토큰 검증/파싱 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenProviderBenchmark {
+
+    private TokenProvider tokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setTokenSecret("benchmark-token-secret-benchmark-token-secret");
+        appProperties.setAccessTokenExpiresInSeconds(3600);
+        appProperties.setRefreshTokenExpiresInSeconds(3600);
+
+        tokenProvider = new TokenProvider(appProperties, new SystemUUIDGenerator());
+        accessToken = tokenProvider.createAccessToken(1L, List.of("ROLE_USER")).getValue();
+    }
+
+    @Benchmark
+    public AccessToken parseAccessToken() {
+        return tokenProvider.parseAccessToken(accessToken);
+    }
+}
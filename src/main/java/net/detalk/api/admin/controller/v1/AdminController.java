@@ -3,18 +3,41 @@ package net.detalk.api.admin.controller.v1;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import net.detalk.api.admin.controller.v1.response.GetActiveSessionResponse;
+import net.detalk.api.admin.controller.v1.response.GetProductPostCardConsistencyResponse;
+import net.detalk.api.admin.controller.v1.response.GetQueryMetricsResponse;
+import net.detalk.api.admin.controller.v1.response.RebuildProductPostCardResponse;
 import net.detalk.api.admin.controller.v1.response.GetVisitorLogResponse;
+import net.detalk.api.admin.controller.v1.response.GetVisitorRollupPointResponse;
+import net.detalk.api.admin.controller.v1.response.GetVisitorRollupRankResponse;
+import net.detalk.api.admin.domain.VisitorLogIngestionMetrics;
+import net.detalk.api.admin.domain.VisitorRollupDimension;
+import net.detalk.api.admin.domain.VisitorRollupGranularity;
 import net.detalk.api.admin.service.SessionTrackingService;
+import net.detalk.api.admin.service.VisitorLogIngestor;
 import net.detalk.api.admin.service.VisitorLogService;
-import net.detalk.api.support.paging.PagingData;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import net.detalk.api.admin.service.VisitorRollupService;
+import net.detalk.api.post.service.ProductPostCardService;
+import net.detalk.api.retention.domain.RetentionRunResult;
+import net.detalk.api.retention.service.RetentionService;
+import net.detalk.api.support.paging.KeysetPageData;
+import net.detalk.api.support.paging.TotalCountMode;
+import net.detalk.api.support.query.QueryMetricsRegistry;
+import net.detalk.api.support.query.QueryMetricsSort;
+import net.detalk.api.support.security.TokenProvider;
+import net.detalk.api.support.security.TokenVerificationMetrics;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -27,6 +50,12 @@ public class AdminController {
 
     private final SessionTrackingService sessionTrackingService;
     private final VisitorLogService visitorLogService;
+    private final VisitorLogIngestor visitorLogIngestor;
+    private final VisitorRollupService visitorRollupService;
+    private final ProductPostCardService productPostCardService;
+    private final TokenProvider tokenProvider;
+    private final RetentionService retentionService;
+    private final QueryMetricsRegistry queryMetricsRegistry;
 
     @Operation(summary = "접속중인 세션 목록 조회", description = "현재 접속중인 모든 사용자의 세션 정보를 조회합니다")
     @ApiResponse(responseCode = "200", description = "조회 성공")
@@ -37,19 +66,151 @@ public class AdminController {
         return ResponseEntity.ok(activeSessions);
     }
 
-    @Operation(summary = "방문자 정보 목록 조회", description = "사이트에 방문한 회원의 위치 정보를 페이징하여 조회합니다")
+    @Operation(summary = "방문자 정보 목록 조회", description = "사이트에 방문한 회원의 위치 정보를 최근 방문 순으로 커서 페이징하여 조회합니다")
     @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "잘못된 커서")
     @ApiResponse(responseCode = "403", description = "권한 없음")
-    @Parameter(name = "page", description = "페이지 번호 (0부터 시작)", example = "0")
     @Parameter(name = "size", description = "페이지당 항목 수", example = "10")
+    @Parameter(name = "cursor", description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+    @Parameter(name = "totalCount", description = "전체 개수 계산 방식 (NONE, ESTIMATED, CACHED)", example = "ESTIMATED")
     @GetMapping("/visitor-logs")
-    public ResponseEntity<PagingData<GetVisitorLogResponse>> getVisitorLogs(
-        @RequestParam(name = "page", defaultValue = "0") int page,
-        @RequestParam(name = "size", defaultValue = "10") int size
+    public ResponseEntity<KeysetPageData<GetVisitorLogResponse>> getVisitorLogs(
+        @RequestParam(name = "size", defaultValue = "10") int pageSize,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "totalCount", defaultValue = "ESTIMATED") TotalCountMode totalCountMode
     ) {
-        Pageable pageable = PageRequest.of(page, size);
-        PagingData<GetVisitorLogResponse> result = visitorLogService.findAll(pageable);
+        KeysetPageData<GetVisitorLogResponse> result = visitorLogService.findAll(pageSize, cursor, totalCountMode);
         return ResponseEntity.ok(result);
     }
 
+    @Operation(summary = "방문자 통계 시계열 조회", description = "시간/일 단위 방문 수를 집계 테이블에서 조회합니다. value 를 생략하면 전체 방문 수입니다")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "잘못된 조회 기간")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @Parameter(name = "from", description = "시작 시각 (포함)", example = "2025-01-01T00:00:00")
+    @Parameter(name = "to", description = "종료 시각 (미포함)", example = "2025-01-08T00:00:00")
+    @GetMapping("/visitor-logs/rollups/series")
+    public ResponseEntity<List<GetVisitorRollupPointResponse>> getVisitorRollupSeries(
+        @RequestParam(name = "granularity", defaultValue = "DAY") VisitorRollupGranularity granularity,
+        @RequestParam(name = "dimension", defaultValue = "COUNTRY") VisitorRollupDimension dimension,
+        @RequestParam(name = "value", required = false) String value,
+        @RequestParam(name = "from") @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(name = "to") @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return ResponseEntity.ok(visitorRollupService.findSeries(granularity, dimension, value, from, to));
+    }
+
+    @Operation(summary = "방문자 통계 상위 N 조회", description = "기간 내 국가/대륙/referer 호스트/User-Agent 계열별 방문 수 상위 항목을 조회합니다")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "잘못된 조회 기간")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @Parameter(name = "from", description = "시작 시각 (포함)", example = "2025-01-01T00:00:00")
+    @Parameter(name = "to", description = "종료 시각 (미포함)", example = "2025-01-08T00:00:00")
+    @GetMapping("/visitor-logs/rollups/top")
+    public ResponseEntity<List<GetVisitorRollupRankResponse>> getVisitorRollupTop(
+        @RequestParam(name = "dimension") VisitorRollupDimension dimension,
+        @RequestParam(name = "granularity", defaultValue = "DAY") VisitorRollupGranularity granularity,
+        @RequestParam(name = "from") @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(name = "to") @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to,
+        @RequestParam(name = "limit", defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(visitorRollupService.findTop(granularity, dimension, from, to, limit));
+    }
+
+    @Operation(summary = "방문자 통계 재생성", description = "지난 날짜 구간의 집계를 원본 방문자 로그에서 다시 만듭니다")
+    @ApiResponse(responseCode = "200", description = "재생성 성공, 생성한 집계 row 수")
+    @ApiResponse(responseCode = "400", description = "잘못된 날짜 구간")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @Parameter(name = "from", description = "시작 날짜 (포함)", example = "2025-01-01")
+    @Parameter(name = "to", description = "종료 날짜 (미포함, 오늘 이전)", example = "2025-01-08")
+    @PostMapping("/visitor-logs/rollups/rebuild")
+    public ResponseEntity<Integer> rebuildVisitorRollups(
+        @RequestParam(name = "from") @DateTimeFormat(iso = ISO.DATE) LocalDate from,
+        @RequestParam(name = "to") @DateTimeFormat(iso = ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(visitorRollupService.rebuild(from, to));
+    }
+
+    @Operation(summary = "방문자 로그 수집 지표", description = "수집 큐 깊이, 버림/넘침 수, 배치 저장 지연 시간을 조회합니다")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @GetMapping("/metrics/visitor-logs")
+    public ResponseEntity<VisitorLogIngestionMetrics> getVisitorLogIngestionMetrics() {
+        return ResponseEntity.ok(visitorLogIngestor.getMetrics());
+    }
+
+    @Operation(summary = "게시글 카드 정합성 검사", description = "피드 조회용 게시글 카드가 정규화 테이블과 일치하는지 검사합니다")
+    @ApiResponse(responseCode = "200", description = "검사 성공")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @GetMapping("/post-cards/consistency")
+    public ResponseEntity<GetProductPostCardConsistencyResponse> checkProductPostCards() {
+        List<Long> inconsistentPostIds = productPostCardService.findInconsistentPostIds();
+        return ResponseEntity.ok(GetProductPostCardConsistencyResponse.of(inconsistentPostIds));
+    }
+
+    @Operation(summary = "게시글 카드 복구", description = "정규화 테이블과 일치하지 않는 게시글 카드만 다시 생성합니다")
+    @ApiResponse(responseCode = "200", description = "복구 성공")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @PostMapping("/post-cards/repair")
+    public ResponseEntity<GetProductPostCardConsistencyResponse> repairProductPostCards() {
+        List<Long> repairedPostIds = productPostCardService.repair();
+        return ResponseEntity.ok(GetProductPostCardConsistencyResponse.of(repairedPostIds));
+    }
+
+    @Operation(summary = "게시글 카드 재생성", description = "모든 게시글 카드를 정규화 테이블 기준으로 다시 생성합니다")
+    @ApiResponse(responseCode = "200", description = "재생성 성공")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @PostMapping("/post-cards/rebuild")
+    public ResponseEntity<RebuildProductPostCardResponse> rebuildProductPostCards() {
+        int rebuiltCount = productPostCardService.rebuild();
+        return ResponseEntity.ok(new RebuildProductPostCardResponse(rebuiltCount));
+    }
+
+    @Operation(summary = "액세스 토큰 검증 지표 조회", description = "검증 캐시 적중률, 제거 수, 서명 검증 평균 시간을 조회합니다")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @GetMapping("/metrics/access-tokens")
+    public ResponseEntity<TokenVerificationMetrics> getAccessTokenMetrics() {
+        return ResponseEntity.ok(tokenProvider.getVerificationMetrics());
+    }
+
+    @Operation(summary = "쿼리 지표 조회", description = "쿼리 지문별 실행 시간/row 수 분포(p50, p90, p99)와 느린 실행의 실행 계획을 조회합니다")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @Parameter(name = "sort", description = "정렬 기준 (TOTAL_TIME, P99, COUNT)", example = "TOTAL_TIME")
+    @Parameter(name = "limit", description = "조회할 지문 수", example = "20")
+    @GetMapping("/metrics/queries")
+    public ResponseEntity<GetQueryMetricsResponse> getQueryMetrics(
+        @RequestParam(name = "sort", defaultValue = "TOTAL_TIME") QueryMetricsSort sort,
+        @RequestParam(name = "limit", defaultValue = "20") @Min(1) @Max(500) int limit
+    ) {
+        return ResponseEntity.ok(new GetQueryMetricsResponse(queryMetricsRegistry.getSince(),
+            queryMetricsRegistry.getMetrics(sort, limit)));
+    }
+
+    @Operation(summary = "쿼리 지표 초기화", description = "누적된 쿼리 지문별 통계를 비우고 새로 집계합니다")
+    @ApiResponse(responseCode = "204", description = "초기화 성공")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @PostMapping("/metrics/queries/reset")
+    public ResponseEntity<Void> resetQueryMetrics() {
+        queryMetricsRegistry.reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "보관 기간 정리 결과 조회", description = "테이블별 마지막 정리 결과(삭제 row 수, 삭제/생성 파티션 수, 소요 시간)를 조회합니다")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @GetMapping("/retention")
+    public ResponseEntity<List<RetentionRunResult>> getRetentionResults() {
+        return ResponseEntity.ok(retentionService.getLastResults());
+    }
+
+    @Operation(summary = "보관 기간 정리 실행", description = "보관 기간이 지난 데이터를 즉시 정리합니다")
+    @ApiResponse(responseCode = "200", description = "정리 성공")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @PostMapping("/retention/run")
+    public ResponseEntity<List<RetentionRunResult>> runRetention() {
+        return ResponseEntity.ok(retentionService.runAll());
+    }
+
 }
@@ -0,0 +1,18 @@
+package net.detalk.api.admin.controller.v1.response;
+
+import java.util.List;
+
+/**
+ * 게시글 카드 정합성 검사 결과 응답 DTO (주의 : 어드민 API 전용)
+ * @param consistent 정규화 테이블과 모두 일치하면 true
+ * @param inconsistentPostIds 불일치 게시글 ID 목록
+ */
+public record GetProductPostCardConsistencyResponse(
+    boolean consistent,
+    List<Long> inconsistentPostIds
+) {
+    public static GetProductPostCardConsistencyResponse of(List<Long> inconsistentPostIds) {
+        return new GetProductPostCardConsistencyResponse(inconsistentPostIds.isEmpty(),
+            inconsistentPostIds);
+    }
+}
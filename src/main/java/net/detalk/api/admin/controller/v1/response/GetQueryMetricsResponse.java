@@ -0,0 +1,17 @@
+package net.detalk.api.admin.controller.v1.response;
+
+import java.time.Instant;
+import java.util.List;
+import net.detalk.api.support.query.QueryMetrics;
+
+/**
+ * 쿼리 지표 응답 DTO (주의 : 어드민 API 전용)
+ * @param since   통계 집계 시작 시각 (서버 시작 또는 마지막 초기화)
+ * @param queries 쿼리 지문별 통계
+ */
+public record GetQueryMetricsResponse(
+    Instant since,
+    List<QueryMetrics> queries
+) {
+
+}
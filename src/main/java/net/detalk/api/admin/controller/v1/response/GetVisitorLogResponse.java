@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 /**
  * 방문자 로그 정보 응답 DTO (주의 : 어드민 API 전용)
+ * @param id 방문자 로그 ID (다음 페이지 커서)
  * @param sessionId 세션 식별자
  * @param continentCode 대륙 코드
  * @param countryIso 국가 ISO 코드
@@ -13,6 +14,7 @@ import java.time.LocalDateTime;
  * @param referer 방문 경로 (이전 URL 주소)
  */
 public record GetVisitorLogResponse(
+    Long id,
     String sessionId,
     String continentCode,
     String countryIso,
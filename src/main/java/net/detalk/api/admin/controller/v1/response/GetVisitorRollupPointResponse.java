@@ -0,0 +1,15 @@
+package net.detalk.api.admin.controller.v1.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 방문자 통계 시계열 응답 DTO (주의 : 어드민 API 전용)
+ * @param bucketStart 구간 시작 시각
+ * @param visitCount 방문 수
+ */
+public record GetVisitorRollupPointResponse(
+    LocalDateTime bucketStart,
+    long visitCount
+) {
+
+}
@@ -0,0 +1,13 @@
+package net.detalk.api.admin.controller.v1.response;
+
+/**
+ * 방문자 통계 상위 N 응답 DTO (주의 : 어드민 API 전용)
+ * @param value 집계 기준 값 (국가 ISO 코드, 대륙 코드, referer 호스트, User-Agent 계열)
+ * @param visitCount 방문 수
+ */
+public record GetVisitorRollupRankResponse(
+    String value,
+    long visitCount
+) {
+
+}
@@ -0,0 +1,9 @@
+package net.detalk.api.admin.controller.v1.response;
+
+/**
+ * 게시글 카드 재생성 결과 응답 DTO (주의 : 어드민 API 전용)
+ * @param rebuiltCount 재생성된 카드 수
+ */
+public record RebuildProductPostCardResponse(
+    int rebuiltCount
+) {}
@@ -0,0 +1,13 @@
+package net.detalk.api.admin.domain;
+
+/**
+ * 방문자 로그에 저장하는 위치 정보 (CityResponse 중 필요한 값만 보관)
+ * @param continentCode 대륙 코드 (예: "NA")
+ * @param countryIso 국가 ISO 코드 (예: "US")
+ * @param countryName 등록 국가명 (예: "United States")
+ */
+public record GeoLocation(
+    String continentCode,
+    String countryIso,
+    String countryName
+) {}
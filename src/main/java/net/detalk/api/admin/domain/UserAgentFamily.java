@@ -0,0 +1,50 @@
+package net.detalk.api.admin.domain;
+
+import java.util.Locale;
+
+/**
+ * 방문자 통계용 User-Agent 계열
+ * 다른 브라우저 이름을 함께 포함하는 User-Agent 가 많으므로 (예: Edge 는 Chrome, Safari 를 포함) 구체적인 계열부터 검사한다
+ */
+public enum UserAgentFamily {
+
+    BOT,
+    EDGE,
+    OPERA,
+    SAMSUNG_INTERNET,
+    CHROME,
+    FIREFOX,
+    SAFARI,
+    OTHER,
+    UNKNOWN;
+
+    public static UserAgentFamily of(String userAgent) {
+        if (userAgent == null || userAgent.isBlank()) {
+            return UNKNOWN;
+        }
+
+        String ua = userAgent.toLowerCase(Locale.ROOT);
+        if (ua.contains("bot") || ua.contains("crawler") || ua.contains("spider")) {
+            return BOT;
+        }
+        if (ua.contains("edg/") || ua.contains("edge/")) {
+            return EDGE;
+        }
+        if (ua.contains("opr/") || ua.contains("opera")) {
+            return OPERA;
+        }
+        if (ua.contains("samsungbrowser/")) {
+            return SAMSUNG_INTERNET;
+        }
+        if (ua.contains("chrome/") || ua.contains("crios/")) {
+            return CHROME;
+        }
+        if (ua.contains("firefox/") || ua.contains("fxios/")) {
+            return FIREFOX;
+        }
+        if (ua.contains("safari/")) {
+            return SAFARI;
+        }
+        return OTHER;
+    }
+}
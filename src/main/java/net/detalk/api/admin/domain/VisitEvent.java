@@ -0,0 +1,14 @@
+package net.detalk.api.admin.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 위치 정보를 조회하기 전의 방문 기록 (수집 큐, 넘침 파일에 저장되는 단위)
+ */
+public record VisitEvent(
+    String clientIp,
+    String sessionId,
+    String userAgent,
+    String referer,
+    LocalDateTime visitedAt
+) {}
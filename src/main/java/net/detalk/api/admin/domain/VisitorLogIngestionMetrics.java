@@ -0,0 +1,26 @@
+package net.detalk.api.admin.domain;
+
+/**
+ * 방문자 로그 수집 지표
+ * @param queueDepth 저장 대기 중인 방문 수
+ * @param droppedCount 큐/넘침 파일 모두 실패해 버린 방문 수
+ * @param sampledOutCount SAMPLE 정책으로 받지 않은 방문 수
+ * @param spilledCount 넘침 파일에 기록한 방문 수
+ * @param resolveFailedCount 위치 정보 조회 실패로 저장하지 못한 방문 수
+ * @param flushedRows 저장한 row 수
+ * @param flushCount 배치 INSERT 횟수
+ */
+public record VisitorLogIngestionMetrics(
+    int queueDepth,
+    int queueCapacity,
+    long enqueuedCount,
+    long droppedCount,
+    long sampledOutCount,
+    long spilledCount,
+    long resolveFailedCount,
+    long flushedRows,
+    long flushCount,
+    double lastFlushMillis,
+    double averageFlushMillis,
+    double maxFlushMillis
+) {}
@@ -0,0 +1,18 @@
+package net.detalk.api.admin.domain;
+
+/**
+ * 방문자 로그 수집 큐가 넘칠 때의 처리 방식
+ */
+public enum VisitorLogOverflowPolicy {
+
+    /**
+     * 큐가 3/4 이상 차면 visitorLogSampleRate 건 중 1건만 받고, 가득 차면 버린다
+     */
+    SAMPLE,
+
+    /**
+     * 가득 차면 같은 크기의 넘침 버퍼에 넣고 소비자가 로컬 파일(visitorLogSpillPath)에 기록한 뒤,
+     * 큐가 비었을 때 다시 읽어 저장한다. 넘침 버퍼도 가득 차면 버린다
+     */
+    SPILL
+}
@@ -0,0 +1,53 @@
+package net.detalk.api.admin.domain;
+
+import java.net.URI;
+import java.util.Locale;
+
+/**
+ * 방문자 통계 집계 기준
+ * 방문 1건은 기준마다 한 번씩 집계되므로, 한 기준의 값을 모두 더하면 전체 방문 수가 된다
+ */
+public enum VisitorRollupDimension {
+
+    COUNTRY,
+    CONTINENT,
+    REFERER_HOST,
+    USER_AGENT_FAMILY;
+
+    public static final String UNKNOWN_VALUE = "UNKNOWN";
+    public static final String DIRECT_REFERER = "(direct)";
+
+    private static final int MAX_VALUE_LENGTH = 255;
+
+    public String valueOf(VisitorLog visitorLog) {
+        return switch (this) {
+            case COUNTRY -> orUnknown(visitorLog.getCountryIso());
+            case CONTINENT -> orUnknown(visitorLog.getContinentCode());
+            case REFERER_HOST -> refererHost(visitorLog.getReferer());
+            case USER_AGENT_FAMILY -> UserAgentFamily.of(visitorLog.getUserAgent()).name();
+        };
+    }
+
+    private static String orUnknown(String value) {
+        return value == null || value.isBlank() ? UNKNOWN_VALUE : value;
+    }
+
+    private static String refererHost(String referer) {
+        if (referer == null || referer.isBlank()) {
+            return DIRECT_REFERER;
+        }
+        try {
+            String host = URI.create(referer.trim()).getHost();
+            if (host == null) {
+                return UNKNOWN_VALUE;
+            }
+            host = host.toLowerCase(Locale.ROOT);
+            if (host.startsWith("www.")) {
+                host = host.substring(4);
+            }
+            return host.length() > MAX_VALUE_LENGTH ? host.substring(0, MAX_VALUE_LENGTH) : host;
+        } catch (IllegalArgumentException e) {
+            return UNKNOWN_VALUE;
+        }
+    }
+}
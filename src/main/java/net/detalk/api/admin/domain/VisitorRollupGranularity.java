@@ -0,0 +1,26 @@
+package net.detalk.api.admin.domain;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 방문자 통계 집계 단위
+ */
+public enum VisitorRollupGranularity {
+
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    VisitorRollupGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * @return 방문 시각이 속한 구간의 시작 시각
+     */
+    public LocalDateTime bucketStart(LocalDateTime visitedAt) {
+        return visitedAt.truncatedTo(unit);
+    }
+}
@@ -0,0 +1,13 @@
+package net.detalk.api.admin.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * visitor_log_rollup 의 PK
+ */
+public record VisitorRollupKey(
+    VisitorRollupGranularity granularity,
+    VisitorRollupDimension dimension,
+    LocalDateTime bucketStart,
+    String value
+) {}
@@ -0,0 +1,27 @@
+package net.detalk.api.admin.domain.exception;
+
+import net.detalk.api.support.error.ApiException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidVisitorRollupRangeException extends ApiException {
+
+    public InvalidVisitorRollupRangeException(String message) {
+        super(message);
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.BAD_REQUEST;
+    }
+
+    @Override
+    public String getErrorCode() {
+        return "invalid_visitor_rollup_range";
+    }
+
+    @Override
+    public boolean isNecessaryToLog() {
+        return false;
+    }
+
+}
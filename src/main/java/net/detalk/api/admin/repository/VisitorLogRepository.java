@@ -1,21 +1,25 @@
 package net.detalk.api.admin.repository;
 
 import static net.detalk.jooq.tables.JVisitorLog.VISITOR_LOG;
+import static org.jooq.impl.DSL.row;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import net.detalk.api.admin.domain.VisitorLog;
+import net.detalk.api.support.paging.Keyset;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 @RequiredArgsConstructor
 @Repository
 public class VisitorLogRepository {
 
+    // 관리자 방문자 로그 목록 정렬 (idx_visitor_log_visited_at_id 역방향 스캔)
+    public static final Keyset LATEST = Keyset.descending(VISITOR_LOG.VISITED_AT, VISITOR_LOG.ID);
+
     private final DSLContext dsl;
 
     public VisitorLog save(VisitorLog visitorLog) {
@@ -31,6 +35,37 @@ public class VisitorLogRepository {
             .fetchOneInto(VisitorLog.class);
     }
 
+    /**
+     * 다중 row INSERT 한 번으로 저장 (RETURNING 없음)
+     * @return 저장한 row 수
+     */
+    public int saveAll(List<VisitorLog> visitorLogs) {
+        if (visitorLogs.isEmpty()) {
+            return 0;
+        }
+
+        var insert = dsl.insertInto(VISITOR_LOG,
+            VISITOR_LOG.SESSION_ID,
+            VISITOR_LOG.CONTINENT_CODE,
+            VISITOR_LOG.COUNTRY_ISO,
+            VISITOR_LOG.COUNTRY_NAME,
+            VISITOR_LOG.VISITED_AT,
+            VISITOR_LOG.USER_AGENT,
+            VISITOR_LOG.REFERER);
+
+        for (VisitorLog visitorLog : visitorLogs) {
+            insert = insert.values(
+                visitorLog.getSessionId(),
+                visitorLog.getContinentCode(),
+                visitorLog.getCountryIso(),
+                visitorLog.getCountryName(),
+                visitorLog.getVisitedAt(),
+                visitorLog.getUserAgent(),
+                visitorLog.getReferer());
+        }
+        return insert.execute();
+    }
+
     public Optional<VisitorLog> findById(Long id) {
         return dsl.selectFrom(VISITOR_LOG)
             .where(VISITOR_LOG.ID.eq(id))
@@ -42,17 +77,39 @@ public class VisitorLogRepository {
             .fetchInto(VisitorLog.class);
     }
 
-    public Page<VisitorLog> findAll(Pageable pageable) {
-
-        List<VisitorLog> visitorLogs = dsl.selectFrom(VISITOR_LOG)
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
+    /**
+     * 최근 방문 순 (visited_at DESC, id DESC) keyset 페이징
+     * @param cursor 이전 페이지의 nextCursor (LATEST.cursor(visitedAt, id)), null 이면 처음부터
+     */
+    public List<VisitorLog> findLatest(String cursor, int limit) {
+        return dsl.selectFrom(VISITOR_LOG)
+            .where(LATEST.after(cursor))
+            .orderBy(LATEST.orderBy())
+            .limit(limit)
             .fetchInto(VisitorLog.class);
+    }
+
+    public long countAll() {
+        return dsl.fetchCount(VISITOR_LOG);
+    }
 
-        Long count = dsl.selectCount()
-            .from(VISITOR_LOG)
-            .fetchOne(0, Long.class);
+    /**
+     * [from, to) 구간 방문 (visited_at, id) 오름차순 keyset 조회
+     * @param afterVisitedAt 이전 조회 마지막 방문 시각, null 이면 처음부터
+     * @param afterId 이전 조회 마지막 방문자 로그 ID
+     */
+    public List<VisitorLog> findVisitedBetween(LocalDateTime from, LocalDateTime to,
+        LocalDateTime afterVisitedAt, Long afterId, int limit) {
 
-        return new PageImpl<>(visitorLogs, pageable, count);
+        Condition condition = VISITOR_LOG.VISITED_AT.ge(from).and(VISITOR_LOG.VISITED_AT.lt(to));
+        if (afterVisitedAt != null) {
+            condition = condition.and(row(VISITOR_LOG.VISITED_AT, VISITOR_LOG.ID).gt(afterVisitedAt, afterId));
+        }
+
+        return dsl.selectFrom(VISITOR_LOG)
+            .where(condition)
+            .orderBy(VISITOR_LOG.VISITED_AT, VISITOR_LOG.ID)
+            .limit(limit)
+            .fetchInto(VisitorLog.class);
     }
 }
@@ -0,0 +1,45 @@
+package net.detalk.api.admin.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import net.detalk.api.admin.controller.v1.response.GetVisitorRollupPointResponse;
+import net.detalk.api.admin.controller.v1.response.GetVisitorRollupRankResponse;
+import net.detalk.api.admin.domain.VisitorRollupDimension;
+import net.detalk.api.admin.domain.VisitorRollupGranularity;
+import net.detalk.api.admin.domain.VisitorRollupKey;
+
+/**
+ * 방문자 통계 집계 테이블(visitor_log_rollup) 관리
+ */
+public interface VisitorRollupRepository {
+
+    /**
+     * 집계 키별 방문 수 증가, 없는 키는 생성
+     * @param counts 집계 키 -> 증가량
+     */
+    void increment(Map<VisitorRollupKey, Long> counts);
+
+    /**
+     * 구간별 방문 수, value 가 null 이면 기준 값 전체 합계
+     * @param from 포함
+     * @param to 미포함
+     */
+    List<GetVisitorRollupPointResponse> findSeries(VisitorRollupGranularity granularity,
+        VisitorRollupDimension dimension, String value, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 기간 내 방문 수 상위 기준 값
+     * @param from 포함
+     * @param to 미포함
+     */
+    List<GetVisitorRollupRankResponse> findTop(VisitorRollupGranularity granularity,
+        VisitorRollupDimension dimension, LocalDateTime from, LocalDateTime to, int limit);
+
+    /**
+     * @param from 포함
+     * @param to 미포함
+     * @return 삭제한 row 수
+     */
+    int deleteBetween(LocalDateTime from, LocalDateTime to);
+}
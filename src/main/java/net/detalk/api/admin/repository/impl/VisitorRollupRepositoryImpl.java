@@ -0,0 +1,127 @@
+package net.detalk.api.admin.repository.impl;
+
+import static net.detalk.jooq.tables.JVisitorLogRollup.VISITOR_LOG_ROLLUP;
+import static org.jooq.impl.DSL.excluded;
+import static org.jooq.impl.DSL.sum;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import net.detalk.api.admin.controller.v1.response.GetVisitorRollupPointResponse;
+import net.detalk.api.admin.controller.v1.response.GetVisitorRollupRankResponse;
+import net.detalk.api.admin.domain.VisitorRollupDimension;
+import net.detalk.api.admin.domain.VisitorRollupGranularity;
+import net.detalk.api.admin.domain.VisitorRollupKey;
+import net.detalk.api.admin.repository.VisitorRollupRepository;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class VisitorRollupRepositoryImpl implements VisitorRollupRepository {
+
+    // 여러 서버가 동시에 같은 키를 증가시킬 때 교착 상태가 생기지 않도록 PK 순서로 반영한다
+    private static final Comparator<VisitorRollupKey> KEY_ORDER = Comparator
+        .comparing((VisitorRollupKey key) -> key.granularity().name())
+        .thenComparing(key -> key.dimension().name())
+        .thenComparing(VisitorRollupKey::bucketStart)
+        .thenComparing(VisitorRollupKey::value);
+
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    private final DSLContext dsl;
+
+    /*
+     * INSERT INTO visitor_log_rollup (granularity, dimension, bucket_start, dimension_value, visit_count)
+     * VALUES (...), (...)
+     * ON CONFLICT (granularity, dimension, bucket_start, dimension_value)
+     * DO UPDATE SET visit_count = visitor_log_rollup.visit_count + excluded.visit_count
+     */
+    @Override
+    public void increment(Map<VisitorRollupKey, Long> counts) {
+        List<VisitorRollupKey> keys = counts.keySet().stream().sorted(KEY_ORDER).toList();
+        // 바인드 변수 수 상한(65535)을 넘지 않도록 나눠서 반영
+        for (int from = 0; from < keys.size(); from += INSERT_CHUNK_SIZE) {
+            upsert(keys.subList(from, Math.min(from + INSERT_CHUNK_SIZE, keys.size())), counts);
+        }
+    }
+
+    @Override
+    public List<GetVisitorRollupPointResponse> findSeries(VisitorRollupGranularity granularity,
+        VisitorRollupDimension dimension, String value, LocalDateTime from, LocalDateTime to) {
+
+        Field<Long> visitCount = sum(VISITOR_LOG_ROLLUP.VISIT_COUNT).cast(Long.class);
+
+        var condition = VISITOR_LOG_ROLLUP.GRANULARITY.eq(granularity.name())
+            .and(VISITOR_LOG_ROLLUP.DIMENSION.eq(dimension.name()))
+            .and(VISITOR_LOG_ROLLUP.BUCKET_START.ge(from))
+            .and(VISITOR_LOG_ROLLUP.BUCKET_START.lt(to));
+        if (value != null) {
+            condition = condition.and(VISITOR_LOG_ROLLUP.DIMENSION_VALUE.eq(value));
+        }
+
+        return dsl.select(VISITOR_LOG_ROLLUP.BUCKET_START, visitCount)
+            .from(VISITOR_LOG_ROLLUP)
+            .where(condition)
+            .groupBy(VISITOR_LOG_ROLLUP.BUCKET_START)
+            .orderBy(VISITOR_LOG_ROLLUP.BUCKET_START)
+            .fetch(record -> new GetVisitorRollupPointResponse(record.value1(), record.value2()));
+    }
+
+    @Override
+    public List<GetVisitorRollupRankResponse> findTop(VisitorRollupGranularity granularity,
+        VisitorRollupDimension dimension, LocalDateTime from, LocalDateTime to, int limit) {
+
+        Field<Long> visitCount = sum(VISITOR_LOG_ROLLUP.VISIT_COUNT).cast(Long.class);
+
+        return dsl.select(VISITOR_LOG_ROLLUP.DIMENSION_VALUE, visitCount)
+            .from(VISITOR_LOG_ROLLUP)
+            .where(VISITOR_LOG_ROLLUP.GRANULARITY.eq(granularity.name()))
+            .and(VISITOR_LOG_ROLLUP.DIMENSION.eq(dimension.name()))
+            .and(VISITOR_LOG_ROLLUP.BUCKET_START.ge(from))
+            .and(VISITOR_LOG_ROLLUP.BUCKET_START.lt(to))
+            .groupBy(VISITOR_LOG_ROLLUP.DIMENSION_VALUE)
+            .orderBy(visitCount.desc(), VISITOR_LOG_ROLLUP.DIMENSION_VALUE)
+            .limit(limit)
+            .fetch(record -> new GetVisitorRollupRankResponse(record.value1(), record.value2()));
+    }
+
+    private void upsert(List<VisitorRollupKey> keys, Map<VisitorRollupKey, Long> counts) {
+        var insert = dsl.insertInto(VISITOR_LOG_ROLLUP,
+            VISITOR_LOG_ROLLUP.GRANULARITY,
+            VISITOR_LOG_ROLLUP.DIMENSION,
+            VISITOR_LOG_ROLLUP.BUCKET_START,
+            VISITOR_LOG_ROLLUP.DIMENSION_VALUE,
+            VISITOR_LOG_ROLLUP.VISIT_COUNT);
+
+        for (VisitorRollupKey key : keys) {
+            insert = insert.values(
+                key.granularity().name(),
+                key.dimension().name(),
+                key.bucketStart(),
+                key.value(),
+                counts.get(key));
+        }
+
+        insert.onConflict(
+                VISITOR_LOG_ROLLUP.GRANULARITY,
+                VISITOR_LOG_ROLLUP.DIMENSION,
+                VISITOR_LOG_ROLLUP.BUCKET_START,
+                VISITOR_LOG_ROLLUP.DIMENSION_VALUE)
+            .doUpdate()
+            .set(VISITOR_LOG_ROLLUP.VISIT_COUNT,
+                VISITOR_LOG_ROLLUP.VISIT_COUNT.plus(excluded(VISITOR_LOG_ROLLUP.VISIT_COUNT)))
+            .execute();
+    }
+
+    @Override
+    public int deleteBetween(LocalDateTime from, LocalDateTime to) {
+        return dsl.deleteFrom(VISITOR_LOG_ROLLUP)
+            .where(VISITOR_LOG_ROLLUP.BUCKET_START.ge(from))
+            .and(VISITOR_LOG_ROLLUP.BUCKET_START.lt(to))
+            .execute();
+    }
+}
@@ -0,0 +1,174 @@
+package net.detalk.api.admin.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maxmind.db.CHMCache;
+import com.maxmind.db.Network;
+import com.maxmind.db.Reader;
+import com.maxmind.geoip2.DatabaseReader;
+import com.maxmind.geoip2.exception.GeoIp2Exception;
+import com.maxmind.geoip2.model.CityResponse;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import net.detalk.api.admin.domain.GeoLocation;
+import net.detalk.api.support.config.AppProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * GeoLite2-City.mmdb 기반 위치 조회
+ * DB 파일은 힙에 복사하지 않고 memory-mapped 로 열며, 조회 결과는 IP 대역(IPv4 /24, IPv6 /48) 단위로 캐시한다.
+ * 대역보다 작은 네트워크로 나뉜 IP 는 대역 안에서 결과가 다를 수 있으므로 캐시하지 않는다.
+ * 파일이 바뀌면(geoDatabaseReloadIntervalMillis 주기로 수정 시각 확인) 재시작 없이 새 DB 로 교체하고 캐시를 비운다.
+ */
+@Slf4j
+@Component
+public class GeoLocationResolver {
+
+    // IPv4 키(24 bit)와 겹치지 않도록 IPv6 키(48 bit)에 붙이는 표식
+    private static final long IPV6_KEY_FLAG = 1L << 48;
+    private static final int IPV4_PREFIX_LENGTH = 24;
+    private static final int IPV6_PREFIX_LENGTH = 48;
+
+    private final String databaseLocation;
+    private final TaskScheduler taskScheduler;
+    private final AppProperties appProperties;
+    private final Cache<Long, GeoLocation> prefixCache;
+
+    private volatile DatabaseReader reader;
+    private Path databasePath;
+    private FileTime lastModified;
+
+    public GeoLocationResolver(
+        @Value("${geo.database.path}") String databaseLocation,
+        @Qualifier("geoDatabaseReloadScheduler") TaskScheduler taskScheduler,
+        AppProperties appProperties
+    ) {
+        this.databaseLocation = databaseLocation;
+        this.taskScheduler = taskScheduler;
+        this.appProperties = appProperties;
+        this.prefixCache = Caffeine.newBuilder()
+            .maximumSize(appProperties.getGeoLocationCacheMaximumSize())
+            .build();
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        log.info("GeoLite2 데이터베이스 초기화 시작: {}", databaseLocation);
+
+        Path file = Path.of(databaseLocation);
+        boolean reloadable = Files.isRegularFile(file);
+        databasePath = reloadable ? file : copyFromClasspath(databaseLocation);
+        lastModified = Files.getLastModifiedTime(databasePath);
+
+        try {
+            reader = open(databasePath);
+        } catch (IOException e) {
+            log.error("GeoLite2 데이터베이스 로드 실패", e);
+            throw new IllegalStateException("GeoLite2 데이터베이스 파일을 로드하는 중 오류가 발생했습니다", e);
+        }
+
+        if (reloadable) {
+            taskScheduler.scheduleWithFixedDelay(this::reloadIfChanged,
+                Duration.ofMillis(appProperties.getGeoDatabaseReloadIntervalMillis()));
+        }
+        log.info("GeoLite2 데이터베이스 초기화 완료 path={}, reloadable={}", databasePath, reloadable);
+    }
+
+    /**
+     * @throws com.maxmind.geoip2.exception.AddressNotFoundException DB 에 없는 IP
+     */
+    public GeoLocation resolve(InetAddress address) throws IOException, GeoIp2Exception {
+        long key = prefixKey(address);
+        GeoLocation cached = prefixCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CityResponse response = reader.city(address);
+        GeoLocation location = new GeoLocation(
+            response.getContinent().getCode(),
+            response.getCountry().getIsoCode(),
+            response.getRegisteredCountry().getName()
+        );
+
+        Network network = response.getTraits().getNetwork();
+        int cachePrefixLength = address.getAddress().length == 4 ? IPV4_PREFIX_LENGTH : IPV6_PREFIX_LENGTH;
+        if (network != null && network.getPrefixLength() <= cachePrefixLength) {
+            prefixCache.put(key, location);
+        }
+        return location;
+    }
+
+    /**
+     * DB 파일 수정 시각이 바뀌었으면 새로 열어 교체, 열기에 실패하면 기존 DB 를 유지하고 다음 주기에 다시 시도한다
+     * 이전 reader 는 조회 중인 스레드가 있을 수 있으므로 닫지 않고 GC 에 맡긴다 (매핑도 이때 해제된다)
+     * @return 교체했으면 true
+     */
+    public synchronized boolean reloadIfChanged() {
+        try {
+            FileTime modified = Files.getLastModifiedTime(databasePath);
+            if (modified.equals(lastModified)) {
+                return false;
+            }
+
+            DatabaseReader next = open(databasePath);
+            reader = next;
+            lastModified = modified;
+            prefixCache.invalidateAll();
+            log.info("[reloadIfChanged] GeoLite2 데이터베이스 교체 완료 buildDate={}",
+                next.getMetadata().getBuildDate());
+            return true;
+        } catch (IOException e) {
+            log.error("[reloadIfChanged] GeoLite2 데이터베이스 교체 실패, 기존 DB 를 유지합니다. path={}",
+                databasePath, e);
+            return false;
+        }
+    }
+
+    protected DatabaseReader open(Path path) throws IOException {
+        return new DatabaseReader.Builder(path.toFile())
+            .fileMode(Reader.FileMode.MEMORY_MAPPED)
+            .withCache(new CHMCache())
+            .build();
+    }
+
+    // jar 내부 리소스는 매핑할 수 없으므로 임시 파일로 한 번 복사한다 (변경 감지 대상 아님)
+    private Path copyFromClasspath(String location) throws IOException {
+        try (InputStream database = getClass().getClassLoader().getResourceAsStream(location)) {
+            if (database == null) {
+                log.error("GeoLite2 데이터베이스 파일을 찾을 수 없음: {}", location);
+                throw new IllegalStateException("GeoLite2 데이터베이스 파일을 찾을 수 없습니다: " + location);
+            }
+
+            Path copy = Files.createTempFile("GeoLite2-City", ".mmdb");
+            copy.toFile().deleteOnExit();
+            Files.copy(database, copy, StandardCopyOption.REPLACE_EXISTING);
+            log.warn("GeoLite2 데이터베이스가 파일 경로가 아니어서 임시 파일로 복사합니다. 변경 감지는 하지 않습니다. copy={}", copy);
+            return copy;
+        }
+    }
+
+    private static long prefixKey(InetAddress address) {
+        byte[] bytes = address.getAddress();
+        if (bytes.length == 4) {
+            return ((bytes[0] & 0xFFL) << 16) | ((bytes[1] & 0xFFL) << 8) | (bytes[2] & 0xFFL);
+        }
+
+        long key = IPV6_KEY_FLAG;
+        for (int i = 0; i < 6; i++) {
+            key |= (bytes[i] & 0xFFL) << (40 - 8 * i);
+        }
+        return key;
+    }
+}
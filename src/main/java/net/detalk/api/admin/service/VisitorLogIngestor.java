@@ -0,0 +1,331 @@
+package net.detalk.api.admin.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import net.detalk.api.admin.domain.VisitEvent;
+import net.detalk.api.admin.domain.VisitorLog;
+import net.detalk.api.admin.domain.VisitorLogIngestionMetrics;
+import net.detalk.api.admin.domain.VisitorLogOverflowPolicy;
+import net.detalk.api.admin.domain.exception.VisitorLocationSaveException;
+import net.detalk.api.admin.repository.VisitorLogRepository;
+import net.detalk.api.support.config.AppProperties;
+import net.detalk.api.support.util.MpscRingBuffer;
+import net.detalk.api.support.util.TimeHolder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 방문자 로그 수집 파이프라인
+ * 요청 스레드(GeoLoggingFilter)는 lock-free 링 버퍼에 방문 기록만 넣고 바로 돌아가며,
+ * 소비자 스레드 하나가 주기(visitorLogFlushIntervalMillis) 또는 배치 크기 도달 시 큐를 비우면서
+ * GeoIP 조회 후 visitorLogBatchSize 단위 다중 row INSERT 로 저장하고, 같은 트랜잭션에서 방문자 통계 집계를 증가시킨다.
+ * 큐가 넘칠 때의 처리는 VisitorLogOverflowPolicy 참고, SPILL 정책에서는 저장 실패한 배치도 넘침 파일로 옮겨 다음 flush 때 재시도한다
+ * 넘침 파일 기록은 소비자 스레드만 하며, 요청 스레드는 큐가 가득 차면 같은 크기의 넘침 버퍼에 넣고 그마저 차면 버린다
+ */
+@Slf4j
+@Component
+public class VisitorLogIngestor {
+
+    private final VisitorLogService visitorLogService;
+    private final VisitorLogRepository visitorLogRepository;
+    private final VisitorRollupService visitorRollupService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final TimeHolder timeHolder;
+    private final TaskScheduler taskScheduler;
+    private final AppProperties appProperties;
+
+    private final MpscRingBuffer<VisitEvent> queue;
+    private final VisitorLogOverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final int sampleWatermark;
+    private final Path spillPath;
+    private final Path replayPath;
+    // SPILL 정책에서 큐가 가득 찼을 때 받는 버퍼, 소비자가 flush 때 넘침 파일로 옮긴다
+    private final MpscRingBuffer<VisitEvent> overflow;
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    // 이번 flush 에서 저장 실패가 있었는지 (실패 중에는 넘침 파일을 다시 읽지 않는다)
+    private boolean writeFailed;
+    private final AtomicLong sampleSequence = new AtomicLong();
+
+    private final LongAdder enqueuedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder sampledOutCount = new LongAdder();
+    private final LongAdder spilledCount = new LongAdder();
+    private final LongAdder resolveFailedCount = new LongAdder();
+
+    // 아래 값은 소비자(flush) 에서만 갱신한다
+    private volatile long flushedRows;
+    private volatile long flushCount;
+    private volatile long totalFlushNanos;
+    private volatile long lastFlushNanos;
+    private volatile long maxFlushNanos;
+
+    public VisitorLogIngestor(
+        VisitorLogService visitorLogService,
+        VisitorLogRepository visitorLogRepository,
+        VisitorRollupService visitorRollupService,
+        PlatformTransactionManager transactionManager,
+        ObjectMapper objectMapper,
+        TimeHolder timeHolder,
+        @Qualifier("visitorLogIngestScheduler") TaskScheduler taskScheduler,
+        AppProperties appProperties
+    ) {
+        this.visitorLogService = visitorLogService;
+        this.visitorLogRepository = visitorLogRepository;
+        this.visitorRollupService = visitorRollupService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.timeHolder = timeHolder;
+        this.taskScheduler = taskScheduler;
+        this.appProperties = appProperties;
+
+        this.queue = new MpscRingBuffer<>(appProperties.getVisitorLogQueueCapacity());
+        this.overflowPolicy = appProperties.getVisitorLogOverflowPolicy();
+        this.batchSize = appProperties.getVisitorLogBatchSize();
+        this.sampleWatermark = queue.capacity() - queue.capacity() / 4;
+        this.spillPath = Path.of(appProperties.getVisitorLogSpillPath());
+        this.replayPath = spillPath.resolveSibling(spillPath.getFileName() + ".replay");
+        this.overflow = overflowPolicy == VisitorLogOverflowPolicy.SPILL
+            ? new MpscRingBuffer<>(appProperties.getVisitorLogQueueCapacity())
+            : null;
+    }
+
+    @PostConstruct
+    public void start() {
+        Duration interval = Duration.ofMillis(appProperties.getVisitorLogFlushIntervalMillis());
+        taskScheduler.scheduleWithFixedDelay(this::flush, interval);
+        log.info("[start] 방문자 로그 수집 시작 capacity={}, batchSize={}, interval={}ms, overflowPolicy={}",
+            queue.capacity(), batchSize, interval.toMillis(), overflowPolicy);
+    }
+
+    /**
+     * 방문 기록 적재 (요청 스레드, 블로킹 없음)
+     * @return 큐 또는 넘침 버퍼에 넣었으면 true, 표본 제외/버림이면 false
+     */
+    public boolean offer(String clientIp, String sessionId, String userAgent, String referer) {
+        VisitEvent event = new VisitEvent(clientIp, sessionId, userAgent, referer, timeHolder.dateTime());
+
+        if (overflowPolicy == VisitorLogOverflowPolicy.SAMPLE
+            && queue.size() >= sampleWatermark
+            && sampleSequence.incrementAndGet() % appProperties.getVisitorLogSampleRate() != 0) {
+            sampledOutCount.increment();
+            return false;
+        }
+
+        if (queue.offer(event)) {
+            enqueuedCount.increment();
+            if (queue.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+                taskScheduler.schedule(this::flush, taskScheduler.getClock().instant());
+            }
+            return true;
+        }
+
+        // 큐가 가득 찼다면 이미 flush 가 요청되어 있으므로 다시 요청하지 않는다
+        if (overflow != null && overflow.offer(event)) {
+            return true;
+        }
+
+        droppedCount.increment();
+        return false;
+    }
+
+    /**
+     * 넘침 버퍼를 넘침 파일로 옮기고, 큐를 배치 단위로 비워 저장한 뒤, 넘침 파일을 다시 읽어 저장
+     * @return 저장한 row 수
+     */
+    public synchronized int flush() {
+        flushRequested.set(false);
+        writeFailed = false;
+
+        if (overflow != null) {
+            spillOverflow();
+        }
+
+        int rows = 0;
+        List<VisitEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            rows += write(batch);
+            batch.clear();
+        }
+
+        if (overflowPolicy == VisitorLogOverflowPolicy.SPILL && !writeFailed) {
+            rows += replaySpill();
+        }
+        return rows;
+    }
+
+    public VisitorLogIngestionMetrics getMetrics() {
+        long count = flushCount;
+        return new VisitorLogIngestionMetrics(
+            queue.size(),
+            queue.capacity(),
+            enqueuedCount.sum(),
+            droppedCount.sum(),
+            sampledOutCount.sum(),
+            spilledCount.sum(),
+            resolveFailedCount.sum(),
+            flushedRows,
+            count,
+            toMillis(lastFlushNanos),
+            count == 0 ? 0.0 : toMillis(totalFlushNanos) / count,
+            toMillis(maxFlushNanos)
+        );
+    }
+
+    // 스케줄러(destroyMethod = shutdown) 보다 먼저 호출되어 큐에 남은 방문 기록을 모두 저장한다
+    @PreDestroy
+    public void drain() {
+        int rows = flush();
+        log.info("[drain] 종료 전 방문자 로그 저장 rows={}", rows);
+    }
+
+    private int write(List<VisitEvent> events) {
+        List<VisitorLog> visitorLogs = new ArrayList<>(events.size());
+        for (VisitEvent event : events) {
+            try {
+                visitorLogs.add(visitorLogService.resolveLocation(event));
+            } catch (VisitorLocationSaveException e) {
+                resolveFailedCount.increment();
+            }
+        }
+
+        if (visitorLogs.isEmpty()) {
+            return 0;
+        }
+
+        long started = System.nanoTime();
+        try {
+            // 원본 로그와 통계 집계를 같은 트랜잭션으로 반영해 재시도 시 집계가 중복되지 않게 한다
+            transactionTemplate.executeWithoutResult(status -> {
+                visitorLogRepository.saveAll(visitorLogs);
+                visitorRollupService.record(visitorLogs);
+            });
+        } catch (RuntimeException e) {
+            log.error("[write] 방문자 로그 저장 실패 rows={}", visitorLogs.size(), e);
+            writeFailed = true;
+            if (overflowPolicy != VisitorLogOverflowPolicy.SPILL || !spill(events)) {
+                droppedCount.add(visitorLogs.size());
+            }
+            return 0;
+        }
+
+        long elapsed = System.nanoTime() - started;
+        flushedRows += visitorLogs.size();
+        flushCount++;
+        totalFlushNanos += elapsed;
+        lastFlushNanos = elapsed;
+        maxFlushNanos = Math.max(maxFlushNanos, elapsed);
+        log.debug("[write] 방문자 로그 저장 rows={}, elapsed={}ms", visitorLogs.size(), toMillis(elapsed));
+        return visitorLogs.size();
+    }
+
+    private void spillOverflow() {
+        List<VisitEvent> batch = new ArrayList<>(batchSize);
+        while (overflow.drainTo(batch, batchSize) > 0) {
+            if (!spill(batch)) {
+                droppedCount.add(batch.size());
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * 넘침 파일에 JSON 한 줄씩 추가 (소비자 스레드에서만 호출), 최대 크기(visitorLogSpillMaxBytes)를 넘으면 기록하지 않는다
+     */
+    private boolean spill(List<VisitEvent> events) {
+        try {
+            if (Files.exists(spillPath)
+                && Files.size(spillPath) >= appProperties.getVisitorLogSpillMaxBytes()) {
+                return false;
+            }
+            Files.createDirectories(spillPath.toAbsolutePath().getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(spillPath, UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (VisitEvent event : events) {
+                    writer.write(objectMapper.writeValueAsString(event));
+                    writer.newLine();
+                }
+            }
+            spilledCount.add(events.size());
+            return true;
+        } catch (IOException e) {
+            log.error("[spill] 방문자 로그 넘침 파일 기록 실패 path={}", spillPath, e);
+            return false;
+        }
+    }
+
+    /**
+     * 넘침 파일을 replay 파일로 옮긴 뒤 배치 단위로 저장, 다 읽으면 replay 파일 삭제
+     * 도중에 종료되어 replay 파일이 남아 있으면 그것부터 다시 읽는다
+     */
+    private int replaySpill() {
+        try {
+            if (!Files.exists(replayPath)) {
+                if (!Files.exists(spillPath) || Files.size(spillPath) == 0) {
+                    return 0;
+                }
+                Files.move(spillPath, replayPath,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            int rows = 0;
+            List<VisitEvent> batch = new ArrayList<>(batchSize);
+            try (BufferedReader reader = Files.newBufferedReader(replayPath, UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        batch.add(objectMapper.readValue(line, VisitEvent.class));
+                    } catch (JsonProcessingException e) {
+                        log.warn("[replaySpill] 읽을 수 없는 넘침 기록을 건너뜁니다.");
+                        droppedCount.increment();
+                        continue;
+                    }
+                    if (batch.size() >= batchSize) {
+                        rows += write(batch);
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                rows += write(batch);
+            }
+
+            Files.delete(replayPath);
+            log.info("[replaySpill] 넘침 파일 방문자 로그 저장 rows={}", rows);
+            return rows;
+        } catch (IOException e) {
+            log.error("[replaySpill] 방문자 로그 넘침 파일 읽기 실패 path={}", replayPath, e);
+            return 0;
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
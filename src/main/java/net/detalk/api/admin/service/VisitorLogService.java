@@ -1,24 +1,24 @@
 package net.detalk.api.admin.service;
 
-import com.maxmind.geoip2.DatabaseReader;
+import static net.detalk.jooq.tables.JVisitorLog.VISITOR_LOG;
+
 import com.maxmind.geoip2.exception.GeoIp2Exception;
-import com.maxmind.geoip2.model.CityResponse;
 import java.io.IOException;
 import java.net.InetAddress;
-import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.detalk.api.admin.controller.v1.response.GetVisitorLogResponse;
+import net.detalk.api.admin.domain.GeoLocation;
+import net.detalk.api.admin.domain.VisitEvent;
 import net.detalk.api.admin.domain.VisitorLog;
 import net.detalk.api.admin.domain.exception.VisitorLocationSaveException;
 import net.detalk.api.admin.repository.VisitorLogRepository;
+import net.detalk.api.support.error.InvalidPageSizeException;
 import net.detalk.api.support.util.EnvironmentHolder;
-import net.detalk.api.support.paging.PagingData;
-import net.detalk.api.support.util.TimeHolder;
+import net.detalk.api.support.paging.KeysetPageData;
+import net.detalk.api.support.paging.TotalCountEstimator;
+import net.detalk.api.support.paging.TotalCountMode;
 import org.slf4j.MDC;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 
@@ -28,30 +28,25 @@ import org.springframework.stereotype.Service;
 public class VisitorLogService {
 
     private final VisitorLogRepository visitorLogRepository;
-    private final TimeHolder timeHolder;
     private final EnvironmentHolder env;
+    private final TotalCountEstimator totalCountEstimator;
 
-    // GeoLite2-City.mmdb 기반 DatabaseReader
-    private final DatabaseReader databaseReader;
+    // GeoLite2-City.mmdb 기반 위치 조회 (IP 대역 캐시)
+    private final GeoLocationResolver geoLocationResolver;
 
     /**
-     * 클라이언트 IP, 세션 ID, User-Agent, Referer 정보를 받아 방문자 정보 저장
+     * 방문 기록의 IP 로 위치 정보를 조회해 저장할 방문자 로그 생성 (VisitorLogIngestor 소비자 스레드에서 호출)
      *
-     * @param clientIp  클라이언트 IP 주소
-     * @param sessionId 클라이언트의 세션 ID
-     * @param userAgent 브라우저 정보
-     * @param referer   이전 페이지 정보
+     * @param event 클라이언트 IP, 세션 ID, User-Agent, Referer, 방문 시각
+     * @throws VisitorLocationSaveException 위치 정보 조회 실패
      */
-    @Async("visitorLogTaskExecutor")
-    public void saveVisitorLocation(String clientIp, String sessionId, String userAgent,
-        String referer) {
+    public VisitorLog resolveLocation(VisitEvent event) {
 
         try {
 
             String continentCode;
             String countryIso;
             String countryName;
-            LocalDateTime now = timeHolder.dateTime();
 
             if ("dev".equals(env.getActiveProfile())) {
                 // 개발 환경일 경우
@@ -60,54 +55,63 @@ public class VisitorLogService {
                 countryName = "LOCAL_KOREA";
             } else {
                 // 개발환경 아닐 경우
-                InetAddress ipAddress = InetAddress.getByName(clientIp);
-                CityResponse cityResponse = databaseReader.city(ipAddress);
-                continentCode = cityResponse.getContinent().getCode();
-                countryIso = cityResponse.getCountry().getIsoCode();
-                countryName = cityResponse.getRegisteredCountry().getName();
+                InetAddress ipAddress = InetAddress.getByName(event.clientIp());
+                GeoLocation location = geoLocationResolver.resolve(ipAddress);
+                continentCode = location.continentCode();
+                countryIso = location.countryIso();
+                countryName = location.countryName();
             }
 
             MDC.put("continentCode", continentCode);
             MDC.put("countryIso", countryIso);
             MDC.put("countryName", countryName);
-            MDC.put("clientIp", clientIp);
-            MDC.put("userAgent", userAgent);
+            MDC.put("clientIp", event.clientIp());
+            MDC.put("userAgent", event.userAgent());
 
             log.info("Visitor location information logged");
 
-            VisitorLog visitorLog = VisitorLog.builder()
-                .sessionId(sessionId)
+            return VisitorLog.builder()
+                .sessionId(event.sessionId())
                 .continentCode(continentCode)
                 .countryIso(countryIso)
                 .countryName(countryName)
-                .visitedAt(now)
-                .userAgent(userAgent)
-                .referer(referer)
+                .visitedAt(event.visitedAt())
+                .userAgent(event.userAgent())
+                .referer(event.referer())
                 .build();
 
-            visitorLogRepository.save(visitorLog);
-
-
         } catch (GeoIp2Exception e) {
-            log.warn("GeoIP2 데이터베이스 조회 중 에러 발생 (sessionId: {})", sessionId);
+            log.warn("GeoIP2 데이터베이스 조회 중 에러 발생 (sessionId: {})", event.sessionId());
             log.debug("GeoIP2 에러={}", e.getMessage());
             throw new VisitorLocationSaveException("사용자 위치 정보 저장 중 GeoLite2 DB 에러 발생");
         } catch (IOException e) {
-            log.warn("사용자 위치 정보 저장 중 에러 발생 (sessionId: {})", sessionId);
+            log.warn("사용자 위치 정보 저장 중 에러 발생 (sessionId: {})", event.sessionId());
             log.debug("사용자 위치 정보 에러={}", e.getMessage());
             throw new VisitorLocationSaveException("사용자 위치 정보 저장 중 IOE 에러 발생");
         }finally {
-            MDC.clear(); // 비동기 스레드에서 독립적으로 실행되므로 MDC 정리 해야함
+            MDC.clear(); // 소비자 스레드에서 방문마다 독립적으로 기록하므로 MDC 정리 해야함
         }
     }
 
+    /**
+     * 최근 방문 순 방문자 로그 목록 (visited_at, id keyset 페이징)
+     * @param pageSize 요청 item 개수
+     * @param cursor 이전 페이지 응답의 nextCursor, null 이면 처음부터
+     * @param totalCountMode 전체 개수 계산 방식
+     */
     @PreAuthorize("hasRole('ADMIN')")
-    public PagingData<GetVisitorLogResponse> findAll(Pageable pageable) {
+    public KeysetPageData<GetVisitorLogResponse> findAll(int pageSize, String cursor,
+        TotalCountMode totalCountMode) {
 
-        Page<VisitorLog> page = visitorLogRepository.findAll(pageable);
+        if (pageSize < 1) {
+            log.info("잘못된 페이지 사이즈 요청입니다={}", pageSize);
+            throw new InvalidPageSizeException(pageSize);
+        }
 
-        var content = page.getContent().stream()
+        // hasNext 판별하기 위해 pageSize + 1
+        var content = visitorLogRepository.findLatest(cursor, pageSize + 1).stream()
             .map(result -> new GetVisitorLogResponse(
+                result.getId(),
                 result.getSessionId(),
                 result.getContinentCode(),
                 result.getCountryIso(),
@@ -117,13 +121,11 @@ public class VisitorLogService {
                 result.getReferer()
             )).toList();
 
-        return new PagingData<>(
-            content,
-            page.getNumber(),
-            page.getSize(),
-            page.getTotalElements(),
-            page.getTotalPages()
-        );
+        Long totalElements = totalCountEstimator.count(totalCountMode, VISITOR_LOG,
+            visitorLogRepository::countAll);
+
+        return KeysetPageData.of(content, pageSize,
+            item -> VisitorLogRepository.LATEST.cursor(item.visitedAt(), item.id()), totalElements);
     }
 
 }
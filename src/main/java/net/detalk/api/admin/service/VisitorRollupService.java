@@ -0,0 +1,172 @@
+package net.detalk.api.admin.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.detalk.api.admin.controller.v1.response.GetVisitorRollupPointResponse;
+import net.detalk.api.admin.controller.v1.response.GetVisitorRollupRankResponse;
+import net.detalk.api.admin.domain.VisitorLog;
+import net.detalk.api.admin.domain.VisitorRollupDimension;
+import net.detalk.api.admin.domain.VisitorRollupGranularity;
+import net.detalk.api.admin.domain.VisitorRollupKey;
+import net.detalk.api.admin.domain.exception.InvalidVisitorRollupRangeException;
+import net.detalk.api.admin.repository.VisitorLogRepository;
+import net.detalk.api.admin.repository.VisitorRollupRepository;
+import net.detalk.api.retention.domain.RetentionPolicy;
+import net.detalk.api.retention.domain.RetentionTarget;
+import net.detalk.api.support.config.AppProperties;
+import net.detalk.api.support.util.TimeHolder;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 방문자 통계 집계 (시간/일 단위 x 국가, 대륙, referer 호스트, User-Agent 계열)
+ * 방문자 로그 저장 배치마다 record 로 증가시키고, 관리자 조회는 원본 로그 대신 집계 테이블에서 처리한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VisitorRollupService {
+
+    private static final Duration MAX_HOURLY_RANGE = Duration.ofDays(31);
+    private static final Duration MAX_DAILY_RANGE = Duration.ofDays(366);
+    private static final int MAX_TOP_LIMIT = 100;
+    private static final int REBUILD_SCAN_SIZE = 1000;
+
+    private final VisitorRollupRepository visitorRollupRepository;
+    private final VisitorLogRepository visitorLogRepository;
+    private final TimeHolder timeHolder;
+    private final AppProperties appProperties;
+
+    /**
+     * 저장한 방문자 로그를 집계 테이블에 반영 (호출한 쪽 트랜잭션에 참여)
+     */
+    public void record(List<VisitorLog> visitorLogs) {
+        visitorRollupRepository.increment(aggregate(visitorLogs));
+    }
+
+    /**
+     * @return 집계 키 -> 방문 수 (방문 1건당 집계 단위 x 기준 수 만큼 키가 생긴다)
+     */
+    public Map<VisitorRollupKey, Long> aggregate(List<VisitorLog> visitorLogs) {
+        Map<VisitorRollupKey, Long> counts = new HashMap<>();
+        for (VisitorLog visitorLog : visitorLogs) {
+            for (VisitorRollupGranularity granularity : VisitorRollupGranularity.values()) {
+                LocalDateTime bucketStart = granularity.bucketStart(visitorLog.getVisitedAt());
+                for (VisitorRollupDimension dimension : VisitorRollupDimension.values()) {
+                    VisitorRollupKey key = new VisitorRollupKey(
+                        granularity, dimension, bucketStart, dimension.valueOf(visitorLog));
+                    counts.merge(key, 1L, Long::sum);
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 구간별 방문 수
+     * @param value 기준 값 (예: COUNTRY 의 "KR"), null 이면 전체 방문 수
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
+    public List<GetVisitorRollupPointResponse> findSeries(VisitorRollupGranularity granularity,
+        VisitorRollupDimension dimension, String value, LocalDateTime from, LocalDateTime to) {
+
+        validateRange(granularity, from, to);
+        return visitorRollupRepository.findSeries(granularity, dimension, value, from, to);
+    }
+
+    /**
+     * 기간 내 방문 수 상위 limit 개 기준 값
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
+    public List<GetVisitorRollupRankResponse> findTop(VisitorRollupGranularity granularity,
+        VisitorRollupDimension dimension, LocalDateTime from, LocalDateTime to, int limit) {
+
+        validateRange(granularity, from, to);
+        if (limit < 1 || limit > MAX_TOP_LIMIT) {
+            throw new InvalidVisitorRollupRangeException(
+                String.format("limit 은 1 ~ %d 이어야 합니다. limit=%d", MAX_TOP_LIMIT, limit));
+        }
+        return visitorRollupRepository.findTop(granularity, dimension, from, to, limit);
+    }
+
+    /**
+     * [from, to) 날짜 구간의 집계를 원본 로그에서 다시 생성
+     * 수집 경로가 증가시키는 중인 오늘 구간과 겹치지 않도록 지난 날짜만 허용하고,
+     * 원본 로그가 보관 기간 정리(detalk.retention.visitor-log)로 지워진 구간은 집계까지 지워지므로 허용하지 않는다
+     * @return 생성한 집계 row 수
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Transactional
+    public int rebuild(LocalDate from, LocalDate to) {
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.atStartOfDay();
+        if (!start.isBefore(end)) {
+            throw new InvalidVisitorRollupRangeException("from 은 to 보다 이전이어야 합니다.");
+        }
+        if (end.isAfter(timeHolder.dateTime().toLocalDate().atStartOfDay())) {
+            throw new InvalidVisitorRollupRangeException("오늘 이전 날짜 구간만 다시 만들 수 있습니다.");
+        }
+        LocalDateTime retentionCutoff = visitorLogRetentionCutoff();
+        if (retentionCutoff != null && start.isBefore(retentionCutoff)) {
+            throw new InvalidVisitorRollupRangeException(
+                String.format("원본 로그 보관 기간(%s 이후)이 지난 구간은 다시 만들 수 없습니다.", retentionCutoff));
+        }
+
+        Map<VisitorRollupKey, Long> counts = new HashMap<>();
+        LocalDateTime afterVisitedAt = null;
+        Long afterId = null;
+        long scanned = 0;
+        while (true) {
+            List<VisitorLog> page = visitorLogRepository.findVisitedBetween(
+                start, end, afterVisitedAt, afterId, REBUILD_SCAN_SIZE);
+            if (page.isEmpty()) {
+                break;
+            }
+            aggregate(page).forEach((key, count) -> counts.merge(key, count, Long::sum));
+            scanned += page.size();
+
+            VisitorLog last = page.get(page.size() - 1);
+            afterVisitedAt = last.getVisitedAt();
+            afterId = last.getId();
+            if (page.size() < REBUILD_SCAN_SIZE) {
+                break;
+            }
+        }
+
+        int deleted = visitorRollupRepository.deleteBetween(start, end);
+        visitorRollupRepository.increment(counts);
+        log.info("[rebuild] 방문자 통계 재생성 from={}, to={}, scanned={}, deleted={}, rows={}",
+            from, to, scanned, deleted, counts.size());
+        return counts.size();
+    }
+
+    // 이 시각 이전의 원본 로그는 보관 기간 정리로 지워졌을 수 있다, 정리하지 않으면 null
+    private LocalDateTime visitorLogRetentionCutoff() {
+        RetentionPolicy policy = appProperties.getRetention().get(RetentionTarget.VISITOR_LOG);
+        if (policy == null || policy.getTtl() == null) {
+            return null;
+        }
+        return timeHolder.dateTime().minus(policy.getTtl());
+    }
+
+    private void validateRange(VisitorRollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new InvalidVisitorRollupRangeException("from 은 to 보다 이전이어야 합니다.");
+        }
+
+        Duration maxRange = granularity == VisitorRollupGranularity.HOUR ? MAX_HOURLY_RANGE : MAX_DAILY_RANGE;
+        if (Duration.between(from, to).compareTo(maxRange) > 0) {
+            throw new InvalidVisitorRollupRangeException(
+                String.format("%s 단위 조회 기간은 최대 %d일 입니다.", granularity, maxRange.toDays()));
+        }
+    }
+}
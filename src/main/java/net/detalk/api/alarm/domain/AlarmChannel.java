@@ -0,0 +1,11 @@
+package net.detalk.api.alarm.domain;
+
+/**
+ * 알람 전송 채널, 채널마다 전송 속도를 따로 제한한다
+ */
+public enum AlarmChannel {
+    // 일반 메시지 (슬로우 쿼리, 서버 실행 등)
+    MESSAGE,
+    // 에러 메시지 (예외 발생)
+    ERROR
+}
@@ -1,7 +1,10 @@
 package net.detalk.api.alarm.domain;
 
+import java.util.Arrays;
+import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.Getter;
+import net.detalk.api.support.util.StringUtil;
 
 /**
  * 알람 시스템용 에러 메시지
@@ -28,6 +31,19 @@ public class AlarmErrorMessage {
         this.stackTrace = stackTrace;
     }
 
+    /**
+     * 예외의 원인 메시지 전체와 상위 스택 트레이스 5줄로 생성
+     * @param endpoint 요청 엔드포인트
+     */
+    public static AlarmErrorMessage of(String endpoint, Throwable error) {
+        return new AlarmErrorMessage(
+            endpoint,
+            error.getClass().getSimpleName(),
+            getAllMessage(error),
+            getStackTrace(error)
+        );
+    }
+
     /**
      * 기본 포맷으로 변환
      * @return 포맷된 문자열
@@ -42,4 +58,23 @@ public class AlarmErrorMessage {
         return toDefaultFormat();
     }
 
+    private static String getAllMessage(Throwable e) {
+        Throwable cause = e;
+        StringBuilder strBuilder = new StringBuilder();
+
+        while (cause != null && !StringUtil.isEmpty(cause.getMessage())) {
+            strBuilder.append("caused: ").append(cause.getMessage()).append("; ");
+            cause = cause.getCause();
+        }
+
+        return strBuilder.toString();
+    }
+
+    private static String getStackTrace(Throwable e) {
+        return Arrays.stream(e.getStackTrace())
+            .limit(5)
+            .map(StackTraceElement::toString)
+            .collect(Collectors.joining("\n"));
+    }
+
 }
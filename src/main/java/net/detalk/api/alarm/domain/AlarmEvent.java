@@ -0,0 +1,33 @@
+package net.detalk.api.alarm.domain;
+
+import java.util.function.Supplier;
+
+/**
+ * 전송 대기 중인 알람 하나
+ * 에러 메시지는 실제로 보낼 때만 만들도록 Supplier 로 들고 있는다 (요청 스레드에서 스택 트레이스 문자열을 만들지 않음)
+ * @param fingerprint  같은 알람을 묶는 기준, 요약 메시지에도 그대로 표시
+ * @param message      MESSAGE 채널 본문
+ * @param errorMessage ERROR 채널 본문
+ */
+public record AlarmEvent(
+    AlarmChannel channel,
+    String fingerprint,
+    String message,
+    Supplier<AlarmErrorMessage> errorMessage
+) {
+
+    public static AlarmEvent message(String message) {
+        return message(message, message);
+    }
+
+    /**
+     * @param fingerprint 본문에 실행 시간 등 매번 바뀌는 값이 있을 때 같은 알람으로 묶을 기준
+     */
+    public static AlarmEvent message(String fingerprint, String message) {
+        return new AlarmEvent(AlarmChannel.MESSAGE, fingerprint, message, null);
+    }
+
+    public static AlarmEvent error(String fingerprint, Supplier<AlarmErrorMessage> errorMessage) {
+        return new AlarmEvent(AlarmChannel.ERROR, fingerprint, null, errorMessage);
+    }
+}
@@ -18,9 +18,29 @@ public interface AlarmSender {
      */
     void sendMessage(String message);
 
+    /**
+     * 지문을 지정해 메시지 전송
+     * 본문이 매번 달라도(실행 시간 등) 같은 지문의 메시지는 묶어 보낼 수 있도록 구현체에 지문을 넘긴다
+     * @param fingerprint 같은 알람을 묶는 기준
+     * @param message     전송할 메시지
+     */
+    default void sendMessage(String fingerprint, String message) {
+        sendMessage(message);
+    }
+
     /**
      * 에러 메시지 전송
      * @param errorMessage 전송할 에러 메시지
      */
     void sendError(AlarmErrorMessage errorMessage);
+
+    /**
+     * 예외로 에러 메시지 전송
+     * 구현체가 에러 메시지(스택 트레이스 문자열) 생성을 전송 시점까지 미룰 수 있도록 예외를 그대로 넘긴다
+     * @param endpoint 요청 엔드포인트
+     * @param error    발생한 예외
+     */
+    default void sendError(String endpoint, Throwable error) {
+        sendError(AlarmErrorMessage.of(endpoint, error));
+    }
 }
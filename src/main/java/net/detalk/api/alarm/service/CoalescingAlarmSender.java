@@ -0,0 +1,278 @@
+package net.detalk.api.alarm.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import net.detalk.api.alarm.domain.AlarmChannel;
+import net.detalk.api.alarm.domain.AlarmErrorMessage;
+import net.detalk.api.alarm.domain.AlarmEvent;
+import net.detalk.api.support.config.AppProperties;
+import net.detalk.api.support.util.MpscRingBuffer;
+import net.detalk.api.support.util.TimeHolder;
+import net.detalk.api.support.util.TokenBucket;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알람 묶음 전송 단계 (실제 전송은 alarmTransport 구현체에 위임)
+ * 호출 스레드는 lock-free 링 버퍼에 알람만 넣고 바로 돌아가며, 가득 차면 기다리지 않고 버린 수만 센다.
+ * 소비자 스레드 하나가 alarmFlushIntervalMillis 마다 큐를 비우면서
+ * 같은 지문(URI, 예외 클래스, 첫 스택 프레임 / 호출한 쪽이 준 지문, 없으면 메시지 본문)의 알람은 시간 창(alarmDigestWindowSeconds) 안에서 처음 한 번만 보내고,
+ * 채널별 토큰 버킷으로 전송 속도를 제한한다. 보내지 않은 알람은 개수만 세어 시간 창이 끝날 때 요약 메시지 하나로 보낸다.
+ */
+@Slf4j
+@Primary
+@Component
+public class CoalescingAlarmSender implements AlarmSender {
+
+    static final String OTHER_FINGERPRINT = "(other)";
+
+    private static final int DRAIN_BATCH_SIZE = 256;
+    private static final int MAX_DIGEST_LINES = 20;
+    // 디스코드 메시지 최대 길이(2000자) 이하로 자른다
+    private static final int MAX_DIGEST_LENGTH = 1900;
+    private static final int MAX_SUMMARY_LENGTH = 120;
+    private static final Pattern NUMERIC_PATH_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final AlarmSender transport;
+    private final TimeHolder timeHolder;
+    private final TaskScheduler taskScheduler;
+    private final AppProperties appProperties;
+
+    private final MpscRingBuffer<AlarmEvent> queue;
+    private final Map<AlarmChannel, TokenBucket> rateLimits = new EnumMap<>(AlarmChannel.class);
+    private final int maximumFingerprints;
+    private final LongAdder droppedCount = new LongAdder();
+
+    // 아래 값은 소비자(flush, digest) 에서만 갱신한다
+    private final Map<String, WindowEntry> window = new LinkedHashMap<>();
+
+    public CoalescingAlarmSender(
+        @Qualifier("alarmTransport") AlarmSender transport,
+        TimeHolder timeHolder,
+        @Qualifier("alarmDispatchScheduler") TaskScheduler taskScheduler,
+        AppProperties appProperties
+    ) {
+        this.transport = transport;
+        this.timeHolder = timeHolder;
+        this.taskScheduler = taskScheduler;
+        this.appProperties = appProperties;
+
+        this.queue = new MpscRingBuffer<>(appProperties.getAlarmQueueCapacity());
+        this.maximumFingerprints = appProperties.getAlarmMaximumFingerprints();
+        long now = timeHolder.now().toEpochMilli();
+        for (AlarmChannel channel : AlarmChannel.values()) {
+            rateLimits.put(channel, new TokenBucket(appProperties.getAlarmRateLimitCapacity(),
+                appProperties.getAlarmRateLimitRefillPerMinute(), now));
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        Duration flushInterval = Duration.ofMillis(appProperties.getAlarmFlushIntervalMillis());
+        Duration digestWindow = Duration.ofSeconds(appProperties.getAlarmDigestWindowSeconds());
+        taskScheduler.scheduleWithFixedDelay(this::flush, flushInterval);
+        taskScheduler.scheduleAtFixedRate(this::digest, digestWindow);
+        log.info("[start] 알람 묶음 전송 시작 capacity={}, flushInterval={}ms, window={}s",
+            queue.capacity(), flushInterval.toMillis(), digestWindow.toSeconds());
+    }
+
+    @Override
+    public void initialize() {
+        transport.initialize();
+    }
+
+    @Override
+    public void sendMessage(String message) {
+        offer(AlarmEvent.message(message));
+    }
+
+    @Override
+    public void sendMessage(String fingerprint, String message) {
+        offer(AlarmEvent.message(fingerprint, message));
+    }
+
+    @Override
+    public void sendError(AlarmErrorMessage errorMessage) {
+        String topFrame = firstLine(errorMessage.getStackTrace());
+        offer(AlarmEvent.error(
+            fingerprintOf(errorMessage.getEndpoint(), errorMessage.getErrorClass(), topFrame),
+            () -> errorMessage));
+    }
+
+    /**
+     * 에러 메시지(원인 메시지, 스택 트레이스 문자열)는 실제로 보낼 때 소비자 스레드에서 만든다
+     */
+    @Override
+    public void sendError(String endpoint, Throwable error) {
+        StackTraceElement[] stackTrace = error.getStackTrace();
+        String topFrame = stackTrace.length > 0 ? stackTrace[0].toString() : "";
+        offer(AlarmEvent.error(
+            fingerprintOf(endpoint, error.getClass().getSimpleName(), topFrame),
+            () -> AlarmErrorMessage.of(endpoint, error)));
+    }
+
+    /**
+     * 큐에 쌓인 알람을 지문별로 묶어 시간 창 안의 첫 알람만 전송 (토큰이 없으면 개수만 센다)
+     * @return 전송한 알람 수
+     */
+    public synchronized int flush() {
+        int sent = 0;
+        List<AlarmEvent> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+        while (queue.drainTo(batch, DRAIN_BATCH_SIZE) > 0) {
+            for (AlarmEvent event : batch) {
+                if (accept(event)) {
+                    sent++;
+                }
+            }
+            batch.clear();
+        }
+        return sent;
+    }
+
+    /**
+     * 시간 창을 닫고, 묶이거나 전송 속도 제한으로 보내지 않은 알람이 있으면 요약 메시지 하나로 전송
+     * 요약 메시지는 시간 창마다 최대 한 번이므로 전송 속도 제한을 받지 않는다
+     * @return 요약 메시지를 보냈으면 true
+     */
+    public synchronized boolean digest() {
+        flush();
+
+        List<WindowEntry> suppressed = window.values().stream()
+            .filter(entry -> entry.suppressedCount() > 0)
+            .sorted(Comparator.comparingLong(WindowEntry::suppressedCount).reversed())
+            .toList();
+        long dropped = droppedCount.sumThenReset();
+        window.clear();
+
+        if (suppressed.isEmpty() && dropped == 0) {
+            return false;
+        }
+
+        return forward(AlarmEvent.message(formatDigest(suppressed, dropped)));
+    }
+
+    // 스케줄러(destroyMethod = shutdown) 보다 먼저 호출되어 큐에 남은 알람과 요약을 보낸다
+    @PreDestroy
+    public void drain() {
+        digest();
+    }
+
+    static String fingerprintOf(String endpoint, String errorClass, String topFrame) {
+        String path = endpoint == null ? "" : NUMERIC_PATH_SEGMENT.matcher(endpoint).replaceAll("/{id}");
+        return path + " [" + errorClass + "] at " + topFrame;
+    }
+
+    private void offer(AlarmEvent event) {
+        if (!queue.offer(event)) {
+            droppedCount.increment();
+        }
+    }
+
+    private boolean accept(AlarmEvent event) {
+        WindowEntry entry = window.get(event.fingerprint());
+        if (entry == null) {
+            String key = window.size() < maximumFingerprints ? event.fingerprint() : OTHER_FINGERPRINT;
+            entry = window.computeIfAbsent(key, WindowEntry::new);
+        }
+        entry.count++;
+
+        // 지문 수를 넘쳐 (other) 로 모인 알람은 요약으로만 보낸다
+        if (entry.sent || entry.isOther()
+            || !rateLimits.get(event.channel()).tryAcquire(timeHolder.now().toEpochMilli())) {
+            return false;
+        }
+
+        entry.sent = forward(event);
+        return entry.sent;
+    }
+
+    private boolean forward(AlarmEvent event) {
+        try {
+            if (event.channel() == AlarmChannel.ERROR) {
+                transport.sendError(event.errorMessage().get());
+            } else {
+                transport.sendMessage(event.message());
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.error("[forward] 알람 전송 실패 channel={}, fingerprint={}", event.channel(),
+                summaryOf(event.fingerprint()), e);
+            return false;
+        }
+    }
+
+    private String formatDigest(List<WindowEntry> suppressed, long dropped) {
+        StringBuilder digest = new StringBuilder()
+            .append("### 알람 요약 (최근 ")
+            .append(appProperties.getAlarmDigestWindowSeconds())
+            .append("초)\n");
+
+        int lines = 0;
+        for (WindowEntry entry : suppressed) {
+            String line = "- " + entry.count + "회 (미전송 " + entry.suppressedCount() + "회) "
+                + entry.summary + "\n";
+            if (lines == MAX_DIGEST_LINES || digest.length() + line.length() > MAX_DIGEST_LENGTH) {
+                digest.append("- 외 ").append(suppressed.size() - lines).append("건\n");
+                break;
+            }
+            digest.append(line);
+            lines++;
+        }
+
+        if (dropped > 0) {
+            digest.append("- 큐가 가득 차 버린 알람 : ").append(dropped).append("건\n");
+        }
+        return digest.toString();
+    }
+
+    private static String summaryOf(String fingerprint) {
+        String summary = firstLine(fingerprint);
+        return summary.length() > MAX_SUMMARY_LENGTH
+            ? summary.substring(0, MAX_SUMMARY_LENGTH) + " ..."
+            : summary;
+    }
+
+    // 앞쪽 빈 줄은 건너뛴 첫 줄
+    private static String firstLine(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.strip().lines().findFirst().orElse("");
+    }
+
+    /**
+     * 시간 창 안의 지문 하나
+     */
+    private static final class WindowEntry {
+
+        private final String fingerprint;
+        private final String summary;
+        private long count;
+        private boolean sent;
+
+        private WindowEntry(String fingerprint) {
+            this.fingerprint = fingerprint;
+            this.summary = summaryOf(fingerprint);
+        }
+
+        private boolean isOther() {
+            return OTHER_FINGERPRINT.equals(fingerprint);
+        }
+
+        private long suppressedCount() {
+            return sent ? count - 1 : count;
+        }
+    }
+}
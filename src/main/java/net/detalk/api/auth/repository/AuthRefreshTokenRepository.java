@@ -2,10 +2,29 @@ package net.detalk.api.auth.repository;
 
 import net.detalk.api.auth.domain.AuthRefreshToken;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface AuthRefreshTokenRepository {
     AuthRefreshToken save(AuthRefreshToken token);
-    Optional<AuthRefreshToken> findByToken(String token);
-    AuthRefreshToken update(AuthRefreshToken token);
+
+    /**
+     * 기존 토큰 무효화 + 새 토큰 저장을 한 문장(CTE)으로 수행
+     * 기존 토큰이 없거나, 이미 무효화/만료되었으면 아무것도 저장하지 않는다
+     * @param expiresAt 기존 토큰의 JWT exp (초 단위), 파티션 범위를 좁히는 데 사용
+     * @return 기존 토큰의 회원 ID
+     */
+    Optional<Long> rotate(String token, Instant expiresAt, AuthRefreshToken newToken, Instant now);
+
+    /**
+     * @param expiresAt 토큰의 JWT exp (초 단위), 파티션 범위를 좁히는 데 사용
+     * @return 무효화된 row 수
+     */
+    int revoke(String token, Instant expiresAt, Instant now);
+
+    /**
+     * 무효화되었지만 아직 만료되지 않은 토큰 목록 (부분 인덱스 V0.0.9 로 조회)
+     */
+    List<String> findRevokedTokensNotExpired(Instant now);
 }
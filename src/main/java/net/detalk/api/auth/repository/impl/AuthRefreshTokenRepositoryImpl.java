@@ -3,12 +3,20 @@ package net.detalk.api.auth.repository.impl;
 import lombok.RequiredArgsConstructor;
 import net.detalk.api.auth.repository.AuthRefreshTokenRepository;
 import net.detalk.api.auth.domain.AuthRefreshToken;
+import org.jooq.CommonTableExpression;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Record1;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import static net.detalk.jooq.Tables.AUTH_REFRESH_TOKEN;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.val;
 
 @Repository
 @RequiredArgsConstructor
@@ -27,19 +35,67 @@ public class AuthRefreshTokenRepositoryImpl implements AuthRefreshTokenRepositor
             .fetchOneInto(AuthRefreshToken.class);
     }
 
+    /*
+     * WITH revoked AS (
+     *     UPDATE auth_refresh_token SET revoked_at = ?
+     *     WHERE token = ? AND expires_at >= ? AND expires_at < ? AND revoked_at IS NULL AND expires_at > ?
+     *     RETURNING member_id
+     * )
+     * INSERT INTO auth_refresh_token (member_id, token, created_at, expires_at)
+     * SELECT member_id, ?, ?, ? FROM revoked
+     * RETURNING member_id
+     */
     @Override
-    public Optional<AuthRefreshToken> findByToken(String token) {
-        return dsl.selectFrom(AUTH_REFRESH_TOKEN)
-            .where(AUTH_REFRESH_TOKEN.TOKEN.eq(token))
-            .fetchOptionalInto(AuthRefreshToken.class);
+    public Optional<Long> rotate(String token, Instant expiresAt, AuthRefreshToken newToken, Instant now) {
+        CommonTableExpression<Record1<Long>> revoked = name("revoked").as(
+            dsl.update(AUTH_REFRESH_TOKEN)
+                .set(AUTH_REFRESH_TOKEN.REVOKED_AT, now)
+                .where(AUTH_REFRESH_TOKEN.TOKEN.eq(token))
+                .and(expiresWithinSecond(expiresAt))
+                .and(AUTH_REFRESH_TOKEN.REVOKED_AT.isNull())
+                .and(AUTH_REFRESH_TOKEN.EXPIRES_AT.gt(now))
+                .returningResult(AUTH_REFRESH_TOKEN.MEMBER_ID));
+
+        return dsl.with(revoked)
+            .insertInto(AUTH_REFRESH_TOKEN,
+                AUTH_REFRESH_TOKEN.MEMBER_ID,
+                AUTH_REFRESH_TOKEN.TOKEN,
+                AUTH_REFRESH_TOKEN.CREATED_AT,
+                AUTH_REFRESH_TOKEN.EXPIRES_AT)
+            .select(
+                select(
+                    revoked.field(AUTH_REFRESH_TOKEN.MEMBER_ID),
+                    val(newToken.getToken(), AUTH_REFRESH_TOKEN.TOKEN),
+                    val(newToken.getCreatedAt(), AUTH_REFRESH_TOKEN.CREATED_AT),
+                    val(newToken.getExpiresAt(), AUTH_REFRESH_TOKEN.EXPIRES_AT))
+                .from(revoked))
+            .returningResult(AUTH_REFRESH_TOKEN.MEMBER_ID)
+            .fetchOptional()
+            .map(Record1::value1);
     }
 
     @Override
-    public AuthRefreshToken update(AuthRefreshToken token) {
+    public int revoke(String token, Instant expiresAt, Instant now) {
         return dsl.update(AUTH_REFRESH_TOKEN)
-            .set(AUTH_REFRESH_TOKEN.REVOKED_AT, token.getRevokedAt())
-            .where(AUTH_REFRESH_TOKEN.ID.eq(token.getId()))
-            .returning()
-            .fetchOneInto(AuthRefreshToken.class);
+            .set(AUTH_REFRESH_TOKEN.REVOKED_AT, now)
+            .where(AUTH_REFRESH_TOKEN.TOKEN.eq(token))
+            .and(expiresWithinSecond(expiresAt))
+            .and(AUTH_REFRESH_TOKEN.REVOKED_AT.isNull())
+            .execute();
+    }
+
+    @Override
+    public List<String> findRevokedTokensNotExpired(Instant now) {
+        return dsl.select(AUTH_REFRESH_TOKEN.TOKEN)
+            .from(AUTH_REFRESH_TOKEN)
+            .where(AUTH_REFRESH_TOKEN.REVOKED_AT.isNotNull())
+            .and(AUTH_REFRESH_TOKEN.EXPIRES_AT.gt(now))
+            .fetch(AUTH_REFRESH_TOKEN.TOKEN);
+    }
+
+    // 저장된 expires_at 은 ms 단위, JWT exp 는 초 단위로 잘리므로 [exp, exp + 1s) 범위로 찾는다
+    private Condition expiresWithinSecond(Instant expiresAt) {
+        return AUTH_REFRESH_TOKEN.EXPIRES_AT.ge(expiresAt)
+            .and(AUTH_REFRESH_TOKEN.EXPIRES_AT.lt(expiresAt.plusSeconds(1)));
     }
 }
@@ -50,6 +50,7 @@ public class JwtOAuth2Service extends DefaultOAuth2UserService {
     private final MemberProfileRepository memberProfileRepository;
     private final MemberExternalRepository memberExternalRepository;
     private final AuthRefreshTokenRepository authRefreshTokenRepository;
+    private final RevokedRefreshTokenFilter revokedRefreshTokenFilter;
     private final AttachmentFileRepository fileRepository;
     private final TokenProvider tokenProvider;
     private final TimeHolder timeHolder;
@@ -197,47 +198,57 @@ public class JwtOAuth2Service extends DefaultOAuth2UserService {
                 .build());
     }
 
+    /**
+     * 리프레시 토큰 교체 (기존 토큰 무효화 + 새 토큰 저장을 한 문장으로 수행)
+     * 이 서버가 아는 무효화 토큰(재사용, 로그아웃)은 RevokedRefreshTokenFilter 로 rotate 문 없이 바로 거절하고,
+     * 모르는 토큰은 rotate 문(revoked_at 확인)이 거절한다
+     */
     @Transactional
     public AuthToken refresh(String originalRefreshToken) {
         RefreshToken verifiedRefreshToken = tokenProvider.parseRefreshToken(originalRefreshToken);
-        AuthRefreshToken authRefreshToken = authRefreshTokenRepository.findByToken(verifiedRefreshToken.getValue())
+        if (revokedRefreshTokenFilter.isRevoked(verifiedRefreshToken.getValue())) {
+            log.warn("[refresh] 무효화된 refresh 토큰 재사용 : {}", originalRefreshToken);
+            throw new RefreshTokenNotFoundException();
+        }
+
+        RefreshToken refreshToken = tokenProvider.createRefreshToken();
+
+        log.debug("[refresh] 기존 refresh 토큰 무효화 후 새 refresh 저장");
+        Long memberId = authRefreshTokenRepository.rotate(
+                verifiedRefreshToken.getValue(),
+                verifiedRefreshToken.getExpiresAt().toInstant(),
+                AuthRefreshToken.builder()
+                    .token(refreshToken.getValue())
+                    .createdAt(refreshToken.getIssuedAt().toInstant())
+                    .expiresAt(refreshToken.getExpiresAt().toInstant())
+                    .build(),
+                timeHolder.now())
             .orElseThrow(() -> {
-                log.error("[refresh] 서버에 존재하지 않는 토큰 : {}", originalRefreshToken);
+                log.error("[refresh] 서버에 존재하지 않거나 무효화된 토큰 : {}", originalRefreshToken);
                 return new RefreshTokenNotFoundException();
             });
-
-        Long memberId = authRefreshToken.getMemberId();
+        revokedRefreshTokenFilter.addAfterCommit(verifiedRefreshToken.getValue());
 
         // TODO: ADMIN 권한 확인
         List<String> authorities = new ArrayList<>();
         authorities.add(SecurityRole.MEMBER.getName());
 
         AccessToken accessToken = tokenProvider.createAccessToken(memberId, authorities);
-        RefreshToken refreshToken = tokenProvider.createRefreshToken();
-
-        log.debug("[refresh] 기존 refresh 토큰 무효화 후 새 refresh 저장");
-        authRefreshToken.revoked(timeHolder);
-        authRefreshTokenRepository.update(authRefreshToken);
-
-        authRefreshTokenRepository.save(
-            AuthRefreshToken.builder()
-                .memberId(memberId)
-                .token(refreshToken.getValue())
-                .createdAt(refreshToken.getIssuedAt().toInstant())
-                .expiresAt(refreshToken.getExpiresAt().toInstant())
-                .build());
 
         return new AuthToken(accessToken.getValue(), refreshToken.getValue());
     }
 
+    @Transactional
     public void signOut(String refreshToken) {
         RefreshToken verifiedRefreshToken = tokenProvider.parseRefreshToken(refreshToken);
-        AuthRefreshToken authRefreshToken = authRefreshTokenRepository.findByToken(verifiedRefreshToken.getValue())
-            .orElseThrow(() -> {
-                log.error("[signOut] 서버에 존재하지 않는 토큰 : {}", refreshToken);
-                return new RefreshTokenNotFoundException();
-            });
-        authRefreshToken.revoked(timeHolder);
-        authRefreshTokenRepository.update(authRefreshToken);
+        int revoked = authRefreshTokenRepository.revoke(
+            verifiedRefreshToken.getValue(),
+            verifiedRefreshToken.getExpiresAt().toInstant(),
+            timeHolder.now());
+        if (revoked == 0) {
+            log.error("[signOut] 서버에 존재하지 않거나 이미 무효화된 토큰 : {}", refreshToken);
+            throw new RefreshTokenNotFoundException();
+        }
+        revokedRefreshTokenFilter.addAfterCommit(verifiedRefreshToken.getValue());
     }
 }
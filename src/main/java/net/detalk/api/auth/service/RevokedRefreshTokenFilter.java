@@ -0,0 +1,145 @@
+package net.detalk.api.auth.service;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import net.detalk.api.auth.repository.AuthRefreshTokenRepository;
+import net.detalk.api.support.config.AppProperties;
+import net.detalk.api.support.util.BloomFilter;
+import net.detalk.api.support.util.TimeHolder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 무효화되었지만 아직 만료되지 않은 리프레시 토큰 목록
+ * 재사용(탈취)되었거나 로그아웃한 토큰을 rotate 문 없이 바로 거절하기 위해 쓴다.
+ * 대부분의 토큰(무효화되지 않은 토큰)은 Bloom filter 에서 걸러지고, 걸린 토큰만 정확한 Set 으로 확인하므로 오탐이 없다.
+ * 이 서버가 아직 모르는 무효화 토큰은 통과하지만 rotate 문(revoked_at 확인)이 거절한다.
+ *
+ * Bloom filter 는 삭제가 불가능하므로 주기(revokedRefreshTokenFilterRebuildIntervalMillis)마다
+ * DB 기준으로 새로 만들어 교체한다. 만료된 토큰은 이때 빠지고, 다른 서버에서 무효화한 토큰이 들어온다.
+ * 첫 적재 전에는 판단하지 않는다.
+ */
+@Slf4j
+@Component
+public class RevokedRefreshTokenFilter {
+
+    private final AuthRefreshTokenRepository authRefreshTokenRepository;
+    private final TimeHolder timeHolder;
+    private final TaskScheduler taskScheduler;
+    private final AppProperties appProperties;
+
+    private volatile RevokedTokens current;
+    // 재생성 중인 목록, 재생성 중 무효화된 토큰도 빠지지 않도록 양쪽에 넣는다
+    private volatile RevokedTokens building;
+    private volatile int lastLoadedCount;
+
+    public RevokedRefreshTokenFilter(
+        AuthRefreshTokenRepository authRefreshTokenRepository,
+        TimeHolder timeHolder,
+        @Qualifier("refreshTokenMaintenanceScheduler") TaskScheduler taskScheduler,
+        AppProperties appProperties
+    ) {
+        this.authRefreshTokenRepository = authRefreshTokenRepository;
+        this.timeHolder = timeHolder;
+        this.taskScheduler = taskScheduler;
+        this.appProperties = appProperties;
+    }
+
+    @PostConstruct
+    public void start() {
+        Duration interval = Duration.ofMillis(appProperties.getRevokedRefreshTokenFilterRebuildIntervalMillis());
+        taskScheduler.scheduleWithFixedDelay(this::rebuild, interval);
+        log.info("[start] 무효화 리프레시 토큰 필터 재생성 시작 interval={}ms", interval.toMillis());
+    }
+
+    /**
+     * @return true 면 무효화된 토큰 (오탐 없음), false 면 이 서버가 아는 무효화 토큰이 아니다
+     */
+    public boolean isRevoked(String token) {
+        RevokedTokens tokens = current;
+        return tokens != null && tokens.contains(token);
+    }
+
+    /**
+     * 무효화한 토큰 추가, 트랜잭션 안이면 커밋 후 반영한다
+     */
+    public void addAfterCommit(String token) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(token);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(token);
+            }
+        });
+    }
+
+    private void add(String token) {
+        RevokedTokens tokens = current;
+        if (tokens != null) {
+            tokens.add(token);
+        }
+        RevokedTokens next = building;
+        if (next != null) {
+            next.add(token);
+        }
+    }
+
+    /**
+     * DB 기준으로 필터를 새로 만들어 교체
+     * @return 적재한 토큰 수, 실패 시 -1
+     */
+    public synchronized int rebuild() {
+        long expected = Math.max(
+            appProperties.getRevokedRefreshTokenFilterExpectedInsertions(), lastLoadedCount * 2L);
+        RevokedTokens next = new RevokedTokens(
+            BloomFilter.create(expected, appProperties.getRevokedRefreshTokenFilterFpp()));
+        // DB 조회 전에 공개해야, 조회 이후 커밋된 무효화도 새 필터에 들어간다
+        building = next;
+        try {
+            List<String> tokens = authRefreshTokenRepository.findRevokedTokensNotExpired(timeHolder.now());
+            tokens.forEach(next::add);
+            current = next;
+            lastLoadedCount = tokens.size();
+            log.debug("[rebuild] 무효화 리프레시 토큰 필터 재생성 tokens={}, bits={}, hashes={}",
+                tokens.size(), next.filter.bitSize(), next.filter.hashCount());
+            return tokens.size();
+        } catch (RuntimeException e) {
+            log.error("[rebuild] 무효화 리프레시 토큰 필터 재생성 실패, 기존 필터를 유지합니다.", e);
+            return -1;
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * Bloom filter 와 정확한 토큰 Set, Set 에 먼저 넣어야 필터에 걸린 토큰은 항상 Set 에서 확인된다
+     */
+    private static final class RevokedTokens {
+
+        private final BloomFilter filter;
+        private final Set<String> tokens = ConcurrentHashMap.newKeySet();
+
+        private RevokedTokens(BloomFilter filter) {
+            this.filter = filter;
+        }
+
+        private void add(String token) {
+            tokens.add(token);
+            filter.put(token);
+        }
+
+        private boolean contains(String token) {
+            return filter.mightContain(token) && tokens.contains(token);
+        }
+    }
+}
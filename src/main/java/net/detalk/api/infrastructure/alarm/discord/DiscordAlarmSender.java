@@ -13,24 +13,35 @@ import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import net.dv8tion.jda.api.requests.GatewayIntent;
 import net.dv8tion.jda.api.utils.MemberCachePolicy;
 import net.dv8tion.jda.api.utils.cache.CacheFlag;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+/**
+ * 디스코드 봇(JDA) 알람 전송 구현체
+ * 애플리케이션에서는 CoalescingAlarmSender 를 거쳐 호출된다 (alarmTransport)
+ * discord.transport 가 bot 이거나 없을 때 사용, 웹훅은 DiscordWebhookAlarmSender 참고
+ * 초기화(initialize)는 별도 스레드에서 실행되므로, 준비 전 전송은 예외로 알려 CoalescingAlarmSender 가 전송하지 않은 알람으로 남기게 한다
+ */
 @Slf4j
 @RequiredArgsConstructor
+@Qualifier("alarmTransport")
+@ConditionalOnProperty(prefix = "discord", name = "transport", havingValue = "bot", matchIfMissing = true)
 @Service
 public class DiscordAlarmSender implements AlarmSender {
 
     private final DiscordConfig config;
     private final EnvironmentHolder env;
 
-    private JDA jda;
-    private TextChannel defaultChannel;
-    private String activeProfile;
+    // initialize 스레드에서 준비가 끝난 뒤 한 번에 공개한다
+    private volatile JDA jda;
+    private volatile TextChannel defaultChannel;
+    private volatile String activeProfile;
 
     @Override
     public void initialize() {
         try {
-            jda = JDABuilder.createDefault(config.getToken())
+            JDA builtJda = JDABuilder.createDefault(config.getToken())
                 .setActivity(Activity.playing("알람봇"))
                 .disableCache(
                     EnumSet.of(
@@ -45,16 +56,18 @@ public class DiscordAlarmSender implements AlarmSender {
                 .build();
 
             // JDA가 완전히 초기화될 때까지 대기
-            jda.awaitReady();
+            builtJda.awaitReady();
 
             // Profile 따라 동적으로 channelId 할당
-            defaultChannel = jda.getTextChannelById(config.getChannelId());
+            TextChannel channel = builtJda.getTextChannelById(config.getChannelId());
 
-            if (defaultChannel == null) {
+            if (channel == null) {
                 log.warn("디스코드 채널을 찾지 못했습니다. channelId={}", config.getChannelId());
             }
 
             activeProfile = env.getActiveProfile();
+            defaultChannel = channel;
+            jda = builtJda;
 
             log.info("Discord JDA initialized successfully in '{}' profile. (Channel ID: {})",
                 activeProfile, config.getChannelId());
@@ -70,32 +83,28 @@ public class DiscordAlarmSender implements AlarmSender {
 
     }
 
+    /**
+     * @throws IllegalStateException JDA 가 준비되지 않았거나 채널을 찾지 못한 경우
+     */
     @Override
     public void sendMessage(String message) {
-        if (!isReady()) {
-            log.warn("JDA not initialized or channel is null. Cannot send message: {}", message);
-            return;
-        }
         sendToChannel(message);
     }
 
+    /**
+     * @throws IllegalStateException JDA 가 준비되지 않았거나 채널을 찾지 못한 경우
+     */
     @Override
     public void sendError(AlarmErrorMessage message) {
-        if (!isReady()) {
-            log.warn("JDA not initialized or channel is null. Cannot send message: {}", message.toString());
-            return;
-        }
-        String formattedMessage = message.toString();
-
-        sendToChannel(formattedMessage);
-    }
-
-    private boolean isReady() {
-        return (jda != null && defaultChannel != null);
+        sendToChannel(message.toString());
     }
 
     private void sendToChannel(String message) {
-        defaultChannel.sendMessage(message).queue(
+        TextChannel channel = defaultChannel;
+        if (jda == null || channel == null) {
+            throw new IllegalStateException("JDA not initialized or channel is null.");
+        }
+        channel.sendMessage(message).queue(
             success -> log.debug("디스코드 알림 전송 성공"),
             failure -> log.error("디스코드 알림 전송 실패", failure)
         );
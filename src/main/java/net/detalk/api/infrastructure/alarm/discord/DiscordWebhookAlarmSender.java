@@ -0,0 +1,207 @@
+package net.detalk.api.infrastructure.alarm.discord;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import net.detalk.api.alarm.domain.AlarmErrorMessage;
+import net.detalk.api.alarm.service.AlarmSender;
+import net.detalk.api.support.util.StringUtil;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * 디스코드 웹훅 알람 전송 구현체 (discord.transport: webhook)
+ * 게이트웨이 연결(웹소켓, heartbeat, 엔티티 캐시) 없이 HTTP POST 만 하므로 시작 시 기다리는 작업이 없다.
+ * JDK HttpClient 로 비동기 전송하며 연결은 클라이언트가 재사용(keep-alive)한다.
+ * 전송 중인 요청은 최대 하나이고, 그동안 들어온 메시지는 모아 두었다가 다음 요청 본문 하나로 합쳐 보낸다 (최대 2000자).
+ * 429 응답은 Retry-After 만큼 기다린 뒤 다시 보낸다.
+ */
+@Slf4j
+@Qualifier("alarmTransport")
+@ConditionalOnProperty(prefix = "discord", name = "transport", havingValue = "webhook")
+@Service
+public class DiscordWebhookAlarmSender implements AlarmSender {
+
+    // 디스코드 메시지 최대 길이
+    static final int MAX_CONTENT_LENGTH = 2000;
+    static final String BATCH_SEPARATOR = "\n\n";
+    private static final int MAX_RETRIES = 3;
+    private static final long DEFAULT_RETRY_AFTER_MILLIS = 1000L;
+    private static final String TRIM_INDICATOR = " ......";
+
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final URI webhookUri;
+    private final Duration requestTimeout;
+
+    private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+    // 전송 중인 요청이 있는지, true 로 바꾼 스레드만 pending 을 꺼낸다
+    private final AtomicBoolean inFlight = new AtomicBoolean();
+
+    public DiscordWebhookAlarmSender(DiscordWebhookConfig config, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.webhookUri = StringUtil.isEmpty(config.getUrl()) ? null : URI.create(config.getUrl());
+        this.requestTimeout = Duration.ofMillis(config.getRequestTimeoutMillis());
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(config.getConnectTimeoutMillis()))
+            .build();
+    }
+
+    /**
+     * 연결은 첫 전송 때 맺으므로 할 일이 없다
+     */
+    @Override
+    public void initialize() {
+        if (webhookUri == null) {
+            log.warn("[initialize] 디스코드 웹훅 URL 이 없어 알람을 보내지 않습니다.");
+            return;
+        }
+        log.info("[initialize] 디스코드 웹훅 알람 전송 사용");
+    }
+
+    @Override
+    public void sendMessage(String message) {
+        enqueue(message);
+    }
+
+    @Override
+    public void sendError(AlarmErrorMessage errorMessage) {
+        enqueue(errorMessage.toString());
+    }
+
+    // 종료 시 진행 중인 전송이 끝날 때까지 기다린다 (최대 requestTimeout)
+    @PreDestroy
+    public void close() {
+        httpClient.close();
+    }
+
+    private void enqueue(String content) {
+        if (webhookUri == null) {
+            log.warn("Discord webhook url is empty. Cannot send message: {}", content);
+            return;
+        }
+        pending.add(content);
+        trySend();
+    }
+
+    private void trySend() {
+        while (!pending.isEmpty() && inFlight.compareAndSet(false, true)) {
+            String content = nextBatch();
+            if (content != null) {
+                post(content, 0);
+                return;
+            }
+            // 꺼내는 사이 다른 스레드가 넣었을 수 있으므로 다시 확인
+            inFlight.set(false);
+        }
+    }
+
+    /**
+     * 최대 길이 안에서 대기 중인 메시지를 하나의 본문으로 합친다 (inFlight 를 가진 스레드만 호출)
+     */
+    private String nextBatch() {
+        String first = pending.poll();
+        if (first == null) {
+            return null;
+        }
+
+        StringBuilder content = new StringBuilder(trim(first));
+        String next;
+        while ((next = pending.peek()) != null
+            && content.length() + BATCH_SEPARATOR.length() + next.length() <= MAX_CONTENT_LENGTH) {
+            content.append(BATCH_SEPARATOR).append(pending.poll());
+        }
+        return content.toString();
+    }
+
+    private void post(String content, int attempt) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(webhookUri)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString(toJson(content)))
+                .build();
+        } catch (JsonProcessingException e) {
+            log.error("[post] 디스코드 웹훅 본문 생성 실패", e);
+            release();
+            return;
+        }
+
+        httpClient.sendAsync(request, BodyHandlers.discarding())
+            .whenComplete((response, failure) -> complete(content, attempt, response, failure));
+    }
+
+    private void complete(String content, int attempt, HttpResponse<Void> response, Throwable failure) {
+        if (failure != null) {
+            log.error("디스코드 알림 전송 실패", failure);
+            release();
+            return;
+        }
+
+        int status = response.statusCode();
+        if (status == 429 && attempt < MAX_RETRIES) {
+            long retryAfterMillis = retryAfterMillis(response);
+            log.warn("[complete] 디스코드 웹훅 전송 속도 제한, {}ms 후 재전송 attempt={}", retryAfterMillis, attempt + 1);
+            CompletableFuture.delayedExecutor(retryAfterMillis, TimeUnit.MILLISECONDS)
+                .execute(() -> post(content, attempt + 1));
+            return;
+        }
+
+        if (status >= 300) {
+            log.error("디스코드 알림 전송 실패 status={}", status);
+        } else {
+            log.debug("디스코드 알림 전송 성공");
+        }
+        release();
+    }
+
+    private void release() {
+        inFlight.set(false);
+        trySend();
+    }
+
+    private String toJson(String content) throws JsonProcessingException {
+        // 알람 본문의 @everyone 등으로 멘션하지 않도록 allowed_mentions 를 비운다
+        return objectMapper.writeValueAsString(Map.of(
+            "content", content,
+            "allowed_mentions", Map.of("parse", List.of())
+        ));
+    }
+
+    // Retry-After 는 초 단위 (소수 가능)
+    private static long retryAfterMillis(HttpResponse<Void> response) {
+        return response.headers().firstValue("Retry-After")
+            .map(value -> {
+                try {
+                    return (long) (Double.parseDouble(value) * 1000);
+                } catch (NumberFormatException e) {
+                    return DEFAULT_RETRY_AFTER_MILLIS;
+                }
+            })
+            .orElse(DEFAULT_RETRY_AFTER_MILLIS);
+    }
+
+    private static String trim(String content) {
+        if (content.length() <= MAX_CONTENT_LENGTH) {
+            return content;
+        }
+        return content.substring(0, MAX_CONTENT_LENGTH - TRIM_INDICATOR.length()) + TRIM_INDICATOR;
+    }
+}
@@ -0,0 +1,17 @@
+package net.detalk.api.infrastructure.alarm.discord;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "discord.webhook")
+public class DiscordWebhookConfig {
+    private String url;
+    // 연결 제한 시간(ms), 요청 하나의 응답 제한 시간(ms)
+    private long connectTimeoutMillis = 3000L;
+    private long requestTimeoutMillis = 5000L;
+}
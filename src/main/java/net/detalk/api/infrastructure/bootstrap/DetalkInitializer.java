@@ -1,14 +1,16 @@
 package net.detalk.api.infrastructure.bootstrap;
 
 
-import jakarta.transaction.Transactional;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.detalk.api.alarm.service.AlarmSender;
 import net.detalk.api.plan.domain.PricingPlan;
@@ -20,9 +22,17 @@ import net.detalk.api.support.security.SecurityRole;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 애플리케이션 시작 시 초기화
+ * 트래픽 처리에 필요한 작업(권한, 가격 정책)은 각자 트랜잭션으로 동시에 실행하고 모두 끝날 때까지 기다린다.
+ * Spring Boot 는 ApplicationRunner 가 끝난 뒤 readiness 를 ACCEPTING_TRAFFIC 으로 바꾸므로 이 작업들만 readiness 를 막는다.
+ * 알람 초기화(디스코드 봇 접속 대기)는 별도 스레드에서 실행하며 readiness 를 막지 않는다.
+ * 작업 하나가 실패해도 나머지는 끝까지 실행하고, 트래픽 작업이 하나라도 실패하면 모두 끝난 뒤 시작을 실패시킨다.
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Component
 public class DetalkInitializer implements ApplicationRunner {
 
@@ -34,33 +44,100 @@ public class DetalkInitializer implements ApplicationRunner {
 
     private final EnvironmentHolder env;
 
-    @Transactional
+    private final TransactionTemplate transactionTemplate;
+
+    // 트래픽 작업 결과 (모두 성공하면 true), 알람 스레드가 시작 완료 메시지를 보낼 때 기다린다
+    private final CompletableFuture<Boolean> trafficReady = new CompletableFuture<>();
+
+    public DetalkInitializer(
+        AlarmSender alarmSender,
+        RoleRepository roleRepository,
+        PricingPlanRepository pricingPlanRepository,
+        EnvironmentHolder env,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.alarmSender = alarmSender;
+        this.roleRepository = roleRepository;
+        this.pricingPlanRepository = pricingPlanRepository;
+        this.env = env;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
     @Override
     public void run(ApplicationArguments args){
+        long started = System.nanoTime();
+
+        // 트래픽과 무관한 알람 시스템 초기화
+        startAlarmInitialization();
+
+        // 초기 권한, 초기 가격 정책 (작업마다 가상 스레드 하나)
+        boolean ready = false;
+        try (ExecutorService scope = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("bootstrap-", 0).factory())) {
+            Future<Boolean> memberRoles = scope.submit(() -> runTask("initMemberRoles", this::initMemberRoles));
+            Future<Boolean> pricingPlans = scope.submit(() -> runTask("initPricingPlans", this::initPricingPlans));
+            // 모든 작업이 끝날 때까지 대기 (이후 try 종료 시 close 는 바로 반환)
+            scope.close();
+            ready = memberRoles.resultNow() & pricingPlans.resultNow();
+        } finally {
+            trafficReady.complete(ready);
+        }
+        log.info("[run] 트래픽 처리 초기화 {} elapsed={}ms", ready ? "완료" : "실패", elapsedMillis(started));
 
-        // 트랜잭션과 무관한 알람 시스템 초기화
-        initializeDiscord();
-
-        // 초기 권한
-        initMemberRoles();
+        if (!ready) {
+            throw new IllegalStateException("트래픽 처리에 필요한 초기화에 실패했습니다.");
+        }
 
-        // 초기 가격 정책
-        initPricingPlans();
         if ("prod".equals(env.getActiveProfile())) {
             log.info("운영 서버 톰캣 실행 완료");
-            alarmSender.sendMessage("운영 서버 톰캣 실행 완료");
         }
     }
 
-    private void initializeDiscord() {
+    /**
+     * 알람 초기화 후 트래픽 작업이 모두 성공하면 운영 서버 시작 완료 알람 전송
+     */
+    private void startAlarmInitialization() {
+        Thread.ofPlatform().name("bootstrap-alarm").daemon(true).start(() -> {
+            runTask("initializeAlarm", this::initializeAlarm);
+
+            if (trafficReady.join() && "prod".equals(env.getActiveProfile())) {
+                alarmSender.sendMessage("운영 서버 톰캣 실행 완료");
+            }
+        });
+    }
+
+    /**
+     * @return 예외 없이 끝났으면 true
+     */
+    private boolean runTask(String name, Runnable task) {
+        long started = System.nanoTime();
         try {
-            alarmSender.initialize();
-        }catch (RuntimeException e) {
-            log.error("alarmSender 봇 초기화 실패: {}", e.getMessage(), e);
+            task.run();
+            log.info("[runTask] {} 완료 elapsed={}ms", name, elapsedMillis(started));
+            return true;
+        } catch (RuntimeException e) {
+            log.error("[runTask] {} 실패 elapsed={}ms: {}", name, elapsedMillis(started), e.getMessage(), e);
+            return false;
         }
     }
 
+    private void initializeAlarm() {
+        alarmSender.initialize();
+    }
+
     private void initMemberRoles() {
+        transactionTemplate.executeWithoutResult(status -> saveMissingRoles());
+    }
+
+    private void initPricingPlans() {
+        transactionTemplate.executeWithoutResult(status -> saveMissingPricingPlans());
+    }
+
+    private static long elapsedMillis(long startedNanos) {
+        return (System.nanoTime() - startedNanos) / 1_000_000;
+    }
+
+    private void saveMissingRoles() {
 
         // SecurityRole 클래스에 정의되어있는 모든 권한 목록을 조회한다
         List<String> roleCodes = Arrays.stream(SecurityRole.values())
@@ -86,7 +163,7 @@ public class DetalkInitializer implements ApplicationRunner {
 
     }
 
-    private void initPricingPlans() {
+    private void saveMissingPricingPlans() {
 
         // TODO : 추후 enum 으로 관리
         // 초기화할 Pricing Plan
@@ -7,6 +7,7 @@ import net.detalk.api.member.controller.v1.request.CreateMemberProfileRequest;
 import net.detalk.api.member.controller.v1.request.UpdateMemberProfileRequest;
 import net.detalk.api.member.controller.v1.response.GetMemberProfileResponse;
 import net.detalk.api.post.controller.v1.response.GetProductPostResponse;
+import net.detalk.api.post.domain.ProductPostSort;
 import net.detalk.api.member.service.MemberService;
 import net.detalk.api.post.service.ProductPostService;
 import net.detalk.api.support.paging.CursorPageData;
@@ -55,10 +56,11 @@ public class MemberController {
     public ResponseEntity<CursorPageData<GetProductPostResponse>> getMyPosts(
         @RequestParam(name = "size", defaultValue = "5") @Max(20) int pageSize,
         @RequestParam(name = "startId", required = false) Long nextId,
+        @RequestParam(name = "cursor", required = false) String cursor,
         @HasRole(SecurityRole.MEMBER) SecurityUser user
     ) {
         CursorPageData<GetProductPostResponse> myPostResponses = productPostService.getProductPostsByMemberId(
-            user.getId(), pageSize, nextId);
+            user.getId(), pageSize, ProductPostSort.resolveCursor(cursor, nextId));
         return ResponseEntity.ok(myPostResponses);
     }
 
@@ -66,12 +68,14 @@ public class MemberController {
     public ResponseEntity<CursorPageData<GetProductPostResponse>> getPostsByUserHandle(
         @PathVariable("userhandle") String userhandle,
         @RequestParam(name = "size", defaultValue = "5") @Max(20) int pageSize,
-        @RequestParam(name = "startId", required = false) Long nextId
+        @RequestParam(name = "startId", required = false) Long nextId,
+        @RequestParam(name = "cursor", required = false) String cursor
     ) {
         Long memberId = memberService.getMemberIdByUserHandle(userhandle);
 
         CursorPageData<GetProductPostResponse> memberProductResponses =
-            productPostService.getProductPostsByMemberId(memberId, pageSize, nextId);
+            productPostService.getProductPostsByMemberId(memberId, pageSize,
+                ProductPostSort.resolveCursor(cursor, nextId));
 
         return ResponseEntity.ok(memberProductResponses);
     }
@@ -80,12 +84,14 @@ public class MemberController {
     public ResponseEntity<CursorPageData<GetProductPostResponse>> getRecommendedPosts(
         @PathVariable("userhandle") String userhandle,
         @RequestParam(name = "size", defaultValue = "5") @Max(20) int pageSize,
-        @RequestParam(name = "startId", required = false) Long nextId
+        @RequestParam(name = "startId", required = false) Long nextId,
+        @RequestParam(name = "cursor", required = false) String cursor
     ) {
         Long memberId = memberService.getMemberIdByUserHandle(userhandle);
 
         CursorPageData<GetProductPostResponse> recommendedPostResponses =
-            productPostService.getRecommendedPostsByMemberId(memberId, pageSize, nextId);
+            productPostService.getRecommendedPostsByMemberId(memberId, pageSize,
+                ProductPostSort.resolveCursor(cursor, nextId));
 
         return ResponseEntity.ok(recommendedPostResponses);
     }
@@ -13,6 +13,7 @@ import net.detalk.api.member.domain.exception.MemberProfileNotFoundException;
 import net.detalk.api.member.domain.exception.UserHandleDuplicatedException;
 import net.detalk.api.member.repository.MemberProfileRepository;
 import net.detalk.api.member.repository.MemberRepository;
+import net.detalk.api.post.service.ProductPostCardService;
 import net.detalk.api.support.util.TimeHolder;
 import net.detalk.api.support.util.UUIDGenerator;
 import org.springframework.stereotype.Service;
@@ -25,6 +26,7 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final MemberProfileRepository memberProfileRepository;
+    private final ProductPostCardService productPostCardService;
     private final TimeHolder timeHolder;
     private final UUIDGenerator uuidGenerator;
 
@@ -111,6 +113,9 @@ public class MemberService {
         );
 
         memberProfileRepository.update(memberProfile);
+
+        // 작성한 게시글 카드의 닉네임, userhandle, 아바타 갱신
+        productPostCardService.refreshWriterProfile(memberId);
     }
 
     /**
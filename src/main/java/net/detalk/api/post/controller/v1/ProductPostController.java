@@ -9,10 +9,12 @@ import net.detalk.api.post.controller.v1.request.UpdateProductPostRequest;
 import net.detalk.api.post.controller.v1.response.CreateProductPostResponse;
 import net.detalk.api.post.controller.v1.response.GetProductPostResponse;
 import net.detalk.api.post.controller.v1.request.CreateRecommendRequest;
+import net.detalk.api.post.domain.ProductPostSort;
 import net.detalk.api.post.service.RecommendService;
 import net.detalk.api.support.paging.CursorPageData;
 import net.detalk.api.post.controller.v1.request.CreateProductPostRequest;
 import net.detalk.api.post.service.ProductPostService;
+import net.detalk.api.support.idempotency.Idempotent;
 import net.detalk.api.support.security.HasRole;
 import net.detalk.api.support.security.SecurityRole;
 import net.detalk.api.support.security.SecurityUser;
@@ -35,6 +37,7 @@ public class ProductPostController {
 
     private final RecommendService recommendService;
 
+    @Idempotent(key = "#user.id + ':' + #createProductPostRequest.idempotentKey()")
     @PostMapping
     public ResponseEntity<CreateProductPostResponse> create(
         @Valid @RequestBody CreateProductPostRequest createProductPostRequest,
@@ -44,12 +47,17 @@ public class ProductPostController {
         return ResponseEntity.ok(new CreateProductPostResponse(productPostId));
     }
 
+    /**
+     * startId 는 기존 클라이언트 호환용 (최신순에서만 유효), 새 클라이언트는 응답의 nextCursor 를 cursor 로 전달한다
+     */
     @GetMapping
     public ResponseEntity<CursorPageData<GetProductPostResponse>> getProductPosts(
         @RequestParam(name = "size", defaultValue = "5") @Max(20) int pageSize,
-        @RequestParam(name = "startId", required = false) Long nextId) {
+        @RequestParam(name = "startId", required = false) Long nextId,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "sort", defaultValue = "LATEST") ProductPostSort sort) {
         CursorPageData<GetProductPostResponse> result = productPostService.getProductPosts(pageSize,
-            nextId);
+            ProductPostSort.resolveCursor(cursor, nextId), sort);
         return ResponseEntity.ok(result);
     }
 
@@ -83,11 +91,13 @@ public class ProductPostController {
     public ResponseEntity<CursorPageData<GetProductPostResponse>> getProductsByTags(
         @RequestParam(name = "size", defaultValue = "5") @Max(20) int pageSize,
         @RequestParam(name = "startId", required = false) Long nextId,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "sort", defaultValue = "LATEST") ProductPostSort sort,
         @RequestParam(name = "tag")
         @Size(min = 1, max = 5, message = "enter a min of 1 tag and a max of 5 tags.")
         List<String> tags) {
         CursorPageData<GetProductPostResponse> result = productPostService.getProductPostsByTags(
-            pageSize, nextId, tags);
+            pageSize, ProductPostSort.resolveCursor(cursor, nextId), sort, tags);
         return ResponseEntity.ok(result);
     }
 }
@@ -21,7 +21,7 @@ import lombok.Builder;
  * @param media         미디어 정보 목록
  * @param urls          관련 URL 목록
  */
-@Builder
+@Builder(toBuilder = true)
 public record GetProductPostResponse(
     Long id,
     String nickname,
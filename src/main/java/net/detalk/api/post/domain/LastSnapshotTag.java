@@ -0,0 +1,11 @@
+package net.detalk.api.post.domain;
+
+/**
+ * 게시글의 최근 스냅샷 태그 (태그 역색인 적재용)
+ * @param postId     게시글 ID
+ * @param snapshotId 최근 스냅샷 ID
+ * @param tagId      태그 ID, 태그가 없는 스냅샷이면 null
+ */
+public record LastSnapshotTag(Long postId, Long snapshotId, Long tagId) {
+
+}
@@ -0,0 +1,24 @@
+package net.detalk.api.post.domain;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 게시글 상세 조회용 포인터 (게시글 -> 최근 스냅샷)
+ * 스냅샷 밖에서 바뀌는 값(추천 수, 작성자 프로필, 메이커 여부, 링크)을 함께 들고 있으며 짧게만 캐시한다
+ */
+@Getter
+@Builder
+public class ProductPostDetailPointer {
+
+    private final Long postId;
+    private final Long snapshotId;
+    private final Long recommendCount;
+    private final String nickname;
+    private final String userHandle;
+    private final String avatarUrl;
+    private final Boolean isMaker;
+    private final List<String> urls;
+
+}
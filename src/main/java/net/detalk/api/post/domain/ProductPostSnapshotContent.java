@@ -0,0 +1,25 @@
+package net.detalk.api.post.domain;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import net.detalk.api.post.controller.v1.response.GetProductPostResponse.Media;
+
+/**
+ * 게시글 상세 조회용 스냅샷 내용
+ * 스냅샷과 태그, 이미지는 저장 후 변경되지 않으므로 snapshotId 기준으로 만료 없이 캐시한다
+ */
+@Getter
+@Builder
+public class ProductPostSnapshotContent {
+
+    private final Long snapshotId;
+    private final String title;
+    private final String description;
+    private final String pricingPlan;
+    private final List<String> tags;
+    private final List<Media> media;
+    private final Instant createdAt;
+
+}
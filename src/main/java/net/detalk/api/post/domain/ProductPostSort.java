@@ -0,0 +1,77 @@
+package net.detalk.api.post.domain;
+
+import java.util.List;
+import net.detalk.api.post.controller.v1.response.GetProductPostResponse;
+import net.detalk.api.support.error.InvalidCursorException;
+import net.detalk.api.support.paging.CursorCodec;
+
+/**
+ * 게시글 피드 정렬 기준
+ * 커서에는 정렬 키 튜플을 그대로 담으므로 정렬 기준마다 커서 형식이 다르다. (다른 정렬의 커서는 InvalidCursorException)
+ */
+public enum ProductPostSort {
+
+    /**
+     * 최신순 (post_id DESC)
+     */
+    LATEST {
+        @Override
+        public String cursorOf(GetProductPostResponse post) {
+            return CursorCodec.encode(post.id());
+        }
+
+        @Override
+        public Long nextIdOf(GetProductPostResponse post) {
+            return post.id();
+        }
+    },
+
+    /**
+     * 추천순 (recommend_count DESC, post_id DESC)
+     */
+    RECOMMENDED {
+        @Override
+        public String cursorOf(GetProductPostResponse post) {
+            return CursorCodec.encode(post.recommendCount().longValue(), post.id());
+        }
+    };
+
+    /**
+     * @param post DB 에서 읽은 그대로의 게시글 (아직 반영되지 않은 추천 수를 더하기 전)
+     * @return 이 게시글 다음부터 조회하는 커서
+     */
+    public abstract String cursorOf(GetProductPostResponse post);
+
+    /**
+     * 기존 startId 파라미터로 이어 조회할 게시글 ID, 게시글 ID 순 정렬(LATEST)이 아니면 startId 로 이어갈 수 없으므로 null
+     */
+    public Long nextIdOf(GetProductPostResponse post) {
+        return null;
+    }
+
+    /**
+     * 기존 startId(게시글 ID) 파라미터를 LATEST 커서로 변환
+     * @return cursor 가 있으면 cursor, 둘 다 없으면 null
+     */
+    public static String resolveCursor(String cursor, Long startId) {
+        if (cursor != null || startId == null) {
+            return cursor;
+        }
+        return CursorCodec.encode(startId);
+    }
+
+    /**
+     * LATEST 커서가 가리키는 게시글 ID
+     * @throws InvalidCursorException LATEST 커서가 아닌 경우
+     */
+    public static Long lastPostIdOf(String latestCursor) {
+        if (latestCursor == null) {
+            return null;
+        }
+        List<Object> values = CursorCodec.decode(latestCursor);
+        if (values.size() != 1 || !(values.get(0) instanceof Long postId)) {
+            throw new InvalidCursorException();
+        }
+        return postId;
+    }
+}
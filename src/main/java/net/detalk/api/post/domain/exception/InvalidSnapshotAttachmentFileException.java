@@ -0,0 +1,27 @@
+package net.detalk.api.post.domain.exception;
+
+import net.detalk.api.support.error.ApiException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidSnapshotAttachmentFileException extends ApiException {
+
+    public InvalidSnapshotAttachmentFileException(Long uploaderId, int requested, int saved) {
+        super(String.format("존재하지 않거나 업로더가 다른 이미지가 포함되어 있습니다. 업로더 ID=%d, 요청=%d, 저장=%d",
+            uploaderId, requested, saved));
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.BAD_REQUEST;
+    }
+
+    @Override
+    public String getErrorCode() {
+        return "invalid_attachment_file";
+    }
+
+    @Override
+    public boolean isNecessaryToLog() {
+        return true;
+    }
+}
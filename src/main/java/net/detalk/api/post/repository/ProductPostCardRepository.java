@@ -0,0 +1,40 @@
+package net.detalk.api.post.repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 피드 조회용 비정규화 테이블(product_post_card) 관리
+ * 조회는 ProductPostRepository 의 목록 조회 메서드에서 수행하고, 여기서는 갱신만 담당한다
+ */
+public interface ProductPostCardRepository {
+
+    /**
+     * 정규화 테이블 기준으로 게시글 카드 upsert
+     * @return 반영된 row 수 (원본 게시글이 없으면 0)
+     */
+    int refresh(Long postId);
+
+    /**
+     * 작성자 프로필(닉네임, userhandle, 아바타) 변경 반영
+     */
+    int refreshWriterProfile(Long writerId);
+
+    /**
+     * @param deltas postId -> 추천 수 증가량
+     */
+    void incrementRecommendCounts(Map<Long, Long> deltas);
+
+    void deleteByPostId(Long postId);
+
+    /**
+     * 모든 게시글 카드를 정규화 테이블 기준으로 다시 생성
+     * @return 반영된 row 수
+     */
+    int rebuildAll();
+
+    /**
+     * 정규화 테이블과 값이 다르거나, 한쪽에만 존재하는 게시글 ID 목록
+     */
+    List<Long> findInconsistentPostIds();
+}
@@ -2,9 +2,12 @@ package net.detalk.api.post.repository;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import net.detalk.api.post.controller.v1.response.GetProductPostResponse;
 import net.detalk.api.post.domain.ProductPost;
+import net.detalk.api.post.domain.ProductPostDetailPointer;
+import net.detalk.api.post.domain.ProductPostSort;
 
 public interface ProductPostRepository {
 
@@ -14,23 +17,45 @@ public interface ProductPostRepository {
 
     Optional<ProductPost> findByProductId(Long productId);
 
-    Optional<GetProductPostResponse> findDetailsById(Long id);
+    /**
+     * 게시글 상세 조회용 포인터 (최근 스냅샷 ID, 추천 수, 작성자 정보)
+     */
+    Optional<ProductPostDetailPointer> findDetailPointerById(Long id);
 
-    List<GetProductPostResponse> findProductPosts(int pageSize, Long nextId);
+    /**
+     * @param cursor 이전 페이지의 nextCursor (sort 와 같은 정렬로 만든 커서), null 이면 첫 페이지
+     */
+    List<GetProductPostResponse> findProductPosts(int pageSize, ProductPostSort sort, String cursor);
 
+    /**
+     * @param cursor LATEST 커서, null 이면 첫 페이지
+     */
     List<GetProductPostResponse> findProductPostsByMemberId(Long memberId, int pageSize,
-        Long nextId);
+        String cursor);
 
+    /**
+     * @param cursor LATEST 커서, null 이면 첫 페이지
+     */
     List<GetProductPostResponse> findRecommendedPostsByMemberId(Long memberId, int pageSize,
-        Long nextId);
+        String cursor);
 
-    List<GetProductPostResponse> findProductPostsByTags(int pageSize, Long nextId,
-        List<String> tags);
+    List<GetProductPostResponse> findProductPostsByTags(int pageSize, ProductPostSort sort,
+        String cursor, List<String> tags);
+
+    /**
+     * 게시글 ID 목록으로 조회 (태그 역색인으로 찾은 페이지 채우기용)
+     * @return id 내림차순, 없는 게시글은 제외
+     */
+    List<GetProductPostResponse> findProductPostsByIds(List<Long> ids);
 
 
     boolean existsById(Long id);
 
-    void incrementRecommendCount(Long postId, int count);
+    /**
+     * 여러 게시글 추천 수를 한 번의 UPDATE ... FROM (VALUES ...) 로 증가
+     * @param deltas postId -> 증가량
+     */
+    void incrementRecommendCounts(Map<Long, Long> deltas);
 
 
 
@@ -1,9 +1,27 @@
 package net.detalk.api.post.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.detalk.api.post.controller.v1.response.GetProductPostResponse.Media;
 import net.detalk.api.post.domain.ProductPostSnapshotAttachmentFile;
 
 public interface ProductPostSnapshotAttachmentFileRepository {
 
     ProductPostSnapshotAttachmentFile save(ProductPostSnapshotAttachmentFile attachmentFile);
 
+    /**
+     * 스냅샷 이미지를 목록 순서(sequence)대로 한 문장으로 저장
+     * attachment_file 에 존재하고 uploaderId 가 올린 이미지만 저장된다
+     * @return 저장된 row 수 (요청보다 적으면 존재하지 않거나 업로더가 다른 이미지가 있다)
+     */
+    int saveAll(Long snapshotId, Long uploaderId, List<UUID> attachmentFileIds);
+
+    /**
+     * 요청한 스냅샷 ID들의 이미지를 한 번의 쿼리로 조회
+     * @return snapshotId 별 sequence 오름차순 이미지 목록 (이미지 없는 스냅샷은 포함되지 않음)
+     */
+    Map<Long, List<Media>> findMediaBySnapshotIds(Collection<Long> snapshotIds);
+
 }
@@ -2,6 +2,7 @@ package net.detalk.api.post.repository;
 
 import java.util.Optional;
 import net.detalk.api.post.domain.ProductPostSnapshot;
+import net.detalk.api.post.domain.ProductPostSnapshotContent;
 
 public interface ProductPostSnapshotRepository {
 
@@ -9,4 +10,9 @@ public interface ProductPostSnapshotRepository {
 
     Optional<ProductPostSnapshot> findById(Long id);
 
+    /**
+     * 상세 조회용 스냅샷 내용 (가격 정책 이름, 태그, 이미지 포함)
+     */
+    Optional<ProductPostSnapshotContent> findContentById(Long id);
+
 }
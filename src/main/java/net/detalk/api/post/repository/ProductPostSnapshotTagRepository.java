@@ -1,10 +1,17 @@
 package net.detalk.api.post.repository;
 
 import java.util.List;
+import net.detalk.api.post.domain.LastSnapshotTag;
 import net.detalk.api.post.domain.ProductPostSnapshotTag;
 
 public interface ProductPostSnapshotTagRepository {
 
     void saveAll(List<ProductPostSnapshotTag> snapshotTags);
 
+    /**
+     * 최근 스냅샷 ID 가 afterSnapshotId 보다 큰 게시글의 태그 목록
+     * 태그가 없는 게시글도 tagId = null 인 row 로 포함된다
+     */
+    List<LastSnapshotTag> findLastSnapshotTagsAfter(long afterSnapshotId);
+
 }
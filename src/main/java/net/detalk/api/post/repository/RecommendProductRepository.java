@@ -1,15 +1,17 @@
 package net.detalk.api.post.repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
-import net.detalk.api.post.domain.RecommendProduct;
 
 public interface RecommendProductRepository {
 
-    boolean isAlreadyRecommended(Long memberId, Long recommendId, Long productPostId);
-
-    RecommendProduct save(Long recommendId, Long productPostId, Long memberId, Instant now);
-
-    void saveAll(List<RecommendProduct> recommendProducts);
+    /**
+     * 추천 이유별 추천 관계를 한 번에 저장, 이미 추천한 이유는 건너뛴다
+     *
+     * @return 새로 저장된 추천 이유 ID 목록 (요청보다 적으면 나머지는 중복 추천)
+     */
+    List<Long> saveAllIgnoringDuplicates(Long productPostId, Long memberId, String content,
+        Collection<String> reasons, Instant now);
 
 }
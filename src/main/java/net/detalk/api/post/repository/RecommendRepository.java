@@ -1,13 +1,17 @@
 package net.detalk.api.post.repository;
 
 import java.time.Instant;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 import net.detalk.api.post.domain.Recommend;
 
 public interface RecommendRepository {
 
-    Optional<Recommend> findByReason(String reason);
+    List<Recommend> findAllByReasons(Collection<String> reasons);
 
-    Recommend save(String reason, Instant now);
+    /**
+     * 저장되지 않은 추천 이유만 저장 (INSERT ... ON CONFLICT DO NOTHING)
+     */
+    void saveAllIfAbsent(Collection<String> reasons, Instant now);
 
 }
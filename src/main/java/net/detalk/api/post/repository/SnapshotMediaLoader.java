@@ -0,0 +1,42 @@
+package net.detalk.api.post.repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import net.detalk.api.post.controller.v1.response.GetProductPostResponse.Media;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스냅샷 이미지 일괄 조회기
+ * 캐시하지 않는다 : 상세 조회는 이미지를 포함한 스냅샷 본문 전체를 productPostSnapshotContent 캐시에 담고,
+ * 목록 조회는 product_post_card 의 이미지 컬럼을 읽으므로 여기서 한 번 더 캐시하면 같은 데이터를 두 번 들고 있게 된다
+ */
+@RequiredArgsConstructor
+@Component
+public class SnapshotMediaLoader {
+
+    private final ProductPostSnapshotAttachmentFileRepository attachmentFileRepository;
+
+    /**
+     * 단일 스냅샷 이미지 조회
+     * @return sequence 오름차순 이미지 목록, 없으면 빈 목록
+     */
+    public List<Media> load(Long snapshotId) {
+        return loadAll(List.of(snapshotId)).get(snapshotId);
+    }
+
+    /**
+     * 한 번의 쿼리로 조회
+     * @return 요청한 모든 snapshotId 를 키로 갖는 맵 (이미지 없는 스냅샷은 빈 목록)
+     */
+    public Map<Long, List<Media>> loadAll(Collection<Long> snapshotIds) {
+        Map<Long, List<Media>> loaded = new HashMap<>(
+            attachmentFileRepository.findMediaBySnapshotIds(List.copyOf(snapshotIds)));
+
+        snapshotIds.forEach(id -> loaded.putIfAbsent(id, List.of()));
+        loaded.replaceAll((id, media) -> List.copyOf(media));
+        return loaded;
+    }
+}
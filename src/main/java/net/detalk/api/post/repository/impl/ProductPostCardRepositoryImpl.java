@@ -0,0 +1,221 @@
+package net.detalk.api.post.repository.impl;
+
+import static net.detalk.jooq.tables.JAttachmentFile.ATTACHMENT_FILE;
+import static net.detalk.jooq.tables.JMemberProfile.MEMBER_PROFILE;
+import static net.detalk.jooq.tables.JPricingPlan.PRICING_PLAN;
+import static net.detalk.jooq.tables.JProductLink.PRODUCT_LINK;
+import static net.detalk.jooq.tables.JProductMaker.PRODUCT_MAKER;
+import static net.detalk.jooq.tables.JProductPost.PRODUCT_POST;
+import static net.detalk.jooq.tables.JProductPostCard.PRODUCT_POST_CARD;
+import static net.detalk.jooq.tables.JProductPostLastSnapshot.PRODUCT_POST_LAST_SNAPSHOT;
+import static net.detalk.jooq.tables.JProductPostLink.PRODUCT_POST_LINK;
+import static net.detalk.jooq.tables.JProductPostSnapshot.PRODUCT_POST_SNAPSHOT;
+import static net.detalk.jooq.tables.JProductPostSnapshotAttachmentFile.PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE;
+import static net.detalk.jooq.tables.JProductPostSnapshotTag.PRODUCT_POST_SNAPSHOT_TAG;
+import static net.detalk.jooq.tables.JTag.TAG;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import net.detalk.api.post.repository.ProductPostCardRepository;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.Record;
+import org.jooq.SelectConditionStep;
+import org.jooq.SelectField;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductPostCardRepositoryImpl implements ProductPostCardRepository {
+
+    private static final List<Field<?>> CARD_COLUMNS = List.of(
+        PRODUCT_POST_CARD.POST_ID,
+        PRODUCT_POST_CARD.WRITER_ID,
+        PRODUCT_POST_CARD.SNAPSHOT_ID,
+        PRODUCT_POST_CARD.NICKNAME,
+        PRODUCT_POST_CARD.USERHANDLE,
+        PRODUCT_POST_CARD.AVATAR_URL,
+        PRODUCT_POST_CARD.IS_MAKER,
+        PRODUCT_POST_CARD.TITLE,
+        PRODUCT_POST_CARD.DESCRIPTION,
+        PRODUCT_POST_CARD.PRICING_PLAN,
+        PRODUCT_POST_CARD.RECOMMEND_COUNT,
+        PRODUCT_POST_CARD.TAGS,
+        PRODUCT_POST_CARD.URLS,
+        PRODUCT_POST_CARD.MEDIA,
+        PRODUCT_POST_CARD.CREATED_AT
+    );
+
+    private final DSLContext dsl;
+
+    @Override
+    public int refresh(Long postId) {
+        return upsert(PRODUCT_POST.ID.eq(postId));
+    }
+
+    @Override
+    public int refreshWriterProfile(Long writerId) {
+        var avatar = ATTACHMENT_FILE.as("avatar");
+
+        return dsl.update(PRODUCT_POST_CARD)
+            .set(PRODUCT_POST_CARD.NICKNAME, MEMBER_PROFILE.NICKNAME)
+            .set(PRODUCT_POST_CARD.USERHANDLE, MEMBER_PROFILE.USERHANDLE)
+            .set(PRODUCT_POST_CARD.AVATAR_URL, DSL.field(
+                DSL.select(avatar.URL)
+                    .from(avatar)
+                    .where(avatar.ID.eq(MEMBER_PROFILE.AVATAR_ID))
+            ))
+            .from(MEMBER_PROFILE)
+            .where(MEMBER_PROFILE.MEMBER_ID.eq(PRODUCT_POST_CARD.WRITER_ID))
+            .and(PRODUCT_POST_CARD.WRITER_ID.eq(writerId))
+            .execute();
+    }
+
+    @Override
+    public void incrementRecommendCounts(Map<Long, Long> deltas) {
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        var v = RecommendCountDeltas.values(deltas);
+
+        dsl.update(PRODUCT_POST_CARD)
+            .set(PRODUCT_POST_CARD.RECOMMEND_COUNT,
+                PRODUCT_POST_CARD.RECOMMEND_COUNT.plus(v.field(RecommendCountDeltas.DELTA)))
+            .from(v)
+            .where(PRODUCT_POST_CARD.POST_ID.eq(v.field(RecommendCountDeltas.POST_ID)))
+            .execute();
+    }
+
+    @Override
+    public void deleteByPostId(Long postId) {
+        dsl.deleteFrom(PRODUCT_POST_CARD)
+            .where(PRODUCT_POST_CARD.POST_ID.eq(postId))
+            .execute();
+    }
+
+    @Override
+    public int rebuildAll() {
+        // 전체 삭제 후 재생성하지 않고 upsert 하여, 재생성 중에도 피드가 비지 않도록 한다
+        int rows = upsert(DSL.trueCondition());
+
+        // 원본에서 사라진 게시글(최근 스냅샷 없음 등)의 카드는 제거
+        dsl.deleteFrom(PRODUCT_POST_CARD)
+            .whereNotExists(
+                DSL.selectOne()
+                    .from(PRODUCT_POST_LAST_SNAPSHOT)
+                    .where(PRODUCT_POST_LAST_SNAPSHOT.POST_ID.eq(PRODUCT_POST_CARD.POST_ID))
+            )
+            .execute();
+
+        return rows;
+    }
+
+    @Override
+    public List<Long> findInconsistentPostIds() {
+        // 원본 기준 누락/불일치 + 카드에만 존재하는 row
+        var postIds = new TreeSet<Long>();
+        postIds.addAll(source(DSL.trueCondition())
+            .except(dsl.select(CARD_COLUMNS).from(PRODUCT_POST_CARD))
+            .fetch(0, Long.class));
+        postIds.addAll(dsl.select(CARD_COLUMNS).from(PRODUCT_POST_CARD)
+            .except(source(DSL.trueCondition()))
+            .fetch(0, Long.class));
+
+        return List.copyOf(postIds);
+    }
+
+    private int upsert(Condition condition) {
+        Map<Field<?>, Field<?>> updates = new LinkedHashMap<>();
+        CARD_COLUMNS.stream()
+            .filter(column -> !column.equals(PRODUCT_POST_CARD.POST_ID))
+            .forEach(column -> updates.put(column, DSL.excluded(column)));
+
+        return dsl.insertInto(PRODUCT_POST_CARD)
+            .columns(CARD_COLUMNS)
+            .select(source(condition))
+            .onConflict(PRODUCT_POST_CARD.POST_ID)
+            .doUpdate()
+            .set(updates)
+            .execute();
+    }
+
+    /**
+     * 정규화 테이블로부터 게시글 카드 row 를 만드는 쿼리
+     * 컬럼 순서는 CARD_COLUMNS 와 동일해야 한다
+     */
+    private SelectConditionStep<Record> source(Condition condition) {
+        var avatar = ATTACHMENT_FILE.as("avatar");
+
+        Field<Boolean> isMaker = DSL.field(DSL.exists(
+            DSL.selectOne()
+                .from(PRODUCT_MAKER)
+                .where(PRODUCT_MAKER.PRODUCT_ID.eq(PRODUCT_POST.PRODUCT_ID))
+                .and(PRODUCT_MAKER.MEMBER_ID.eq(PRODUCT_POST.WRITER_ID))
+        ));
+
+        Field<String[]> tags = DSL.field(
+            DSL.select(DSL.arrayAggDistinct(TAG.NAME))
+                .from(PRODUCT_POST_SNAPSHOT_TAG)
+                .join(TAG).on(TAG.ID.eq(PRODUCT_POST_SNAPSHOT_TAG.TAG_ID))
+                .where(PRODUCT_POST_SNAPSHOT_TAG.POST_ID.eq(PRODUCT_POST_SNAPSHOT.ID))
+        );
+
+        Field<String[]> urls = DSL.field(
+            DSL.select(DSL.arrayAggDistinct(PRODUCT_LINK.URL))
+                .from(PRODUCT_POST_LINK)
+                .join(PRODUCT_LINK).on(PRODUCT_LINK.ID.eq(PRODUCT_POST_LINK.LINK_ID))
+                .where(PRODUCT_POST_LINK.POST_ID.eq(PRODUCT_POST.ID))
+        );
+
+        Field<JSONB> media = DSL.field(
+            DSL.select(
+                    DSL.jsonbArrayAgg(DSL.jsonbObject(
+                        DSL.key("url").value(ATTACHMENT_FILE.URL),
+                        DSL.key("sequence").value(PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE.SEQUENCE)
+                    )).orderBy(PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE.SEQUENCE.asc())
+                )
+                .from(PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE)
+                .join(ATTACHMENT_FILE)
+                .on(ATTACHMENT_FILE.ID.eq(PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE.ATTACHMENT_FILE_ID))
+                .where(PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE.SNAPSHOT_ID.eq(PRODUCT_POST_SNAPSHOT.ID))
+        );
+
+        return dsl.select(List.<SelectField<?>>of(
+                PRODUCT_POST.ID,
+                PRODUCT_POST.WRITER_ID,
+                PRODUCT_POST_SNAPSHOT.ID,
+                MEMBER_PROFILE.NICKNAME,
+                MEMBER_PROFILE.USERHANDLE,
+                avatar.URL,
+                isMaker,
+                PRODUCT_POST_SNAPSHOT.TITLE,
+                PRODUCT_POST_SNAPSHOT.DESCRIPTION,
+                PRICING_PLAN.NAME,
+                PRODUCT_POST.RECOMMEND_COUNT,
+                DSL.coalesce(tags, new String[0]),
+                DSL.coalesce(urls, new String[0]),
+                DSL.coalesce(media, JSONB.valueOf("[]")),
+                PRODUCT_POST_SNAPSHOT.CREATED_AT
+            ))
+            .from(PRODUCT_POST)
+            .join(PRODUCT_POST_LAST_SNAPSHOT)
+            .on(PRODUCT_POST_LAST_SNAPSHOT.POST_ID.eq(PRODUCT_POST.ID))
+            .join(PRODUCT_POST_SNAPSHOT)
+            .on(PRODUCT_POST_SNAPSHOT.ID.eq(PRODUCT_POST_LAST_SNAPSHOT.SNAPSHOT_ID))
+            .join(PRICING_PLAN)
+            .on(PRICING_PLAN.ID.eq(PRODUCT_POST_SNAPSHOT.PRICING_PLAN_ID))
+            .leftJoin(MEMBER_PROFILE)
+            .on(MEMBER_PROFILE.MEMBER_ID.eq(PRODUCT_POST.WRITER_ID))
+            .leftJoin(avatar)
+            .on(avatar.ID.eq(MEMBER_PROFILE.AVATAR_ID))
+            .where(condition);
+    }
+}
@@ -1,11 +1,26 @@
 package net.detalk.api.post.repository.impl;
 
+import static net.detalk.jooq.tables.JAttachmentFile.ATTACHMENT_FILE;
 import static net.detalk.jooq.tables.JProductPostSnapshotAttachmentFile.PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
+import net.detalk.api.post.controller.v1.response.GetProductPostResponse.Media;
 import net.detalk.api.post.domain.ProductPostSnapshotAttachmentFile;
 import net.detalk.api.post.repository.ProductPostSnapshotAttachmentFileRepository;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record2;
+import org.jooq.Row2;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
 import org.springframework.stereotype.Repository;
 
 @RequiredArgsConstructor
@@ -13,6 +28,9 @@ import org.springframework.stereotype.Repository;
 public class ProductPostSnapshotAttachmentFileRepositoryImpl implements
     ProductPostSnapshotAttachmentFileRepository {
 
+    private static final Field<UUID> REQUESTED_FILE_ID = DSL.field(DSL.name("attachment_file_id"), UUID.class);
+    private static final Field<Integer> REQUESTED_SEQUENCE = DSL.field(DSL.name("sequence"), Integer.class);
+
     private final DSLContext dsl;
 
     @Override
@@ -24,4 +42,90 @@ public class ProductPostSnapshotAttachmentFileRepositoryImpl implements
             .returning()
             .fetchOneInto(ProductPostSnapshotAttachmentFile.class);
     }
+
+    /**
+     * INSERT INTO product_post_snapshot_attachment_file
+     * SELECT ... FROM (VALUES (id, sequence), ...) JOIN attachment_file ON id AND uploader_id
+     * 존재 여부와 업로더 검증을 저장과 같은 문장에서 처리한다
+     */
+    @Override
+    public int saveAll(Long snapshotId, Long uploaderId, List<UUID> attachmentFileIds) {
+
+        if (attachmentFileIds.isEmpty()) {
+            return 0;
+        }
+
+        Table<Record2<UUID, Integer>> requested = requestedFiles(attachmentFileIds);
+
+        return dsl.insertInto(PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE,
+                PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE.SNAPSHOT_ID,
+                PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE.ATTACHMENT_FILE_ID,
+                PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE.SEQUENCE
+            )
+            .select(
+                dsl.select(
+                        DSL.val(snapshotId, PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE.SNAPSHOT_ID),
+                        ATTACHMENT_FILE.ID,
+                        requested.field(REQUESTED_SEQUENCE)
+                    )
+                    .from(requested)
+                    .join(ATTACHMENT_FILE)
+                    .on(ATTACHMENT_FILE.ID.eq(requested.field(REQUESTED_FILE_ID)))
+                    .and(ATTACHMENT_FILE.UPLOADER_ID.eq(uploaderId))
+            )
+            .execute();
+    }
+
+    /**
+     * (VALUES (attachmentFileId, sequence), ...) AS requested_file(attachment_file_id, sequence)
+     */
+    @SuppressWarnings("unchecked")
+    private static Table<Record2<UUID, Integer>> requestedFiles(List<UUID> attachmentFileIds) {
+        Row2<UUID, Integer>[] rows = IntStream.range(0, attachmentFileIds.size())
+            // VALUES 안의 바인드 변수는 타입 추론이 안되므로 uuid, integer 로 명시
+            .mapToObj(sequence -> DSL.row(
+                DSL.val(attachmentFileIds.get(sequence)).cast(SQLDataType.UUID),
+                DSL.val(sequence).cast(SQLDataType.INTEGER)
+            ))
+            .toArray(Row2[]::new);
+
+        return DSL.values(rows)
+            .as("requested_file", REQUESTED_FILE_ID.getName(), REQUESTED_SEQUENCE.getName());
+    }
+
+    @Override
+    public Map<Long, List<Media>> findMediaBySnapshotIds(Collection<Long> snapshotIds) {
+
+        if (snapshotIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // snapshot_id = ANY(?) : 스냅샷 개수와 상관없이 바인드 변수 1개
+        return dsl.select(
+                PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE.SNAPSHOT_ID,
+                PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE.SEQUENCE,
+                ATTACHMENT_FILE.URL
+            )
+            .from(PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE)
+            .join(ATTACHMENT_FILE)
+            .on(ATTACHMENT_FILE.ID.eq(PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE.ATTACHMENT_FILE_ID))
+            .where(PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE.SNAPSHOT_ID.eq(
+                DSL.any(snapshotIds.toArray(Long[]::new))))
+            .orderBy(
+                PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE.SNAPSHOT_ID,
+                PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE.SEQUENCE.asc()
+            )
+            .fetch()
+            .stream()
+            .collect(Collectors.groupingBy(
+                record -> record.get(PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE.SNAPSHOT_ID),
+                Collectors.mapping(
+                    record -> new Media(
+                        record.get(ATTACHMENT_FILE.URL),
+                        record.get(PRODUCT_POST_SNAPSHOT_ATTACHMENT_FILE.SEQUENCE)
+                    ),
+                    Collectors.toList()
+                )
+            ));
+    }
 }
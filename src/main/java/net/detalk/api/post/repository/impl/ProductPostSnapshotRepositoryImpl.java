@@ -1,12 +1,19 @@
 package net.detalk.api.post.repository.impl;
 
+import static net.detalk.jooq.tables.JPricingPlan.PRICING_PLAN;
 import static net.detalk.jooq.tables.JProductPostSnapshot.PRODUCT_POST_SNAPSHOT;
+import static net.detalk.jooq.tables.JProductPostSnapshotTag.PRODUCT_POST_SNAPSHOT_TAG;
+import static net.detalk.jooq.tables.JTag.TAG;
 
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import net.detalk.api.post.domain.ProductPostSnapshot;
+import net.detalk.api.post.domain.ProductPostSnapshotContent;
 import net.detalk.api.post.repository.ProductPostSnapshotRepository;
+import net.detalk.api.post.repository.SnapshotMediaLoader;
 import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 
 @RequiredArgsConstructor
@@ -14,6 +21,7 @@ import org.springframework.stereotype.Repository;
 public class ProductPostSnapshotRepositoryImpl implements ProductPostSnapshotRepository {
 
     private final DSLContext dsl;
+    private final SnapshotMediaLoader snapshotMediaLoader;
 
     @Override
     public ProductPostSnapshot save(ProductPostSnapshot snapshot) {
@@ -33,4 +41,40 @@ public class ProductPostSnapshotRepositoryImpl implements ProductPostSnapshotRep
             .where(PRODUCT_POST_SNAPSHOT.ID.eq(id))
             .fetchOptionalInto(ProductPostSnapshot.class);
     }
+
+    @Override
+    public Optional<ProductPostSnapshotContent> findContentById(Long id) {
+
+        var tags = DSL.field(
+            DSL.select(DSL.arrayAggDistinct(TAG.NAME))
+                .from(PRODUCT_POST_SNAPSHOT_TAG)
+                .join(TAG).on(TAG.ID.eq(PRODUCT_POST_SNAPSHOT_TAG.TAG_ID))
+                .where(PRODUCT_POST_SNAPSHOT_TAG.POST_ID.eq(PRODUCT_POST_SNAPSHOT.ID))
+        );
+
+        return dsl.select(
+                PRODUCT_POST_SNAPSHOT.ID,
+                PRODUCT_POST_SNAPSHOT.TITLE,
+                PRODUCT_POST_SNAPSHOT.DESCRIPTION,
+                PRODUCT_POST_SNAPSHOT.CREATED_AT,
+                PRICING_PLAN.NAME,
+                tags
+            )
+            .from(PRODUCT_POST_SNAPSHOT)
+            .join(PRICING_PLAN)
+            .on(PRICING_PLAN.ID.eq(PRODUCT_POST_SNAPSHOT.PRICING_PLAN_ID))
+            .where(PRODUCT_POST_SNAPSHOT.ID.eq(id))
+            .fetchOptional(record -> {
+                String[] tagNames = record.value6();
+                return ProductPostSnapshotContent.builder()
+                    .snapshotId(record.value1())
+                    .title(record.value2())
+                    .description(record.value3())
+                    .createdAt(record.value4())
+                    .pricingPlan(record.value5())
+                    .tags(tagNames != null ? List.of(tagNames) : List.of())
+                    .media(snapshotMediaLoader.load(record.value1()))
+                    .build();
+            });
+    }
 }
@@ -1,9 +1,11 @@
 package net.detalk.api.post.repository.impl;
 
+import static net.detalk.jooq.tables.JProductPostLastSnapshot.PRODUCT_POST_LAST_SNAPSHOT;
 import static net.detalk.jooq.tables.JProductPostSnapshotTag.PRODUCT_POST_SNAPSHOT_TAG;
 
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import net.detalk.api.post.domain.LastSnapshotTag;
 import net.detalk.api.post.domain.ProductPostSnapshotTag;
 import net.detalk.api.post.repository.ProductPostSnapshotTagRepository;
 import org.jooq.DSLContext;
@@ -25,4 +27,26 @@ public class ProductPostSnapshotTagRepositoryImpl implements ProductPostSnapshot
         dsl.batch(bulk).execute();
     }
 
+    /**
+     * product_post_last_snapshot.snapshot_id unique 인덱스 범위 스캔
+     * (product_post_snapshot_tag.post_id 는 스냅샷 ID 다)
+     */
+    @Override
+    public List<LastSnapshotTag> findLastSnapshotTagsAfter(long afterSnapshotId) {
+        return dsl.select(
+                PRODUCT_POST_LAST_SNAPSHOT.POST_ID,
+                PRODUCT_POST_LAST_SNAPSHOT.SNAPSHOT_ID,
+                PRODUCT_POST_SNAPSHOT_TAG.TAG_ID
+            )
+            .from(PRODUCT_POST_LAST_SNAPSHOT)
+            .leftJoin(PRODUCT_POST_SNAPSHOT_TAG)
+            .on(PRODUCT_POST_SNAPSHOT_TAG.POST_ID.eq(PRODUCT_POST_LAST_SNAPSHOT.SNAPSHOT_ID))
+            .where(PRODUCT_POST_LAST_SNAPSHOT.SNAPSHOT_ID.gt(afterSnapshotId))
+            .fetch(record -> new LastSnapshotTag(
+                record.get(PRODUCT_POST_LAST_SNAPSHOT.POST_ID),
+                record.get(PRODUCT_POST_LAST_SNAPSHOT.SNAPSHOT_ID),
+                record.get(PRODUCT_POST_SNAPSHOT_TAG.TAG_ID)
+            ));
+    }
+
 }
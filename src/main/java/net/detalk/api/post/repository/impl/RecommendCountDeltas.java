@@ -0,0 +1,35 @@
+package net.detalk.api.post.repository.impl;
+
+import java.util.Map;
+import org.jooq.Field;
+import org.jooq.Record2;
+import org.jooq.Row2;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+
+/**
+ * 추천 수 일괄 증가용 VALUES 테이블
+ * (VALUES (postId, delta), ...) AS recommend_count_delta(post_id, delta)
+ */
+final class RecommendCountDeltas {
+
+    static final Field<Long> POST_ID = DSL.field(DSL.name("post_id"), Long.class);
+    static final Field<Long> DELTA = DSL.field(DSL.name("delta"), Long.class);
+
+    private RecommendCountDeltas() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static Table<Record2<Long, Long>> values(Map<Long, Long> deltas) {
+        Row2<Long, Long>[] rows = deltas.entrySet().stream()
+            // VALUES 안의 바인드 변수는 타입 추론이 안되므로 bigint 로 명시
+            .map(entry -> DSL.row(
+                DSL.val(entry.getKey()).cast(SQLDataType.BIGINT),
+                DSL.val(entry.getValue()).cast(SQLDataType.BIGINT)
+            ))
+            .toArray(Row2[]::new);
+
+        return DSL.values(rows).as("recommend_count_delta", POST_ID.getName(), DELTA.getName());
+    }
+}
@@ -1,13 +1,15 @@
 package net.detalk.api.post.repository.impl;
 
+import static net.detalk.jooq.tables.JRecommend.RECOMMEND;
 import static net.detalk.jooq.tables.JRecommendProduct.*;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import net.detalk.api.post.domain.RecommendProduct;
 import net.detalk.api.post.repository.RecommendProductRepository;
 import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,77 +19,45 @@ public class RecommendProductRepositoryImpl implements RecommendProductRepositor
     private final DSLContext dsl;
 
     /**
-     * 특정 회원이 특정 게시글에 이미 추천했는지 확인
+     * INSERT ... SELECT FROM recommend ON CONFLICT DO NOTHING RETURNING 한 문장으로 추천 관계 저장
+     * (member_id, recommend_id, product_post_id) unique 인덱스가 동시 요청의 중복 저장을 막는다
      *
-     * @param memberId       회원 ID
-     * @param recommendId    추천 이유 ID
-     * @param productPostId  게시글 ID
-     * @return 중복 여부 (true: 중복, false: 중복 아님)
-     */
-    @Override
-    public boolean isAlreadyRecommended(Long memberId, Long recommendId,
-        Long productPostId) {
-        return dsl.fetchExists(
-            dsl.selectOne()
-                .from(RECOMMEND_PRODUCT)
-                .where(RECOMMEND_PRODUCT.MEMBER_ID.eq(memberId))
-                .and(RECOMMEND_PRODUCT.RECOMMEND_ID.eq(recommendId))
-                .and(RECOMMEND_PRODUCT.PRODUCT_POST_ID.eq(productPostId))
-        );
-    }
-
-    /**
-     * 추천 관계 저장
-     *
-     * @param recommendId    추천 이유 ID
      * @param productPostId  게시글 ID
      * @param memberId       회원 ID
+     * @param content        추천 내용
+     * @param reasons        추천 이유 (recommend 테이블에 저장되어 있어야 한다)
      * @param now            현재 시각
-     * @return 저장된 RecommendProduct 객체
+     * @return 새로 저장된 추천 이유 ID 목록
      */
     @Override
-    public RecommendProduct save(Long recommendId, Long productPostId, Long memberId, Instant now) {
-        return dsl.insertInto(RECOMMEND_PRODUCT)
-            .set(RECOMMEND_PRODUCT.RECOMMEND_ID, recommendId)
-            .set(RECOMMEND_PRODUCT.PRODUCT_POST_ID, productPostId)
-            .set(RECOMMEND_PRODUCT.MEMBER_ID, memberId)
-            .set(RECOMMEND_PRODUCT.CREATED_AT, now)
-            .returning()
-            .fetchOneInto(RecommendProduct.class);
-    }
-
-    @Override
-    public void saveAll(List<RecommendProduct> recommendProducts) {
-
-        var baseQuery = dsl
-            .insertInto(RECOMMEND_PRODUCT,
+    public List<Long> saveAllIgnoringDuplicates(Long productPostId, Long memberId, String content,
+        Collection<String> reasons, Instant now) {
+        return dsl.insertInto(RECOMMEND_PRODUCT,
                 RECOMMEND_PRODUCT.RECOMMEND_ID,
                 RECOMMEND_PRODUCT.PRODUCT_POST_ID,
                 RECOMMEND_PRODUCT.MEMBER_ID,
-                RECOMMEND_PRODUCT.CREATED_AT,
-                RECOMMEND_PRODUCT.CONTENT
+                RECOMMEND_PRODUCT.CONTENT,
+                RECOMMEND_PRODUCT.CREATED_AT
             )
-            .values(
-                (Long) null,
-                (Long) null,
-                (Long)null,
-                (Instant) null,
-                (String) null
-            );
-
-        var batch = dsl.batch(baseQuery);
-
-        for (RecommendProduct rp : recommendProducts) {
-            batch.bind(
-                rp.getRecommendId(),
-                rp.getProductPostId(),
-                rp.getMemberId(),
-                rp.getCreatedAt(),
-                rp.getContent()
-            );
-        }
-
-        batch.execute();
+            .select(
+                dsl.select(
+                        RECOMMEND.ID,
+                        DSL.val(productPostId, RECOMMEND_PRODUCT.PRODUCT_POST_ID),
+                        DSL.val(memberId, RECOMMEND_PRODUCT.MEMBER_ID),
+                        DSL.val(content, RECOMMEND_PRODUCT.CONTENT),
+                        DSL.val(now, RECOMMEND_PRODUCT.CREATED_AT)
+                    )
+                    .from(RECOMMEND)
+                    .where(RECOMMEND.VALUE.in(reasons))
+            )
+            .onConflict(
+                RECOMMEND_PRODUCT.MEMBER_ID,
+                RECOMMEND_PRODUCT.RECOMMEND_ID,
+                RECOMMEND_PRODUCT.PRODUCT_POST_ID
+            )
+            .doNothing()
+            .returningResult(RECOMMEND_PRODUCT.RECOMMEND_ID)
+            .fetch(RECOMMEND_PRODUCT.RECOMMEND_ID);
     }
 
 }
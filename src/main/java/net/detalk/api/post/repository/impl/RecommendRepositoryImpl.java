@@ -3,7 +3,8 @@ package net.detalk.api.post.repository.impl;
 import static net.detalk.jooq.tables.JRecommend.RECOMMEND;
 
 import java.time.Instant;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import net.detalk.api.post.domain.Recommend;
 import net.detalk.api.post.repository.RecommendRepository;
@@ -17,19 +18,25 @@ public class RecommendRepositoryImpl implements RecommendRepository {
     private final DSLContext dsl;
 
     @Override
-    public Optional<Recommend> findByReason(String reason) {
+    public List<Recommend> findAllByReasons(Collection<String> reasons) {
         return dsl.selectFrom(RECOMMEND)
-            .where(RECOMMEND.VALUE.eq(reason))
-            .fetchOptionalInto(Recommend.class);
+            .where(RECOMMEND.VALUE.in(reasons))
+            .fetchInto(Recommend.class);
     }
 
+    /**
+     * 동시에 같은 이유가 저장되더라도 unique(value) 충돌은 무시되며,
+     * 충돌한 트랜잭션이 커밋될 때까지 대기하므로 다음 문장에서는 모든 이유가 조회된다
+     */
     @Override
-    public Recommend save(String reason, Instant now) {
-        return dsl.insertInto(RECOMMEND)
-            .set(RECOMMEND.VALUE, reason)
-            .set(RECOMMEND.CREATED_AT, now)
-            .returning()
-            .fetchOneInto(Recommend.class);
+    public void saveAllIfAbsent(Collection<String> reasons, Instant now) {
+        var insert = dsl.insertInto(RECOMMEND, RECOMMEND.VALUE, RECOMMEND.CREATED_AT);
+        for (String reason : reasons) {
+            insert = insert.values(reason, now);
+        }
+        insert.onConflict(RECOMMEND.VALUE)
+            .doNothing()
+            .execute();
     }
 
 }
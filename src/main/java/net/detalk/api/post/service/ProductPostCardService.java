@@ -0,0 +1,76 @@
+package net.detalk.api.post.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.detalk.api.post.repository.ProductPostCardRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 피드 조회용 게시글 카드(product_post_card) 관리
+ * 원본은 정규화 테이블이며, 게시글/추천/프로필이 변경되는 트랜잭션 안에서 함께 갱신한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductPostCardService {
+
+    private final ProductPostCardRepository productPostCardRepository;
+
+    /**
+     * 게시글 생성/수정 후 카드 갱신
+     * @param postId 갱신할 제품 게시글 ID
+     */
+    public void refresh(Long postId) {
+        if (productPostCardRepository.refresh(postId) == 0) {
+            log.warn("[refresh] 원본 게시글이 없어 카드를 삭제합니다. postId={}", postId);
+            productPostCardRepository.deleteByPostId(postId);
+        }
+    }
+
+    /**
+     * 작성자 프로필 변경 후, 작성한 모든 게시글 카드에 반영
+     * @param memberId 작성자 회원 ID
+     */
+    public void refreshWriterProfile(Long memberId) {
+        int rows = productPostCardRepository.refreshWriterProfile(memberId);
+        log.debug("[refreshWriterProfile] 게시글 카드 작성자 정보 갱신 memberId={}, rows={}", memberId, rows);
+    }
+
+    /**
+     * 모든 게시글 카드를 정규화 테이블 기준으로 재생성
+     * @return 재생성된 카드 수
+     */
+    @Transactional
+    public int rebuild() {
+        int rows = productPostCardRepository.rebuildAll();
+        log.info("[rebuild] 게시글 카드 재생성 완료 rows={}", rows);
+        return rows;
+    }
+
+    /**
+     * 정규화 테이블과 일치하지 않는 게시글 카드 조회
+     * @return 불일치 게시글 ID 목록
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findInconsistentPostIds() {
+        List<Long> postIds = productPostCardRepository.findInconsistentPostIds();
+        if (!postIds.isEmpty()) {
+            log.warn("[findInconsistentPostIds] 게시글 카드 불일치 발견 count={}, postIds={}",
+                postIds.size(), postIds);
+        }
+        return postIds;
+    }
+
+    /**
+     * 불일치 게시글 카드만 다시 생성
+     * @return 복구한 게시글 ID 목록
+     */
+    @Transactional
+    public List<Long> repair() {
+        List<Long> postIds = findInconsistentPostIds();
+        postIds.forEach(this::refresh);
+        return postIds;
+    }
+}
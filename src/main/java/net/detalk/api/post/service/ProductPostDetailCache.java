@@ -0,0 +1,45 @@
+package net.detalk.api.post.service;
+
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.detalk.api.post.domain.ProductPostDetailPointer;
+import net.detalk.api.post.domain.ProductPostSnapshotContent;
+import net.detalk.api.post.repository.ProductPostRepository;
+import net.detalk.api.post.repository.ProductPostSnapshotRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 상세 조회 2단계 캐시
+ * 1단계 : snapshotId -> 스냅샷 내용 (변경되지 않으므로 만료 없음)
+ * 2단계 : postId -> 최근 스냅샷 ID, 추천 수 (스냅샷 교체, 추천 시 무효화 + 짧은 TTL)
+ * 캐시 설정은 CacheConfig 참고
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductPostDetailCache {
+
+    private final ProductPostRepository productPostRepository;
+    private final ProductPostSnapshotRepository productPostSnapshotRepository;
+
+    @Cacheable(value = "productPostPointer", key = "#p0", unless = "#result == null")
+    public Optional<ProductPostDetailPointer> getPointer(Long postId) {
+        return productPostRepository.findDetailPointerById(postId);
+    }
+
+    @Cacheable(value = "productPostSnapshotContent", key = "#p0", unless = "#result == null")
+    public Optional<ProductPostSnapshotContent> getSnapshotContent(Long snapshotId) {
+        return productPostSnapshotRepository.findContentById(snapshotId);
+    }
+
+    /**
+     * 최근 스냅샷 교체, 추천 수 변경 시 호출
+     */
+    @CacheEvict(value = "productPostPointer", key = "#p0")
+    public void evictPointer(Long postId) {
+        log.debug("[evictPointer] 게시글 상세 포인터 캐시 삭제 postId={}", postId);
+    }
+}
@@ -9,6 +9,11 @@ import net.detalk.api.post.repository.ProductPostIdempotentRepository;
 import net.detalk.api.support.util.UUIDGenerator;
 import org.springframework.stereotype.Service;
 
+/**
+ * 게시글 생성 멱등 키의 영구 저장
+ * 같은 서버의 재요청은 컨트롤러의 @Idempotent 시간 창에서 먼저 처리되고,
+ * 여기서는 다른 서버로 들어온 재요청이나 시간 창이 지난 재요청을 막는다
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
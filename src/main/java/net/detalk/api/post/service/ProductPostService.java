@@ -2,6 +2,7 @@ package net.detalk.api.post.service;
 
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 import java.util.UUID;
@@ -21,6 +22,7 @@ import net.detalk.api.product.service.ProductLinkService;
 import net.detalk.api.product.service.ProductService;
 import net.detalk.api.support.error.InvalidPageSizeException;
 import net.detalk.api.post.domain.exception.InvalidRecommendCountRequest;
+import net.detalk.api.post.domain.exception.InvalidSnapshotAttachmentFileException;
 import net.detalk.api.post.domain.exception.ProductPostForbiddenException;
 import net.detalk.api.post.domain.exception.ProductPostNotFoundException;
 import net.detalk.api.post.domain.exception.ProductPostSnapshotUpdateException;
@@ -28,23 +30,30 @@ import net.detalk.api.product.repository.ProductMakerRepository;
 import net.detalk.api.tag.service.TagService;
 import net.detalk.api.support.paging.CursorPageData;
 import net.detalk.api.product.domain.ProductMaker;
-import net.detalk.api.post.domain.ProductPostSnapshotAttachmentFile;
 import net.detalk.api.plan.domain.PricingPlan;
 import net.detalk.api.product.domain.Product;
 import net.detalk.api.post.controller.v1.request.CreateProductPostRequest;
 import net.detalk.api.post.domain.ProductPost;
+import net.detalk.api.post.domain.ProductPostDetailPointer;
+import net.detalk.api.post.domain.ProductPostSort;
 import net.detalk.api.post.domain.ProductPostSnapshot;
+import net.detalk.api.post.domain.ProductPostSnapshotContent;
 import net.detalk.api.post.domain.ProductPostSnapshotTag;
 import net.detalk.api.support.util.TimeHolder;
 import net.detalk.api.support.util.UUIDGenerator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductPostService {
 
+    // 역색인 ID 중 태그가 바뀐 게시글이 많아 이 횟수 안에 페이지를 못 채우면 DB 에서 조회한다
+    private static final int MAX_TAG_INDEX_ROUNDS = 3;
+
     /**
      * Product
      */
@@ -62,6 +71,10 @@ public class ProductPostService {
     private final ProductPostSnapshotRepository productPostSnapshotRepository;
     private final ProductPostLinkRepository productPostLinkRepository;
     private final ProductPostIdempotentService idempotentService;
+    private final ProductPostCardService productPostCardService;
+    private final ProductPostDetailCache productPostDetailCache;
+    private final RecommendCountBuffer recommendCountBuffer;
+    private final TagPostIndex tagPostIndex;
 
     /**
      * PricingPlan
@@ -121,18 +134,7 @@ public class ProductPostService {
 
 
         // 이미지 파일을 스냅샷에 시퀀스와 함께 저장
-        List<String> imageIds = createProductPostRequest.imageIds();
-
-        for(int sequence = 0; sequence < imageIds.size(); sequence++) {
-            String attachmentFileIdStr = imageIds.get(sequence);
-            UUID attachmentFileId = uuidGenerator.fromString(attachmentFileIdStr);
-            ProductPostSnapshotAttachmentFile attachmentFile = ProductPostSnapshotAttachmentFile.builder()
-                .snapshotId(postSnapshotId)
-                .attachmentFileId(attachmentFileId)
-                .sequence(sequence)
-                .build();
-            productPostSnapshotAttachmentFileRepository.save(attachmentFile);
-        }
+        saveSnapshotAttachmentFiles(postSnapshotId, memberId, createProductPostRequest.imageIds());
 
         // 메이커 여부
         if (createProductPostRequest.isMaker()) {
@@ -143,13 +145,16 @@ public class ProductPostService {
         // 태그를 재사용하거나 없으면 생성 후 스냅샷에 연결
         List<String> tags = createProductPostRequest.tags();
 
-        List<ProductPostSnapshotTag> snapshotTags = tags.stream()
-            .distinct() // 중복 태그 이름은 미리 제외
-            .map(tagService::getOrCreateTag) // 태그 조회 또는 생성
+        // 태그 조회 또는 생성 (중복 태그 이름은 제외, 태그 사전에 없는 태그만 DB 조회)
+        List<ProductPostSnapshotTag> snapshotTags = tagService.getOrCreateTags(tags).stream()
             .map(tag -> new ProductPostSnapshotTag(postSnapshotId, tag.getId()))
             .toList();
 
         productPostSnapshotTagRepository.saveAll(snapshotTags);
+        tagPostIndex.indexAfterCommit(newProductPostId, postSnapshotId, toTagIds(snapshotTags));
+
+        // 피드 조회용 게시글 카드 생성
+        productPostCardService.refresh(newProductPostId);
 
         return newProductPostId;
     }
@@ -157,18 +162,20 @@ public class ProductPostService {
     /**
      * 제품 게시글 목록 커서 조회
      * @param pageSize 요청 item 개수
-     * @param nextId 다음 페이지 item id
+     * @param cursor 이전 페이지의 nextCursor, null 이면 첫 페이지
+     * @param sort 정렬 기준 (커서도 같은 정렬로 만든 것이어야 한다)
      * @return 제품 게시글 커서 페이징 목록
      */
-    public CursorPageData<GetProductPostResponse> getProductPosts(int pageSize, Long nextId) {
+    public CursorPageData<GetProductPostResponse> getProductPosts(int pageSize, String cursor,
+        ProductPostSort sort) {
 
         validatePageSize(pageSize);
 
         // hasNext 판별하기 위해 pageSize + 1
         List<GetProductPostResponse> result = productPostRepository.findProductPosts(
-            pageSize + 1, nextId);
+            pageSize + 1, sort, cursor);
 
-        return createCursorPage(result, pageSize);
+        return createCursorPage(result, pageSize, sort);
     }
 
     /**
@@ -176,19 +183,19 @@ public class ProductPostService {
      *
      * @param memberId 조회하려는 회원 ID
      * @param pageSize 요청 item 개수
-     * @param nextId   다음 페이지 item id
+     * @param cursor   이전 페이지의 nextCursor (최신순), null 이면 첫 페이지
      * @return 회원 제품 게시글 커서 페이징 목록
      */
     public CursorPageData<GetProductPostResponse> getProductPostsByMemberId(Long memberId,
-        int pageSize, Long nextId) {
+        int pageSize, String cursor) {
 
         validatePageSize(pageSize);
 
         // hasNext 판별하기 위해 pageSize + 1
         List<GetProductPostResponse> result = productPostRepository.findProductPostsByMemberId(
-            memberId, pageSize + 1, nextId);
+            memberId, pageSize + 1, cursor);
 
-        return createCursorPage(result, pageSize);
+        return createCursorPage(result, pageSize, ProductPostSort.LATEST);
     }
 
 
@@ -197,16 +204,44 @@ public class ProductPostService {
      * @param id 조회할 제품 게시글 ID
      * @return 게시글 상세 조회 정보
      */
-    @Transactional(readOnly = true)
     public GetProductPostResponse getProductPostDetailsById(Long id) {
-        return productPostRepository.findDetailsById(id)
+
+        // 2단계 : 게시글 -> 최근 스냅샷 포인터
+        ProductPostDetailPointer pointer = productPostDetailCache.getPointer(id)
             .orElseThrow(() -> new ProductPostNotFoundException(id));
+
+        // 1단계 : 변경되지 않는 스냅샷 내용
+        ProductPostSnapshotContent content = productPostDetailCache.getSnapshotContent(
+                pointer.getSnapshotId())
+            .orElseThrow(() -> {
+                log.error("[getProductPostDetailsById] 스냅샷을 찾을 수 없습니다. postId={}, snapshotId={}",
+                    id, pointer.getSnapshotId());
+                return new ProductPostNotFoundException(id);
+            });
+
+        return GetProductPostResponse.builder()
+            .id(pointer.getPostId())
+            .nickname(pointer.getNickname())
+            .userHandle(pointer.getUserHandle())
+            .createdAt(content.getCreatedAt())
+            .isMaker(pointer.getIsMaker())
+            .avatarUrl(pointer.getAvatarUrl())
+            .title(content.getTitle())
+            .description(content.getDescription())
+            .pricingPlan(content.getPricingPlan())
+            .recommendCount(Math.toIntExact(
+                pointer.getRecommendCount() + recommendCountBuffer.pendingCount(id)))
+            .tags(content.getTags())
+            .media(content.getMedia())
+            .urls(pointer.getUrls())
+            .build();
     }
 
 
     /**
      * TODO : 전체적으로 리팩토링 해야함
      */
+    @Transactional
     public Long update(Long postId, UpdateProductPostRequest updateProductPostRequest, Long memberId) {
 
         Instant now = timeHolder.now();
@@ -247,8 +282,7 @@ public class ProductPostService {
 
         // 5. 새 스냅샷 태그 추가
         List<String> tags = updateProductPostRequest.tags();
-        List<ProductPostSnapshotTag> snapshotTags = tags.stream()
-            .map(tagService::getOrCreateTag)
+        List<ProductPostSnapshotTag> snapshotTags = tagService.getOrCreateTags(tags).stream()
             .map(tag -> ProductPostSnapshotTag.builder()
                 .postId(newSnapshotId)
                 .tagId(tag.getId())
@@ -256,6 +290,7 @@ public class ProductPostService {
             .toList();
 
         productPostSnapshotTagRepository.saveAll(snapshotTags);
+        tagPostIndex.indexAfterCommit(postId, newSnapshotId, toTagIds(snapshotTags));
 
         // 6. 링크 업데이트
         String url = updateProductPostRequest.url();
@@ -264,18 +299,7 @@ public class ProductPostService {
         }
 
         // 7. 이미지 업데이트
-        List<String> imageIds = updateProductPostRequest.imageIds();
-        for (int sequence = 0; sequence < imageIds.size(); sequence++) {
-            String attachmentFileId = imageIds.get(sequence);
-
-            ProductPostSnapshotAttachmentFile attachmentFile = ProductPostSnapshotAttachmentFile.builder()
-                .snapshotId(newSnapshotId)
-                .attachmentFileId(uuidGenerator.fromString(attachmentFileId))
-                .sequence(sequence)
-                .build();
-
-            productPostSnapshotAttachmentFileRepository.save(attachmentFile);
-        }
+        saveSnapshotAttachmentFiles(newSnapshotId, memberId, updateProductPostRequest.imageIds());
 
         // 8. 제품 메이커 확인 (메이커 요청일 경우)
         if (updateProductPostRequest.isMaker()) {
@@ -301,30 +325,66 @@ public class ProductPostService {
             throw new ProductPostSnapshotUpdateException(postId, newSnapshot.getId());
         }
 
+        // 10. 피드 조회용 게시글 카드 갱신, 상세 조회 포인터 캐시 무효화
+        productPostCardService.refresh(postId);
+        evictPointerAfterCommit(postId);
+
         return newSnapshotId;
     }
 
 
     public CursorPageData<GetProductPostResponse> getRecommendedPostsByMemberId(Long memberId,
-        int pageSize, Long nextId) {
+        int pageSize, String cursor) {
 
         validatePageSize(pageSize);
 
         List<GetProductPostResponse> result =
-            productPostRepository.findRecommendedPostsByMemberId(memberId, pageSize + 1, nextId);
+            productPostRepository.findRecommendedPostsByMemberId(memberId, pageSize + 1, cursor);
 
-        return createCursorPage(result, pageSize);
+        return createCursorPage(result, pageSize, ProductPostSort.LATEST);
     }
 
-    public CursorPageData<GetProductPostResponse> getProductPostsByTags(int pageSize, Long nextId,
-        List<String> tags) {
+    public CursorPageData<GetProductPostResponse> getProductPostsByTags(int pageSize, String cursor,
+        ProductPostSort sort, List<String> tags) {
 
         validatePageSize(pageSize);
 
-        List<GetProductPostResponse> result = productPostRepository.findProductPostsByTags(
-            pageSize, nextId, tags);
+        // 태그 사전에 없는 태그가 하나라도 있으면 AND 조건을 만족하는 게시글이 없으므로 DB 조회 생략
+        if (!tagService.existsAll(tags)) {
+            return new CursorPageData<>(List.of(), null, false);
+        }
+
+        // 역색인 적재 전이거나 역색인(게시글 ID 순)으로 풀 수 없는 정렬은 DB 에서 조회
+        if (sort != ProductPostSort.LATEST || !tagPostIndex.isReady()) {
+            List<GetProductPostResponse> result = productPostRepository.findProductPostsByTags(
+                pageSize + 1, sort, cursor, tags);
+            return createCursorPage(result, pageSize, sort);
+        }
+
+        // 역색인 교집합으로 페이지 ID 만 구한 뒤 해당 게시글만 조회 (hasNext 판별하기 위해 pageSize + 1)
+        // 다른 서버의 수정이 아직 역색인에 반영되지 않았을 수 있으므로 카드의 태그로 한 번 더 확인하고,
+        // 걸러진 만큼 역색인에서 이어서 더 가져온다
+        List<Long> tagIds = tagService.findIds(tags);
+        List<GetProductPostResponse> result = new ArrayList<>(pageSize + 1);
+        Long nextId = ProductPostSort.lastPostIdOf(cursor);
+
+        for (int round = 0; round < MAX_TAG_INDEX_ROUNDS; round++) {
+            int limit = pageSize + 1 - result.size();
+            List<Long> postIds = tagPostIndex.findPostIds(tagIds, nextId, limit);
+            productPostRepository.findProductPostsByIds(postIds).stream()
+                .filter(post -> post.tags().containsAll(tags))
+                .forEach(result::add);
+
+            // 페이지를 채웠거나 역색인에 더 이상 ID 가 없음
+            if (result.size() > pageSize || postIds.size() < limit) {
+                return createCursorPage(result, pageSize, ProductPostSort.LATEST);
+            }
+            nextId = postIds.get(postIds.size() - 1);
+        }
 
-        return createCursorPage(result, pageSize);
+        log.warn("[getProductPostsByTags] 역색인과 카드 태그 불일치가 많아 DB 에서 조회합니다. tags={}", tags);
+        result = productPostRepository.findProductPostsByTags(pageSize + 1, sort, cursor, tags);
+        return createCursorPage(result, pageSize, ProductPostSort.LATEST);
     }
 
 
@@ -350,7 +410,39 @@ public class ProductPostService {
             log.info("추천 수는 양수여야 합니다. count={}", count);
             throw new InvalidRecommendCountRequest(count);
         }
-        productPostRepository.incrementRecommendCount(id, count);
+        // row 락 경합을 피하기 위해 버퍼에 적재 후 주기적으로 일괄 반영 (RecommendCountBuffer)
+        recommendCountBuffer.add(id, count);
+    }
+
+    /**
+     * 스냅샷 이미지를 요청 순서대로 한 번에 저장
+     * 존재하지 않거나 다른 회원이 올린 이미지가 포함되면 예외 (트랜잭션 롤백)
+     * @param snapshotId 이미지를 연결할 스냅샷 ID
+     * @param uploaderId 게시글 작성자 ID
+     * @param imageIds   업로드된 이미지 ID 목록
+     */
+    private void saveSnapshotAttachmentFiles(Long snapshotId, Long uploaderId, List<String> imageIds) {
+        if (imageIds.isEmpty()) {
+            return;
+        }
+
+        List<UUID> attachmentFileIds = imageIds.stream()
+            .map(uuidGenerator::fromString)
+            .toList();
+
+        int saved = productPostSnapshotAttachmentFileRepository.saveAll(snapshotId, uploaderId,
+            attachmentFileIds);
+        if (saved != attachmentFileIds.size()) {
+            log.error("[saveSnapshotAttachmentFiles] 유효하지 않은 이미지 요청 snapshotId={}, uploaderId={}, requested={}, saved={}",
+                snapshotId, uploaderId, attachmentFileIds.size(), saved);
+            throw new InvalidSnapshotAttachmentFileException(uploaderId, attachmentFileIds.size(), saved);
+        }
+    }
+
+    private List<Long> toTagIds(List<ProductPostSnapshotTag> snapshotTags) {
+        return snapshotTags.stream()
+            .map(ProductPostSnapshotTag::getTagId)
+            .toList();
     }
 
     /**
@@ -364,33 +456,62 @@ public class ProductPostService {
         }
     }
 
+    /**
+     * 아직 DB 에 반영되지 않은 추천 수를 더한다
+     */
+    private List<GetProductPostResponse> mergePendingRecommendCount(
+        List<GetProductPostResponse> result) {
+        return result.stream()
+            .map(post -> {
+                long pendingCount = recommendCountBuffer.pendingCount(post.id());
+                if (pendingCount == 0) {
+                    return post;
+                }
+                return post.toBuilder()
+                    .recommendCount(Math.toIntExact(post.recommendCount() + pendingCount))
+                    .build();
+            })
+            .toList();
+    }
+
+    /**
+     * 커밋 전에 지우면 동시에 조회한 요청이 이전 포인터를 다시 캐시할 수 있으므로 커밋 후에 지운다
+     */
+    private void evictPointerAfterCommit(Long postId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            productPostDetailCache.evictPointer(postId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                productPostDetailCache.evictPointer(postId);
+            }
+        });
+    }
+
     /**
      * 커서 기반 페이징 처리
      *
      * @param result   DB에서 조회한 결과 (pageSize + 1개)
      * @param pageSize 페이지당 표시할 아이템 수
+     * @param sort     조회한 정렬 기준 (다음 페이지 커서 형식)
      * @return CursorPageData 페이징 결과
      */
     private CursorPageData<GetProductPostResponse> createCursorPage(
-        List<GetProductPostResponse> result, int pageSize) {
+        List<GetProductPostResponse> result, int pageSize, ProductPostSort sort) {
 
         // DB 조회 데이터가 없을 경우, 빈 페이지 반환
         if (result == null) {
             return new CursorPageData<>(List.of(), null, false);
         }
 
-        boolean hasNext = false;
-        Long nextPageId = null;
+        // 커서는 DB 정렬 키 그대로여야 하므로 아직 반영되지 않은 추천 수를 더하기 전에 만든다
+        CursorPageData<GetProductPostResponse> page = CursorPageData.of(result, pageSize,
+            sort::nextIdOf, sort::cursorOf);
 
-        // 요청+1을 조회했는데, result.size 가 요청보다 클 경우
-        // 다음 데이터가 있는거임
-        if (result.size() > pageSize) {
-            GetProductPostResponse lastItem = result.get(pageSize - 1);
-            nextPageId = lastItem.id();
-            hasNext = true;
-            result = result.subList(0, pageSize);
-        }
-        return new CursorPageData<>(result, nextPageId, hasNext);
+        return new CursorPageData<>(mergePendingRecommendCount(page.getItems()), page.getNextId(),
+            page.getNextCursor(), page.hasNext());
     }
 
 }
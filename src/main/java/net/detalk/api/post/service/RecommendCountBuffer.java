@@ -0,0 +1,239 @@
+package net.detalk.api.post.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import net.detalk.api.post.repository.ProductPostCardRepository;
+import net.detalk.api.post.repository.ProductPostRepository;
+import net.detalk.api.support.config.AppProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 추천 수 쓰기 지연(write-behind) 버퍼
+ * 인기 게시글의 추천이 product_post 한 row 의 락을 두고 직렬화되지 않도록, 증가량을 메모리(게시글별 LongAdder)에 모았다가
+ * 주기(recommendCountFlushIntervalMillis) 또는 누적 이벤트 수(recommendCountFlushThreshold) 도달 시
+ * UPDATE ... FROM (VALUES ...) 한 번으로 반영한다.
+ * 조회 시에는 pendingCount 로 아직 반영되지 않은 증가량을 더해 보여준다.
+ * 증가량은 추천 트랜잭션이 커밋된 뒤에만 적재하므로 롤백된 추천은 반영되지 않는다.
+ *
+ * flush 는 버퍼(Generation)를 새 것으로 바꾼 뒤, 이전 버퍼에 진행 중인 add 가 모두 끝나면 합계를 읽는다.
+ * 키를 지우지 않고 버퍼를 통째로 버리므로 추천된 적 있는 모든 게시글이 남지 않고, 경합하는 add 도 잃지 않는다.
+ */
+@Slf4j
+@Component
+public class RecommendCountBuffer {
+
+    private final ProductPostRepository productPostRepository;
+    private final ProductPostCardRepository productPostCardRepository;
+    private final ProductPostDetailCache productPostDetailCache;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final AppProperties appProperties;
+
+    private final AtomicReference<Generation> active = new AtomicReference<>(new Generation());
+    // flush 중인 이전 버퍼, DB 반영이 커밋될 때까지 pendingCount 에 포함한다
+    private volatile Generation flushing;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    public RecommendCountBuffer(
+        ProductPostRepository productPostRepository,
+        ProductPostCardRepository productPostCardRepository,
+        ProductPostDetailCache productPostDetailCache,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("recommendCountFlushScheduler") TaskScheduler taskScheduler,
+        AppProperties appProperties
+    ) {
+        this.productPostRepository = productPostRepository;
+        this.productPostCardRepository = productPostCardRepository;
+        this.productPostDetailCache = productPostDetailCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskScheduler = taskScheduler;
+        this.appProperties = appProperties;
+    }
+
+    @PostConstruct
+    public void start() {
+        Duration interval = Duration.ofMillis(appProperties.getRecommendCountFlushIntervalMillis());
+        taskScheduler.scheduleWithFixedDelay(this::flush, interval);
+        log.info("[start] 추천 수 버퍼 flush 시작 interval={}ms, threshold={}",
+            interval.toMillis(), appProperties.getRecommendCountFlushThreshold());
+    }
+
+    /**
+     * 추천 수 증가량 적재, 트랜잭션 안에서 호출하면 커밋 후에 적재한다
+     */
+    public void add(Long postId, long count) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accumulate(postId, count);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accumulate(postId, count);
+            }
+        });
+    }
+
+    /**
+     * 현재 버퍼의 게시글 LongAdder 에 더한다 (같은 게시글이어도 락 없이 셀을 나눠 쓴다)
+     * 누적 이벤트 수가 임계치를 넘으면 즉시 flush 예약
+     */
+    private void accumulate(Long postId, long count) {
+        Generation generation = active.get();
+        while (!generation.enter()) {
+            generation = active.get();
+        }
+        try {
+            generation.counterOf(postId).add(count);
+        } finally {
+            generation.exit();
+        }
+
+        if (generation.events() >= appProperties.getRecommendCountFlushThreshold()
+            && flushRequested.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::flush, taskScheduler.getClock().instant());
+        }
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 증가량 (반영 중이지만 커밋 전인 증가량 포함)
+     */
+    public long pendingCount(Long postId) {
+        Generation current = active.get();
+        Generation previous = flushing;
+        long count = current.sum(postId);
+        if (previous != null && previous != current) {
+            count += previous.sum(postId);
+        }
+        return count;
+    }
+
+    /**
+     * 버퍼를 새 것으로 바꾸고 이전 버퍼의 증가량을 DB 에 반영, 실패 시 증가량을 새 버퍼로 되돌려 다음 flush 때 재시도
+     * @return 반영한 게시글 수
+     */
+    public synchronized int flush() {
+        flushRequested.set(false);
+
+        Generation previous = active.get();
+        if (previous.isEmpty()) {
+            return 0;
+        }
+        // 교체 전에 공개해야 교체 직후 조회에서도 증가량이 빠지지 않는다
+        flushing = previous;
+        active.set(new Generation());
+        previous.awaitWriters();
+
+        Map<Long, Long> deltas = previous.deltas();
+        try {
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    productPostRepository.incrementRecommendCounts(deltas);
+                    productPostCardRepository.incrementRecommendCounts(deltas);
+                });
+            } catch (RuntimeException e) {
+                log.error("[flush] 추천 수 반영 실패, 다음 flush 때 재시도합니다. posts={}", deltas.size(), e);
+                deltas.forEach(this::accumulate);
+                return 0;
+            }
+        } finally {
+            flushing = null;
+        }
+
+        deltas.keySet().forEach(productPostDetailCache::evictPointer);
+        log.debug("[flush] 추천 수 반영 posts={}", deltas.size());
+        return deltas.size();
+    }
+
+    // 스케줄러(destroyMethod = shutdown) 보다 먼저 호출되어 남은 증가량을 모두 반영한다
+    @PreDestroy
+    public void drain() {
+        int posts = flush();
+        log.info("[drain] 종료 전 추천 수 버퍼 반영 posts={}", posts);
+    }
+
+    /**
+     * flush 한 번 동안 쓰는 버퍼
+     * 진행 중인 add 는 entered - exited 로 센다. 둘 다 단조 증가하는 LongAdder 라 add 끼리 경합하지 않으며,
+     * exited 를 먼저 읽고 entered 를 읽어 같으면 교체 전에 들어온 add 는 모두 끝난 것이다.
+     */
+    private final class Generation {
+
+        private final Map<Long, LongAdder> counters = new ConcurrentHashMap<>();
+        private final LongAdder entered = new LongAdder();
+        private final LongAdder exited = new LongAdder();
+
+        /**
+         * @return 이미 교체된 버퍼면 false (다시 현재 버퍼를 읽어야 한다)
+         */
+        private boolean enter() {
+            entered.increment();
+            if (active.get() == this) {
+                return true;
+            }
+            exited.increment();
+            return false;
+        }
+
+        private void exit() {
+            exited.increment();
+        }
+
+        private LongAdder counterOf(Long postId) {
+            LongAdder counter = counters.get(postId);
+            return counter != null ? counter : counters.computeIfAbsent(postId, id -> new LongAdder());
+        }
+
+        private long sum(Long postId) {
+            LongAdder counter = counters.get(postId);
+            return counter != null ? counter.sum() : 0L;
+        }
+
+        private long events() {
+            return entered.sum();
+        }
+
+        private boolean isEmpty() {
+            return counters.isEmpty();
+        }
+
+        private void awaitWriters() {
+            while (true) {
+                long exitedCount = exited.sum();
+                if (entered.sum() == exitedCount) {
+                    return;
+                }
+                Thread.onSpinWait();
+            }
+        }
+
+        private Map<Long, Long> deltas() {
+            Map<Long, Long> deltas = new HashMap<>();
+            counters.forEach((postId, counter) -> {
+                long delta = counter.sum();
+                if (delta != 0) {
+                    deltas.put(postId, delta);
+                }
+            });
+            return deltas;
+        }
+    }
+}
@@ -1,14 +1,11 @@
 package net.detalk.api.post.service;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.detalk.api.post.controller.v1.request.CreateRecommendRequest;
 import net.detalk.api.post.domain.Recommend;
-import net.detalk.api.post.domain.RecommendProduct;
 import net.detalk.api.post.domain.exception.DuplicateRecommendationException;
 import net.detalk.api.post.repository.RecommendProductRepository;
 import net.detalk.api.post.repository.RecommendRepository;
@@ -38,46 +35,30 @@ public class RecommendService {
         // 기본 추천 내용 목록 (예: 디자인이 이뻐요, 가격이 저렴해요)
         List<String> reasons = createRecommendRequest.reasons();
 
-        List<RecommendProduct> recommendProducts = new ArrayList<>();
-
-        for (String reason : reasons) {
-
-            // 추천 이유 존재하면 그대로 사용, 없으면 DB 저장
-            Long recommendId = findByReason(reason)
-                .map(Recommend::getId)
-                .orElseGet(() -> save(reason, now).getId());
-
-            // 중복 추천 예외
-            if (recommendProductRepository.isAlreadyRecommended(memberId, recommendId, postId)) {
-                log.warn("[addRecommendation] 중복 추천 시도 : 회원 ID={}, 게시글 ID={}, 추천 이유 ID={}, 추천 이유={}",
-                    memberId, postId, recommendId, reason);
-                throw new DuplicateRecommendationException(memberId, postId, recommendId, reason);
-            }
-
-            RecommendProduct recommendProduct = RecommendProduct.builder()
-                .recommendId(recommendId)
-                .productPostId(postId)
-                .memberId(memberId)
-                .content(content)
-                .createdAt(now)
-                .build();
-
-            recommendProducts.add(recommendProduct);
+        // 같은 이유를 여러 번 보내도 한 번만 저장
+        List<String> distinctReasons = reasons.stream().distinct().toList();
+
+        // 추천 이유가 없으면 저장
+        recommendRepository.saveAllIfAbsent(distinctReasons, now);
+
+        // 게시글 추천 <==> 게시글 연관관계 맺기, 이미 추천한 이유는 저장되지 않는다
+        List<Long> savedRecommendIds = recommendProductRepository.saveAllIgnoringDuplicates(
+            postId, memberId, content, distinctReasons, now);
+
+        // 중복 추천 예외, 트랜잭션 롤백으로 함께 저장된 추천도 취소된다
+        if (savedRecommendIds.size() < distinctReasons.size()) {
+            Recommend duplicated = recommendRepository.findAllByReasons(distinctReasons).stream()
+                .filter(recommend -> !savedRecommendIds.contains(recommend.getId()))
+                .findFirst()
+                .orElseThrow();
+            log.warn("[addRecommendation] 중복 추천 시도 : 회원 ID={}, 게시글 ID={}, 추천 이유 ID={}, 추천 이유={}",
+                memberId, postId, duplicated.getId(), duplicated.getValue());
+            throw new DuplicateRecommendationException(memberId, postId, duplicated.getId(),
+                duplicated.getValue());
         }
 
-        // 게시글 추천 <==> 게시글 연관관계 맺기
-        recommendProductRepository.saveAll(recommendProducts);
-
         // 추천수 증가
-        productPostService.incrementRecommendCount(postId, recommendProducts.size());
-    }
-
-    private Recommend save(String reason, Instant now) {
-        return recommendRepository.save(reason, now);
-    }
-
-    public Optional<Recommend> findByReason(String reason) {
-        return recommendRepository.findByReason(reason);
+        productPostService.incrementRecommendCount(postId, savedRecommendIds.size());
     }
 
 }
@@ -0,0 +1,238 @@
+package net.detalk.api.post.service;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import net.detalk.api.post.domain.LastSnapshotTag;
+import net.detalk.api.post.repository.ProductPostSnapshotTagRepository;
+import net.detalk.api.support.config.AppProperties;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 태그 ID -> 최근 스냅샷에 해당 태그를 가진 게시글 ID 비트맵 (인메모리 역색인)
+ * 여러 태그 AND 조회는 비트맵 교집합을 startId 부터 내림차순으로 훑어 페이지 크기만큼의 ID 만 만든다.
+ *
+ * 게시글 생성/수정은 커밋 후 바로 반영하고, 다른 서버의 변경은 주기(tagPostIndexSyncIntervalMillis)마다
+ * 이미 읽은 최대 스냅샷 ID 이후 변경분만 읽어 반영한다.
+ * 스냅샷 ID 는 커밋 순서가 아니므로 늦게 커밋되어 변경분 조회에서 빠진 스냅샷은
+ * 주기(tagPostIndexReconcileIntervalMillis)마다 전체를 다시 읽어 맞춘다 (reconcile).
+ * 비트맵은 교체 방식(복사 후 수정)으로만 바꾸므로 조회 시 락이 필요 없다.
+ */
+@Slf4j
+@Component
+public class TagPostIndex {
+
+    // 스냅샷 ID 는 발급 순서와 커밋 순서가 다를 수 있으므로, 이 만큼 겹쳐서 다시 읽는다 (이보다 늦은 커밋은 reconcile 이 맞춘다)
+    private static final long SYNC_OVERLAP = 100;
+
+    private final ProductPostSnapshotTagRepository snapshotTagRepository;
+    private final TaskScheduler taskScheduler;
+    private final AppProperties appProperties;
+
+    private final Map<Long, RoaringBitmap> postIdsByTagId = new ConcurrentHashMap<>();
+    // postId -> 반영된 최근 스냅샷, 수정 시 이전 태그에서 게시글을 빼기 위해 보관
+    private final Map<Long, IndexedPost> indexedPosts = new ConcurrentHashMap<>();
+
+    private volatile long lastSnapshotId = 0L;
+    private volatile boolean ready = false;
+    private volatile boolean overflow = false;
+
+    public TagPostIndex(
+        ProductPostSnapshotTagRepository snapshotTagRepository,
+        @Qualifier("tagPostIndexSyncScheduler") TaskScheduler taskScheduler,
+        AppProperties appProperties
+    ) {
+        this.snapshotTagRepository = snapshotTagRepository;
+        this.taskScheduler = taskScheduler;
+        this.appProperties = appProperties;
+    }
+
+    /**
+     * 첫 sync 가 전체 적재이며, 적재가 끝나기 전 조회는 DB 로 처리된다 (isReady)
+     */
+    @PostConstruct
+    public void start() {
+        Duration interval = Duration.ofMillis(appProperties.getTagPostIndexSyncIntervalMillis());
+        Duration reconcileInterval = Duration.ofMillis(appProperties.getTagPostIndexReconcileIntervalMillis());
+        taskScheduler.scheduleWithFixedDelay(this::sync, interval);
+        taskScheduler.scheduleWithFixedDelay(this::reconcile, Instant.now().plus(reconcileInterval),
+            reconcileInterval);
+    }
+
+    public boolean isReady() {
+        return ready && !overflow;
+    }
+
+    /**
+     * 모든 태그를 가진 게시글 ID 를 내림차순으로 조회
+     *
+     * @param tagIds  태그 ID 목록 (AND)
+     * @param nextId  이 ID 미만부터 조회, null 이면 처음부터
+     * @param limit   최대 개수
+     * @return 게시글 ID 목록 (내림차순)
+     */
+    public List<Long> findPostIds(Collection<Long> tagIds, Long nextId, int limit) {
+        RoaringBitmap matched = null;
+        for (Long tagId : tagIds) {
+            RoaringBitmap postIds = postIdsByTagId.get(tagId);
+            if (postIds == null) {
+                return List.of();
+            }
+            matched = matched == null ? postIds : RoaringBitmap.and(matched, postIds);
+        }
+
+        List<Long> result = new ArrayList<>(limit);
+        if (matched == null || (nextId != null && nextId <= 0)) {
+            return result;
+        }
+
+        int from = nextId == null || nextId > Integer.MAX_VALUE
+            ? Integer.MAX_VALUE
+            : (int) (nextId - 1);
+
+        long postId = matched.previousValue(from);
+        while (postId >= 0 && result.size() < limit) {
+            result.add(postId);
+            if (postId == 0) {
+                break;
+            }
+            postId = matched.previousValue((int) postId - 1);
+        }
+        return result;
+    }
+
+    /**
+     * 게시글 생성/수정 트랜잭션이 커밋된 뒤 역색인에 반영
+     */
+    public void indexAfterCommit(Long postId, Long snapshotId, Collection<Long> tagIds) {
+        LastSnapshotTag[] rows = tagIds.isEmpty()
+            ? new LastSnapshotTag[]{new LastSnapshotTag(postId, snapshotId, null)}
+            : tagIds.stream()
+                .map(tagId -> new LastSnapshotTag(postId, snapshotId, tagId))
+                .toArray(LastSnapshotTag[]::new);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(List.of(rows));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(List.of(rows));
+            }
+        });
+    }
+
+    /**
+     * 마지막으로 읽은 스냅샷 이후 변경분 반영 (처음 호출 시 전체 적재)
+     */
+    public void sync() {
+        try {
+            long after = ready ? Math.max(0L, lastSnapshotId - SYNC_OVERLAP) : 0L;
+            List<LastSnapshotTag> rows = snapshotTagRepository.findLastSnapshotTagsAfter(after);
+            int changedPosts = apply(rows);
+
+            if (!ready) {
+                ready = true;
+                log.info("[sync] 태그 역색인 적재 완료 posts={}, tags={}", indexedPosts.size(),
+                    postIdsByTagId.size());
+            } else if (changedPosts > 0) {
+                log.debug("[sync] 태그 역색인 변경 반영 posts={}", changedPosts);
+            }
+        } catch (RuntimeException e) {
+            log.error("[sync] 태그 역색인 동기화 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    /**
+     * 전체 최근 스냅샷을 다시 읽어 변경분 조회에서 빠진 게시글 반영
+     * 이미 같거나 더 최신 스냅샷이 반영된 게시글은 apply 에서 건너뛰므로 빠진 게시글만 바뀐다
+     */
+    public void reconcile() {
+        if (!ready) {
+            return;
+        }
+        try {
+            int changedPosts = apply(snapshotTagRepository.findLastSnapshotTagsAfter(0L));
+            if (changedPosts > 0) {
+                log.warn("[reconcile] 변경분 동기화에서 빠진 게시글 반영 posts={}", changedPosts);
+            }
+        } catch (RuntimeException e) {
+            log.error("[reconcile] 태그 역색인 전체 대조 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    /**
+     * 게시글별 최근 스냅샷 태그로 비트맵 갱신, 이미 같거나 더 최신 스냅샷이 반영된 게시글은 건너뛴다
+     * @return 변경된 게시글 수
+     */
+    synchronized int apply(List<LastSnapshotTag> rows) {
+        Map<Long, IndexedPost> latest = new HashMap<>();
+        for (LastSnapshotTag row : rows) {
+            IndexedPost post = latest.computeIfAbsent(row.postId(),
+                id -> new IndexedPost(row.snapshotId(), new ArrayList<>()));
+            if (row.tagId() != null) {
+                post.tagIds().add(row.tagId());
+            }
+            lastSnapshotId = Math.max(lastSnapshotId, row.snapshotId());
+        }
+
+        // 태그별로 한 번만 복사해서 수정
+        Map<Long, RoaringBitmap> changed = new HashMap<>();
+        int changedPosts = 0;
+
+        for (Map.Entry<Long, IndexedPost> entry : latest.entrySet()) {
+            Long postId = entry.getKey();
+            IndexedPost post = entry.getValue();
+
+            if (postId > Integer.MAX_VALUE) {
+                log.error("[apply] 비트맵 범위를 넘는 게시글 ID, 태그 역색인을 사용하지 않습니다. postId={}", postId);
+                overflow = true;
+                continue;
+            }
+
+            IndexedPost previous = indexedPosts.get(postId);
+            if (previous != null && previous.snapshotId() >= post.snapshotId()) {
+                continue;
+            }
+
+            int id = postId.intValue();
+            if (previous != null) {
+                previous.tagIds().forEach(tagId -> bitmapToChange(changed, tagId).remove(id));
+            }
+            post.tagIds().forEach(tagId -> bitmapToChange(changed, tagId).add(id));
+
+            indexedPosts.put(postId, new IndexedPost(post.snapshotId(), List.copyOf(post.tagIds())));
+            changedPosts++;
+        }
+
+        changed.forEach((tagId, postIds) -> {
+            postIds.runOptimize();
+            postIdsByTagId.put(tagId, postIds);
+        });
+        return changedPosts;
+    }
+
+    private RoaringBitmap bitmapToChange(Map<Long, RoaringBitmap> changed, Long tagId) {
+        return changed.computeIfAbsent(tagId, id -> {
+            RoaringBitmap current = postIdsByTagId.get(id);
+            return current != null ? current.clone() : new RoaringBitmap();
+        });
+    }
+
+    private record IndexedPost(long snapshotId, List<Long> tagIds) {
+
+    }
+}
@@ -10,4 +10,10 @@ public interface ProductLinkRepository {
 
     ProductLink save(Long productId, String url, Instant now);
 
+    /**
+     * 단건 조회 또는 productId 로 저장 (이미 있는 링크는 기존 productId 유지), 이미 있으면 SELECT 한 번으로 끝난다
+     * 없으면 INSERT ... ON CONFLICT DO NOTHING RETURNING, 동시에 저장되어 아무것도 반환되지 않으면 다시 조회한다
+     */
+    ProductLink getOrCreate(Long productId, String url, Instant now);
+
 }
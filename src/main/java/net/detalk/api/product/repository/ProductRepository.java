@@ -10,4 +10,10 @@ public interface ProductRepository {
 
     Product save(String name, Instant now);
 
+    /**
+     * 단건 조회 또는 저장, 이미 있으면(대부분) SELECT 한 번으로 끝난다
+     * 없으면 INSERT ... ON CONFLICT DO NOTHING RETURNING, 동시에 저장되어 아무것도 반환되지 않으면 다시 조회한다
+     */
+    Product getOrCreate(String name, Instant now);
+
 }
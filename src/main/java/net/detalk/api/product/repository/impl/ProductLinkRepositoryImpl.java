@@ -33,4 +33,19 @@ public class ProductLinkRepositoryImpl implements ProductLinkRepository {
             .fetchOneInto(ProductLink.class);
     }
 
+    @Override
+    public ProductLink getOrCreate(Long productId, String url, Instant now) {
+        return findByUrl(url)
+            .or(() -> dsl.insertInto(PRODUCT_LINK)
+                .set(PRODUCT_LINK.PRODUCT_ID, productId)
+                .set(PRODUCT_LINK.URL, url)
+                .set(PRODUCT_LINK.CREATED_AT, now)
+                .onConflict(PRODUCT_LINK.URL)
+                .doNothing()
+                .returning()
+                .fetchOptionalInto(ProductLink.class))
+            .or(() -> findByUrl(url))
+            .orElseThrow(() -> new IllegalStateException("제품 링크를 저장하거나 조회하지 못했습니다. url=" + url));
+    }
+
 }
@@ -31,4 +31,18 @@ public class ProductRepositoryImpl implements ProductRepository {
             .returning()
             .fetchOneInto(Product.class);
     }
+
+    @Override
+    public Product getOrCreate(String name, Instant now) {
+        return findByName(name)
+            .or(() -> dsl.insertInto(PRODUCT)
+                .set(PRODUCT.NAME, name)
+                .set(PRODUCT.CREATED_AT, now)
+                .onConflict(PRODUCT.NAME)
+                .doNothing()
+                .returning()
+                .fetchOptionalInto(Product.class))
+            .or(() -> findByName(name))
+            .orElseThrow(() -> new IllegalStateException("제품을 저장하거나 조회하지 못했습니다. name=" + name));
+    }
 }
@@ -13,8 +13,6 @@ public class ProductLinkService {
     private final ProductLinkRepository productLinkRepository;
 
     public ProductLink getOrCreateProductLink(String url, Long productId, Instant now) {
-        return productLinkRepository.findByUrl(url).orElseGet(
-            () -> productLinkRepository.save(productId, url, now)
-        );
+        return productLinkRepository.getOrCreate(productId, url, now);
     }
 }
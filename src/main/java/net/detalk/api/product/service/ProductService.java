@@ -13,8 +13,7 @@ public class ProductService {
     private final ProductRepository productRepository;
 
     public Product getOrCreateProduct(String name, Instant now) {
-        return productRepository.findByName(name)
-            .orElseGet(() -> create(name, now));
+        return productRepository.getOrCreate(name, now);
     }
 
     public Product create(String name, Instant now) {
@@ -0,0 +1,56 @@
+package net.detalk.api.retention.domain;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 테이블별 보관 정책 (detalk.retention.{target})
+ * ttl 이 없으면 정리하지 않는다.
+ */
+@Getter
+@Setter
+public class RetentionPolicy {
+
+    /**
+     * 보관 기간, 파티션 모드에서는 일 단위로 내림
+     */
+    private Duration ttl;
+
+    /**
+     * 한 번에 삭제할 최대 row 수
+     */
+    private int batchSize = 1_000;
+
+    /**
+     * 배치 사이 대기 시간(ms), 다른 쓰기 작업이 락/IO 를 쓸 수 있도록 양보한다
+     */
+    private long batchPauseMillis = 100L;
+
+    /**
+     * 한 번 실행할 때의 최대 배치 수, 남은 row 는 다음 실행에서 이어서 삭제한다
+     */
+    private int maxBatchesPerRun = 500;
+
+    /**
+     * true 면 row 삭제 대신 일 단위 파티션을 통째로 DROP 한다 (테이블이 파티션 테이블이어야 함)
+     */
+    private boolean partitioned = false;
+
+    /**
+     * 파티션 모드에서 미리 만들어 둘 파티션 일 수
+     */
+    private int partitionLookaheadDays = 2;
+
+    public static RetentionPolicy deleting(Duration ttl) {
+        RetentionPolicy policy = new RetentionPolicy();
+        policy.setTtl(ttl);
+        return policy;
+    }
+
+    public static RetentionPolicy partitioned(Duration ttl) {
+        RetentionPolicy policy = deleting(ttl);
+        policy.setPartitioned(true);
+        return policy;
+    }
+}
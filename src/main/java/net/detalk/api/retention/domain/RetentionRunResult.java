@@ -0,0 +1,20 @@
+package net.detalk.api.retention.domain;
+
+import java.time.Instant;
+
+/**
+ * 보관 정책 실행 결과
+ * @param deletedRows 일괄 삭제한 row 수
+ * @param droppedPartitions 삭제한 파티션 수
+ * @param createdPartitions 미리 생성한 파티션 수
+ * @param completed false 면 maxBatchesPerRun 에 도달해 남은 row 가 있다
+ */
+public record RetentionRunResult(
+    RetentionTarget target,
+    long deletedRows,
+    int droppedPartitions,
+    int createdPartitions,
+    boolean completed,
+    long elapsedMillis,
+    Instant finishedAt
+) {}
@@ -0,0 +1,61 @@
+package net.detalk.api.retention.domain;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 보관 기간이 지나면 정리하는 테이블
+ * 파티션 모드에서는 {@code <tableName>_pYYYYMMDD} 이름의 일 단위 파티션을 관리하며,
+ * 파티션 범위 값의 타입은 파티션 키 컬럼 타입에 맞춘다.
+ */
+public enum RetentionTarget {
+
+    /**
+     * expires_at(epoch ms) 기준 파티션, V0.0.5 참고
+     */
+    AUTH_REFRESH_TOKEN("auth_refresh_token"),
+
+    /**
+     * created_at(epoch ms) 기준 일괄 삭제
+     */
+    PRODUCT_POST_IDEMPOTENT_REQUESTS("product_post_idempotent_requests"),
+
+    /**
+     * visited_at(서버 시간대 TIMESTAMP) 기준 일괄 삭제
+     */
+    VISITOR_LOG("visitor_log");
+
+    private final String tableName;
+
+    RetentionTarget(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String partitionName(LocalDate day) {
+        return tableName + "_p" + day.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    /**
+     * 일 단위 파티션이 없는 값이 들어가는 DEFAULT 파티션, V0.0.10 참고
+     */
+    public String defaultPartitionName() {
+        return tableName + "_default";
+    }
+
+    /**
+     * 해당 날짜 0시에 해당하는 파티션 범위 값
+     */
+    public Object partitionBound(LocalDate day) {
+        return switch (this) {
+            case AUTH_REFRESH_TOKEN, PRODUCT_POST_IDEMPOTENT_REQUESTS ->
+                day.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+            case VISITOR_LOG -> day.atStartOfDay(ZoneId.systemDefault()).toLocalDateTime();
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package net.detalk.api.retention.repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관 기간이 지난 데이터 정리
+ * 삭제는 시간 컬럼 인덱스로 limit 만큼만 찾아 지우므로, 한 문장이 잡는 락과 WAL 양이 제한된다
+ */
+public interface RetentionRepository {
+
+    /**
+     * @return 삭제된 row 수 (limit 보다 작으면 남은 대상이 없다)
+     */
+    int deleteIdempotentRequestsCreatedBefore(Instant cutoff, int limit);
+
+    /**
+     * @return 삭제된 row 수 (limit 보다 작으면 남은 대상이 없다)
+     */
+    int deleteVisitorLogsVisitedBefore(LocalDateTime cutoff, int limit);
+
+    /**
+     * auth_refresh_token 의 DEFAULT 파티션에서 만료된 토큰 삭제 (일 단위 파티션은 DROP 으로 정리한다)
+     * @return 삭제된 row 수 (limit 보다 작으면 남은 대상이 없다)
+     */
+    int deleteRefreshTokensInDefaultPartitionExpiredBefore(Instant cutoff, int limit);
+
+    /**
+     * 파티션 테이블의 하위 파티션 이름 목록, 파티션 테이블이 아니면 빈 목록
+     */
+    List<String> findPartitionNames(String tableName);
+
+    /**
+     * [from, to) 범위 파티션 생성, 이미 있으면 무시
+     * @param from 파티션 키 컬럼 타입의 값
+     */
+    void createPartition(String tableName, String partitionName, Object from, Object to);
+
+    void dropPartition(String partitionName);
+}
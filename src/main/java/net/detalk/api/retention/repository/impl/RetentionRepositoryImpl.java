@@ -0,0 +1,97 @@
+package net.detalk.api.retention.repository.impl;
+
+import static net.detalk.jooq.tables.JProductPostIdempotentRequests.PRODUCT_POST_IDEMPOTENT_REQUESTS;
+import static net.detalk.jooq.tables.JVisitorLog.VISITOR_LOG;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.val;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import net.detalk.api.retention.domain.RetentionTarget;
+import net.detalk.api.retention.repository.RetentionRepository;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class RetentionRepositoryImpl implements RetentionRepository {
+
+    private final DSLContext dsl;
+
+    /*
+     * DELETE FROM product_post_idempotent_requests
+     * WHERE idempotent_key IN (
+     *     SELECT idempotent_key FROM product_post_idempotent_requests WHERE created_at < ? LIMIT ?
+     * )
+     */
+    @Override
+    public int deleteIdempotentRequestsCreatedBefore(Instant cutoff, int limit) {
+        return dsl.deleteFrom(PRODUCT_POST_IDEMPOTENT_REQUESTS)
+            .where(PRODUCT_POST_IDEMPOTENT_REQUESTS.IDEMPOTENT_KEY.in(
+                select(PRODUCT_POST_IDEMPOTENT_REQUESTS.IDEMPOTENT_KEY)
+                    .from(PRODUCT_POST_IDEMPOTENT_REQUESTS)
+                    .where(PRODUCT_POST_IDEMPOTENT_REQUESTS.CREATED_AT.lt(cutoff))
+                    .limit(limit)))
+            .execute();
+    }
+
+    @Override
+    public int deleteVisitorLogsVisitedBefore(LocalDateTime cutoff, int limit) {
+        return dsl.deleteFrom(VISITOR_LOG)
+            .where(VISITOR_LOG.ID.in(
+                select(VISITOR_LOG.ID)
+                    .from(VISITOR_LOG)
+                    .where(VISITOR_LOG.VISITED_AT.lt(cutoff))
+                    .limit(limit)))
+            .execute();
+    }
+
+    /*
+     * DELETE FROM auth_refresh_token_default
+     * WHERE (id, expires_at) IN (
+     *     SELECT id, expires_at FROM auth_refresh_token_default WHERE expires_at < ? LIMIT ?
+     * )
+     */
+    @Override
+    public int deleteRefreshTokensInDefaultPartitionExpiredBefore(Instant cutoff, int limit) {
+        return dsl.execute("""
+                DELETE FROM {0}
+                 WHERE ("id", "expires_at") IN (
+                       SELECT "id", "expires_at" FROM {0} WHERE "expires_at" < {1} LIMIT {2}
+                 )
+                """,
+            name(RetentionTarget.AUTH_REFRESH_TOKEN.defaultPartitionName()),
+            val(cutoff.toEpochMilli()),
+            val(limit));
+    }
+
+    @Override
+    public List<String> findPartitionNames(String tableName) {
+        return dsl.resultQuery("""
+                SELECT child.relname
+                  FROM pg_inherits
+                  JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+                  JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+                 WHERE parent.relname = {0}
+                """, inline(tableName))
+            .fetch(0, String.class);
+    }
+
+    @Override
+    public void createPartition(String tableName, String partitionName, Object from, Object to) {
+        dsl.execute("CREATE TABLE IF NOT EXISTS {0} PARTITION OF {1} FOR VALUES FROM ({2}) TO ({3})",
+            name(partitionName),
+            name(tableName),
+            inline(from),
+            inline(to));
+    }
+
+    @Override
+    public void dropPartition(String partitionName) {
+        dsl.dropTableIfExists(name(partitionName)).execute();
+    }
+}
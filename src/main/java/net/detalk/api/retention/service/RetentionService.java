@@ -0,0 +1,250 @@
+package net.detalk.api.retention.service;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import net.detalk.api.retention.domain.RetentionPolicy;
+import net.detalk.api.retention.domain.RetentionRunResult;
+import net.detalk.api.retention.domain.RetentionTarget;
+import net.detalk.api.retention.repository.RetentionRepository;
+import net.detalk.api.support.config.AppProperties;
+import net.detalk.api.support.util.TimeHolder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+/**
+ * 계속 쌓이기만 하는 테이블의 보관 기간(detalk.retention) 관리
+ * 일괄 삭제 모드 : ttl 이 지난 row 를 batchSize 씩, 배치 사이 batchPauseMillis 만큼 쉬면서 삭제한다.
+ *                  각 배치는 별도 문장(자동 커밋)이므로 락을 오래 잡지 않는다.
+ * 파티션 모드 : 일 단위 파티션({@code <table>_pYYYYMMDD})을 미리 만들고, ttl 이 지난 날의 파티션은 통째로 DROP 한다.
+ *              파티션 생성은 ttl 과 관계없이 매번 수행한다 (ttl 이 없으면 DROP 만 하지 않는다).
+ *              DEFAULT 파티션({@code <table>_default})에 들어간 row 는 DROP 할 수 없으므로 일괄 삭제 모드처럼 지우고,
+ *              그 row 때문에 만들지 못했던 날의 파티션은 이어서 다시 만든다.
+ *              테이블을 파티션 모드로 바꾸려면 V0.0.5(auth_refresh_token)처럼 마이그레이션으로 파티션 테이블로 바꾼 뒤
+ *              partitioned 를 켠다.
+ */
+@Slf4j
+@Service
+public class RetentionService {
+
+    private final RetentionRepository retentionRepository;
+    private final TimeHolder timeHolder;
+    private final TaskScheduler taskScheduler;
+    private final AppProperties appProperties;
+
+    // runAll 이 배치 사이에 쉬는 동안에도 조회가 막히지 않도록 락 없이 읽는다
+    private final Map<RetentionTarget, RetentionRunResult> lastResults = new ConcurrentHashMap<>();
+
+    public RetentionService(
+        RetentionRepository retentionRepository,
+        TimeHolder timeHolder,
+        @Qualifier("retentionScheduler") TaskScheduler taskScheduler,
+        AppProperties appProperties
+    ) {
+        this.retentionRepository = retentionRepository;
+        this.timeHolder = timeHolder;
+        this.taskScheduler = taskScheduler;
+        this.appProperties = appProperties;
+    }
+
+    /**
+     * 파티션 테이블은 쓰기 전에 파티션이 있어야 하므로 기동 중에 먼저 만든다
+     */
+    @PostConstruct
+    public void start() {
+        LocalDate today = LocalDate.ofInstant(timeHolder.now(), ZoneOffset.UTC);
+        appProperties.getRetention().forEach((target, policy) -> {
+            if (policy.isPartitioned()) {
+                createPartitionsAhead(target, policy, today, findPartitionNames(target));
+            }
+        });
+
+        Duration interval = Duration.ofMillis(appProperties.getRetentionIntervalMillis());
+        taskScheduler.scheduleWithFixedDelay(this::runAll, taskScheduler.getClock().instant().plus(interval), interval);
+        log.info("[start] 보관 기간 정리 시작 interval={}ms, targets={}",
+            interval.toMillis(), appProperties.getRetention().keySet());
+    }
+
+    public synchronized List<RetentionRunResult> runAll() {
+        List<RetentionRunResult> results = new ArrayList<>();
+        appProperties.getRetention().forEach((target, policy) -> {
+            try {
+                if (policy.getTtl() != null) {
+                    results.add(run(target, policy));
+                } else if (policy.isPartitioned()) {
+                    // 정리하지 않더라도 쓰기에 필요한 파티션은 계속 만든다
+                    createPartitionsAhead(target, policy, LocalDate.ofInstant(timeHolder.now(), ZoneOffset.UTC),
+                        findPartitionNames(target));
+                }
+            } catch (RuntimeException e) {
+                log.error("[runAll] 보관 기간 정리 실패 target={}", target, e);
+            }
+        });
+        return results;
+    }
+
+    /**
+     * 대상별 마지막 실행 결과
+     */
+    public List<RetentionRunResult> getLastResults() {
+        return lastResults.values().stream()
+            .sorted(Comparator.comparing(RetentionRunResult::target))
+            .toList();
+    }
+
+    private RetentionRunResult run(RetentionTarget target, RetentionPolicy policy) {
+        long startedAt = System.nanoTime();
+        Instant cutoff = timeHolder.now().minus(policy.getTtl());
+
+        RetentionRunResult result = policy.isPartitioned()
+            ? runPartitioned(target, policy, cutoff, startedAt)
+            : runBatches(target, policy, cutoff, startedAt);
+
+        lastResults.put(target, result);
+        log.info("[run] 보관 기간 정리 target={}, deletedRows={}, droppedPartitions={}, createdPartitions={}, completed={}, elapsed={}ms",
+            target, result.deletedRows(), result.droppedPartitions(), result.createdPartitions(),
+            result.completed(), result.elapsedMillis());
+        return result;
+    }
+
+    private RetentionRunResult runBatches(RetentionTarget target, RetentionPolicy policy, Instant cutoff, long startedAt) {
+        long deletedRows = 0;
+        boolean completed = false;
+
+        for (int batch = 0; batch < policy.getMaxBatchesPerRun(); batch++) {
+            int deleted = deleteBatch(target, cutoff, policy.getBatchSize());
+            deletedRows += deleted;
+            if (deleted < policy.getBatchSize()) {
+                completed = true;
+                break;
+            }
+            if (!pause(policy.getBatchPauseMillis())) {
+                break;
+            }
+        }
+
+        return new RetentionRunResult(target, deletedRows, 0, 0, completed,
+            elapsedMillis(startedAt), timeHolder.now());
+    }
+
+    private int deleteBatch(RetentionTarget target, Instant cutoff, int limit) {
+        return switch (target) {
+            case PRODUCT_POST_IDEMPOTENT_REQUESTS ->
+                retentionRepository.deleteIdempotentRequestsCreatedBefore(cutoff, limit);
+            case VISITOR_LOG ->
+                retentionRepository.deleteVisitorLogsVisitedBefore(
+                    LocalDateTime.ofInstant(cutoff, ZoneId.systemDefault()), limit);
+            // 일 단위 파티션은 DROP 하므로 DEFAULT 파티션만 지운다
+            case AUTH_REFRESH_TOKEN ->
+                retentionRepository.deleteRefreshTokensInDefaultPartitionExpiredBefore(cutoff, limit);
+        };
+    }
+
+    private RetentionRunResult runPartitioned(RetentionTarget target, RetentionPolicy policy, Instant cutoff, long startedAt) {
+        LocalDate today = LocalDate.ofInstant(timeHolder.now(), ZoneOffset.UTC);
+        // 파티션 [day, day + 1) 의 모든 row 가 cutoff 이전이어야 삭제할 수 있다
+        LocalDate cutoffDay = LocalDate.ofInstant(cutoff, ZoneOffset.UTC);
+        Set<String> partitionNames = findPartitionNames(target);
+
+        int dropped = 0;
+        for (String partitionName : partitionNames) {
+            LocalDate day = parsePartitionDay(target, partitionName);
+            if (day != null && day.isBefore(cutoffDay)) {
+                retentionRepository.dropPartition(partitionName);
+                log.debug("[runPartitioned] 파티션 삭제 {}", partitionName);
+                dropped++;
+            }
+        }
+        // DEFAULT 파티션을 비운 뒤에 만들어야, 그 날의 row 때문에 실패했던 파티션도 만들어진다
+        long deletedRows = 0;
+        boolean completed = true;
+        if (partitionNames.contains(target.defaultPartitionName())) {
+            RetentionRunResult deleted = runBatches(target, policy, cutoff, startedAt);
+            deletedRows = deleted.deletedRows();
+            completed = deleted.completed();
+        }
+        int created = createPartitionsAhead(target, policy, today, partitionNames);
+
+        return new RetentionRunResult(target, deletedRows, dropped, created, completed,
+            elapsedMillis(startedAt), timeHolder.now());
+    }
+
+    private int createPartitionsAhead(RetentionTarget target, RetentionPolicy policy, LocalDate today,
+        Set<String> partitionNames) {
+        LocalDate last = today.plusDays(aheadDays(target, policy));
+
+        int created = 0;
+        for (LocalDate day = today; !day.isAfter(last); day = day.plusDays(1)) {
+            String partitionName = target.partitionName(day);
+            if (partitionNames.contains(partitionName)) {
+                continue;
+            }
+            // DEFAULT 파티션에 이미 그 날의 row 가 있으면 실패하므로, 나머지 날은 계속 만든다
+            try {
+                retentionRepository.createPartition(target.getTableName(), partitionName,
+                    target.partitionBound(day), target.partitionBound(day.plusDays(1)));
+                created++;
+            } catch (RuntimeException e) {
+                log.error("[createPartitionsAhead] 파티션 생성 실패 {}", partitionName, e);
+            }
+        }
+        return created;
+    }
+
+    // 리프레시 토큰은 만료 시각 기준이므로 유효기간만큼 앞의 파티션까지 필요하다
+    private long aheadDays(RetentionTarget target, RetentionPolicy policy) {
+        if (target == RetentionTarget.AUTH_REFRESH_TOKEN) {
+            return Duration.ofSeconds(appProperties.getRefreshTokenExpiresInSeconds()).toDays() + 1
+                + policy.getPartitionLookaheadDays();
+        }
+        return policy.getPartitionLookaheadDays();
+    }
+
+    private Set<String> findPartitionNames(RetentionTarget target) {
+        return new HashSet<>(retentionRepository.findPartitionNames(target.getTableName()));
+    }
+
+    private LocalDate parsePartitionDay(RetentionTarget target, String partitionName) {
+        String prefix = target.getTableName() + "_p";
+        if (!partitionName.startsWith(prefix) || partitionName.length() != prefix.length() + 8) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partitionName.substring(prefix.length()), DateTimeFormatter.BASIC_ISO_DATE);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private boolean pause(long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+    }
+}
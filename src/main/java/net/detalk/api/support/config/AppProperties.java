@@ -1,7 +1,14 @@
 package net.detalk.api.support.config;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
+import net.detalk.api.admin.domain.VisitorLogOverflowPolicy;
+import net.detalk.api.retention.domain.RetentionPolicy;
+import net.detalk.api.retention.domain.RetentionTarget;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -25,4 +32,69 @@ public class AppProperties {
     private String cloudFlareImagesApiToken;
     private String cloudFlareAccountId;
     private String cloudFlareAccountHash;
+
+    // 추천 수 쓰기 지연 버퍼 : 주기(ms) 또는 누적 이벤트 수 중 먼저 도달하면 DB 반영
+    private long recommendCountFlushIntervalMillis = 1000L;
+    private int recommendCountFlushThreshold = 100;
+
+    // 태그 사전 : 다른 서버에서 추가된 태그를 확인하는 주기(ms)
+    private long tagDictionaryRefreshIntervalMillis = 10_000L;
+
+    // 태그 역색인 : 다른 서버에서 생성/수정된 게시글을 반영하는 주기(ms)
+    private long tagPostIndexSyncIntervalMillis = 5_000L;
+
+    // 태그 역색인 : 늦게 커밋되어 변경분 동기화에서 빠진 게시글을 맞추기 위해 전체를 다시 읽는 주기(ms)
+    private long tagPostIndexReconcileIntervalMillis = 300_000L;
+
+    // 무효화 리프레시 토큰 Bloom filter : DB 기준 재생성 주기(ms), 예상 토큰 수, 허용 오탐률
+    private long revokedRefreshTokenFilterRebuildIntervalMillis = 60_000L;
+    private long revokedRefreshTokenFilterExpectedInsertions = 100_000L;
+    private double revokedRefreshTokenFilterFpp = 0.000001;
+
+    // 멱등 요청 시간 창 : 완료된 요청 결과 보관 시간(초), 최대 키 수
+    private long idempotencyWindowSeconds = 600L;
+    private long idempotencyWindowMaximumSize = 10_000L;
+
+    // 방문자 로그 수집 : 큐 크기, 저장 주기(ms), 배치 크기, 넘침 정책, 표본 비율(1/n), 넘침 파일 경로와 최대 크기
+    private int visitorLogQueueCapacity = 8192;
+    private long visitorLogFlushIntervalMillis = 1000L;
+    private int visitorLogBatchSize = 500;
+    private VisitorLogOverflowPolicy visitorLogOverflowPolicy = VisitorLogOverflowPolicy.SPILL;
+    private int visitorLogSampleRate = 10;
+    private String visitorLogSpillPath = System.getProperty("java.io.tmpdir") + "/detalk-visitor-log.spill";
+    private long visitorLogSpillMaxBytes = 100L * 1024 * 1024;
+
+    // GeoLite2 : IP 대역(/24, /48) 위치 캐시 최대 크기, DB 파일 변경 확인 주기(ms)
+    private long geoLocationCacheMaximumSize = 100_000L;
+    private long geoDatabaseReloadIntervalMillis = 60_000L;
+
+    // 페이징 전체 개수 : CACHED 모드 count 결과 캐시 시간(초), 지나면 백그라운드에서 다시 계산
+    private long pagingCountCacheSeconds = 60L;
+
+    // 쿼리 통계 : 최대 지문 수, 실행 계획을 수집할 최소 실행 시간(ms), 지문별 실행 계획 수집 간격(초)
+    private int queryMetricsMaximumFingerprints = 500;
+    private long queryOutlierMinMillis = 100L;
+    private long queryExplainIntervalSeconds = 600L;
+
+    // 요청당 쿼리 예산 : 기본 최대 쿼리 수, 엔드포인트("METHOD /path/{pattern}")별 최대 쿼리 수, N+1 로 판단할 같은 쿼리 반복 횟수
+    private int queryBudgetPerRequest = 10;
+    private Map<String, Integer> queryBudgets = new HashMap<>();
+    private int queryRepeatedStatementThreshold = 5;
+
+    // 알람 묶음 전송 : 큐 크기, 큐 처리 주기(ms), 같은 알람을 묶는 시간 창(초, 끝날 때 요약 전송), 시간 창 안 최대 지문 수
+    // 채널별 전송 속도 제한 : 한 번에 보낼 수 있는 최대 개수, 분당 충전 개수
+    private int alarmQueueCapacity = 1024;
+    private long alarmFlushIntervalMillis = 1000L;
+    private long alarmDigestWindowSeconds = 60L;
+    private int alarmMaximumFingerprints = 200;
+    private long alarmRateLimitCapacity = 5L;
+    private long alarmRateLimitRefillPerMinute = 10L;
+
+    // 보관 기간 정리 : 실행 주기(ms), 테이블별 정책 (RetentionPolicy)
+    private long retentionIntervalMillis = 3_600_000L;
+    private Map<RetentionTarget, RetentionPolicy> retention = new EnumMap<>(Map.of(
+        RetentionTarget.AUTH_REFRESH_TOKEN, RetentionPolicy.partitioned(Duration.ZERO),
+        RetentionTarget.PRODUCT_POST_IDEMPOTENT_REQUESTS, RetentionPolicy.deleting(Duration.ofDays(1)),
+        RetentionTarget.VISITOR_LOG, RetentionPolicy.deleting(Duration.ofDays(90))
+    ));
 }
\ No newline at end of file
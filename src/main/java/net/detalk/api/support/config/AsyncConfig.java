@@ -1,10 +1,9 @@
 package net.detalk.api.support.config;
 
-import java.util.concurrent.Executor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /**
  * 비동기 처리 Thread 설정 클래스
@@ -15,18 +14,110 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @EnableAsync
 public class AsyncConfig {
 
-    // 스프링 애플리케이션 컨텍스트 종료 될 때, shutdown 메서드 호출
-    @Bean(destroyMethod = "shutdown", name = "visitorLogTaskExecutor")
-    public Executor visitorLogTaskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(1); // 최소 스레드 수
-        executor.setMaxPoolSize(2); // 최대 스레드 수
-        executor.setQueueCapacity(50); // 요청 대기열 크기
-        executor.setThreadNamePrefix("VisitorLog-");
-        executor.setKeepAliveSeconds(300); // 유휴 스레드 300초 뒤 종료
-        executor.setPrestartAllCoreThreads(false); // 코어 스레드 미리 시작 안 함
-        executor.setStrictEarlyShutdown(true); // 조기 종료 설정
-        executor.initialize();
-        return executor;
+    // 방문자 로그 수집 큐 소비(위치 조회 + 배치 저장) 전용 스케줄러
+    // 남은 큐는 VisitorLogIngestor 종료 시점에 비운다
+    @Bean(destroyMethod = "shutdown", name = "visitorLogIngestScheduler")
+    public ThreadPoolTaskScheduler visitorLogIngestScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("VisitorLog-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    // GeoLite2 데이터베이스 파일 변경 확인 전용 스케줄러
+    @Bean(destroyMethod = "shutdown", name = "geoDatabaseReloadScheduler")
+    public ThreadPoolTaskScheduler geoDatabaseReloadScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("GeoDatabase-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    // 페이징 전체 개수(TotalCountEstimator CACHED 모드) 백그라운드 재계산 전용 스케줄러
+    @Bean(destroyMethod = "shutdown", name = "pagingCountRefreshScheduler")
+    public ThreadPoolTaskScheduler pagingCountRefreshScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("PagingCount-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    // 추천 수 쓰기 지연 버퍼 flush 전용 스케줄러
+    // 종료 시 진행 중인 flush 는 마저 끝내고, 남은 버퍼는 RecommendCountBuffer 종료 시점에 비운다
+    @Bean(destroyMethod = "shutdown", name = "recommendCountFlushScheduler")
+    public ThreadPoolTaskScheduler recommendCountFlushScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("RecommendFlush-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    // 태그 사전 버전 확인 전용 스케줄러
+    @Bean(destroyMethod = "shutdown", name = "tagDictionaryRefreshScheduler")
+    public ThreadPoolTaskScheduler tagDictionaryRefreshScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("TagDictionary-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    // 태그 역색인 적재/동기화 전용 스케줄러
+    @Bean(destroyMethod = "shutdown", name = "tagPostIndexSyncScheduler")
+    public ThreadPoolTaskScheduler tagPostIndexSyncScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("TagPostIndex-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    // 무효화 리프레시 토큰 필터 재생성 전용 스케줄러
+    @Bean(destroyMethod = "shutdown", name = "refreshTokenMaintenanceScheduler")
+    public ThreadPoolTaskScheduler refreshTokenMaintenanceScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("RefreshToken-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    // 느린 쿼리 실행 계획(EXPLAIN) 수집 전용 스케줄러
+    @Bean(destroyMethod = "shutdown", name = "queryExplainScheduler")
+    public ThreadPoolTaskScheduler queryExplainScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("QueryExplain-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    // 알람 큐 처리(중복 묶음, 전송 속도 제한)와 요약 전송 전용 스케줄러
+    // 남은 큐는 CoalescingAlarmSender 종료 시점에 비운다
+    @Bean(destroyMethod = "shutdown", name = "alarmDispatchScheduler")
+    public ThreadPoolTaskScheduler alarmDispatchScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("AlarmDispatch-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    // 보관 기간 정리(일괄 삭제, 파티션 관리) 전용 스케줄러
+    @Bean(destroyMethod = "shutdown", name = "retentionScheduler")
+    public ThreadPoolTaskScheduler retentionScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("Retention-");
+        scheduler.initialize();
+        return scheduler;
     }
 }
@@ -26,6 +26,25 @@ public class CacheConfig {
                 .recordStats()
                 .build());
 
+        // 게시글 상세 1단계 캐시 : snapshotId -> 스냅샷 내용
+        // 스냅샷은 저장 후 변경되지 않으므로 만료 없이 크기로만 제한
+        cacheManager.registerCustomCache("productPostSnapshotContent",
+            Caffeine.newBuilder()
+                .initialCapacity(100)
+                .maximumSize(5_000)
+                .recordStats()
+                .build());
+
+        // 게시글 상세 2단계 캐시 : postId -> 최근 스냅샷 ID, 추천 수
+        // 수정/추천 시 무효화하며, 작성자 프로필 변경 등은 짧은 TTL 로 반영
+        cacheManager.registerCustomCache("productPostPointer",
+            Caffeine.newBuilder()
+                .expireAfterWrite(30, TimeUnit.SECONDS)
+                .initialCapacity(50)
+                .maximumSize(1_000)
+                .recordStats()
+                .build());
+
         // 커스텀 설정 없으면 아래 값이 기본값으로 됨
         cacheManager.setCaffeine(Caffeine.newBuilder()
             .expireAfterWrite(5, TimeUnit.MINUTES)
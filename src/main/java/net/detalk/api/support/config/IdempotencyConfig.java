@@ -0,0 +1,29 @@
+package net.detalk.api.support.config;
+
+import net.detalk.api.support.idempotency.IdempotencyWindow;
+import net.detalk.api.support.idempotency.Idempotent;
+import net.detalk.api.support.idempotency.IdempotentInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * {@link Idempotent} 프록시 설정
+ * aspectj 없이 동작하도록 @Transactional, @Cacheable 과 같은 인프라 Advisor 로 등록한다
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor idempotentAdvisor(ObjectProvider<IdempotencyWindow> idempotencyWindow) {
+        return new DefaultPointcutAdvisor(
+            AnnotationMatchingPointcut.forMethodAnnotation(Idempotent.class),
+            new IdempotentInterceptor(idempotencyWindow));
+    }
+}
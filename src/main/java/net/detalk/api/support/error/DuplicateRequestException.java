@@ -0,0 +1,29 @@
+package net.detalk.api.support.error;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 같은 멱등 키의 요청이 아직 처리 중일 때
+ * 처리가 끝난 요청의 재요청은 {@link net.detalk.api.support.idempotency.Idempotent} 가 원래 응답을 반환한다
+ */
+public class DuplicateRequestException extends ApiException {
+
+    public DuplicateRequestException() {
+        super("같은 요청을 처리하고 있습니다.");
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.CONFLICT;
+    }
+
+    @Override
+    public String getErrorCode() {
+        return "duplicate_idempotent_key";
+    }
+
+    @Override
+    public boolean isNecessaryToLog() {
+        return false;
+    }
+}
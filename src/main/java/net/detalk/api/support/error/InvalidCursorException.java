@@ -0,0 +1,26 @@
+package net.detalk.api.support.error;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends ApiException {
+
+    public InvalidCursorException() {
+        super("유효하지 않은 페이지 커서입니다.");
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.BAD_REQUEST;
+    }
+
+    @Override
+    public String getErrorCode() {
+        return "invalid_cursor";
+    }
+
+    @Override
+    public boolean isNecessaryToLog() {
+        return false;
+    }
+
+}
@@ -9,7 +9,7 @@ import jakarta.servlet.http.HttpSession;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.detalk.api.admin.service.VisitorLogService;
+import net.detalk.api.admin.service.VisitorLogIngestor;
 import net.detalk.api.support.util.CookieUtil;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.core.annotation.Order;
@@ -19,7 +19,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 /**
  * 방문자의 위치 정보를 로깅하는 필터
  * - 요청당 한 번만 실행
- * - 수집된 정보를 비동기적으로 데이터베이스에 저장
+ * - 수집된 정보는 VisitorLogIngestor 큐에 넣고, 소비자 스레드가 배치로 저장
  * - 세션 또는 쿠키를 통한 중복 로깅 방지
  */
 @Order(10)
@@ -28,7 +28,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class GeoLoggingFilter extends OncePerRequestFilter {
 
-    private final VisitorLogService visitorLogService;
+    private final VisitorLogIngestor visitorLogIngestor;
 
     private static final String GEO_LOGGED_KEY = "geoLogged";
     private static final String NEXT_JS_SSR_AGENT = "node";
@@ -67,8 +67,8 @@ public class GeoLoggingFilter extends OncePerRequestFilter {
                     referer
                 );
 
-                // 위치 정보 DB 저장 (비동기로 처리)
-                visitorLogService.saveVisitorLocation(
+                // 수집 큐에 적재 (블로킹 없음, 위치 조회/저장은 소비자 스레드에서 처리)
+                visitorLogIngestor.offer(
                     clientIp,
                     sessionId,
                     userAgent,
@@ -9,9 +9,12 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.detalk.api.support.query.RequestQueryScope;
+import net.detalk.api.support.query.RequestQueryTracker;
 import net.detalk.api.support.util.UUIDGenerator;
 import org.slf4j.MDC;
 import org.springframework.core.annotation.Order;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
 import org.springframework.stereotype.Component;
@@ -21,6 +24,7 @@ import org.springframework.stereotype.Component;
  * - 모든 로그에 요청 정보를 포함하기 위해 가장 먼저 실행됨
  * - 요청 시작부터 종료까지 일관된 컨텍스트 정보 유지
  * - 요청 처리 완료 후 MDC 컨텍스트를 정리하여 메모리 누수 방지
+ * - 요청에서 실행한 쿼리 수/DB 시간을 집계하고 예산을 넘으면 경고 (RequestQueryTracker)
  */
 @Slf4j
 @Order(1)
@@ -46,6 +50,7 @@ public class MDCFilter implements Filter {
     private static final String NON_HTTP_REQUEST_MSG = "Request completed! (non-HTTP)";
 
     private final UUIDGenerator uuidGenerator;
+    private final RequestQueryTracker requestQueryTracker;
 
     @Override
     public void doFilter(
@@ -75,6 +80,7 @@ public class MDCFilter implements Filter {
             MDC.put(ENDPOINT_KEY, endpoint);
         }
 
+        RequestQueryScope queryScope = requestQueryTracker.begin(correlationId);
         try {
             chain.doFilter(request, response);
         } catch (Exception e){
@@ -83,6 +89,9 @@ public class MDCFilter implements Filter {
             throw e;
         }
         finally {
+            queryScope.close();
+            requestQueryTracker.checkBudget(endpointPattern(httpRequest), queryScope.stats());
+
             if (shouldLog) {
                 // HTTP 요청일 경우
                 if (response instanceof HttpServletResponse httpResponse) {
@@ -97,4 +106,11 @@ public class MDCFilter implements Filter {
             MDC.clear();
         }
     }
+
+    // 예산 조회 키 : "METHOD /api/v1/products/posts/{id}" (매핑된 핸들러가 없으면 요청 URI)
+    private String endpointPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String path = pattern != null ? pattern.toString() : request.getRequestURI();
+        return request.getMethod() + " " + path;
+    }
 }
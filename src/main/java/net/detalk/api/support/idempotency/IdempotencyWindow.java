@@ -0,0 +1,54 @@
+package net.detalk.api.support.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import net.detalk.api.support.config.AppProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멱등 키 -> 처리 상태(처리 중 / 완료 + 결과) 시간 창
+ * 완료된 키는 idempotencyWindowSeconds 동안 결과를 보관하고, 크기 상한(idempotencyWindowMaximumSize)을 넘으면 오래된 키부터 제거된다.
+ */
+@Slf4j
+@Component
+public class IdempotencyWindow {
+
+    private final Cache<String, Entry> entries;
+
+    public IdempotencyWindow(AppProperties appProperties) {
+        this.entries = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(appProperties.getIdempotencyWindowSeconds()))
+            .maximumSize(appProperties.getIdempotencyWindowMaximumSize())
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 키 선점
+     * @return null 이면 선점 성공, 아니면 이미 등록된 상태
+     */
+    public Entry claim(String key) {
+        return entries.asMap().putIfAbsent(key, Entry.IN_FLIGHT);
+    }
+
+    public void complete(String key, Object result) {
+        entries.put(key, new Entry(true, result));
+    }
+
+    /**
+     * 실패한 요청의 키 해제, 같은 키로 다시 시도할 수 있다
+     */
+    public void release(String key) {
+        entries.invalidate(key);
+    }
+
+    /**
+     * @param completed false 면 처리 중
+     * @param result 완료된 요청의 반환값
+     */
+    public record Entry(boolean completed, Object result) {
+        static final Entry IN_FLIGHT = new Entry(false, null);
+    }
+}
@@ -0,0 +1,36 @@
+package net.detalk.api.support.idempotency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 쓰기 요청 멱등 처리 (노드 로컬, 시간 창 : idempotencyWindowSeconds)
+ * <p>
+ * 같은 키로 처리 중인 요청이 있으면 {@link net.detalk.api.support.error.DuplicateRequestException},
+ * 처리가 끝난 요청이면 메서드를 실행하지 않고 처음 반환한 값을 그대로 반환한다.
+ * 예외로 끝난 요청의 키는 바로 풀어 재시도할 수 있게 한다.
+ * 노드 간/시간 창 이후의 중복은 각 기능의 DB 제약(예: product_post_idempotent_requests)으로 막는다.
+ * </p>
+ * <pre>
+ * &#64;Idempotent(key = "#user.id + ':' + #request.idempotentKey()")
+ * </pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Idempotent {
+
+    /**
+     * 멱등 키 SpEL, 메서드 파라미터는 #이름 으로 참조한다
+     * 다른 사용자의 응답이 반환되지 않도록 사용자 식별자를 포함한다
+     */
+    String key();
+
+    /**
+     * 키 범위, 비어 있으면 클래스명.메서드명
+     */
+    String scope() default "";
+}
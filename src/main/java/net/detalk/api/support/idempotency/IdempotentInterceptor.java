@@ -0,0 +1,81 @@
+package net.detalk.api.support.idempotency;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import net.detalk.api.support.error.DuplicateRequestException;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * {@link Idempotent} 메서드 실행 전 키를 선점하고, 완료/실패 시 {@link IdempotencyWindow} 에 반영한다
+ * 컨트롤러 메서드에 붙이면 서비스 트랜잭션이 커밋된 뒤에 완료로 기록된다.
+ */
+@Slf4j
+public class IdempotentInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<IdempotencyWindow> idempotencyWindow;
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    public IdempotentInterceptor(ObjectProvider<IdempotencyWindow> idempotencyWindow) {
+        this.idempotencyWindow = idempotencyWindow;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getThis() != null
+            ? AopUtils.getMostSpecificMethod(invocation.getMethod(), invocation.getThis().getClass())
+            : invocation.getMethod();
+        Idempotent idempotent = AnnotatedElementUtils.findMergedAnnotation(method, Idempotent.class);
+        if (idempotent == null) {
+            return invocation.proceed();
+        }
+
+        Object keyValue = evaluateKey(idempotent.key(), method, invocation.getArguments());
+        if (keyValue == null) {
+            return invocation.proceed();
+        }
+
+        String scope = idempotent.scope().isEmpty()
+            ? method.getDeclaringClass().getSimpleName() + "." + method.getName()
+            : idempotent.scope();
+        String key = scope + ":" + keyValue;
+
+        IdempotencyWindow window = idempotencyWindow.getObject();
+        IdempotencyWindow.Entry previous = window.claim(key);
+        if (previous != null) {
+            if (previous.completed()) {
+                log.info("[invoke] 처리 완료된 요청 재요청, 이전 결과 반환 key={}", key);
+                return previous.result();
+            }
+            log.info("[invoke] 처리 중인 요청 재요청 key={}", key);
+            throw new DuplicateRequestException();
+        }
+
+        try {
+            Object result = invocation.proceed();
+            window.complete(key, result);
+            return result;
+        } catch (Throwable e) {
+            window.release(key);
+            throw e;
+        }
+    }
+
+    private Object evaluateKey(String expression, Method method, Object[] arguments) {
+        MethodBasedEvaluationContext context =
+            new MethodBasedEvaluationContext(null, method, arguments, parameterNameDiscoverer);
+        return expressions.computeIfAbsent(expression, parser::parseExpression).getValue(context);
+    }
+}
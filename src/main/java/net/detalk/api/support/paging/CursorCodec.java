@@ -0,0 +1,141 @@
+package net.detalk.api.support.paging;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import net.detalk.api.support.error.InvalidCursorException;
+
+/**
+ * 정렬 키 튜플 <-> 불투명(opaque) 커서 문자열 변환
+ * [버전 1byte][값마다 타입 1byte + 가변 길이 값] 을 base64url(패딩 없음) 로 인코딩한다.
+ * 숫자는 zigzag varint 로 저장해 작은 값일수록 짧고, 형식이 바뀌면 버전을 올려 이전 커서를 거절한다.
+ */
+public final class CursorCodec {
+
+    private static final byte VERSION = 1;
+    private static final int MAX_CURSOR_LENGTH = 512;
+
+    private static final byte TYPE_LONG = 1;
+    private static final byte TYPE_INTEGER = 2;
+    private static final byte TYPE_STRING = 3;
+    private static final byte TYPE_LOCAL_DATE_TIME = 4;
+    private static final byte TYPE_INSTANT = 5;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    /**
+     * @param values Long, Integer, String, LocalDateTime, Instant 만 지원 (null 불가)
+     */
+    public static String encode(Object... values) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16);
+        out.write(VERSION);
+        for (Object value : values) {
+            switch (value) {
+                case Long l -> {
+                    out.write(TYPE_LONG);
+                    writeVarLong(out, l);
+                }
+                case Integer i -> {
+                    out.write(TYPE_INTEGER);
+                    writeVarLong(out, i);
+                }
+                case String s -> {
+                    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                    out.write(TYPE_STRING);
+                    writeVarLong(out, bytes.length);
+                    out.writeBytes(bytes);
+                }
+                case LocalDateTime dateTime -> {
+                    out.write(TYPE_LOCAL_DATE_TIME);
+                    writeVarLong(out, dateTime.toEpochSecond(ZoneOffset.UTC));
+                    writeVarLong(out, dateTime.getNano());
+                }
+                case Instant instant -> {
+                    out.write(TYPE_INSTANT);
+                    writeVarLong(out, instant.getEpochSecond());
+                    writeVarLong(out, instant.getNano());
+                }
+                case null -> throw new IllegalArgumentException("커서 값은 null 일 수 없습니다.");
+                default -> throw new IllegalArgumentException(
+                    "커서로 인코딩할 수 없는 타입입니다: " + value.getClass().getName());
+            }
+        }
+        return ENCODER.encodeToString(out.toByteArray());
+    }
+
+    /**
+     * @throws InvalidCursorException 형식이 잘못되었거나 버전이 다른 커서
+     */
+    public static List<Object> decode(String cursor) {
+        if (cursor == null || cursor.isEmpty() || cursor.length() > MAX_CURSOR_LENGTH) {
+            throw new InvalidCursorException();
+        }
+
+        try {
+            ByteBuffer in = ByteBuffer.wrap(DECODER.decode(cursor));
+            if (in.get() != VERSION) {
+                throw new InvalidCursorException();
+            }
+
+            List<Object> values = new ArrayList<>(4);
+            while (in.hasRemaining()) {
+                byte type = in.get();
+                values.add(switch (type) {
+                    case TYPE_LONG -> readVarLong(in);
+                    case TYPE_INTEGER -> Math.toIntExact(readVarLong(in));
+                    case TYPE_STRING -> {
+                        // 길이는 클라이언트가 보낸 값이므로 남은 바이트 수를 넘으면 할당 전에 거절한다
+                        long length = readVarLong(in);
+                        if (length < 0 || length > in.remaining()) {
+                            throw new InvalidCursorException();
+                        }
+                        byte[] bytes = new byte[(int) length];
+                        in.get(bytes);
+                        yield new String(bytes, StandardCharsets.UTF_8);
+                    }
+                    case TYPE_LOCAL_DATE_TIME -> LocalDateTime.ofEpochSecond(
+                        readVarLong(in), Math.toIntExact(readVarLong(in)), ZoneOffset.UTC);
+                    case TYPE_INSTANT -> Instant.ofEpochSecond(readVarLong(in), readVarLong(in));
+                    default -> throw new InvalidCursorException();
+                });
+            }
+            return values;
+        } catch (IllegalArgumentException | BufferUnderflowException | ArithmeticException
+                 | DateTimeException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new InvalidCursorException();
+    }
+}
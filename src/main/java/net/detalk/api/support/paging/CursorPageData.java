@@ -2,19 +2,46 @@ package net.detalk.api.support.paging;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
+import java.util.function.Function;
 
 public class CursorPageData<T> {
 
     private final List<T> items;
     private final Long nextId;
+    private final String nextCursor;
     private final boolean hasNext;
 
     public CursorPageData(List<T> items, Long nextId, boolean hasNext) {
+        this(items, nextId, null, hasNext);
+    }
+
+    public CursorPageData(List<T> items, Long nextId, String nextCursor, boolean hasNext) {
         this.items = items;
         this.nextId = nextId;
+        this.nextCursor = nextCursor;
         this.hasNext = hasNext;
     }
 
+    /**
+     * 커서 기반 페이징 처리 (nextId 는 id 순 정렬을 쓰던 기존 클라이언트 호환용)
+     *
+     * @param fetched         DB에서 조회한 결과 (pageSize + 1개)
+     * @param pageSize        페이지당 표시할 아이템 수
+     * @param idExtractor     다음 페이지 startId 로 쓸 item id, id 순 정렬이 아니면 null 을 반환한다
+     * @param cursorExtractor 페이지 마지막 item 의 정렬 키로 만든 커서 (Keyset.cursor)
+     * @return CursorPageData 페이징 결과
+     */
+    public static <T> CursorPageData<T> of(List<T> fetched, int pageSize,
+        Function<T, Long> idExtractor, Function<T, String> cursorExtractor) {
+
+        if (fetched.size() > pageSize) {
+            T lastItem = fetched.get(pageSize - 1);
+            return new CursorPageData<>(fetched.subList(0, pageSize), idExtractor.apply(lastItem),
+                cursorExtractor.apply(lastItem), true);
+        }
+        return new CursorPageData<>(fetched, null, null, false);
+    }
+
     public List<T> getItems() {
         return items;
     }
@@ -23,6 +50,10 @@ public class CursorPageData<T> {
         return nextId;
     }
 
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
     @JsonProperty("hasNext")
     public boolean hasNext() {
         return hasNext;
@@ -0,0 +1,99 @@
+package net.detalk.api.support.paging;
+
+import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.val;
+
+import java.util.List;
+import net.detalk.api.support.error.InvalidCursorException;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.RowN;
+import org.jooq.SortField;
+import org.jooq.impl.DSL;
+
+/**
+ * jOOQ keyset(seek) 페이징 정의
+ * 정렬 키 튜플(마지막 컬럼은 유일해야 함)과 방향으로 ORDER BY 와 "커서 다음" 조건을 만든다.
+ * 조건은 row value 비교 (a, b) < (?, ?) 이므로 같은 순서의 복합 인덱스 범위 스캔 한 번으로 페이지를 읽는다.
+ * 모든 컬럼은 같은 방향으로 정렬한다. (방향이 섞이면 row value 비교로 표현할 수 없다)
+ *
+ * <pre>
+ * private static final Keyset LATEST = Keyset.descending(VISITOR_LOG.VISITED_AT, VISITOR_LOG.ID);
+ *
+ * dsl.selectFrom(VISITOR_LOG)
+ *     .where(LATEST.after(cursor))
+ *     .orderBy(LATEST.orderBy())
+ *     .limit(pageSize + 1)
+ * </pre>
+ */
+public final class Keyset {
+
+    private final List<Field<?>> fields;
+    private final boolean descending;
+    private final List<SortField<?>> orderBy;
+
+    private Keyset(List<Field<?>> fields, boolean descending) {
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("정렬 키가 없습니다.");
+        }
+        this.fields = fields;
+        this.descending = descending;
+        this.orderBy = fields.stream()
+            .<SortField<?>>map(field -> descending ? field.desc() : field.asc())
+            .toList();
+    }
+
+    public static Keyset descending(Field<?>... fields) {
+        return new Keyset(List.of(fields), true);
+    }
+
+    public static Keyset ascending(Field<?>... fields) {
+        return new Keyset(List.of(fields), false);
+    }
+
+    public List<SortField<?>> orderBy() {
+        return orderBy;
+    }
+
+    /**
+     * @param cursor 이전 페이지의 nextCursor, null 이면 첫 페이지 (조건 없음)
+     * @throws InvalidCursorException 다른 정렬 키로 만든 커서이거나 형식이 잘못된 커서
+     */
+    public Condition after(String cursor) {
+        if (cursor == null) {
+            return DSL.noCondition();
+        }
+
+        List<Object> values = CursorCodec.decode(cursor);
+        if (values.size() != fields.size()) {
+            throw new InvalidCursorException();
+        }
+
+        Field<?>[] bounds = new Field<?>[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            bounds[i] = bind(fields.get(i), values.get(i));
+        }
+
+        RowN key = row(fields);
+        RowN bound = row(bounds);
+        return descending ? key.lt(bound) : key.gt(bound);
+    }
+
+    /**
+     * @param values 페이지 마지막 항목의 정렬 키 값 (정렬 키와 같은 순서)
+     */
+    public String cursor(Object... values) {
+        if (values.length != fields.size()) {
+            throw new IllegalArgumentException(
+                "정렬 키 수와 커서 값 수가 다릅니다. keys=" + fields.size() + ", values=" + values.length);
+        }
+        return CursorCodec.encode(values);
+    }
+
+    private static <T> Field<T> bind(Field<T> field, Object value) {
+        if (!field.getType().isInstance(value)) {
+            throw new InvalidCursorException();
+        }
+        return val(field.getType().cast(value), field);
+    }
+}
@@ -0,0 +1,36 @@
+package net.detalk.api.support.paging;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset 페이징 응답
+ * @param items 페이지 항목
+ * @param nextCursor 다음 페이지 요청에 그대로 넘길 불투명 커서 (마지막 페이지면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ * @param totalElements 전체 개수, TotalCountMode 에 따라 추정값이거나 null
+ */
+public record KeysetPageData<T>(
+    List<T> items,
+    String nextCursor,
+    boolean hasNext,
+    Long totalElements
+) {
+
+    /**
+     * @param fetched         DB에서 조회한 결과 (pageSize + 1개)
+     * @param pageSize        페이지당 표시할 아이템 수
+     * @param cursorExtractor 항목의 정렬 키로 커서 생성 (Keyset.cursor)
+     * @param totalElements   전체 개수, 없으면 null
+     */
+    public static <T> KeysetPageData<T> of(List<T> fetched, int pageSize,
+        Function<T, String> cursorExtractor, Long totalElements) {
+
+        if (fetched.size() > pageSize) {
+            List<T> items = fetched.subList(0, pageSize);
+            return new KeysetPageData<>(items, cursorExtractor.apply(items.get(pageSize - 1)), true,
+                totalElements);
+        }
+        return new KeysetPageData<>(fetched, null, false, totalElements);
+    }
+}
@@ -0,0 +1,114 @@
+package net.detalk.api.support.paging;
+
+import static org.jooq.impl.DSL.inline;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import net.detalk.api.support.config.AppProperties;
+import org.jooq.DSLContext;
+import org.jooq.Table;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 페이징 응답의 전체 개수(totalElements) 계산
+ * 깊은 페이지에서도 비용이 일정하도록 매 요청 count(*) 대신 통계 추정값 또는 캐시한 count 를 사용한다. (TotalCountMode 참고)
+ */
+@Slf4j
+@Component
+public class TotalCountEstimator {
+
+    private final DSLContext dsl;
+    private final TaskScheduler taskScheduler;
+    private final Duration cacheTtl;
+
+    // 캐시 키 -> 마지막 count 결과
+    private final Map<String, CachedCount> cachedCounts = new ConcurrentHashMap<>();
+
+    public TotalCountEstimator(
+        DSLContext dsl,
+        @Qualifier("pagingCountRefreshScheduler") TaskScheduler taskScheduler,
+        AppProperties appProperties
+    ) {
+        this.dsl = dsl;
+        this.taskScheduler = taskScheduler;
+        this.cacheTtl = Duration.ofSeconds(appProperties.getPagingCountCacheSeconds());
+    }
+
+    /**
+     * @param table 조건 없이 전체 개수를 셀 테이블
+     * @param counter CACHED 모드에서 사용할 count 쿼리 (예: () -> dsl.fetchCount(table))
+     * @return NONE 이면 null
+     */
+    public Long count(TotalCountMode mode, Table<?> table, LongSupplier counter) {
+        return switch (mode) {
+            case NONE -> null;
+            case ESTIMATED -> estimate(table);
+            case CACHED -> cached(table.getName(), counter);
+        };
+    }
+
+    /**
+     * pg_class.reltuples 기반 추정 row 수, 파티션 테이블은 하위 파티션 합계
+     * 한 번도 ANALYZE 되지 않아 통계가 없으면(-1) 0 을 반환한다.
+     */
+    public long estimate(Table<?> table) {
+        Long estimated = dsl.resultQuery("""
+                SELECT COALESCE(SUM(GREATEST(c.reltuples, 0)), 0)::bigint
+                  FROM pg_class c
+                 WHERE c.oid = to_regclass({0})
+                    OR c.oid IN (SELECT inhrelid FROM pg_inherits WHERE inhparent = to_regclass({0}))
+                """, inline(table.getName()))
+            .fetchOne(0, Long.class);
+        return estimated != null ? estimated : 0L;
+    }
+
+    /**
+     * 캐시한 count 반환, TTL 이 지났으면 이전 값을 그대로 반환하고 백그라운드에서 다시 계산한다
+     * 처음 요청한 키는 호출한 스레드에서 바로 계산한다.
+     */
+    public long cached(String key, LongSupplier counter) {
+        CachedCount cached = cachedCounts.get(key);
+        if (cached == null) {
+            long count = counter.getAsLong();
+            cachedCounts.put(key, new CachedCount(count, Instant.now()));
+            return count;
+        }
+
+        if (cached.isStale(cacheTtl) && cached.refreshing.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> refresh(key, counter, cached), Instant.now());
+        }
+        return cached.count;
+    }
+
+    private void refresh(String key, LongSupplier counter, CachedCount previous) {
+        try {
+            cachedCounts.put(key, new CachedCount(counter.getAsLong(), Instant.now()));
+        } catch (RuntimeException e) {
+            log.warn("[refresh] 전체 개수 갱신 실패, 이전 값을 유지합니다. key={}", key, e);
+            previous.refreshing.set(false);
+        }
+    }
+
+    private static final class CachedCount {
+
+        private final long count;
+        private final Instant countedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private CachedCount(long count, Instant countedAt) {
+            this.count = count;
+            this.countedAt = countedAt;
+        }
+
+        private boolean isStale(Duration ttl) {
+            return countedAt.plus(ttl).isBefore(Instant.now());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package net.detalk.api.support.paging;
+
+/**
+ * 페이징 응답의 전체 개수 계산 방식
+ */
+public enum TotalCountMode {
+
+    /**
+     * 계산하지 않음 (totalElements = null)
+     */
+    NONE,
+
+    /**
+     * pg_class.reltuples 통계 추정값 (조건 없는 테이블 전체 개수에만 사용, ANALYZE 시점 기준)
+     */
+    ESTIMATED,
+
+    /**
+     * count(*) 결과를 pagingCountCacheSeconds 동안 캐시하고, 지나면 이전 값을 반환하면서 백그라운드에서 다시 계산
+     */
+    CACHED
+}
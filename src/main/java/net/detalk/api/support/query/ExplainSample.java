@@ -0,0 +1,17 @@
+package net.detalk.api.support.query;
+
+import java.time.Instant;
+
+/**
+ * 평소(p99)보다 느렸던 실행의 실행 계획
+ *
+ * @param elapsedMicros 해당 실행 소요 시간
+ * @param plan          EXPLAIN 결과 (bind 값을 채운 SQL 기준, 실행하지 않은 예상 계획)
+ */
+public record ExplainSample(
+    long elapsedMicros,
+    String plan,
+    Instant capturedAt
+) {
+
+}
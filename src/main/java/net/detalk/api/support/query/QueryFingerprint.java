@@ -0,0 +1,38 @@
+package net.detalk.api.support.query;
+
+import java.util.regex.Pattern;
+
+/**
+ * 실행 SQL 을 같은 모양의 쿼리끼리 묶는 지문(fingerprint)으로 정규화
+ * jOOQ 가 렌더링한 SQL(bind 값은 ? 로 표시)에서 남은 리터럴과 길이가 바뀌는 IN 목록, 다중 VALUES 를 접는다.
+ * <pre>
+ * select ... where id in (?, ?, ?) limit 21  ->  select ... where id in (?, ...) limit ?
+ * insert ... values (?, ?), (?, ?)           ->  insert ... values (?, ...), ...
+ * </pre>
+ */
+public final class QueryFingerprint {
+
+    private static final int MAX_LENGTH = 2000;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.\"])-?\\d+(?:\\.\\d+)?(?![\\w\"])");
+    private static final Pattern MARKER_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+    private static final Pattern REPEATED_ROWS = Pattern.compile("(\\([^()]*\\))(?:\\s*,\\s*\\1)+");
+
+    private QueryFingerprint() {
+    }
+
+    public static String of(String sql) {
+        String normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = MARKER_LIST.matcher(normalized).replaceAll("?, ...");
+        normalized = REPEATED_ROWS.matcher(normalized).replaceAll("$1, ...");
+
+        if (normalized.length() > MAX_LENGTH) {
+            return normalized.substring(0, MAX_LENGTH);
+        }
+        return normalized;
+    }
+}
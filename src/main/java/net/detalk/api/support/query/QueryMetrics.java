@@ -0,0 +1,20 @@
+package net.detalk.api.support.query;
+
+import net.detalk.api.support.util.LongHistogram;
+
+/**
+ * 쿼리 지문별 실행 통계 (QueryMetricsRegistry 의 마지막 초기화 이후 누적)
+ *
+ * @param latencyMicros 실행 시간 분포 (JDBC 실행부터 결과 fetch 까지, 마이크로초)
+ * @param rows          조회/변경 row 수 분포
+ * @param lastExplain   가장 최근 느린 실행의 실행 계획, 없으면 null
+ */
+public record QueryMetrics(
+    String fingerprint,
+    long errorCount,
+    LongHistogram.Snapshot latencyMicros,
+    LongHistogram.Snapshot rows,
+    ExplainSample lastExplain
+) {
+
+}
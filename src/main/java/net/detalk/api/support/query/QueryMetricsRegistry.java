@@ -0,0 +1,149 @@
+package net.detalk.api.support.query;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import net.detalk.api.support.config.AppProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * jOOQ 로 실행한 쿼리의 지문(QueryFingerprint)별 실행 시간/row 수 분포 저장소
+ * PerformanceListener 가 모든 실행을 기록하고, 관리자 API 로 p50/p90/p99 를 조회한다.
+ * 지문 수는 queryMetricsMaximumFingerprints 로 제한하며 넘치는 지문은 "(other)" 한 곳에 모은다.
+ * 평소(p99)보다 느린 SELECT 는 지문마다 queryExplainIntervalSeconds 에 한 번 EXPLAIN 을 별도 스레드에서 수집한다.
+ */
+@Slf4j
+@Component
+public class QueryMetricsRegistry {
+
+    static final String OTHER_FINGERPRINT = "(other)";
+
+    // outlier 판단에 필요한 최소 실행 수 (적으면 p99 가 의미 없음)
+    private static final long OUTLIER_MIN_SAMPLES = 100L;
+    private static final int EXPLAIN_TIMEOUT_SECONDS = 5;
+
+    private final DataSource dataSource;
+    private final TaskScheduler taskScheduler;
+    private final int maximumFingerprints;
+    private final long outlierMinMicros;
+    private final long explainIntervalMillis;
+
+    // 렌더링된 SQL -> 지문 (같은 SQL 의 정규식 정규화를 반복하지 않도록)
+    private final Cache<String, String> fingerprints;
+    private final ConcurrentMap<String, QueryStats> stats = new ConcurrentHashMap<>();
+    private volatile Instant since = Instant.now();
+
+    public QueryMetricsRegistry(
+        DataSource dataSource,
+        @Qualifier("queryExplainScheduler") TaskScheduler taskScheduler,
+        AppProperties appProperties
+    ) {
+        this.dataSource = dataSource;
+        this.taskScheduler = taskScheduler;
+        this.maximumFingerprints = appProperties.getQueryMetricsMaximumFingerprints();
+        this.outlierMinMicros = Duration.ofMillis(appProperties.getQueryOutlierMinMillis()).toNanos() / 1000;
+        this.explainIntervalMillis = Duration.ofSeconds(appProperties.getQueryExplainIntervalSeconds()).toMillis();
+        this.fingerprints = Caffeine.newBuilder()
+            .maximumSize(maximumFingerprints * 10L)
+            .build();
+    }
+
+    /**
+     * @param sql           bind 값을 ? 로 렌더링한 SQL
+     * @param rows          조회/변경 row 수, 알 수 없으면 -1
+     * @return 기록한 지문 통계 (outlier 판단용)
+     */
+    public QueryStats record(String sql, long elapsedMicros, long rows, boolean failed) {
+        String fingerprint = fingerprintOf(sql);
+        QueryStats queryStats = stats.get(fingerprint);
+        if (queryStats == null) {
+            String key = stats.size() < maximumFingerprints ? fingerprint : OTHER_FINGERPRINT;
+            queryStats = stats.computeIfAbsent(key, QueryStats::new);
+        }
+        queryStats.record(elapsedMicros, rows, failed);
+        return queryStats;
+    }
+
+    /**
+     * @param sql bind 값을 ? 로 렌더링한 SQL
+     */
+    public String fingerprintOf(String sql) {
+        return fingerprints.get(sql, QueryFingerprint::of);
+    }
+
+    /**
+     * 이번 실행의 실행 계획을 수집해야 하는지 판단, true 를 반환하면 해당 지문의 수집 권한을 가져간다
+     */
+    public boolean shouldExplain(QueryStats queryStats, long elapsedMicros) {
+        return elapsedMicros >= outlierMinMicros
+            && !OTHER_FINGERPRINT.equals(queryStats.getFingerprint())
+            && queryStats.isOutlier(elapsedMicros, OUTLIER_MIN_SAMPLES)
+            && queryStats.tryClaimExplain(System.currentTimeMillis(), explainIntervalMillis);
+    }
+
+    /**
+     * EXPLAIN 은 요청 스레드/트랜잭션 밖에서 별도 커넥션으로 실행한다
+     * ANALYZE 는 쿼리를 다시 실행하므로 사용하지 않는다
+     * @param inlinedSql bind 값을 채운 SELECT 문
+     */
+    public void explain(QueryStats queryStats, String inlinedSql, long elapsedMicros) {
+        taskScheduler.schedule(() -> {
+            try {
+                queryStats.explained(elapsedMicros, fetchPlan(inlinedSql));
+            } catch (SQLException | RuntimeException e) {
+                log.warn("[explain] 실행 계획 수집 실패 fingerprint={}", queryStats.getFingerprint(), e);
+            }
+        }, Instant.now());
+    }
+
+    /**
+     * @return 정렬 기준으로 상위 limit 개 지문 통계
+     */
+    public List<QueryMetrics> getMetrics(QueryMetricsSort sort, int limit) {
+        return stats.values().stream()
+            .map(QueryStats::toMetrics)
+            .sorted(sort.comparator())
+            .limit(limit)
+            .toList();
+    }
+
+    /**
+     * 누적 통계를 비우고 새로 집계 (배포 전후 비교 등)
+     */
+    public void reset() {
+        stats.clear();
+        since = Instant.now();
+        log.info("[reset] 쿼리 통계 초기화");
+    }
+
+    public Instant getSince() {
+        return since;
+    }
+
+    private String fetchPlan(String inlinedSql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(EXPLAIN_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery("EXPLAIN " + inlinedSql)) {
+                StringJoiner plan = new StringJoiner("\n");
+                while (resultSet.next()) {
+                    plan.add(resultSet.getString(1));
+                }
+                return plan.toString();
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package net.detalk.api.support.query;
+
+import java.util.Comparator;
+
+/**
+ * 쿼리 통계 조회 정렬 기준 (모두 내림차순)
+ */
+public enum QueryMetricsSort {
+
+    TOTAL_TIME(Comparator.comparingLong(metrics -> metrics.latencyMicros().sum())),
+    P99(Comparator.comparingLong(metrics -> metrics.latencyMicros().p99())),
+    COUNT(Comparator.comparingLong(metrics -> metrics.latencyMicros().count()));
+
+    private final Comparator<QueryMetrics> comparator;
+
+    QueryMetricsSort(Comparator<QueryMetrics> comparator) {
+        this.comparator = comparator.reversed();
+    }
+
+    public Comparator<QueryMetrics> comparator() {
+        return comparator;
+    }
+}
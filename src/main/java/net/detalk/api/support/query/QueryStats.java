@@ -0,0 +1,67 @@
+package net.detalk.api.support.query;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import net.detalk.api.support.util.LongHistogram;
+
+/**
+ * 쿼리 지문 하나의 누적 통계, 모든 기록은 잠금 없이 처리한다
+ */
+public final class QueryStats {
+
+    // 1시간, 10억 row 이상은 최대값으로 기록
+    private static final long HIGHEST_LATENCY_MICROS = 3_600_000_000L;
+    private static final long HIGHEST_ROWS = 1_000_000_000L;
+
+    private final String fingerprint;
+    private final LongHistogram latencyMicros = new LongHistogram(HIGHEST_LATENCY_MICROS);
+    private final LongHistogram rows = new LongHistogram(HIGHEST_ROWS);
+    private final LongAdder errorCount = new LongAdder();
+    private final AtomicLong lastExplainAtMillis = new AtomicLong();
+    private volatile ExplainSample lastExplain;
+
+    QueryStats(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    void record(long elapsedMicros, long rowCount, boolean failed) {
+        latencyMicros.record(elapsedMicros);
+        if (rowCount >= 0) {
+            rows.record(rowCount);
+        }
+        if (failed) {
+            errorCount.increment();
+        }
+    }
+
+    /**
+     * 표본 수가 충분하고 이번 실행이 p99 보다 느리면 outlier
+     */
+    boolean isOutlier(long elapsedMicros, long minSamples) {
+        return latencyMicros.getTotalCount() >= minSamples
+            && elapsedMicros > latencyMicros.valueAtPercentile(99);
+    }
+
+    /**
+     * 지문마다 intervalMillis 에 한 번만 실행 계획을 수집하도록 수집 권한을 얻는다
+     */
+    boolean tryClaimExplain(long nowMillis, long intervalMillis) {
+        long last = lastExplainAtMillis.get();
+        return nowMillis - last >= intervalMillis
+            && lastExplainAtMillis.compareAndSet(last, nowMillis);
+    }
+
+    void explained(long elapsedMicros, String plan) {
+        lastExplain = new ExplainSample(elapsedMicros, plan, Instant.now());
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    QueryMetrics toMetrics() {
+        return new QueryMetrics(fingerprint, errorCount.sum(), latencyMicros.snapshot(),
+            rows.snapshot(), lastExplain);
+    }
+}
@@ -0,0 +1,43 @@
+package net.detalk.api.support.query;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 스레드에서 실행한 쿼리 누적 (RequestQueryTracker.begin 으로 열고 close 로 닫는다)
+ * 한 스레드에서만 기록하므로 동기화하지 않는다. 다른 스레드(@Async, 스케줄러)에서 실행한 쿼리는 포함되지 않는다.
+ */
+public final class RequestQueryScope implements AutoCloseable {
+
+    private final RequestQueryTracker tracker;
+    private final RequestQueryScope parent;
+    private final String correlationId;
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+    private int queryCount;
+    private long dbTimeMicros;
+
+    RequestQueryScope(RequestQueryTracker tracker, RequestQueryScope parent, String correlationId) {
+        this.tracker = tracker;
+        this.parent = parent;
+        this.correlationId = correlationId;
+    }
+
+    void record(String fingerprint, long elapsedMicros) {
+        queryCount++;
+        dbTimeMicros += elapsedMicros;
+        statementCounts.merge(fingerprint, 1, Integer::sum);
+    }
+
+    RequestQueryScope parent() {
+        return parent;
+    }
+
+    public RequestQueryStats stats() {
+        return new RequestQueryStats(correlationId, queryCount, dbTimeMicros, Map.copyOf(statementCounts));
+    }
+
+    @Override
+    public void close() {
+        tracker.close(this);
+    }
+}
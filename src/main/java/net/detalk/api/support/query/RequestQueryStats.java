@@ -0,0 +1,39 @@
+package net.detalk.api.support.query;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 하나에서 실행한 쿼리 통계
+ *
+ * @param correlationId   MDCFilter 가 MDC 에 넣은 요청 식별자
+ * @param queryCount      DB 왕복 횟수
+ * @param dbTimeMicros    쿼리 실행 시간 합계
+ * @param statementCounts 쿼리 지문 -> 실행 횟수
+ */
+public record RequestQueryStats(
+    String correlationId,
+    int queryCount,
+    long dbTimeMicros,
+    Map<String, Integer> statementCounts
+) {
+
+    /**
+     * @return minCount 번 이상 반복한 쿼리 지문 (N+1 의심)
+     */
+    public Map<String, Integer> repeatedStatements(int minCount) {
+        return statementCounts.entrySet().stream()
+            .filter(entry -> entry.getValue() >= minCount)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * @return 가장 많이 반복한 쿼리 지문의 실행 횟수
+     */
+    public int maxStatementCount() {
+        return statementCounts.values().stream()
+            .mapToInt(Integer::intValue)
+            .max()
+            .orElse(0);
+    }
+}
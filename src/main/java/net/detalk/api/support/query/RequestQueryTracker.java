@@ -0,0 +1,87 @@
+package net.detalk.api.support.query;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import net.detalk.api.support.config.AppProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 단위 쿼리 수/DB 시간 집계와 왕복 예산(budget) 검사
+ * MDCFilter 가 요청마다 범위를 열고(begin), PerformanceListener 가 같은 스레드에서 실행한 쿼리를 기록한다.
+ * 요청이 끝나면 예산(queryBudgetPerRequest, 엔드포인트별 queryBudgets)을 넘었거나
+ * 같은 쿼리를 queryRepeatedStatementThreshold 번 이상 반복(N+1 의심)한 경우 구조화된 경고 로그를 남긴다.
+ */
+@Slf4j
+@Component
+public class RequestQueryTracker {
+
+    private final ThreadLocal<RequestQueryScope> current = new ThreadLocal<>();
+    private final int defaultBudget;
+    private final Map<String, Integer> budgets;
+    private final int repeatedStatementThreshold;
+
+    public RequestQueryTracker(AppProperties appProperties) {
+        this.defaultBudget = appProperties.getQueryBudgetPerRequest();
+        this.budgets = Map.copyOf(appProperties.getQueryBudgets());
+        this.repeatedStatementThreshold = appProperties.getQueryRepeatedStatementThreshold();
+    }
+
+    /**
+     * 현재 스레드에 쿼리 집계 범위를 연다, 이미 열린 범위 안에서 열면 바깥 범위에도 함께 집계된다
+     */
+    public RequestQueryScope begin(String correlationId) {
+        RequestQueryScope scope = new RequestQueryScope(this, current.get(), correlationId);
+        current.set(scope);
+        return scope;
+    }
+
+    /**
+     * 열린 범위가 없으면(스케줄러, 애플리케이션 시작 등) 기록하지 않는다
+     */
+    public void record(String fingerprint, long elapsedMicros) {
+        for (RequestQueryScope scope = current.get(); scope != null; scope = scope.parent()) {
+            scope.record(fingerprint, elapsedMicros);
+        }
+    }
+
+    /**
+     * @param endpoint 예산 조회 키 ("METHOD /path/{pattern}")
+     * @return 예산을 넘었거나 반복 쿼리가 있으면 true
+     */
+    public boolean checkBudget(String endpoint, RequestQueryStats stats) {
+        int budget = budgetOf(endpoint);
+        Map<String, Integer> repeated = stats.repeatedStatements(repeatedStatementThreshold);
+        if (stats.queryCount() <= budget && repeated.isEmpty()) {
+            return false;
+        }
+
+        log.warn("[checkBudget] 요청 쿼리 예산 초과 또는 반복 쿼리 감지 {} {} {} {} {} {}",
+            kv("correlationId", stats.correlationId()),
+            kv("endpoint", endpoint),
+            kv("queryCount", stats.queryCount()),
+            kv("queryBudget", budget),
+            kv("dbTimeMillis", stats.dbTimeMicros() / 1000),
+            kv("repeatedStatements", repeated));
+        return true;
+    }
+
+    public int budgetOf(String endpoint) {
+        return budgets.getOrDefault(endpoint, defaultBudget);
+    }
+
+    void close(RequestQueryScope scope) {
+        if (current.get() != scope) {
+            log.warn("[close] 가장 안쪽 범위가 아닌 쿼리 집계 범위를 닫습니다. correlationId={}",
+                scope.stats().correlationId());
+        }
+
+        RequestQueryScope parent = scope.parent();
+        if (parent == null) {
+            current.remove();
+        } else {
+            current.set(parent);
+        }
+    }
+}
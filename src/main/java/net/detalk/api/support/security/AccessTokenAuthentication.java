@@ -0,0 +1,56 @@
+package net.detalk.api.support.security;
+
+import java.util.Collection;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * 액세스 토큰으로 인증된 요청의 Authentication
+ * UsernamePasswordAuthenticationToken 은 생성 시 권한 목록을 복사하므로,
+ * 공유 권한 목록({@link SecurityAuthorities})을 그대로 노출하는 불변 구현을 사용한다.
+ */
+public final class AccessTokenAuthentication implements Authentication {
+
+    private final SecurityUser principal;
+
+    public AccessTokenAuthentication(SecurityUser principal) {
+        this.principal = principal;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return principal.getAuthorities();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null; // 비밀번호 없음
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public SecurityUser getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        if (!isAuthenticated) {
+            throw new IllegalArgumentException("검증된 토큰의 인증 상태는 변경할 수 없습니다.");
+        }
+    }
+
+    @Override
+    public String getName() {
+        return String.valueOf(principal.getId());
+    }
+}
@@ -1,14 +1,14 @@
 package net.detalk.api.support.security;
 
-import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import net.detalk.api.auth.domain.exception.AccessDeniedException;
 import net.detalk.api.auth.domain.exception.SessionUserNotFoundException;
 import org.springframework.core.MethodParameter;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
@@ -23,12 +23,16 @@ import org.springframework.web.method.support.ModelAndViewContainer;
  * 해당 메서드에 {@link SecurityUser} 객체를 주입하는 역할을 한다.
  * 인증된 사용자가 요청된 역할을 가지고 있는지 확인하고,
  * 필요한 경우 해당 {@link SecurityUser}를 반환한다.
+ * 역할 검사는 파라미터별로 미리 계산한 비트마스크와 {@link SecurityUser#getRoleMask()} 의 AND 로 수행한다.
  * </p>
  */
 @Slf4j
 @Component
 public class HasRoleArgumentResolver implements HandlerMethodArgumentResolver {
 
+    // 파라미터 -> @HasRole 이 요구하는 역할 비트마스크 (핸들러 메서드 수만큼만 생성된다)
+    private final Map<MethodParameter, Integer> requiredRoleMasks = new ConcurrentHashMap<>();
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         // @HasRole 어노테이션 + SecurityUser 타입 파라미터인지 확인하여 동작
@@ -57,16 +61,9 @@ public class HasRoleArgumentResolver implements HandlerMethodArgumentResolver {
             throw new SessionUserNotFoundException();
         }
 
-        // 컨트롤러 @HasRole 어노테이션이 요구하는 ROLE 가져오기
-        HasRole hasRoleAnnotation = parameter.getParameterAnnotation(HasRole.class);
-        assert hasRoleAnnotation != null;
-        SecurityRole[] requiredRoles = hasRoleAnnotation.value();
-
-        boolean hasAnyRole = Arrays.stream(requiredRoles)
-            .map(SecurityRole::getName)
-            .anyMatch(role -> hasRole(securityUser, role));
+        // 사용자가 필요한 역할을 하나라도 가지고 있는지 비트마스크로 확인
+        boolean hasAnyRole = securityUser.hasAnyRole(requiredRoleMask(parameter));
 
-        // 사용자가 필요한 역할을 가지고 있는지 확인
         if (hasAnyRole) {
             return securityUser;
         }
@@ -76,9 +73,17 @@ public class HasRoleArgumentResolver implements HandlerMethodArgumentResolver {
         throw new AccessDeniedException();
     }
 
-    private boolean hasRole(SecurityUser securityUser, String requiredRole) {
-        return securityUser.getAuthorities().stream()
-            .map(GrantedAuthority::getAuthority)
-            .anyMatch(role -> role.equals(requiredRole));
+    // 컨트롤러 @HasRole 어노테이션이 요구하는 ROLE 비트마스크
+    private int requiredRoleMask(MethodParameter parameter) {
+        Integer cached = requiredRoleMasks.get(parameter);
+        if (cached != null) {
+            return cached;
+        }
+
+        HasRole hasRoleAnnotation = parameter.getParameterAnnotation(HasRole.class);
+        assert hasRoleAnnotation != null;
+        int mask = SecurityRole.maskOf(hasRoleAnnotation.value());
+        requiredRoleMasks.put(parameter, mask);
+        return mask;
     }
 }
@@ -0,0 +1,74 @@
+package net.detalk.api.support.security;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 불변 권한 목록 + 역할 비트마스크
+ * 역할 조합은 몇 가지뿐이므로 토큰의 권한 문자열 목록별로 하나만 만들어 모든 요청이 공유한다.
+ * 역할 검사는 {@link SecurityRole#getMask()} 비트 AND 로 수행한다.
+ */
+public final class SecurityAuthorities {
+
+    // 검증된 토큰의 권한 조합만 들어오지만, 비정상적으로 늘어나는 경우를 대비한 상한
+    private static final int MAX_INTERNED = 64;
+
+    private static final Map<List<String>, SecurityAuthorities> INTERNED = new ConcurrentHashMap<>();
+
+    private final List<GrantedAuthority> authorities;
+    private final int roleMask;
+
+    private SecurityAuthorities(List<GrantedAuthority> authorities) {
+        this.authorities = authorities;
+        int mask = 0;
+        for (GrantedAuthority authority : authorities) {
+            mask |= SecurityRole.maskOf(authority.getAuthority());
+        }
+        this.roleMask = mask;
+    }
+
+    /**
+     * 권한 문자열 목록(ROLE_MEMBER 등)에 해당하는 공유 인스턴스
+     */
+    public static SecurityAuthorities of(List<String> authorityNames) {
+        SecurityAuthorities interned = INTERNED.get(authorityNames);
+        if (interned != null) {
+            return interned;
+        }
+
+        List<String> key = List.copyOf(authorityNames);
+        SecurityAuthorities created = new SecurityAuthorities(
+            key.stream().<GrantedAuthority>map(SimpleGrantedAuthority::new).toList());
+        if (INTERNED.size() >= MAX_INTERNED) {
+            return created;
+        }
+        SecurityAuthorities previous = INTERNED.putIfAbsent(key, created);
+        return previous != null ? previous : created;
+    }
+
+    /**
+     * 이미 만들어진 권한 목록(OAuth2 로그인 등)으로 생성, 공유하지 않는다
+     */
+    public static SecurityAuthorities from(Collection<? extends GrantedAuthority> authorities) {
+        return new SecurityAuthorities(List.copyOf(authorities));
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    public int getRoleMask() {
+        return roleMask;
+    }
+
+    /**
+     * @param requiredMask {@link SecurityRole#maskOf(SecurityRole...)} 로 만든 비트마스크
+     */
+    public boolean hasAnyRole(int requiredMask) {
+        return (roleMask & requiredMask) != 0;
+    }
+}
@@ -12,10 +12,18 @@ public enum SecurityRole {
     MEMBER("ROLE_MEMBER"),
     ADMIN("ROLE_ADMIN");
 
+    private static final SecurityRole[] VALUES = values();
+
     private final String name;
 
+    /**
+     * 역할 검사용 비트 (1 << ordinal)
+     */
+    private final int mask;
+
     SecurityRole(String name) {
         this.name = name;
+        this.mask = 1 << ordinal();
     }
 
     public String getDescription() {
@@ -24,4 +32,24 @@ public enum SecurityRole {
             case ADMIN -> "관리자";
         };
     }
+
+    /**
+     * 권한 문자열(ROLE_MEMBER 등)에 해당하는 비트, 알 수 없는 권한이면 0
+     */
+    public static int maskOf(String authority) {
+        for (SecurityRole role : VALUES) {
+            if (role.name.equals(authority)) {
+                return role.mask;
+            }
+        }
+        return 0;
+    }
+
+    public static int maskOf(SecurityRole... roles) {
+        int mask = 0;
+        for (SecurityRole role : roles) {
+            mask |= role.mask;
+        }
+        return mask;
+    }
 }
@@ -10,18 +10,35 @@ public class SecurityUser implements UserDetails {
     private final String username;
     private final String password;
     private final Collection<? extends GrantedAuthority> authorities;
+    private final int roleMask;
 
     public SecurityUser(Long id, Collection<? extends GrantedAuthority> authorities) {
+        this(id, SecurityAuthorities.from(authorities));
+    }
+
+    public SecurityUser(Long id, SecurityAuthorities authorities) {
         this.id = id;
         this.username = null;
         this.password = null;
-        this.authorities = authorities;
+        this.authorities = authorities.getAuthorities();
+        this.roleMask = authorities.getRoleMask();
     }
 
     public Long getId() {
         return id;
     }
 
+    /**
+     * 보유 역할 비트마스크, {@link SecurityRole#getMask()} 참고
+     */
+    public int getRoleMask() {
+        return roleMask;
+    }
+
+    public boolean hasAnyRole(int requiredMask) {
+        return (roleMask & requiredMask) != 0;
+    }
+
     @Override
     public String getUsername() {
         return null;
@@ -1,5 +1,6 @@
 package net.detalk.api.support.security;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -10,19 +11,12 @@ import lombok.extern.slf4j.Slf4j;
 import net.detalk.api.support.error.ErrorCode;
 import net.detalk.api.support.error.ErrorMessage;
 import net.detalk.api.support.error.ExpiredTokenException;
-import net.detalk.api.support.util.CookieUtil;
 import net.detalk.api.support.util.StringUtil;
 import org.springframework.http.MediaType;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.util.List;
-import java.util.Optional;
 
 import static net.detalk.api.support.util.Constant.COOKIE_ACCESS_TOKEN;
 
@@ -31,10 +25,16 @@ import static net.detalk.api.support.util.Constant.COOKIE_ACCESS_TOKEN;
  * <p>
  * HTTP 요청 헤더에서 액세스 토큰을 추출하여 검증한 후,
  * 유효한 토큰에 대해 {@link SecurityUser} 객체를 생성하고 Spring Security 인증 컨텍스트에 저장한다.
+ * 모든 요청이 거치는 경로이므로 권한 목록은 {@link SecurityAuthorities} 공유 인스턴스를 사용하고,
+ * 에러 응답 본문은 미리 직렬화해 둔 바이트를 그대로 쓴다.
  * </p>
  */
 @Slf4j
 public class TokenFilter extends OncePerRequestFilter {
+
+    private static final byte[] TOKEN_EXPIRED_BODY = serialize(ErrorCode.TOKEN_EXPIRED);
+    private static final byte[] TOKEN_INVALID_BODY = serialize(ErrorCode.TOKEN_INVALID);
+
     private final TokenProvider tokenProvider;
 
     public TokenFilter(TokenProvider tokenProvider) {
@@ -56,53 +56,62 @@ public class TokenFilter extends OncePerRequestFilter {
         HttpServletRequest request,
         HttpServletResponse response,
         FilterChain filterChain) throws ServletException, IOException {
-        String path = request.getRequestURI();
-        String method = request.getMethod();
-        log.debug("[doFilterInternal] {} {}", path, method);
-        String accessToken = null;
-
-        Optional<Cookie> cookieOptional = CookieUtil.getCookie(COOKIE_ACCESS_TOKEN, request);
-        if (cookieOptional.isPresent()) {
-            accessToken = cookieOptional.get().getValue();
-            log.debug("[doFilterInternal] accessToken : {}", accessToken);
+        if (log.isDebugEnabled()) {
+            log.debug("[doFilterInternal] {} {}", request.getRequestURI(), request.getMethod());
         }
 
+        String accessToken = findAccessToken(request);
+
         if(StringUtil.isNotEmpty(accessToken)) {
             try {
                 AccessToken verifiedAccessToken = tokenProvider.parseAccessToken(accessToken);
 
-                List<GrantedAuthority> authorities = AuthorityUtils.createAuthorityList(verifiedAccessToken.getAuthorities());
-
-                SecurityUser principal = new SecurityUser(verifiedAccessToken.getMemberId(), authorities);
+                SecurityUser principal = new SecurityUser(
+                    verifiedAccessToken.getMemberId(),
+                    SecurityAuthorities.of(verifiedAccessToken.getAuthorities()));
 
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    principal,
-                    null, // 비밀번호 없음
-                    authorities
-                );
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                SecurityContextHolder.getContext().setAuthentication(new AccessTokenAuthentication(principal));
                 log.debug("[doFilterInternal] SecurityContext에 authentication 설정 완료");
             } catch (ExpiredTokenException e) {
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-                response.setCharacterEncoding("UTF-8");
-                PrintWriter writer = response.getWriter();
-                writer.write(new ObjectMapper().writeValueAsString(new ErrorMessage(ErrorCode.TOKEN_EXPIRED)));
-                response.getWriter().flush();
+                writeError(response, TOKEN_EXPIRED_BODY);
                 return;
             } catch (Exception e) {
                 log.error("[doFilterInternal] unknown : {}", e.getMessage());
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-                response.setCharacterEncoding("UTF-8");
-                PrintWriter writer = response.getWriter();
-                writer.write(new ObjectMapper().writeValueAsString(new ErrorMessage(ErrorCode.TOKEN_INVALID)));
-                response.getWriter().flush();
+                writeError(response, TOKEN_INVALID_BODY);
                 return;
             }
         }
 
         filterChain.doFilter(request, response);
     }
+
+    // CookieUtil.getCookie 의 Stream/Optional 없이 쿠키 배열을 직접 탐색
+    private static String findAccessToken(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_ACCESS_TOKEN.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static void writeError(HttpServletResponse response, byte[] body) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        response.flushBuffer();
+    }
+
+    private static byte[] serialize(ErrorCode errorCode) {
+        try {
+            return new ObjectMapper().writeValueAsBytes(new ErrorMessage(errorCode));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에러 응답 직렬화 실패 : " + errorCode, e);
+        }
+    }
 }
@@ -1,7 +1,12 @@
 package net.detalk.api.support.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -12,22 +17,44 @@ import net.detalk.api.support.error.TokenException;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 @Slf4j
 @Component
 public class TokenProvider {
     private static final String KEY_CLAIMS_ID = "id";
     private static final String KEY_CLAIMS_AUTHORITIES = "authorities";
+    private static final long VERIFIED_ACCESS_TOKEN_MAXIMUM_SIZE = 10_000;
     private final AppProperties appProperties;
     private final SecretKey secretKey;
     private final UUIDGenerator uuidGenerator;
 
+    // 불변, 스레드 안전하므로 한 번만 생성해 재사용
+    private final JwtParser jwtParser;
+
+    // 토큰 SHA-256 digest -> 검증된 액세스 토큰, 토큰 만료 시각(expiresAt)에 제거
+    private final Cache<String, AccessToken> verifiedAccessTokens;
+    private final LongAdder verifyCount = new LongAdder();
+    private final LongAdder verifyNanos = new LongAdder();
+
     public TokenProvider(AppProperties appProperties, UUIDGenerator uuidGenerator) {
         this.appProperties = appProperties;
         this.uuidGenerator = uuidGenerator;
         byte[] keyBytes = Base64.getEncoder().encode(appProperties.getTokenSecret().getBytes());
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser()
+            .verifyWith(secretKey)
+            .build();
+        this.verifiedAccessTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_ACCESS_TOKEN_MAXIMUM_SIZE)
+            .expireAfter(new ExpiresAtExpiry())
+            .recordStats()
+            .build();
     }
 
     public AccessToken createAccessToken(Long memberId, List<String> authorities) {
@@ -92,11 +119,26 @@ public class TokenProvider {
             .compact();
     }
 
+    /**
+     * 액세스 토큰 검증 및 파싱
+     * 같은 토큰은 만료 전까지 캐시된 결과를 사용해 서명 검증, claim 역직렬화를 생략한다
+     */
     public AccessToken parseAccessToken(String token) {
+        String digest = digest(token);
+        AccessToken cached = verifiedAccessTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        AccessToken verified = verifyAccessToken(token);
+        verifiedAccessTokens.put(digest, verified);
+        return verified;
+    }
+
+    private AccessToken verifyAccessToken(String token) {
+        long startedAt = System.nanoTime();
         try {
-            Claims payload = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+            Claims payload = jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
 
@@ -113,14 +155,15 @@ public class TokenProvider {
         } catch (Exception e) {
             log.warn("[parseAccessToken] {}", e.getMessage());
             throw new TokenException("Invalid token");
+        } finally {
+            verifyCount.increment();
+            verifyNanos.add(System.nanoTime() - startedAt);
         }
     }
 
     public RefreshToken parseRefreshToken(String token) {
         try {
-            Claims payload = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+            Claims payload = jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
 
@@ -137,4 +180,53 @@ public class TokenProvider {
             throw new TokenException("Invalid token");
         }
     }
+
+    /**
+     * 검증된 액세스 토큰 캐시 적중률, 제거 수, 서명 검증 시간
+     */
+    public TokenVerificationMetrics getVerificationMetrics() {
+        CacheStats stats = verifiedAccessTokens.stats();
+        long count = verifyCount.sum();
+        return new TokenVerificationMetrics(
+            stats.hitCount(),
+            stats.missCount(),
+            stats.hitRate(),
+            stats.evictionCount(),
+            verifiedAccessTokens.estimatedSize(),
+            count,
+            count == 0 ? 0L : verifyNanos.sum() / count
+        );
+    }
+
+    // 토큰 원문 대신 고정 길이 digest 를 키로 사용
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static class ExpiresAtExpiry implements Expiry<String, AccessToken> {
+
+        @Override
+        public long expireAfterCreate(String key, AccessToken value, long currentTime) {
+            long remainingMillis = value.getExpiresAt().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, AccessToken value, long currentTime,
+            long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, AccessToken value, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
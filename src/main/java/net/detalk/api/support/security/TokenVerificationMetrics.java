@@ -0,0 +1,23 @@
+package net.detalk.api.support.security;
+
+/**
+ * 액세스 토큰 검증 지표
+ * @param cacheHitCount       검증 캐시 적중 수
+ * @param cacheMissCount      검증 캐시 미스 수
+ * @param cacheHitRate        검증 캐시 적중률
+ * @param cacheEvictionCount  만료/크기 초과로 제거된 수
+ * @param cacheSize           현재 캐시된 토큰 수 (추정치)
+ * @param verifyCount         서명 검증 수행 수
+ * @param averageVerifyNanos  서명 검증 평균 시간(ns)
+ */
+public record TokenVerificationMetrics(
+    long cacheHitCount,
+    long cacheMissCount,
+    double cacheHitRate,
+    long cacheEvictionCount,
+    long cacheSize,
+    long verifyCount,
+    long averageVerifyNanos
+) {
+
+}
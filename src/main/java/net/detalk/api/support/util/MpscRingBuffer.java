@@ -0,0 +1,108 @@
+package net.detalk.api.support.util;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 lock-free 링 버퍼 (생산자 여러 개, 소비자 하나)
+ * 슬롯마다 시퀀스 번호를 두어 생산자는 tail CAS 한 번으로 자리를 잡고, 가득 차면 기다리지 않고 false 를 반환한다.
+ * poll / drainTo 는 한 스레드에서만 호출해야 한다.
+ */
+public final class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> buffer;
+    // 슬롯 i 의 시퀀스 : 값 == 위치 이면 쓰기 가능, 위치 + 1 이면 읽기 가능
+    private final AtomicLongArray sequences;
+    private final int capacity;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * @param capacity 2의 거듭제곱으로 올림
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity 는 1 ~ 2^30 이어야 합니다. capacity=" + capacity);
+        }
+        this.capacity = roundUp(capacity);
+        this.mask = this.capacity - 1;
+        this.buffer = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return 가득 차 있으면 false
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * @return 비어 있으면 null
+     */
+    public E poll() {
+        long position = head;
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = buffer.get(index);
+        buffer.set(index, null);
+        sequences.set(index, position + capacity);
+        head = position + 1;
+        return element;
+    }
+
+    /**
+     * @return 옮긴 원소 수
+     */
+    public int drainTo(Collection<? super E> sink, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            E element = poll();
+            if (element == null) {
+                break;
+            }
+            sink.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private static int roundUp(int value) {
+        int highest = Integer.highestOneBit(value);
+        return highest == value ? value : highest << 1;
+    }
+}
@@ -0,0 +1,48 @@
+package net.detalk.api.support.util;
+
+/**
+ * 토큰 버킷 전송 속도 제한
+ * 최대 capacity 개까지 한 번에 보낼 수 있고, 이후에는 분당 refillPerMinute 개씩 다시 채워진다.
+ * 현재 시각은 호출하는 쪽이 넘긴다 (테스트에서 시간을 고정할 수 있도록)
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final double refillPerMillis;
+
+    private double tokens;
+    private long lastRefillMillis;
+
+    public TokenBucket(long capacity, long refillPerMinute, long nowMillis) {
+        if (capacity <= 0 || refillPerMinute < 0) {
+            throw new IllegalArgumentException(
+                "capacity 는 1 이상, refillPerMinute 는 0 이상이어야 합니다. capacity=" + capacity
+                    + ", refillPerMinute=" + refillPerMinute);
+        }
+        this.capacity = capacity;
+        this.refillPerMillis = refillPerMinute / 60_000.0;
+        this.tokens = capacity;
+        this.lastRefillMillis = nowMillis;
+    }
+
+    /**
+     * @return 토큰이 남아 있어 하나를 사용했으면 true
+     */
+    public synchronized boolean tryAcquire(long nowMillis) {
+        refill(nowMillis);
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+
+    private void refill(long nowMillis) {
+        long elapsed = nowMillis - lastRefillMillis;
+        if (elapsed <= 0) {
+            return;
+        }
+        tokens = Math.min(capacity, tokens + elapsed * refillPerMillis);
+        lastRefillMillis = nowMillis;
+    }
+}
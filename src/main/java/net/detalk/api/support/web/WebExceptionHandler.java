@@ -1,15 +1,12 @@
 package net.detalk.api.support.web;
 
 import jakarta.servlet.http.HttpServletRequest;
-import java.util.Arrays;
 import lombok.extern.slf4j.Slf4j;
-import net.detalk.api.alarm.domain.AlarmErrorMessage;
 import net.detalk.api.alarm.service.AlarmSender;
 import net.detalk.api.support.error.ApiException;
 import net.detalk.api.support.error.ErrorCode;
 import net.detalk.api.support.error.ErrorMessage;
 import net.detalk.api.support.error.InvalidStateException;
-import net.detalk.api.support.util.StringUtil;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -125,14 +122,7 @@ public class WebExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorMessage> handleException(Exception e, HttpServletRequest request) {
 
-        AlarmErrorMessage alarmErrorMessage = new AlarmErrorMessage(
-            request.getRequestURI(),
-            e.getClass().getSimpleName(),
-            getAllMessage(e),
-            getStackTrace(e)
-        );
-
-        alarmSender.sendError(alarmErrorMessage);
+        alarmSender.sendError(request.getRequestURI(), e);
 
         return ResponseEntity
             .status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -149,14 +139,7 @@ public class WebExceptionHandler {
             if (e instanceof ApiException) {
                 if (((ApiException) e).isNecessaryToLog()) {
 
-                    AlarmErrorMessage alarmErrorMessage = new AlarmErrorMessage(
-                        request.getRequestURI(),
-                        e.getClass().getSimpleName(),
-                        getAllMessage(e),
-                        getStackTrace(e)
-                    );
-
-                    alarmSender.sendError(alarmErrorMessage);
+                    alarmSender.sendError(request.getRequestURI(), e);
                     log.error("API exception. URI: {}, Method: {}, Message: {}",
                         request.getRequestURI(),
                         request.getMethod(),
@@ -173,23 +156,4 @@ public class WebExceptionHandler {
             }
         }
     }
-
-    private String getAllMessage(Throwable e) {
-        Throwable cause = e;
-        StringBuilder strBuilder = new StringBuilder();
-
-        while (cause != null && !StringUtil.isEmpty(cause.getMessage())) {
-            strBuilder.append("caused: ").append(cause.getMessage()).append("; ");
-            cause = cause.getCause();
-        }
-
-        return strBuilder.toString();
-    }
-
-    private String getStackTrace(Exception e) {
-        return Arrays.stream(e.getStackTrace())
-            .limit(5)
-            .map(StackTraceElement::toString)
-            .collect(Collectors.joining("\n"));
-    }
 }
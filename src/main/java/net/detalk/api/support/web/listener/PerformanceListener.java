@@ -3,89 +3,131 @@ package net.detalk.api.support.web.listener;
 import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import net.detalk.api.alarm.service.AlarmSender;
+import net.detalk.api.support.query.QueryMetricsRegistry;
+import net.detalk.api.support.query.QueryStats;
+import net.detalk.api.support.query.RequestQueryTracker;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
-import org.jooq.Query;
+import org.jooq.ExecuteType;
+import org.jooq.Result;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StopWatch;
 
+/**
+ * jOOQ 쿼리 실행 측정
+ * 모든 실행의 소요 시간과 row 수를 쿼리 지문별로 기록하고(QueryMetricsRegistry), 5초 이상 걸린 쿼리는 알림을 보낸다.
+ * 요청 스레드에서 실행한 쿼리는 요청 단위로도 집계한다. (RequestQueryTracker)
+ * 시작 시각은 실행마다 새로 만들어지는 ExecuteContext 에 보관하므로 별도 객체나 ThreadLocal 을 쓰지 않는다.
+ */
 @RequiredArgsConstructor
 @Component
 public class PerformanceListener implements ExecuteListener {
 
-    private final AlarmSender alarmSender;
     private static final Logger log = LoggerFactory.getLogger(PerformanceListener.class);
-    private final ThreadLocal<StopWatch> watch = ThreadLocal.withInitial(() -> null);
+    private static final String START_NANOS = PerformanceListener.class.getName() + ".startNanos";
     private static final Duration SLOW_QUERY_LIMIT= Duration.ofSeconds(5);
     private static final int MAX_MESSAGE_LENGTH = 500;
 
+    private final AlarmSender alarmSender;
+    private final QueryMetricsRegistry queryMetricsRegistry;
+    private final RequestQueryTracker requestQueryTracker;
+
     @Override
     public void executeStart(ExecuteContext ctx) {
-        StopWatch newWatch = new StopWatch();
-        newWatch.start("SQLQuery");
-        watch.set(newWatch);
+        ctx.data(START_NANOS, System.nanoTime());
     }
 
+    /**
+     * 결과 fetch 까지 끝난 뒤(실패 포함) 호출된다
+     */
     @Override
-    public void executeEnd(ExecuteContext ctx) {
-        // ThreadLocal에서 꺼냄
-        StopWatch sw = watch.get();
-        try {
-            if (sw == null) {
-                // StopWatch가 생성되지 않았으면 로그만 남기고 종료
-                log.warn("StopWatch가 null입니다. 정상적으로 시작되지 않았을 수 있습니다.");
-                return;
-            }
-
-            // 실행 중이면 stop()
-            if (sw.isRunning()) {
-                sw.stop();
-            }
+    public void end(ExecuteContext ctx) {
+        // JDBC 실행 전에 실패했으면(렌더링 오류 등) 측정하지 않음
+        if (!(ctx.data(START_NANOS) instanceof Long startNanos)) {
+            return;
+        }
 
-            // 소요 시간 계산
-            final long queryTimeNano = sw.getTotalTimeNanos();
-            Duration executeTime = Duration.ofNanos(queryTimeNano);
-            Query query = ctx.query();
+        final long queryTimeNano = System.nanoTime() - startNanos;
+        try {
+            record(ctx, queryTimeNano);
 
             // 슬로우 쿼리 검사
             if (queryTimeNano > SLOW_QUERY_LIMIT.toNanos()) {
-
-                String slowQueryMessage = String.format(
-                    """
-                            \n### Slow SQL 탐지
-                            경고: jOOQ로 실행된 쿼리 중 %d초 이상 실행된 쿼리가 있습니다.
-                            실행시간: %s초
-                            실행쿼리: %s
-                        """,
-                    SLOW_QUERY_LIMIT.toSeconds(),
-                    millisToSeconds(executeTime),
-                    query
-                );
-
-                final String trimIndicator = " ......";
-
-                // 메시지 길이 제한
-                if (slowQueryMessage.length() > MAX_MESSAGE_LENGTH) {
-                    slowQueryMessage =
-                        slowQueryMessage.substring(0, MAX_MESSAGE_LENGTH - trimIndicator.length())
-                            + trimIndicator;
-                }
-
-                log.warn(slowQueryMessage);
-                alarmSender.sendMessage(slowQueryMessage);
+                alertSlowQuery(ctx, Duration.ofNanos(queryTimeNano));
             }
         } catch (Exception e) {
-            log.error("쿼리 실행 시간 측정 중 오류 발생");
-        }finally {
-            // 한 번 사용 후, ThreadLocal에서 제거
-            log.debug("ThreadLocal StopWatch 정리 완료");
-            watch.remove();
+            log.error("쿼리 실행 시간 측정 중 오류 발생", e);
         }
-}
+    }
+
+    private void record(ExecuteContext ctx, long queryTimeNano) {
+        String sql = renderedSql(ctx);
+        if (sql == null) {
+            return;
+        }
+
+        long elapsedMicros = queryTimeNano / 1000;
+        QueryStats stats = queryMetricsRegistry.record(sql, elapsedMicros, rowsOf(ctx),
+            ctx.exception() != null);
+        requestQueryTracker.record(queryMetricsRegistry.fingerprintOf(sql), elapsedMicros);
+
+        // 평소보다 느린 조회는 실행 계획 수집 (bind 값을 채운 SQL 이 필요하므로 여기서 렌더링)
+        if (ctx.type() == ExecuteType.READ && ctx.query() != null
+            && queryMetricsRegistry.shouldExplain(stats, elapsedMicros)) {
+            queryMetricsRegistry.explain(stats, ctx.dsl().renderInlined(ctx.query()), elapsedMicros);
+        }
+    }
+
+    private void alertSlowQuery(ExecuteContext ctx, Duration executeTime) {
+        String slowQueryMessage = String.format(
+            """
+                    \n### Slow SQL 탐지
+                    경고: jOOQ로 실행된 쿼리 중 %d초 이상 실행된 쿼리가 있습니다.
+                    실행시간: %s초
+                    실행쿼리: %s
+                """,
+            SLOW_QUERY_LIMIT.toSeconds(),
+            millisToSeconds(executeTime),
+            ctx.query()
+        );
+
+        final String trimIndicator = " ......";
+
+        // 메시지 길이 제한
+        if (slowQueryMessage.length() > MAX_MESSAGE_LENGTH) {
+            slowQueryMessage =
+                slowQueryMessage.substring(0, MAX_MESSAGE_LENGTH - trimIndicator.length())
+                    + trimIndicator;
+        }
+
+        log.warn(slowQueryMessage);
+        // 본문의 실행 시간, bind 값은 매번 다르므로 쿼리 지문으로 묶는다
+        String sql = renderedSql(ctx);
+        alarmSender.sendMessage(
+            sql != null ? "Slow SQL " + queryMetricsRegistry.fingerprintOf(sql) : slowQueryMessage,
+            slowQueryMessage);
+    }
+
+    // 배치 실행은 첫 번째 SQL 기준으로 기록
+    private static String renderedSql(ExecuteContext ctx) {
+        if (ctx.sql() != null) {
+            return ctx.sql();
+        }
+        String[] batchSql = ctx.batchSQL();
+        return batchSql.length > 0 ? batchSql[0] : null;
+    }
+
+    // DML 은 변경 row 수, 조회는 fetch 한 row 수 (lazy fetch 등 알 수 없으면 -1)
+    private static long rowsOf(ExecuteContext ctx) {
+        if (ctx.rows() >= 0) {
+            return ctx.rows();
+        }
+        Result<?> result = ctx.result();
+        return result != null ? result.size() : -1;
+    }
 
     private String millisToSeconds(Duration duration) {
         return String.format("%.1f", duration.toMillis() / 1000.0);
     }
-}
\ No newline at end of file
+}
@@ -1,25 +1,39 @@
 package net.detalk.api.tag.controller.v1;
 
-import java.util.List;
 import lombok.RequiredArgsConstructor;
-import net.detalk.api.tag.controller.v1.response.GetTagResponse;
-import net.detalk.api.tag.service.TagService;
+import net.detalk.api.tag.service.TagDictionary;
+import net.detalk.api.tag.service.TagDictionary.SerializedTagList;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/tags")
 @RestController
 public class TagController {
 
-    private final TagService tagService;
+    private final TagDictionary tagDictionary;
 
+    /**
+     * 태그 사전에 미리 직렬화된 List&lt;GetTagResponse&gt; 를 그대로 응답
+     * If-None-Match 가 일치하면 본문 없이 304 (약한 비교, 여러 ETag 나열, * 모두 RFC 9110 에 따라 WebRequest 가 판단)
+     */
     @GetMapping
-    public ResponseEntity<List<GetTagResponse>> getAllTags() {
-        List<GetTagResponse> result = tagService.findAll();
-        return ResponseEntity.ok(result);
+    public ResponseEntity<byte[]> getAllTags(WebRequest webRequest) {
+
+        SerializedTagList tagList = tagDictionary.serializedTagList();
+        if (webRequest.checkNotModified(tagList.eTag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tagList.eTag()).build();
+        }
+
+        return ResponseEntity.ok()
+            .eTag(tagList.eTag())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(tagList.json());
     }
 
 }
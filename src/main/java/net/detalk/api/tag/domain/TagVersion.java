@@ -0,0 +1,12 @@
+package net.detalk.api.tag.domain;
+
+/**
+ * tag 테이블 변경 감지용 버전 (태그는 추가만 되므로 개수와 최대 ID 로 충분하다)
+ * @param count 태그 개수
+ * @param maxId 가장 큰 태그 ID, 태그가 없으면 0
+ */
+public record TagVersion(long count, long maxId) {
+
+    public static final TagVersion EMPTY = new TagVersion(0, 0);
+
+}
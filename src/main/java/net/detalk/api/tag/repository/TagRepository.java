@@ -1,8 +1,10 @@
 package net.detalk.api.tag.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import net.detalk.api.tag.domain.Tag;
+import net.detalk.api.tag.domain.TagVersion;
 
 public interface TagRepository {
 
@@ -12,4 +14,15 @@ public interface TagRepository {
 
     List<Tag> findAll();
 
+    /**
+     * 태그 개수, 최대 ID (TagDictionary 갱신 여부 확인용)
+     */
+    TagVersion findVersion();
+
+    /**
+     * 없는 태그만 저장 후, 요청한 모든 태그 조회
+     * INSERT ... ON CONFLICT DO NOTHING, SELECT ... WHERE name = ANY(?) 두 문장으로 처리한다
+     */
+    List<Tag> getOrCreateAll(Collection<String> names);
+
 }
@@ -2,12 +2,15 @@ package net.detalk.api.tag.repository.impl;
 
 import static net.detalk.jooq.tables.JTag.TAG;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import net.detalk.api.tag.domain.Tag;
+import net.detalk.api.tag.domain.TagVersion;
 import net.detalk.api.tag.repository.TagRepository;
 import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 
 @RequiredArgsConstructor
@@ -33,4 +36,33 @@ public class TagRepositoryImpl implements TagRepository {
         return dsl.selectFrom(TAG)
             .fetchInto(Tag.class);
     }
+
+    public TagVersion findVersion() {
+        var record = dsl.select(DSL.count(), DSL.max(TAG.ID))
+            .from(TAG)
+            .fetchOne();
+
+        if (record == null || record.value2() == null) {
+            return TagVersion.EMPTY;
+        }
+        return new TagVersion(record.value1(), record.value2());
+    }
+
+    public List<Tag> getOrCreateAll(Collection<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+
+        var insert = dsl.insertInto(TAG, TAG.NAME);
+        for (String name : names) {
+            insert = insert.values(name);
+        }
+        insert.onConflict(TAG.NAME)
+            .doNothing()
+            .execute();
+
+        return dsl.selectFrom(TAG)
+            .where(TAG.NAME.eq(DSL.any(names.toArray(String[]::new))))
+            .fetchInto(Tag.class);
+    }
 }
@@ -0,0 +1,203 @@
+package net.detalk.api.tag.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import net.detalk.api.support.config.AppProperties;
+import net.detalk.api.tag.controller.v1.response.GetTagResponse;
+import net.detalk.api.tag.domain.Tag;
+import net.detalk.api.tag.domain.TagVersion;
+import net.detalk.api.tag.repository.TagRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 태그 이름 <-> ID 인메모리 사전
+ * tag 테이블은 작고 거의 읽기만 하므로 불변 맵을 통째로 교체(copy-on-write)하며,
+ * 다른 서버에서 추가된 태그는 주기(tagDictionaryRefreshIntervalMillis)마다 버전(개수, 최대 ID)을 비교해 다시 읽는다.
+ * 태그 목록 응답(JSON)과 ETag 도 미리 만들어 둔다.
+ */
+@Slf4j
+@Component
+public class TagDictionary {
+
+    private final TagRepository tagRepository;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler taskScheduler;
+    private final AppProperties appProperties;
+
+    private final AtomicReference<Entries> entries = new AtomicReference<>(Entries.EMPTY);
+
+    public TagDictionary(
+        TagRepository tagRepository,
+        ObjectMapper objectMapper,
+        @Qualifier("tagDictionaryRefreshScheduler") TaskScheduler taskScheduler,
+        AppProperties appProperties
+    ) {
+        this.tagRepository = tagRepository;
+        this.objectMapper = objectMapper;
+        this.taskScheduler = taskScheduler;
+        this.appProperties = appProperties;
+    }
+
+    @PostConstruct
+    public void start() {
+        reload();
+        Duration interval = Duration.ofMillis(appProperties.getTagDictionaryRefreshIntervalMillis());
+        taskScheduler.scheduleWithFixedDelay(this::refreshIfChanged, interval);
+    }
+
+    public Optional<Long> findId(String name) {
+        return Optional.ofNullable(entries.get().idsByName().get(name));
+    }
+
+    public Optional<String> findName(Long id) {
+        return Optional.ofNullable(entries.get().namesById().get(id));
+    }
+
+    public boolean containsAll(Collection<String> names) {
+        return entries.get().idsByName().keySet().containsAll(names);
+    }
+
+    /**
+     * @return ID 오름차순 전체 태그
+     */
+    public List<Tag> findAll() {
+        return entries.get().tags();
+    }
+
+    /**
+     * 미리 직렬화된 태그 목록 응답 (List&lt;GetTagResponse&gt;) 과 ETag
+     */
+    public SerializedTagList serializedTagList() {
+        return entries.get().serializedTagList();
+    }
+
+    /**
+     * 새로 저장된 태그를 트랜잭션 커밋 후 사전에 반영 (롤백되면 반영하지 않음)
+     * 트랜잭션 밖에서 호출하면 바로 반영한다
+     */
+    public void registerAfterCommit(Collection<Tag> tags) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            register(tags);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                register(tags);
+            }
+        });
+    }
+
+    /**
+     * 새로 저장된 태그를 사전에 바로 반영
+     */
+    public void register(Collection<Tag> tags) {
+        entries.updateAndGet(current -> {
+            if (tags.stream().allMatch(tag -> current.namesById().containsKey(tag.getId()))) {
+                return current;
+            }
+            Map<Long, Tag> merged = new HashMap<>();
+            current.tags().forEach(tag -> merged.put(tag.getId(), tag));
+            tags.forEach(tag -> merged.put(tag.getId(), tag));
+
+            long maxId = merged.keySet().stream().mapToLong(Long::longValue).max().orElse(0L);
+            return build(merged.values(), new TagVersion(merged.size(), maxId));
+        });
+    }
+
+    /**
+     * DB 의 태그 버전이 다를 때만 다시 읽는다
+     * @return 다시 읽었는지 여부
+     */
+    public boolean refreshIfChanged() {
+        try {
+            TagVersion version = tagRepository.findVersion();
+            if (version.equals(entries.get().version())) {
+                return false;
+            }
+            reload();
+            return true;
+        } catch (RuntimeException e) {
+            log.error("[refreshIfChanged] 태그 사전 갱신 실패, 기존 사전을 유지합니다.", e);
+            return false;
+        }
+    }
+
+    private void reload() {
+        // 버전을 먼저 읽어야, 목록 조회 사이에 추가된 태그가 있으면 다음 확인 때 다시 읽는다
+        TagVersion version = tagRepository.findVersion();
+        List<Tag> tags = tagRepository.findAll();
+        entries.set(build(tags, version));
+        log.info("[reload] 태그 사전 적재 tags={}, version={}", tags.size(), version);
+    }
+
+    private Entries build(Collection<Tag> tags, TagVersion version) {
+        List<Tag> sorted = tags.stream()
+            .sorted(Comparator.comparing(Tag::getId))
+            .toList();
+
+        Map<String, Long> idsByName = new HashMap<>();
+        Map<Long, String> namesById = new HashMap<>();
+        sorted.forEach(tag -> {
+            idsByName.put(tag.getName(), tag.getId());
+            namesById.put(tag.getId(), tag.getName());
+        });
+
+        return new Entries(
+            Map.copyOf(idsByName),
+            Map.copyOf(namesById),
+            sorted,
+            version,
+            SerializedTagList.of(serialize(sorted))
+        );
+    }
+
+    private byte[] serialize(List<Tag> tags) {
+        try {
+            return objectMapper.writeValueAsBytes(tags.stream()
+                .map(tag -> new GetTagResponse(tag.getName()))
+                .toList());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("태그 목록을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * @param json 태그 목록 응답 본문
+     * @param eTag 본문 MD5 로 만든 ETag (따옴표 포함)
+     */
+    public record SerializedTagList(byte[] json, String eTag) {
+
+        static SerializedTagList of(byte[] json) {
+            return new SerializedTagList(json, "\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+        }
+    }
+
+    private record Entries(
+        Map<String, Long> idsByName,
+        Map<Long, String> namesById,
+        List<Tag> tags,
+        TagVersion version,
+        SerializedTagList serializedTagList
+    ) {
+
+        static final Entries EMPTY = new Entries(Map.of(), Map.of(), List.of(), TagVersion.EMPTY,
+            SerializedTagList.of("[]".getBytes(StandardCharsets.UTF_8)));
+    }
+}
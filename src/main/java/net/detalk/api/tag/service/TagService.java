@@ -1,6 +1,9 @@
 package net.detalk.api.tag.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import net.detalk.api.tag.controller.v1.response.GetTagResponse;
 import net.detalk.api.tag.domain.Tag;
@@ -12,9 +15,10 @@ import org.springframework.stereotype.Service;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
 
     public List<GetTagResponse> findAll() {
-        return tagRepository.findAll().stream()
+        return tagDictionary.findAll().stream()
             .map(tag -> new GetTagResponse(tag.getName()))
             .toList();
     }
@@ -25,8 +29,59 @@ public class TagService {
      * @return 저장 혹은 조회된 태그
      */
     public Tag getOrCreateTag(String tagName) {
-        return tagRepository.findByName(tagName)
+        Optional<Tag> known = findInDictionary(tagName);
+        if (known.isPresent()) {
+            return known.get();
+        }
+
+        Tag tag = tagRepository.findByName(tagName)
             .orElseGet(() -> tagRepository.save(Tag.builder().name(tagName).build()));
+        tagDictionary.registerAfterCommit(List.of(tag));
+        return tag;
+    }
+
+    /**
+     * 태그 목록을 한 번에 조회하고 없는 태그는 DB 저장
+     * 태그 사전에 있는 태그는 DB 를 조회하지 않는다
+     * @param tagNames 태그이름 목록
+     * @return 저장 혹은 조회된 태그 목록 (중복 이름은 하나로 합쳐지며, 순서는 보장하지 않음)
+     */
+    public List<Tag> getOrCreateTags(Collection<String> tagNames) {
+        List<Tag> tags = new ArrayList<>();
+        List<String> unknownNames = new ArrayList<>();
+
+        tagNames.stream().distinct().forEach(name -> findInDictionary(name)
+            .ifPresentOrElse(tags::add, () -> unknownNames.add(name)));
+
+        if (!unknownNames.isEmpty()) {
+            List<Tag> created = tagRepository.getOrCreateAll(unknownNames);
+            tagDictionary.registerAfterCommit(created);
+            tags.addAll(created);
+        }
+        return tags;
+    }
+
+    /**
+     * 요청한 태그가 모두 존재하는지 태그 사전으로 확인
+     */
+    public boolean existsAll(Collection<String> tagNames) {
+        return tagDictionary.containsAll(tagNames);
+    }
+
+    /**
+     * 태그 사전으로 태그 ID 조회, 없는 태그는 제외
+     */
+    public List<Long> findIds(Collection<String> tagNames) {
+        return tagNames.stream()
+            .distinct()
+            .map(tagDictionary::findId)
+            .flatMap(Optional::stream)
+            .toList();
+    }
+
+    private Optional<Tag> findInDictionary(String tagName) {
+        return tagDictionary.findId(tagName)
+            .map(id -> Tag.builder().id(id).name(tagName).build());
     }
 
 }
@@ -0,0 +1,7 @@
+-- auth_refresh_token 에 일 단위 파티션이 없는 expires_at 이 들어와도 INSERT(로그인, 토큰 교체)가 실패하지 않도록 DEFAULT 파티션 추가
+-- 일 단위 파티션은 RetentionService 가 유효기간 + 여유 일수만큼 미리 만들므로, 평소에는 비어 있다
+-- DEFAULT 파티션에 해당 날의 row 가 있으면 그 날의 파티션은 만들 수 없으며, 그 날은 DEFAULT 파티션을 계속 쓴다
+
+/* [jooq ignore start] */
+CREATE TABLE "auth_refresh_token_default" PARTITION OF "auth_refresh_token" DEFAULT;
+/* [jooq ignore stop] */
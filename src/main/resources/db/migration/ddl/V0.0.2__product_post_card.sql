@@ -0,0 +1,79 @@
+-- 피드 조회용 비정규화 테이블 (게시글 1건 = 1 row)
+-- GetProductPostResponse 에 필요한 모든 값을 보관해 목록 조회 시 join/group by 없이 id DESC 범위 스캔만 수행한다
+-- 원본은 정규화 테이블이며, 언제든 ProductPostCardService.rebuild() 로 다시 만들 수 있다
+CREATE TABLE "product_post_card" (
+    "post_id" BIGINT NOT NULL,
+    "writer_id" BIGINT NOT NULL,
+    "snapshot_id" BIGINT NOT NULL,
+    "nickname" VARCHAR(32),
+    "userhandle" VARCHAR(64),
+    "avatar_url" VARCHAR,
+    "is_maker" BOOLEAN NOT NULL DEFAULT FALSE,
+    "title" VARCHAR(255) NOT NULL,
+    "description" TEXT NOT NULL,
+    "pricing_plan" VARCHAR(255) NOT NULL,
+    "recommend_count" BIGINT NOT NULL DEFAULT 0,
+    "tags" VARCHAR(32)[] NOT NULL DEFAULT '{}',
+    "urls" VARCHAR(255)[] NOT NULL DEFAULT '{}',
+    "media" JSONB NOT NULL DEFAULT '[]',
+    "created_at" BIGINT NOT NULL,
+    CONSTRAINT "product_post_card_pkey" PRIMARY KEY ("post_id"),
+    CONSTRAINT "product_post_card_post_fk" FOREIGN KEY ("post_id") REFERENCES "product_post" ("id") ON DELETE CASCADE ON UPDATE CASCADE
+);
+CREATE INDEX "idx_product_post_card_writer_id_post_id" ON "product_post_card" ("writer_id", "post_id" DESC);
+
+-- 태그 필터(tags @> ARRAY[...]) 용 GIN 인덱스
+/* [jooq ignore start] */
+CREATE INDEX "idx_product_post_card_tags" ON "product_post_card" USING GIN ("tags");
+/* [jooq ignore stop] */
+
+-- 추천 게시글 목록 조회 시 member_id 로 product_post_id 를 찾기 위한 인덱스
+CREATE INDEX "idx_recommend_product_member_id_product_post_id" ON "recommend_product" ("member_id", "product_post_id" DESC);
+
+-- 기존 게시글 백필 (jOOQ 코드 생성 시에는 실행하지 않는다)
+/* [jooq ignore start] */
+INSERT INTO "product_post_card" (
+    "post_id", "writer_id", "snapshot_id", "nickname", "userhandle", "avatar_url", "is_maker",
+    "title", "description", "pricing_plan", "recommend_count", "tags", "urls", "media", "created_at"
+)
+SELECT
+    pp."id",
+    pp."writer_id",
+    pps."id",
+    mp."nickname",
+    mp."userhandle",
+    af."url",
+    EXISTS (
+        SELECT 1 FROM "product_maker" pm
+        WHERE pm."product_id" = pp."product_id" AND pm."member_id" = pp."writer_id"
+    ),
+    pps."title",
+    pps."description",
+    plan."name",
+    pp."recommend_count",
+    COALESCE((
+        SELECT ARRAY_AGG(DISTINCT t."name")
+        FROM "product_post_snapshot_tag" ppst
+        JOIN "tag" t ON t."id" = ppst."tag_id"
+        WHERE ppst."post_id" = pps."id"
+    ), '{}'),
+    COALESCE((
+        SELECT ARRAY_AGG(DISTINCT pl."url")
+        FROM "product_post_link" ppl
+        JOIN "product_link" pl ON pl."id" = ppl."link_id"
+        WHERE ppl."post_id" = pp."id"
+    ), '{}'),
+    COALESCE((
+        SELECT JSONB_AGG(JSONB_BUILD_OBJECT('url', img."url", 'sequence', ppsaf."sequence") ORDER BY ppsaf."sequence")
+        FROM "product_post_snapshot_attachment_file" ppsaf
+        JOIN "attachment_file" img ON img."id" = ppsaf."attachment_file_id"
+        WHERE ppsaf."snapshot_id" = pps."id"
+    ), '[]'),
+    pps."created_at"
+FROM "product_post" pp
+JOIN "product_post_last_snapshot" ppls ON ppls."post_id" = pp."id"
+JOIN "product_post_snapshot" pps ON pps."id" = ppls."snapshot_id"
+JOIN "pricing_plan" plan ON plan."id" = pps."pricing_plan_id"
+LEFT JOIN "member_profile" mp ON mp."member_id" = pp."writer_id"
+LEFT JOIN "attachment_file" af ON af."id" = mp."avatar_id";
+/* [jooq ignore stop] */
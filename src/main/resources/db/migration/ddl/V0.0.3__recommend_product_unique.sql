@@ -0,0 +1,34 @@
+-- 같은 회원이 같은 게시글에 같은 이유로 두 번 추천하지 못하도록 DB 에서 보장한다
+-- addRecommendation 은 INSERT ... ON CONFLICT DO NOTHING RETURNING 으로 중복 여부를 판단한다
+
+-- 기존 중복 row 는 가장 먼저 저장된 것만 남기고, 지운 수만큼 게시글과 카드의 추천 수를 줄인다
+-- (WITH 안의 문장은 모두 같은 스냅샷을 보므로 다시 세지 않고 지운 수를 뺀다)
+/* [jooq ignore start] */
+WITH "deleted" AS (
+    DELETE FROM "recommend_product" a
+        USING "recommend_product" b
+    WHERE a."member_id" = b."member_id"
+      AND a."recommend_id" = b."recommend_id"
+      AND a."product_post_id" = b."product_post_id"
+      AND a."id" > b."id"
+    RETURNING a."id", a."product_post_id"
+),
+"deleted_count" AS (
+    SELECT "product_post_id", count(DISTINCT "id") AS "cnt"
+    FROM "deleted"
+    GROUP BY "product_post_id"
+),
+"updated_post" AS (
+    UPDATE "product_post" p
+    SET "recommend_count" = GREATEST(p."recommend_count" - d."cnt", 0)
+    FROM "deleted_count" d
+    WHERE p."id" = d."product_post_id"
+)
+UPDATE "product_post_card" c
+SET "recommend_count" = GREATEST(c."recommend_count" - d."cnt", 0)
+FROM "deleted_count" d
+WHERE c."post_id" = d."product_post_id";
+/* [jooq ignore stop] */
+
+CREATE UNIQUE INDEX "uk_recommend_product_member_id_recommend_id_product_post_id"
+    ON "recommend_product" ("member_id", "recommend_id", "product_post_id");
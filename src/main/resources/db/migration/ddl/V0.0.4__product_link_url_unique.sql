@@ -0,0 +1,19 @@
+-- 링크를 INSERT ... ON CONFLICT (url) DO NOTHING 으로 조회/생성하기 위한 unique 인덱스
+
+-- 기존 중복 링크는 가장 먼저 저장된 것으로 합친다
+/* [jooq ignore start] */
+INSERT INTO "product_post_link" ("post_id", "link_id")
+SELECT ppl."post_id", keep."id"
+FROM "product_post_link" ppl
+         JOIN "product_link" dup ON dup."id" = ppl."link_id"
+         JOIN (SELECT "url", MIN("id") AS "id" FROM "product_link" GROUP BY "url") keep
+              ON keep."url" = dup."url" AND keep."id" <> dup."id"
+ON CONFLICT DO NOTHING;
+
+DELETE FROM "product_link" a
+    USING "product_link" b
+WHERE a."url" = b."url"
+  AND a."id" > b."id";
+/* [jooq ignore stop] */
+
+CREATE UNIQUE INDEX "uk_product_link_url" ON "product_link" ("url");
@@ -0,0 +1,46 @@
+-- auth_refresh_token 을 expires_at(epoch ms) 기준 일(UTC) 단위 파티션 테이블로 변경한다
+-- 만료된 파티션은 RetentionService 가 통째로 DROP 하고, 앞으로 필요한 파티션도 미리 생성한다
+-- 파티션 키가 PK/UNIQUE 에 포함되어야 하므로 (id, expires_at), (token, expires_at) 으로 변경
+-- 컬럼은 그대로이므로 코드 생성(DDLDatabase)에는 영향이 없다
+
+/* [jooq ignore start] */
+ALTER TABLE "auth_refresh_token" RENAME TO "auth_refresh_token_old";
+
+CREATE TABLE "auth_refresh_token" (
+        "id" BIGINT GENERATED ALWAYS AS IDENTITY,
+        "member_id" BIGINT NOT NULL,
+        "token" VARCHAR(255) NOT NULL,
+        "created_at" BIGINT NOT NULL,
+        "expires_at" BIGINT NOT NULL,
+        "revoked_at" BIGINT,
+        CONSTRAINT "pk_auth_refresh_token_id_expires_at" PRIMARY KEY ("id", "expires_at"),
+        FOREIGN KEY ("member_id") REFERENCES "member" ("id") ON DELETE CASCADE ON UPDATE CASCADE,
+        CONSTRAINT "uk_auth_refresh_token_token_expires_at" UNIQUE ("token", "expires_at")
+) PARTITION BY RANGE ("expires_at");
+
+-- 아직 만료되지 않은 토큰이 들어갈 파티션 생성 (이후 파티션은 애플리케이션이 관리)
+DO $$
+DECLARE
+    day_start BIGINT;
+    last_day  BIGINT;
+BEGIN
+    SELECT (MIN("expires_at") / 86400000) * 86400000, (MAX("expires_at") / 86400000) * 86400000
+      INTO day_start, last_day
+      FROM "auth_refresh_token_old"
+     WHERE "expires_at" > (EXTRACT(EPOCH FROM now()) * 1000)::BIGINT;
+
+    WHILE day_start <= last_day LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF "auth_refresh_token" FOR VALUES FROM (%s) TO (%s)',
+            'auth_refresh_token_p' || to_char(to_timestamp(day_start / 1000) AT TIME ZONE 'UTC', 'YYYYMMDD'),
+            day_start, day_start + 86400000);
+        day_start := day_start + 86400000;
+    END LOOP;
+END $$;
+
+INSERT INTO "auth_refresh_token" ("member_id", "token", "created_at", "expires_at", "revoked_at")
+SELECT "member_id", "token", "created_at", "expires_at", "revoked_at"
+  FROM "auth_refresh_token_old"
+ WHERE "expires_at" > (EXTRACT(EPOCH FROM now()) * 1000)::BIGINT;
+
+DROP TABLE "auth_refresh_token_old";
+/* [jooq ignore stop] */
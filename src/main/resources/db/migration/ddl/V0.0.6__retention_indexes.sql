@@ -0,0 +1,6 @@
+-- 보관 기간 정리(RetentionService)가 오래된 row 를 limit 만큼만 인덱스로 찾아 삭제할 수 있도록 시간 컬럼 인덱스 추가
+CREATE INDEX "idx_product_post_idempotent_requests_created_at"
+    ON "product_post_idempotent_requests" ("created_at");
+
+CREATE INDEX "idx_visitor_log_visited_at"
+    ON "visitor_log" ("visited_at");
@@ -0,0 +1,16 @@
+-- 방문자 통계 집계 테이블 (시간/일 단위 x 국가, 대륙, referer 호스트, User-Agent 계열)
+-- 방문자 로그 저장(VisitorLogIngestor)과 같은 트랜잭션에서 visit_count 를 증가시키며,
+-- 지난 날짜 구간은 VisitorRollupService.rebuild() 로 원본 로그에서 다시 만들 수 있다
+CREATE TABLE "visitor_log_rollup" (
+    "granularity" VARCHAR(8) NOT NULL, -- HOUR, DAY
+    "dimension" VARCHAR(32) NOT NULL, -- COUNTRY, CONTINENT, REFERER_HOST, USER_AGENT_FAMILY
+    "bucket_start" TIMESTAMP NOT NULL, -- 구간 시작 시각 (시/일 단위 절삭)
+    "dimension_value" VARCHAR(255) NOT NULL,
+    "visit_count" BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT "pk_visitor_log_rollup" PRIMARY KEY ("granularity", "dimension", "bucket_start", "dimension_value")
+);
+
+-- 원본 로그 목록을 (visited_at, id) keyset 으로 조회하기 위한 인덱스
+-- visited_at 단일 인덱스(V0.0.6)는 이 인덱스의 선두 컬럼으로 대체된다
+CREATE INDEX "idx_visitor_log_visited_at_id" ON "visitor_log" ("visited_at", "id");
+DROP INDEX "idx_visitor_log_visited_at";
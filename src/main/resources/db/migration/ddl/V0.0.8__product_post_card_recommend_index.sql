@@ -0,0 +1,3 @@
+-- 추천순 피드 keyset 조회용 인덱스 ((recommend_count, post_id) < (?, ?) ORDER BY recommend_count DESC, post_id DESC)
+-- 추천 수 반영(RecommendCountBuffer 일괄 UPDATE)마다 이 인덱스도 갱신된다
+CREATE INDEX "idx_product_post_card_recommend_count_post_id" ON "product_post_card" ("recommend_count" DESC, "post_id" DESC);
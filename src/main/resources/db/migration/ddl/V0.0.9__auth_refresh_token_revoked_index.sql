@@ -0,0 +1,9 @@
+-- 무효화 리프레시 토큰 필터 재생성(RevokedRefreshTokenFilter, findRevokedTokensNotExpired)용 부분 인덱스
+-- WHERE revoked_at IS NOT NULL AND expires_at > ? 를 무효화된 토큰만 담은 인덱스 범위 스캔으로 처리하고,
+-- token 을 INCLUDE 해서 테이블을 읽지 않는다 (파티션 테이블이므로 각 파티션에 같은 인덱스가 만들어진다)
+
+/* [jooq ignore start] */
+CREATE INDEX "idx_auth_refresh_token_revoked_expires_at"
+    ON "auth_refresh_token" ("expires_at") INCLUDE ("token")
+    WHERE "revoked_at" IS NOT NULL;
+/* [jooq ignore stop] */
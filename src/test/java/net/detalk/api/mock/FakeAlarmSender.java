@@ -0,0 +1,57 @@
+package net.detalk.api.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.detalk.api.alarm.domain.AlarmErrorMessage;
+import net.detalk.api.alarm.service.AlarmSender;
+
+/**
+ * 전송한 알람을 메모리에 보관하는 AlarmSender
+ * 준비되지 않은 상태(setReady(false))에서는 실제 전송 구현체처럼 IllegalStateException 을 던진다
+ */
+public class FakeAlarmSender implements AlarmSender {
+
+    private final List<String> messages = new ArrayList<>();
+    private final List<AlarmErrorMessage> errors = new ArrayList<>();
+    private boolean initialized;
+    private boolean ready = true;
+
+    @Override
+    public void initialize() {
+        initialized = true;
+    }
+
+    @Override
+    public void sendMessage(String message) {
+        checkReady();
+        messages.add(message);
+    }
+
+    @Override
+    public void sendError(AlarmErrorMessage errorMessage) {
+        checkReady();
+        errors.add(errorMessage);
+    }
+
+    public List<String> getMessages() {
+        return messages;
+    }
+
+    public List<AlarmErrorMessage> getErrors() {
+        return errors;
+    }
+
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    public void setReady(boolean ready) {
+        this.ready = ready;
+    }
+
+    private void checkReady() {
+        if (!ready) {
+            throw new IllegalStateException("transport not ready");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package net.detalk.api.mock;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테스트용 로컬 HTTP 서버 (임의 포트)
+ * 받은 요청 본문을 순서대로 보관하고, 미리 넣어 둔 응답(없으면 204)을 돌려준다.
+ * holdResponses 후에는 releaseResponses 를 호출할 때까지 응답하지 않는다.
+ */
+public class StubHttpServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final BlockingQueue<String> requestBodies = new LinkedBlockingQueue<>();
+    private final Queue<StubResponse> responses = new ConcurrentLinkedQueue<>();
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+
+    private StubHttpServer() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    public static StubHttpServer start() throws IOException {
+        StubHttpServer stub = new StubHttpServer();
+        stub.server.start();
+        return stub;
+    }
+
+    public String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    /**
+     * 다음 요청 하나에 돌려줄 응답
+     */
+    public void respond(int status, Map<String, String> headers) {
+        responses.add(new StubResponse(status, headers));
+    }
+
+    public void holdResponses() {
+        gate = new CountDownLatch(1);
+    }
+
+    public void releaseResponses() {
+        gate.countDown();
+    }
+
+    /**
+     * @return 제한 시간 안에 요청이 없으면 null
+     */
+    public String takeRequestBody(Duration timeout) throws InterruptedException {
+        return requestBodies.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        releaseResponses();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            requestBodies.add(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+            gate.await(10, TimeUnit.SECONDS);
+
+            StubResponse response = responses.poll();
+            if (response == null) {
+                response = new StubResponse(204, Map.of());
+            }
+            response.headers().forEach(exchange.getResponseHeaders()::add);
+            exchange.sendResponseHeaders(response.status(), -1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record StubResponse(int status, Map<String, String> headers) {
+
+    }
+}
@@ -0,0 +1,181 @@
+package net.detalk.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import net.detalk.api.alarm.domain.AlarmErrorMessage;
+import net.detalk.api.alarm.service.CoalescingAlarmSender;
+import net.detalk.api.mock.FakeAlarmSender;
+import net.detalk.api.mock.FakeTimeHolder;
+import net.detalk.api.support.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingAlarmSenderTest {
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private FakeAlarmSender transport;
+    private AppProperties appProperties;
+
+    @BeforeEach
+    void setUp() {
+        transport = new FakeAlarmSender();
+        appProperties = new AppProperties();
+    }
+
+    @DisplayName("[flush] 같은 URI 패턴, 예외, 첫 스택 프레임의 에러는 시간 창 안에서 한 번만 전송하고 나머지는 요약으로 보내야 한다")
+    @Test
+    void flush_SameFingerprint_ShouldSendOnceAndDigest() {
+        // given
+        CoalescingAlarmSender sender = createSender();
+        IllegalStateException error = new IllegalStateException("db down");
+        for (long postId = 1; postId <= 5; postId++) {
+            sender.sendError("/api/v1/products/posts/" + postId, error);
+        }
+
+        // when
+        int sent = sender.flush();
+        boolean digested = sender.digest();
+
+        // then
+        assertThat(sent).isEqualTo(1);
+        assertThat(transport.getErrors()).hasSize(1);
+        AlarmErrorMessage errorMessage = transport.getErrors().get(0);
+        assertThat(errorMessage.getEndpoint()).isEqualTo("/api/v1/products/posts/1");
+        assertThat(errorMessage.getErrorClass()).isEqualTo("IllegalStateException");
+        assertThat(errorMessage.getErrorMessage()).isEqualTo("caused: db down; ");
+
+        assertThat(digested).isTrue();
+        assertThat(transport.getMessages()).singleElement().asString()
+            .contains("5회 (미전송 4회)")
+            .contains("/api/v1/products/posts/{id} [IllegalStateException]");
+    }
+
+    @DisplayName("[flush] 채널의 토큰을 다 쓰면 새 알람도 보내지 않고 요약에만 포함해야 한다")
+    @Test
+    void flush_WhenRateLimited_ShouldOnlyDigest() {
+        // given
+        appProperties.setAlarmRateLimitCapacity(2);
+        CoalescingAlarmSender sender = createSender();
+        sender.sendMessage("first");
+        sender.sendMessage("second");
+        sender.sendMessage("third");
+
+        // when
+        int sent = sender.flush();
+        sender.digest();
+
+        // then
+        assertThat(sent).isEqualTo(2);
+        assertThat(transport.getMessages()).hasSize(3);
+        assertThat(transport.getMessages().subList(0, 2)).containsExactly("first", "second");
+        assertThat(transport.getMessages().get(2)).contains("1회 (미전송 1회) third");
+    }
+
+    @DisplayName("[sendMessage] 본문이 달라도 호출한 쪽이 준 지문이 같으면 한 번만 전송하고 나머지는 요약으로 보내야 한다")
+    @Test
+    void sendMessage_WithFingerprint_ShouldCoalesceDifferentBodies() {
+        // given
+        CoalescingAlarmSender sender = createSender();
+        String fingerprint = "Slow SQL select * from product_post_card where post_id = ?";
+        sender.sendMessage(fingerprint, "### Slow SQL 탐지\n실행시간: 5.2초");
+        sender.sendMessage(fingerprint, "### Slow SQL 탐지\n실행시간: 6.8초");
+        sender.sendMessage(fingerprint, "### Slow SQL 탐지\n실행시간: 7.1초");
+
+        // when
+        int sent = sender.flush();
+        sender.digest();
+
+        // then
+        assertThat(sent).isEqualTo(1);
+        assertThat(transport.getMessages()).hasSize(2);
+        assertThat(transport.getMessages().get(0)).isEqualTo("### Slow SQL 탐지\n실행시간: 5.2초");
+        assertThat(transport.getMessages().get(1)).contains("3회 (미전송 2회) " + fingerprint);
+    }
+
+    @DisplayName("[sendError] 큐가 가득 차면 기다리지 않고 버린 뒤 버린 개수를 요약으로 보내야 한다")
+    @Test
+    void sendError_WhenQueueFull_ShouldDropAndReport() {
+        // given
+        appProperties.setAlarmQueueCapacity(2);
+        CoalescingAlarmSender sender = createSender();
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            sender.sendError("/api/v1/tags", new IllegalArgumentException("invalid " + i));
+        }
+        sender.digest();
+
+        // then
+        assertThat(transport.getErrors()).hasSize(1);
+        assertThat(transport.getMessages()).singleElement().asString()
+            .contains("큐가 가득 차 버린 알람 : 3건");
+    }
+
+    @DisplayName("[digest] 시간 창 안에서 묶인 알람이 없으면 요약을 보내지 않고, 다음 시간 창에서는 다시 전송해야 한다")
+    @Test
+    void digest_WhenNothingSuppressed_ShouldSkipAndResetWindow() {
+        // given
+        CoalescingAlarmSender sender = createSender();
+        sender.sendMessage("운영 서버 톰캣 실행 완료");
+
+        // when
+        boolean firstDigest = sender.digest();
+        sender.sendMessage("운영 서버 톰캣 실행 완료");
+        sender.flush();
+
+        // then
+        assertThat(firstDigest).isFalse();
+        assertThat(transport.getMessages())
+            .containsExactly("운영 서버 톰캣 실행 완료", "운영 서버 톰캣 실행 완료");
+    }
+
+    @DisplayName("[flush] 전송 구현체가 준비되기 전의 알람은 전송하지 않은 것으로 남아, 같은 알람이 다시 오면 전송하고 요약에 포함해야 한다")
+    @Test
+    void flush_WhenTransportNotReady_ShouldRetryAndDigest() {
+        // given : 기동 중 전송 구현체가 아직 준비되지 않음
+        CoalescingAlarmSender sender = createSender();
+        IllegalStateException error = new IllegalStateException("db down");
+        transport.setReady(false);
+        sender.sendError("/api/v1/products/posts", error);
+        int sentBeforeReady = sender.flush();
+
+        // when
+        transport.setReady(true);
+        sender.sendError("/api/v1/products/posts", error);
+        int sentAfterReady = sender.flush();
+        sender.digest();
+
+        // then
+        assertThat(sentBeforeReady).isZero();
+        assertThat(sentAfterReady).isEqualTo(1);
+        assertThat(transport.getErrors()).hasSize(1);
+        assertThat(transport.getMessages()).singleElement().asString()
+            .contains("2회 (미전송 1회)");
+    }
+
+    @DisplayName("[initialize] 실제 전송 구현체를 초기화해야 한다")
+    @Test
+    void initialize_ShouldInitializeTransport() {
+        // when
+        createSender().initialize();
+
+        // then
+        assertThat(transport.isInitialized()).isTrue();
+    }
+
+    private CoalescingAlarmSender createSender() {
+        FakeTimeHolder timeHolder = new FakeTimeHolder(Instant.parse("2025-01-01T12:00:00Z"),
+            LocalDateTime.of(2025, 1, 1, 12, 0));
+        return new CoalescingAlarmSender(transport, timeHolder, taskScheduler, appProperties);
+    }
+}
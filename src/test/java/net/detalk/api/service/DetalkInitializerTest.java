@@ -0,0 +1,86 @@
+package net.detalk.api.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import net.detalk.api.alarm.service.AlarmSender;
+import net.detalk.api.infrastructure.bootstrap.DetalkInitializer;
+import net.detalk.api.plan.repository.PricingPlanRepository;
+import net.detalk.api.role.repository.RoleRepository;
+import net.detalk.api.support.util.EnvironmentHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class DetalkInitializerTest {
+
+    private static final List<String> PLAN_NAMES = List.of("Free", "Paid", "Paid with free trial or plan");
+
+    @Mock
+    private AlarmSender alarmSender;
+    @Mock
+    private RoleRepository roleRepository;
+    @Mock
+    private PricingPlanRepository pricingPlanRepository;
+    @Mock
+    private EnvironmentHolder env;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DetalkInitializer detalkInitializer;
+
+    @BeforeEach
+    void setUp() {
+        detalkInitializer = new DetalkInitializer(alarmSender, roleRepository, pricingPlanRepository,
+            env, transactionManager);
+    }
+
+    @DisplayName("[run] 알람 초기화가 끝나지 않아도 트래픽 작업이 끝나면 반환하고, 알람 초기화 후 시작 완료 알람을 보내야 한다")
+    @Test
+    void run_ShouldNotWaitForAlarmInitialization() throws Exception {
+        // given
+        CountDownLatch alarmReady = new CountDownLatch(1);
+        doAnswer(invocation -> alarmReady.await(5, TimeUnit.SECONDS)).when(alarmSender).initialize();
+        when(roleRepository.findByCodes(anyCollection())).thenReturn(List.of());
+        when(pricingPlanRepository.findAllNames()).thenReturn(PLAN_NAMES);
+        when(env.getActiveProfile()).thenReturn("prod");
+
+        // when
+        detalkInitializer.run(null);
+
+        // then
+        verify(alarmSender, never()).sendMessage("운영 서버 톰캣 실행 완료");
+        alarmReady.countDown();
+        verify(alarmSender, timeout(5_000)).sendMessage("운영 서버 톰캣 실행 완료");
+    }
+
+    @DisplayName("[run] 권한 초기화가 실패해도 가격 정책 초기화는 끝까지 실행하고, 이후 시작을 실패시켜야 한다")
+    @Test
+    void run_WhenTaskFails_ShouldIsolateAndFailStartup() {
+        // given
+        when(roleRepository.findByCodes(anyCollection())).thenThrow(new IllegalStateException("db down"));
+        when(pricingPlanRepository.findAllNames()).thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> detalkInitializer.run(null))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("트래픽 처리에 필요한 초기화에 실패했습니다.");
+        verify(pricingPlanRepository).saveAll(anyList());
+        verify(alarmSender, timeout(5_000)).initialize();
+        verify(alarmSender, never()).sendMessage("운영 서버 톰캣 실행 완료");
+    }
+}
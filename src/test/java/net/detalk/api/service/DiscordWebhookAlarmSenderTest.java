@@ -0,0 +1,92 @@
+package net.detalk.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import net.detalk.api.alarm.domain.AlarmErrorMessage;
+import net.detalk.api.infrastructure.alarm.discord.DiscordWebhookAlarmSender;
+import net.detalk.api.infrastructure.alarm.discord.DiscordWebhookConfig;
+import net.detalk.api.mock.StubHttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DiscordWebhookAlarmSenderTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StubHttpServer server;
+    private DiscordWebhookAlarmSender sender;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = StubHttpServer.start();
+        DiscordWebhookConfig config = new DiscordWebhookConfig();
+        config.setUrl(server.url("/api/webhooks/1/token"));
+        sender = new DiscordWebhookAlarmSender(config, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+        sender.close();
+    }
+
+    @DisplayName("[sendError] 에러 메시지를 멘션 없는 웹훅 JSON 본문으로 전송해야 한다")
+    @Test
+    void sendError_ShouldPostWebhookJson() throws Exception {
+        // given
+        AlarmErrorMessage errorMessage = new AlarmErrorMessage("/api/v1/tags", "IllegalStateException",
+            "caused: db down; ", "net.detalk.api.tag.service.TagService.getTags(TagService.java:10)");
+
+        // when
+        sender.sendError(errorMessage);
+
+        // then
+        Map<?, ?> body = objectMapper.readValue(server.takeRequestBody(TIMEOUT), Map.class);
+        assertThat(body.get("content")).isEqualTo(errorMessage.toDefaultFormat());
+        assertThat(body.get("allowed_mentions")).isEqualTo(Map.of("parse", List.of()));
+    }
+
+    @DisplayName("[sendMessage] 전송 중에 들어온 메시지는 다음 요청 하나로 합쳐 보내야 한다")
+    @Test
+    void sendMessage_WhileInFlight_ShouldBatch() throws Exception {
+        // given
+        server.holdResponses();
+        sender.sendMessage("first");
+        assertThat(contentOf(server.takeRequestBody(TIMEOUT))).isEqualTo("first");
+
+        // when
+        sender.sendMessage("second");
+        sender.sendMessage("third");
+        server.releaseResponses();
+
+        // then
+        assertThat(contentOf(server.takeRequestBody(TIMEOUT))).isEqualTo("second\n\nthird");
+        assertThat(server.takeRequestBody(Duration.ofMillis(200))).isNull();
+    }
+
+    @DisplayName("[sendMessage] 429 응답이면 Retry-After 후 같은 본문을 다시 보내야 한다")
+    @Test
+    void sendMessage_WhenRateLimited_ShouldRetry() throws Exception {
+        // given
+        server.respond(429, Map.of("Retry-After", "0.05"));
+
+        // when
+        sender.sendMessage("slow query");
+
+        // then
+        assertThat(contentOf(server.takeRequestBody(TIMEOUT))).isEqualTo("slow query");
+        assertThat(contentOf(server.takeRequestBody(TIMEOUT))).isEqualTo("slow query");
+    }
+
+    private String contentOf(String body) throws Exception {
+        assertThat(body).isNotNull();
+        return (String) objectMapper.readValue(body, Map.class).get("content");
+    }
+}
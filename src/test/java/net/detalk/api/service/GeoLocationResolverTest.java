@@ -0,0 +1,123 @@
+package net.detalk.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.maxmind.db.Network;
+import com.maxmind.geoip2.DatabaseReader;
+import com.maxmind.geoip2.model.CityResponse;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.detalk.api.admin.domain.GeoLocation;
+import net.detalk.api.admin.service.GeoLocationResolver;
+import net.detalk.api.support.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class GeoLocationResolverTest {
+
+    @Mock
+    private DatabaseReader databaseReader;
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @TempDir
+    private Path tempDir;
+
+    private Path databaseFile;
+    private final AtomicInteger openCount = new AtomicInteger();
+    private GeoLocationResolver geoLocationResolver;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        databaseFile = Files.createFile(tempDir.resolve("GeoLite2-City.mmdb"));
+        geoLocationResolver = new GeoLocationResolver(databaseFile.toString(), taskScheduler, new AppProperties()) {
+            @Override
+            protected DatabaseReader open(Path path) {
+                openCount.incrementAndGet();
+                return databaseReader;
+            }
+        };
+        geoLocationResolver.start();
+    }
+
+    @DisplayName("[resolve] 같은 /24 대역의 IP 는 DB 를 다시 조회하지 않아야 한다")
+    @Test
+    void resolve_SamePrefix_ShouldHitCache() throws Exception {
+        // given
+        CityResponse response = cityResponse("NA", "US", "United States", "8.8.8.0", 24);
+        when(databaseReader.city(any())).thenReturn(response);
+
+        // when
+        GeoLocation first = geoLocationResolver.resolve(InetAddress.getByName("8.8.8.8"));
+        GeoLocation second = geoLocationResolver.resolve(InetAddress.getByName("8.8.8.200"));
+
+        // then
+        assertThat(first).isEqualTo(new GeoLocation("NA", "US", "United States"));
+        assertThat(second).isEqualTo(first);
+        verify(databaseReader, times(1)).city(any());
+    }
+
+    @DisplayName("[resolve] /24 보다 작은 네트워크에 속한 IP 는 캐시하지 않아야 한다")
+    @Test
+    void resolve_NarrowNetwork_ShouldNotCache() throws Exception {
+        // given
+        CityResponse response = cityResponse("AS", "KR", "South Korea", "1.2.3.0", 28);
+        when(databaseReader.city(any())).thenReturn(response);
+
+        // when
+        geoLocationResolver.resolve(InetAddress.getByName("1.2.3.4"));
+        geoLocationResolver.resolve(InetAddress.getByName("1.2.3.5"));
+
+        // then
+        verify(databaseReader, times(2)).city(any());
+    }
+
+    @DisplayName("[reloadIfChanged] DB 파일 수정 시각이 바뀌면 새로 열고 캐시를 비워야 한다")
+    @Test
+    void reloadIfChanged_WhenFileModified_ShouldReopenAndInvalidate() throws Exception {
+        // given
+        CityResponse response = cityResponse("NA", "US", "United States", "8.8.8.0", 24);
+        when(databaseReader.city(any())).thenReturn(response);
+        geoLocationResolver.resolve(InetAddress.getByName("8.8.8.8"));
+
+        // when
+        boolean unchanged = geoLocationResolver.reloadIfChanged();
+        Files.setLastModifiedTime(databaseFile, FileTime.from(Instant.now().plusSeconds(60)));
+        boolean reloaded = geoLocationResolver.reloadIfChanged();
+        geoLocationResolver.resolve(InetAddress.getByName("8.8.8.8"));
+
+        // then
+        assertThat(unchanged).isFalse();
+        assertThat(reloaded).isTrue();
+        assertThat(openCount.get()).isEqualTo(2);
+        verify(databaseReader, times(2)).city(any());
+    }
+
+    private CityResponse cityResponse(String continentCode, String countryIso, String countryName,
+        String networkAddress, int prefixLength) throws Exception {
+        CityResponse response = mock(CityResponse.class, RETURNS_DEEP_STUBS);
+        when(response.getContinent().getCode()).thenReturn(continentCode);
+        when(response.getCountry().getIsoCode()).thenReturn(countryIso);
+        when(response.getRegisteredCountry().getName()).thenReturn(countryName);
+        when(response.getTraits().getNetwork())
+            .thenReturn(new Network(InetAddress.getByName(networkAddress), prefixLength));
+        return response;
+    }
+}
@@ -3,6 +3,7 @@ package net.detalk.api.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
@@ -21,6 +22,7 @@ import net.detalk.api.member.domain.exception.UserHandleDuplicatedException;
 import net.detalk.api.member.service.MemberService;
 import net.detalk.api.mock.FakeTimeHolder;
 import net.detalk.api.mock.FakeUUIDGenerator;
+import net.detalk.api.post.service.ProductPostCardService;
 import net.detalk.api.member.repository.MemberProfileRepository;
 import net.detalk.api.member.repository.MemberRepository;
 import net.detalk.api.support.util.TimeHolder;
@@ -51,6 +53,9 @@ class MemberServiceTest {
     @Mock
     private MemberProfileRepository memberProfileRepository;
 
+    @Mock
+    private ProductPostCardService productPostCardService;
+
     /**
      * fake random classes
      */
@@ -81,6 +86,7 @@ class MemberServiceTest {
         memberService = new MemberService(
             memberRepository,
             memberProfileRepository,
+            productPostCardService,
             timeHolder,
             uuidGenerator
         );
@@ -315,6 +321,9 @@ class MemberServiceTest {
 
         // when
         memberService.updateProfile(memberId, updateRequest);
+
+        // then 작성한 게시글 카드에도 프로필이 반영되어야 한다
+        verify(productPostCardService).refreshWriterProfile(memberId);
     }
 
     @DisplayName("실패[updateProfile] 존재하지 않는 MemberId 요청")
@@ -0,0 +1,75 @@
+package net.detalk.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import net.detalk.api.post.repository.ProductPostCardRepository;
+import net.detalk.api.post.service.ProductPostCardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProductPostCardServiceTest {
+
+    @Mock
+    private ProductPostCardRepository productPostCardRepository;
+
+    private ProductPostCardService productPostCardService;
+
+    @BeforeEach
+    void setUp() {
+        productPostCardService = new ProductPostCardService(productPostCardRepository);
+    }
+
+    @DisplayName("[refresh] 원본 게시글이 있으면 카드를 upsert 한다")
+    @Test
+    void refresh_WhenPostExists_ShouldUpsert() {
+        // given
+        var postId = 1L;
+        when(productPostCardRepository.refresh(postId)).thenReturn(1);
+
+        // when
+        productPostCardService.refresh(postId);
+
+        // then
+        verify(productPostCardRepository, never()).deleteByPostId(postId);
+    }
+
+    @DisplayName("[refresh] 원본 게시글이 없으면 카드를 삭제한다")
+    @Test
+    void refresh_WhenPostNotExists_ShouldDelete() {
+        // given
+        var postId = 1L;
+        when(productPostCardRepository.refresh(postId)).thenReturn(0);
+
+        // when
+        productPostCardService.refresh(postId);
+
+        // then
+        verify(productPostCardRepository).deleteByPostId(postId);
+    }
+
+    @DisplayName("[repair] 불일치 게시글 카드만 다시 생성한다")
+    @Test
+    void repair_ShouldRefreshInconsistentPosts() {
+        // given
+        when(productPostCardRepository.findInconsistentPostIds()).thenReturn(List.of(3L, 7L));
+        when(productPostCardRepository.refresh(3L)).thenReturn(1);
+        when(productPostCardRepository.refresh(7L)).thenReturn(1);
+
+        // when
+        List<Long> repaired = productPostCardService.repair();
+
+        // then
+        assertThat(repaired).containsExactly(3L, 7L);
+        verify(productPostCardRepository).refresh(3L);
+        verify(productPostCardRepository).refresh(7L);
+    }
+}
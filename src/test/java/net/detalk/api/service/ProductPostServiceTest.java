@@ -1,47 +1,75 @@
 package net.detalk.api.service;
 
+import static net.detalk.jooq.tables.JProductPostCard.PRODUCT_POST_CARD;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import javax.sql.DataSource;
+import net.detalk.api.alarm.service.AlarmSender;
 import net.detalk.api.post.controller.v1.request.CreateProductPostRequest;
 import net.detalk.api.post.controller.v1.response.GetProductPostResponse;
 import net.detalk.api.post.controller.v1.response.GetProductPostResponse.Media;
 import net.detalk.api.plan.domain.PricingPlan;
 import net.detalk.api.plan.service.PricingPlanService;
 import net.detalk.api.post.domain.exception.InvalidRecommendCountRequest;
+import net.detalk.api.post.domain.exception.InvalidSnapshotAttachmentFileException;
 import net.detalk.api.post.repository.ProductPostLastSnapshotRepository;
 import net.detalk.api.post.repository.ProductPostLinkRepository;
 import net.detalk.api.post.repository.ProductPostRepository;
 import net.detalk.api.post.repository.ProductPostSnapshotAttachmentFileRepository;
 import net.detalk.api.post.repository.ProductPostSnapshotRepository;
 import net.detalk.api.post.repository.ProductPostSnapshotTagRepository;
+import net.detalk.api.post.repository.impl.ProductPostRepositoryImpl;
 import net.detalk.api.product.domain.Product;
 import net.detalk.api.product.domain.ProductLink;
 import net.detalk.api.post.domain.ProductPost;
+import net.detalk.api.post.domain.ProductPostDetailPointer;
+import net.detalk.api.post.domain.ProductPostSort;
 import net.detalk.api.post.domain.ProductPostSnapshot;
+import net.detalk.api.post.domain.ProductPostSnapshotContent;
 import net.detalk.api.product.service.ProductLinkService;
 import net.detalk.api.product.service.ProductService;
 import net.detalk.api.support.error.ApiException;
+import net.detalk.api.support.paging.CursorCodec;
 import net.detalk.api.support.paging.CursorPageData;
 import net.detalk.api.tag.domain.Tag;
 import net.detalk.api.mock.FakeTimeHolder;
 import net.detalk.api.mock.FakeUUIDGenerator;
 import net.detalk.api.product.repository.ProductMakerRepository;
+import net.detalk.api.post.service.ProductPostCardService;
+import net.detalk.api.post.service.ProductPostDetailCache;
 import net.detalk.api.post.service.ProductPostIdempotentService;
+import net.detalk.api.post.service.RecommendCountBuffer;
+import net.detalk.api.post.service.TagPostIndex;
 import net.detalk.api.post.service.ProductPostService;
+import net.detalk.api.support.config.AppProperties;
+import net.detalk.api.support.query.QueryCountAssertions;
+import net.detalk.api.support.query.QueryMetricsRegistry;
+import net.detalk.api.support.query.RequestQueryTracker;
 import net.detalk.api.support.util.TimeHolder;
+import net.detalk.api.support.web.listener.PerformanceListener;
 import net.detalk.api.support.util.UUIDGenerator;
 import net.detalk.api.tag.service.TagService;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -49,6 +77,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.TaskScheduler;
 
 @ExtendWith(MockitoExtension.class)
 class ProductPostServiceTest {
@@ -85,6 +114,20 @@ class ProductPostServiceTest {
     private PricingPlanService planService;
     @Mock
     private ProductPostIdempotentService IdempotentService;
+    @Mock
+    private ProductPostCardService productPostCardService;
+    @Mock
+    private ProductPostDetailCache productPostDetailCache;
+    @Mock
+    private RecommendCountBuffer recommendCountBuffer;
+    @Mock
+    private TagPostIndex tagPostIndex;
+    @Mock
+    private AlarmSender alarmSender;
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private TaskScheduler taskScheduler;
 
     /**
      * fake random classes
@@ -137,6 +180,10 @@ class ProductPostServiceTest {
             postSnapshotRepository,
             productPostLinkRepository,
             IdempotentService,
+            productPostCardService,
+            productPostDetailCache,
+            recommendCountBuffer,
+            tagPostIndex,
             planService,
             tagService,
             timeHolder,
@@ -224,15 +271,137 @@ class ProductPostServiceTest {
         when(postLastSnapshotRepository.save(anyLong(), anyLong())).thenReturn(null);
         when(productLinkService.getOrCreateProductLink(productUrl, productId,
             fixedInstant)).thenReturn(productLink);
-        when(tagService.getOrCreateTag(tagName)).thenReturn(tag);
+        when(tagService.getOrCreateTags(List.of(tagName))).thenReturn(List.of(tag));
+        when(snapshotAttachmentFileRepository.saveAll(productPostSnapshotId, memberId,
+            List.of(UUID.fromString(imageId)))).thenReturn(1);
 
         // when
         Long result = productPostService.create(request, memberId);
 
         // then
         assertThat(result).isEqualTo(1L);
+        verify(productPostCardService).refresh(productPostId);
     }
 
+    @DisplayName("실패[create] - 존재하지 않거나 다른 회원이 올린 이미지가 포함되면 예외가 발생한다")
+    @Test
+    void create_fail_invalidAttachmentFile() {
+        // given
+        UUID idempotentKey = uuidGenerator.generateV7();
+
+        CreateProductPostRequest request = CreateProductPostRequest.builder()
+            .name(productName)
+            .url(productUrl)
+            .description(description)
+            .imageIds(List.of(imageId))
+            .isMaker(false)
+            .tags(List.of(tagName))
+            .pricingPlan(plan)
+            .idempotentKey(String.valueOf(idempotentKey))
+            .build();
+
+        when(productService.getOrCreateProduct(productName, fixedInstant)).thenReturn(product);
+        when(postRepository.save(memberId, productPostId, fixedInstant)).thenReturn(productPost);
+        when(planService.findByName(plan)).thenReturn(pricingPlan);
+        when(postSnapshotRepository.save(any(ProductPostSnapshot.class))).thenReturn(
+            productPostSnapshot);
+        when(productLinkService.getOrCreateProductLink(productUrl, productId,
+            fixedInstant)).thenReturn(productLink);
+        when(snapshotAttachmentFileRepository.saveAll(productPostSnapshotId, memberId,
+            List.of(UUID.fromString(imageId)))).thenReturn(0);
+
+        // when & then
+        assertThrows(InvalidSnapshotAttachmentFileException.class,
+            () -> productPostService.create(request, memberId));
+        verify(productPostCardService, never()).refresh(anyLong());
+    }
+
+
+    @DisplayName("성공[getProductPostsByTags] - 존재하지 않는 태그가 있으면 DB 조회 없이 빈 페이지를 반환한다")
+    @Test
+    void getProductPostsByTags_success_unknownTag() {
+
+        // given
+        List<String> tags = List.of(tagName, "unknown");
+        when(tagService.existsAll(tags)).thenReturn(false);
+
+        // when
+        CursorPageData<GetProductPostResponse> result = productPostService.getProductPostsByTags(5,
+            null, ProductPostSort.LATEST, tags);
+
+        // then
+        assertThat(result.getItems()).isEmpty();
+        assertThat(result.hasNext()).isFalse();
+        verify(postRepository, never()).findProductPostsByTags(anyInt(), any(), any(), any());
+    }
+
+    @DisplayName("성공[getProductPostsByTags] - 역색인으로 찾은 ID 의 게시글만 조회하고, 태그가 바뀐 게시글은 제외한다")
+    @Test
+    void getProductPostsByTags_success_index() {
+
+        // given
+        List<String> tags = List.of(tagName);
+        GetProductPostResponse matched = GetProductPostResponse.builder()
+            .id(3L)
+            .tags(List.of(tagName, "design"))
+            .recommendCount(0)
+            .build();
+        GetProductPostResponse stale = GetProductPostResponse.builder()
+            .id(2L)
+            .tags(List.of("design"))
+            .recommendCount(0)
+            .build();
+
+        when(tagService.existsAll(tags)).thenReturn(true);
+        when(tagPostIndex.isReady()).thenReturn(true);
+        when(tagService.findIds(tags)).thenReturn(List.of(tagId));
+        when(tagPostIndex.findPostIds(List.of(tagId), null, 6)).thenReturn(List.of(3L, 2L));
+        when(postRepository.findProductPostsByIds(List.of(3L, 2L))).thenReturn(
+            List.of(matched, stale));
+
+        // when
+        CursorPageData<GetProductPostResponse> result = productPostService.getProductPostsByTags(5,
+            null, ProductPostSort.LATEST, tags);
+
+        // then
+        assertThat(result.getItems()).extracting("id").containsExactly(3L);
+        assertThat(result.hasNext()).isFalse();
+        verify(postRepository, never()).findProductPostsByTags(anyInt(), any(), any(), any());
+    }
+
+    @DisplayName("성공[getProductPostsByTags] - 태그가 바뀐 게시글이 걸러지면 역색인에서 이어서 가져와 페이지를 채운다")
+    @Test
+    void getProductPostsByTags_success_refillFilteredPage() {
+
+        // given : pageSize + 1 번째 ID(3) 가 다른 서버에서 태그가 바뀐 게시글
+        List<String> tags = List.of(tagName);
+        GetProductPostResponse post5 = GetProductPostResponse.builder()
+            .id(5L).tags(List.of(tagName)).recommendCount(0).build();
+        GetProductPostResponse post4 = GetProductPostResponse.builder()
+            .id(4L).tags(List.of(tagName)).recommendCount(0).build();
+        GetProductPostResponse stale = GetProductPostResponse.builder()
+            .id(3L).tags(List.of("design")).recommendCount(0).build();
+        GetProductPostResponse post2 = GetProductPostResponse.builder()
+            .id(2L).tags(List.of(tagName)).recommendCount(0).build();
+
+        when(tagService.existsAll(tags)).thenReturn(true);
+        when(tagPostIndex.isReady()).thenReturn(true);
+        when(tagService.findIds(tags)).thenReturn(List.of(tagId));
+        when(tagPostIndex.findPostIds(List.of(tagId), null, 3)).thenReturn(List.of(5L, 4L, 3L));
+        when(postRepository.findProductPostsByIds(List.of(5L, 4L, 3L))).thenReturn(
+            List.of(post5, post4, stale));
+        when(tagPostIndex.findPostIds(List.of(tagId), 3L, 1)).thenReturn(List.of(2L));
+        when(postRepository.findProductPostsByIds(List.of(2L))).thenReturn(List.of(post2));
+
+        // when
+        CursorPageData<GetProductPostResponse> result = productPostService.getProductPostsByTags(2,
+            null, ProductPostSort.LATEST, tags);
+
+        // then
+        assertThat(result.getItems()).extracting("id").containsExactly(5L, 4L);
+        assertThat(result.hasNext()).isTrue();
+        verify(postRepository, never()).findProductPostsByTags(anyInt(), any(), any(), any());
+    }
 
     @DisplayName("성공[getProductPosts] - 다음 데이터가 없으면 hasNext,nextId null 을 반환한다")
     @Test
@@ -240,7 +409,7 @@ class ProductPostServiceTest {
 
         // given
         int pageSize = 5;
-        Long nextId = null;
+        String cursor = null;
 
         GetProductPostResponse postResponse = GetProductPostResponse.builder()
             .id(productId)
@@ -260,13 +429,15 @@ class ProductPostServiceTest {
 
         List<GetProductPostResponse> mockPosts = List.of(postResponse);
 
-        when(postRepository.findProductPosts(pageSize + 1, nextId)).thenReturn(mockPosts);
+        when(postRepository.findProductPosts(pageSize + 1, ProductPostSort.LATEST, cursor))
+            .thenReturn(mockPosts);
 
         CursorPageData<GetProductPostResponse> result = productPostService.getProductPosts(pageSize,
-            nextId);
+            cursor, ProductPostSort.LATEST);
 
         assertThat(result.getItems()).hasSize(1);
         assertThat(result.getNextId()).isNull();
+        assertThat(result.getNextCursor()).isNull();
         assertThat(result.hasNext()).isFalse();
     }
 
@@ -276,7 +447,7 @@ class ProductPostServiceTest {
 
         // given
         int pageSize = 5;
-        Long nextId = null;
+        String cursor = null;
         int numOfData = 6; // pageSize + 1
         long startId = 0L; // 시작 ID
 
@@ -302,20 +473,118 @@ class ProductPostServiceTest {
             responses.add(response);
         }
 
-        when(postRepository.findProductPosts(pageSize + 1, nextId)).thenReturn(responses);
+        when(postRepository.findProductPosts(pageSize + 1, ProductPostSort.LATEST, cursor))
+            .thenReturn(responses);
 
         // When
         CursorPageData<GetProductPostResponse> result = productPostService.getProductPosts(pageSize,
-            nextId);
+            cursor, ProductPostSort.LATEST);
 
         // Then
         assertThat(result.getItems()).hasSize(pageSize); // 5개만 반환
         assertThat(result.getNextId()).isEqualTo(5L); // 5번째 게시글의 ID
+        assertThat(result.getNextCursor()).isEqualTo(CursorCodec.encode(5L));
         assertThat(result.hasNext()).isTrue(); // 다음 페이지 존재
 
     }
 
 
+    @DisplayName("성공[getProductPosts] - 추천순 커서는 아직 반영되지 않은 추천 수를 더하기 전 DB 값으로 만든다")
+    @Test
+    void getProductPosts_success_recommendedCursorUsesStoredCount() {
+
+        // given
+        int pageSize = 1;
+        GetProductPostResponse first = GetProductPostResponse.builder()
+            .id(7L)
+            .recommendCount(10)
+            .build();
+        GetProductPostResponse second = GetProductPostResponse.builder()
+            .id(3L)
+            .recommendCount(10)
+            .build();
+
+        when(postRepository.findProductPosts(pageSize + 1, ProductPostSort.RECOMMENDED, null))
+            .thenReturn(List.of(first, second));
+        when(recommendCountBuffer.pendingCount(7L)).thenReturn(2L);
+
+        // when
+        CursorPageData<GetProductPostResponse> result = productPostService.getProductPosts(pageSize,
+            null, ProductPostSort.RECOMMENDED);
+
+        // then
+        assertThat(result.getItems()).extracting("recommendCount").containsExactly(12);
+        assertThat(result.getNextCursor()).isEqualTo(CursorCodec.encode(10L, 7L));
+        // 추천순은 게시글 ID(startId) 로 이어 조회할 수 없으므로 nextId 를 주지 않는다
+        assertThat(result.getNextId()).isNull();
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @DisplayName("성공[getProductPosts] - 피드 조회는 정렬과 관계없이 카드 테이블 한 번만 조회한다 (쿼리 예산)")
+    @Test
+    void getProductPosts_success_queryBudget() {
+
+        // given : 실제 게시글 저장소를 PerformanceListener 가 등록된 DSLContext 로 실행 (빈 결과를 돌려주는 JDBC 커넥션)
+        AppProperties appProperties = new AppProperties();
+        RequestQueryTracker requestQueryTracker = new RequestQueryTracker(appProperties);
+        QueryMetricsRegistry queryMetricsRegistry = new QueryMetricsRegistry(dataSource, taskScheduler,
+            appProperties);
+        DSLContext resultDsl = DSL.using(SQLDialect.POSTGRES);
+        DSLContext dsl = DSL.using(new DefaultConfiguration()
+            .set(new MockConnection(ctx -> new MockResult[]{
+                new MockResult(0, resultDsl.newResult(PRODUCT_POST_CARD))
+            }))
+            .set(SQLDialect.POSTGRES)
+            .set(new PerformanceListener(alarmSender, queryMetricsRegistry, requestQueryTracker)));
+
+        ProductPostService service = new ProductPostService(
+            productLinkService,
+            makerRepository,
+            productService,
+            new ProductPostRepositoryImpl(dsl, new ObjectMapper()),
+            postLastSnapshotRepository,
+            snapshotAttachmentFileRepository,
+            postSnapshotTagRepository,
+            postSnapshotRepository,
+            productPostLinkRepository,
+            IdempotentService,
+            productPostCardService,
+            productPostDetailCache,
+            recommendCountBuffer,
+            tagPostIndex,
+            planService,
+            tagService,
+            timeHolder,
+            uuidGenerator
+        );
+
+        // when & then
+        QueryCountAssertions.assertMaxQueries(requestQueryTracker, 1,
+            () -> service.getProductPosts(5, null, ProductPostSort.LATEST));
+        QueryCountAssertions.assertMaxQueries(requestQueryTracker, 1,
+            () -> service.getProductPosts(5, CursorCodec.encode(10L, 7L), ProductPostSort.RECOMMENDED));
+    }
+
+    @DisplayName("성공[getProductPostsByTags] - 추천순은 역색인 대신 DB 에서 조회한다")
+    @Test
+    void getProductPostsByTags_success_recommendedFromDatabase() {
+
+        // given
+        List<String> tags = List.of(tagName);
+        String cursor = CursorCodec.encode(10L, 7L);
+        when(tagService.existsAll(tags)).thenReturn(true);
+        when(postRepository.findProductPostsByTags(6, ProductPostSort.RECOMMENDED, cursor, tags))
+            .thenReturn(List.of());
+
+        // when
+        CursorPageData<GetProductPostResponse> result = productPostService.getProductPostsByTags(5,
+            cursor, ProductPostSort.RECOMMENDED, tags);
+
+        // then
+        assertThat(result.getItems()).isEmpty();
+        verify(tagPostIndex, never()).findPostIds(any(), any(), anyInt());
+    }
+
     @DisplayName("실패[getProductPosts] - 잘못된 pageSize")
     @Test
     void getProductPosts_fail_invalidPageSize() {
@@ -323,13 +592,13 @@ class ProductPostServiceTest {
         // given
         int pageSizeZero = 0;
         int pageSizeNegative = -99;
-        Long nextId = null;
+        String cursor = null;
 
         // when
         ApiException exceptionZero = assertThrows(ApiException.class,
-            () -> productPostService.getProductPosts(pageSizeZero, nextId));
+            () -> productPostService.getProductPosts(pageSizeZero, cursor, ProductPostSort.LATEST));
         ApiException exceptionNegative = assertThrows(ApiException.class,
-            () -> productPostService.getProductPosts(pageSizeNegative, nextId));
+            () -> productPostService.getProductPosts(pageSizeNegative, cursor, ProductPostSort.LATEST));
 
         // then
         assertThat(exceptionZero.getMessage()).isEqualTo("잘못된 페이지 크기입니다: 0 (허용 범위: 1-20)");
@@ -343,7 +612,7 @@ class ProductPostServiceTest {
         // Given
         Long memberId = 1L;
         int pageSize = 5;
-        Long nextId = null;
+        String cursor = null;
         int numOfData = 6;
 
         List<GetProductPostResponse> responses = new ArrayList<>();
@@ -368,12 +637,12 @@ class ProductPostServiceTest {
             responses.add(response);
         }
 
-        when(postRepository.findProductPostsByMemberId(memberId, pageSize + 1, nextId)).thenReturn(
+        when(postRepository.findProductPostsByMemberId(memberId, pageSize + 1, cursor)).thenReturn(
             responses);
 
         // When
         CursorPageData<GetProductPostResponse> result = productPostService.getProductPostsByMemberId(
-            memberId, pageSize, nextId);
+            memberId, pageSize, cursor);
 
         // Then
         assertThat(result.getItems()).hasSize(pageSize);
@@ -389,11 +658,11 @@ class ProductPostServiceTest {
         // given
         Long memberId = 1L;
         int pageSize = 0;
-        Long nextId = null;
+        String cursor = null;
 
         // when
         ApiException exception = assertThrows(ApiException.class,
-            () -> productPostService.getProductPostsByMemberId(memberId, pageSize, nextId));
+            () -> productPostService.getProductPostsByMemberId(memberId, pageSize, cursor));
 
         // then
         assertThat(exception.getMessage()).isEqualTo("잘못된 페이지 크기입니다: 0 (허용 범위: 1-20)");
@@ -405,24 +674,32 @@ class ProductPostServiceTest {
     void getProductPostDetailsById() {
 
         // given
-        GetProductPostResponse postResponse = GetProductPostResponse.builder()
-            .id(productId)
+        Long id = 1L;
+
+        ProductPostDetailPointer pointer = ProductPostDetailPointer.builder()
+            .postId(productPostId)
+            .snapshotId(productPostSnapshotId)
+            .recommendCount(0L)
             .nickname(nickname)
             .userHandle(userhandle)
-            .createdAt(timeHolder.now())
-            .isMaker(true)
             .avatarUrl(avatarUrl)
+            .isMaker(true)
+            .urls(List.of(productUrl))
+            .build();
+
+        ProductPostSnapshotContent content = ProductPostSnapshotContent.builder()
+            .snapshotId(productPostSnapshotId)
             .title(productPostSnapshot.getTitle())
             .description(productPostSnapshot.getDescription())
             .pricingPlan(pricingPlan.getName())
-            .recommendCount(0)
             .tags(List.of(String.valueOf(tag)))
             .media(mediaList)
-            .urls(List.of(productUrl))
+            .createdAt(timeHolder.now())
             .build();
-        Long id = 1L;
 
-        when(postRepository.findDetailsById(id)).thenReturn(Optional.ofNullable(postResponse));
+        when(productPostDetailCache.getPointer(id)).thenReturn(Optional.of(pointer));
+        when(productPostDetailCache.getSnapshotContent(productPostSnapshotId))
+            .thenReturn(Optional.of(content));
 
         // when
         GetProductPostResponse result = productPostService.getProductPostDetailsById(
@@ -439,6 +716,7 @@ class ProductPostServiceTest {
         assertThat(result.tags()).isEqualTo(List.of(String.valueOf(tag)));
         assertThat(result.media()).isEqualTo(mediaList);
         assertThat(result.urls()).isEqualTo(List.of(productUrl));
+        assertThat(result.recommendCount()).isZero();
     }
 
     @DisplayName("실패[getProductPostDetailsById] - 존재하지 않는 게시글 ID")
@@ -465,7 +743,7 @@ class ProductPostServiceTest {
 
         // given
         int pageSize = 5;
-        Long nextId = null;
+        String cursor = null;
 
         GetProductPostResponse postResponse = GetProductPostResponse.builder()
             .id(productId)
@@ -486,11 +764,11 @@ class ProductPostServiceTest {
         List<GetProductPostResponse> mockResponses = List.of(postResponse);
 
         when(postRepository.findRecommendedPostsByMemberId(memberId, pageSize + 1,
-            nextId)).thenReturn(mockResponses);
+            cursor)).thenReturn(mockResponses);
 
         // when
         CursorPageData<GetProductPostResponse> recommendedPostsByMemberId = productPostService.getRecommendedPostsByMemberId(
-            memberId, pageSize, nextId);
+            memberId, pageSize, cursor);
 
         // then
         assertThat(recommendedPostsByMemberId.getNextId()).isNull();
@@ -531,6 +809,8 @@ class ProductPostServiceTest {
         int recommendCounts = 999;
 
         productPostService.incrementRecommendCount(productPostId, recommendCounts);
+
+        verify(recommendCountBuffer).add(productPostId, recommendCounts);
     }
 
     @DisplayName("[incrementRecommendCount] 음수 추천 수 입력 시 예외가 발생해야 한다")
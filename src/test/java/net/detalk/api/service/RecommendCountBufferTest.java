@@ -0,0 +1,166 @@
+package net.detalk.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import net.detalk.api.post.repository.ProductPostCardRepository;
+import net.detalk.api.post.repository.ProductPostRepository;
+import net.detalk.api.post.service.ProductPostDetailCache;
+import net.detalk.api.post.service.RecommendCountBuffer;
+import net.detalk.api.support.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendCountBufferTest {
+
+    @Mock
+    private ProductPostRepository productPostRepository;
+    @Mock
+    private ProductPostCardRepository productPostCardRepository;
+    @Mock
+    private ProductPostDetailCache productPostDetailCache;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private RecommendCountBuffer recommendCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setRecommendCountFlushThreshold(1_000);
+
+        recommendCountBuffer = new RecommendCountBuffer(
+            productPostRepository,
+            productPostCardRepository,
+            productPostDetailCache,
+            transactionManager,
+            taskScheduler,
+            appProperties
+        );
+    }
+
+    @DisplayName("[add] 반영 전 증가량은 pendingCount 로 조회되어야 한다")
+    @Test
+    void add_ShouldAccumulatePendingCount() {
+        // when
+        recommendCountBuffer.add(1L, 2);
+        recommendCountBuffer.add(1L, 3);
+        recommendCountBuffer.add(2L, 1);
+
+        // then
+        assertThat(recommendCountBuffer.pendingCount(1L)).isEqualTo(5L);
+        assertThat(recommendCountBuffer.pendingCount(2L)).isEqualTo(1L);
+        assertThat(recommendCountBuffer.pendingCount(3L)).isZero();
+    }
+
+    @DisplayName("[flush] 게시글별 증가량을 한 번에 반영하고 버퍼를 비워야 한다")
+    @Test
+    void flush_ShouldWriteDeltasAndReset() {
+        // given
+        recommendCountBuffer.add(1L, 2);
+        recommendCountBuffer.add(1L, 3);
+        recommendCountBuffer.add(2L, 1);
+
+        // when
+        int posts = recommendCountBuffer.flush();
+
+        // then
+        assertThat(posts).isEqualTo(2);
+        verify(productPostRepository).incrementRecommendCounts(Map.of(1L, 5L, 2L, 1L));
+        verify(productPostCardRepository).incrementRecommendCounts(Map.of(1L, 5L, 2L, 1L));
+        verify(productPostDetailCache).evictPointer(1L);
+        verify(productPostDetailCache).evictPointer(2L);
+        assertThat(recommendCountBuffer.pendingCount(1L)).isZero();
+    }
+
+    @DisplayName("[flush] 반영할 증가량이 없으면 DB 를 호출하지 않는다")
+    @Test
+    void flush_WhenEmpty_ShouldNotWrite() {
+        // when
+        int posts = recommendCountBuffer.flush();
+
+        // then
+        assertThat(posts).isZero();
+        verify(productPostRepository, never()).incrementRecommendCounts(anyMap());
+    }
+
+    @DisplayName("[flush] DB 반영 실패 시 증가량은 버퍼에 남아 있어야 한다")
+    @Test
+    void flush_WhenWriteFails_ShouldKeepDeltas() {
+        // given
+        recommendCountBuffer.add(1L, 4);
+        doThrow(new IllegalStateException("db down"))
+            .when(productPostRepository).incrementRecommendCounts(any());
+
+        // when
+        int posts = recommendCountBuffer.flush();
+
+        // then
+        assertThat(posts).isZero();
+        assertThat(recommendCountBuffer.pendingCount(1L)).isEqualTo(4L);
+        verify(productPostDetailCache, never()).evictPointer(1L);
+    }
+
+    @DisplayName("[flush] DB 반영이 커밋되기 전까지 증가량은 pendingCount 로 조회되어야 한다")
+    @Test
+    void flush_BeforeCommit_ShouldKeepPendingCountVisible() {
+        // given
+        recommendCountBuffer.add(1L, 3);
+        AtomicLong pendingDuringFlush = new AtomicLong(-1);
+        doAnswer(invocation -> {
+            recommendCountBuffer.add(1L, 2);
+            pendingDuringFlush.set(recommendCountBuffer.pendingCount(1L));
+            return null;
+        }).when(productPostRepository).incrementRecommendCounts(Map.of(1L, 3L));
+
+        // when
+        recommendCountBuffer.flush();
+
+        // then
+        assertThat(pendingDuringFlush.get()).isEqualTo(5L);
+        assertThat(recommendCountBuffer.pendingCount(1L)).isEqualTo(2L);
+    }
+
+    @DisplayName("[add] 트랜잭션 안의 증가량은 커밋 후에만 적재하고, 롤백되면 버려야 한다")
+    @Test
+    void add_InTransaction_ShouldApplyOnlyAfterCommit() {
+        // given
+        long pendingBeforeCommit;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            recommendCountBuffer.add(1L, 2);
+            recommendCountBuffer.add(2L, 3);
+            pendingBeforeCommit = recommendCountBuffer.pendingCount(1L);
+            var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+            // when
+            synchronizations.get(0).afterCommit();
+            synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(pendingBeforeCommit).isZero();
+        assertThat(recommendCountBuffer.pendingCount(1L)).isEqualTo(2L);
+        assertThat(recommendCountBuffer.pendingCount(2L)).isZero();
+    }
+}
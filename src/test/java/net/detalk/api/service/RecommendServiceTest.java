@@ -5,7 +5,6 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -15,7 +14,6 @@ import static org.mockito.Mockito.when;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import net.detalk.api.post.controller.v1.request.CreateRecommendRequest;
 import net.detalk.api.post.domain.Recommend;
 import net.detalk.api.post.domain.exception.DuplicateRecommendationException;
@@ -68,79 +66,79 @@ class RecommendServiceTest {
         // given
         var postId = 1L;
         var memberId = 1L;
-        var recommendId = 100L;
         var reason1 = "좋음";
         var reason2 = "저렴함";
         var content = "디자인이 이쁘고 저렴해요.";
         var createRequest = new CreateRecommendRequest(List.of(reason1, reason2), content);
 
-        var existsRecommend1 = Recommend.builder()
-            .id(recommendId)
-            .value(reason1)
-            .build();
+        when(recommendProductRepository.saveAllIgnoringDuplicates(
+            postId, memberId, content, List.of(reason1, reason2), fixedInstant))
+            .thenReturn(List.of(100L, 101L));
 
-        var existsRecommend2 = Recommend.builder()
-            .id(recommendId)
-            .value(reason2)
-            .build();
+        // when
+        recommendService.addRecommendation(postId, memberId, createRequest);
+
+        // then 추천 이유, 연관 관계 저장이 호출되었는지
+        verify(recommendRepository).saveAllIfAbsent(List.of(reason1, reason2), fixedInstant);
+        verify(recommendRepository, never()).findAllByReasons(any());
+
+        // 추천수가 2증가 했는지
+        verify(productPostService).incrementRecommendCount(postId, 2);
+    }
 
-        when(recommendRepository.findByReason(reason1))
-            .thenReturn(Optional.of(existsRecommend1));
+    @DisplayName("[addRecommendation] 게시글 추천 시, 같은 추천 이유는 한 번만 저장되어야한다")
+    @Test
+    void addRecommendation_WhenReasonsRepeated_ShouldSaveOnce() {
 
-        when(recommendRepository.findByReason(reason2))
-            .thenReturn(Optional.of(existsRecommend2));
+        // given
+        var postId = 1L;
+        var memberId = 1L;
+        var reason = "좋음";
+        var content = "좋아요";
+        var createRequest = new CreateRecommendRequest(List.of(reason, reason), content);
 
-        when(recommendProductRepository.isAlreadyRecommended(memberId, recommendId, postId))
-            .thenReturn(false);
+        when(recommendProductRepository.saveAllIgnoringDuplicates(
+            postId, memberId, content, List.of(reason), fixedInstant))
+            .thenReturn(List.of(100L));
 
         // when
         recommendService.addRecommendation(postId, memberId, createRequest);
 
-        // then 연관 관계 호출되었는지
-        verify(recommendProductRepository).saveAll(argThat(
-            list -> list.size() == 2
-                && list.get(0).getRecommendId().equals(recommendId)
-                && list.get(0).getMemberId().equals(memberId)
-                && list.get(0).getProductPostId().equals(postId)
-                && list.get(0).getContent().equals(content)
-        ));
-
-        // 추천수가 1증가 했는지
-        verify(productPostService).incrementRecommendCount(postId, 2);
+        // then
+        verify(recommendRepository).saveAllIfAbsent(List.of(reason), fixedInstant);
+        verify(productPostService).incrementRecommendCount(postId, 1);
     }
 
-    @DisplayName("[addRecommendation] 게시글 추천 시, 연관관계 저장 전, 중복 추천이면 예외 발생")
+    @DisplayName("[addRecommendation] 게시글 추천 시, 이미 추천한 이유가 있으면 예외 발생")
     @Test
     void addRecommendation_WhenDuplicateRecommendation_ShouldThrowException() {
 
         // given
         var postId = 1L;
         var memberId = 1L;
-        var recommendId = 100L;
-        var reason = "중복추천";
+        var reason1 = "좋음";
+        var reason2 = "중복추천";
         var content = "중복 추천 테스트";
-        var createRequest = new CreateRecommendRequest(List.of(reason),content);
+        var createRequest = new CreateRecommendRequest(List.of(reason1, reason2), content);
 
-        // 이미 해당 추천 이유가 존재한다고 가정
-        var existsRecommend = Recommend.builder()
-            .id(recommendId)
-            .value(reason)
-            .build();
-        when(recommendRepository.findByReason(reason))
-            .thenReturn(Optional.of(existsRecommend));
+        // 이미 reason2 로 추천했다면 reason1 만 저장된다
+        when(recommendProductRepository.saveAllIgnoringDuplicates(
+            postId, memberId, content, List.of(reason1, reason2), fixedInstant))
+            .thenReturn(List.of(100L));
 
-        // 중복 추천인 경우 isAlreadyRecommended가 true를 반환
-        when(recommendProductRepository.isAlreadyRecommended(memberId, recommendId, postId))
-            .thenReturn(true);
+        when(recommendRepository.findAllByReasons(List.of(reason1, reason2)))
+            .thenReturn(List.of(
+                Recommend.builder().id(100L).value(reason1).build(),
+                Recommend.builder().id(101L).value(reason2).build()
+            ));
 
         // when & then
         assertThatThrownBy(
             () -> recommendService.addRecommendation(postId, memberId, createRequest))
             .isInstanceOf(DuplicateRecommendationException.class)
-            .hasMessageContaining(reason);
+            .hasMessageContaining(reason2);
 
-        // 중복 추천 예외 발생 시, 이후 로직(추천 기록 저장, 추천수 증가)이 호출되지 않아야 함
-        verify(recommendProductRepository, never()).saveAll(any());
+        // 중복 추천 예외 발생 시, 추천수는 증가하지 않아야 함 (저장된 추천은 트랜잭션 롤백)
         verify(productPostService, never()).incrementRecommendCount(anyLong(), anyInt());
     }
 
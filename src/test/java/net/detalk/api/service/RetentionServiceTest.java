@@ -0,0 +1,228 @@
+package net.detalk.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import net.detalk.api.mock.FakeTimeHolder;
+import net.detalk.api.retention.domain.RetentionPolicy;
+import net.detalk.api.retention.domain.RetentionRunResult;
+import net.detalk.api.retention.domain.RetentionTarget;
+import net.detalk.api.retention.repository.RetentionRepository;
+import net.detalk.api.retention.service.RetentionService;
+import net.detalk.api.support.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class RetentionServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-10T12:00:00Z");
+
+    @Mock
+    private RetentionRepository retentionRepository;
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private AppProperties appProperties;
+    private RetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        appProperties = new AppProperties();
+        appProperties.setRefreshTokenExpiresInSeconds(Duration.ofDays(1).toSeconds());
+        retentionService = new RetentionService(retentionRepository,
+            new FakeTimeHolder(NOW, LocalDateTime.of(2025, 1, 10, 12, 0)), taskScheduler, appProperties);
+    }
+
+    @DisplayName("[runAll] batchSize 보다 적게 삭제될 때까지 배치를 반복한다")
+    @Test
+    void runAll_ShouldDeleteInBatchesUntilDrained() {
+        // given
+        RetentionPolicy policy = RetentionPolicy.deleting(Duration.ofDays(1));
+        policy.setBatchSize(100);
+        policy.setBatchPauseMillis(0);
+        setPolicies(Map.of(RetentionTarget.PRODUCT_POST_IDEMPOTENT_REQUESTS, policy));
+
+        when(retentionRepository.deleteIdempotentRequestsCreatedBefore(NOW.minus(Duration.ofDays(1)), 100))
+            .thenReturn(100, 100, 30);
+
+        // when
+        List<RetentionRunResult> results = retentionService.runAll();
+
+        // then
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.deletedRows()).isEqualTo(230);
+            assertThat(result.completed()).isTrue();
+        });
+        verify(retentionRepository, times(3)).deleteIdempotentRequestsCreatedBefore(any(), eq(100));
+        assertThat(retentionService.getLastResults()).hasSize(1);
+    }
+
+    @DisplayName("[runAll] maxBatchesPerRun 에 도달하면 남은 row 는 다음 실행으로 넘긴다")
+    @Test
+    void runAll_WhenMaxBatchesReached_ShouldStop() {
+        // given
+        RetentionPolicy policy = RetentionPolicy.deleting(Duration.ofDays(90));
+        policy.setBatchSize(10);
+        policy.setBatchPauseMillis(0);
+        policy.setMaxBatchesPerRun(2);
+        setPolicies(Map.of(RetentionTarget.VISITOR_LOG, policy));
+
+        when(retentionRepository.deleteVisitorLogsVisitedBefore(any(), eq(10))).thenReturn(10);
+
+        // when
+        List<RetentionRunResult> results = retentionService.runAll();
+
+        // then
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.deletedRows()).isEqualTo(20);
+            assertThat(result.completed()).isFalse();
+        });
+    }
+
+    @DisplayName("[runAll] 파티션 모드는 지난 날의 파티션을 DROP 하고 앞으로의 파티션을 만든다")
+    @Test
+    void runAll_WhenPartitioned_ShouldDropAndCreatePartitions() {
+        // given
+        RetentionPolicy policy = RetentionPolicy.partitioned(Duration.ZERO);
+        policy.setPartitionLookaheadDays(1);
+        setPolicies(Map.of(RetentionTarget.AUTH_REFRESH_TOKEN, policy));
+
+        when(retentionRepository.findPartitionNames("auth_refresh_token")).thenReturn(List.of(
+            "auth_refresh_token_p20250109",
+            "auth_refresh_token_p20250110",
+            "auth_refresh_token_p20250111"));
+
+        // when
+        List<RetentionRunResult> results = retentionService.runAll();
+
+        // then : 01-09 삭제, 유효기간 1일 + 여유 1일 -> 01-12, 01-13 생성
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.droppedPartitions()).isEqualTo(1);
+            assertThat(result.createdPartitions()).isEqualTo(2);
+        });
+        verify(retentionRepository).dropPartition("auth_refresh_token_p20250109");
+        verify(retentionRepository).createPartition(eq("auth_refresh_token"), eq("auth_refresh_token_p20250112"),
+            eq(Instant.parse("2025-01-12T00:00:00Z").toEpochMilli()),
+            eq(Instant.parse("2025-01-13T00:00:00Z").toEpochMilli()));
+        verify(retentionRepository).createPartition(eq("auth_refresh_token"), eq("auth_refresh_token_p20250113"),
+            any(), any());
+        verify(retentionRepository, never()).dropPartition("auth_refresh_token_p20250110");
+    }
+
+    @DisplayName("[runAll] ttl 이 없는 대상은 정리하지 않는다")
+    @Test
+    void runAll_WhenTtlMissing_ShouldSkip() {
+        // given
+        setPolicies(Map.of(RetentionTarget.VISITOR_LOG, new RetentionPolicy()));
+
+        // when
+        List<RetentionRunResult> results = retentionService.runAll();
+
+        // then
+        assertThat(results).isEmpty();
+        verify(retentionRepository, never()).deleteVisitorLogsVisitedBefore(any(), anyInt());
+        verify(retentionRepository, never()).findPartitionNames(anyString());
+    }
+
+    @DisplayName("[runAll] 파티션 모드는 ttl 이 없어도 앞으로의 파티션을 만든다")
+    @Test
+    void runAll_WhenPartitionedWithoutTtl_ShouldStillCreatePartitions() {
+        // given
+        RetentionPolicy policy = RetentionPolicy.partitioned(null);
+        policy.setPartitionLookaheadDays(0);
+        setPolicies(Map.of(RetentionTarget.AUTH_REFRESH_TOKEN, policy));
+
+        when(retentionRepository.findPartitionNames("auth_refresh_token")).thenReturn(List.of(
+            "auth_refresh_token_default",
+            "auth_refresh_token_p20250110"));
+
+        // when
+        List<RetentionRunResult> results = retentionService.runAll();
+
+        // then : 정리 결과는 없고, 유효기간 1일 + 1일 -> 01-11, 01-12 생성
+        assertThat(results).isEmpty();
+        verify(retentionRepository).createPartition(eq("auth_refresh_token"), eq("auth_refresh_token_p20250111"),
+            any(), any());
+        verify(retentionRepository, never()).dropPartition(anyString());
+    }
+
+    @DisplayName("[runAll] 한 날의 파티션 생성이 실패해도 나머지 날의 파티션은 만든다")
+    @Test
+    void runAll_WhenPartitionCreationFails_ShouldContinue() {
+        // given
+        RetentionPolicy policy = RetentionPolicy.partitioned(Duration.ZERO);
+        policy.setPartitionLookaheadDays(0);
+        setPolicies(Map.of(RetentionTarget.AUTH_REFRESH_TOKEN, policy));
+
+        when(retentionRepository.findPartitionNames("auth_refresh_token")).thenReturn(List.of());
+        doThrow(new IllegalStateException("default partition contains rows"))
+            .when(retentionRepository).createPartition(eq("auth_refresh_token"),
+                eq("auth_refresh_token_p20250110"), any(), any());
+
+        // when
+        List<RetentionRunResult> results = retentionService.runAll();
+
+        // then
+        assertThat(results).singleElement()
+            .satisfies(result -> assertThat(result.createdPartitions()).isEqualTo(2));
+        verify(retentionRepository).createPartition(eq("auth_refresh_token"), eq("auth_refresh_token_p20250111"),
+            any(), any());
+    }
+
+    @DisplayName("[runAll] DEFAULT 파티션의 만료된 row 를 삭제한 뒤 파티션을 만든다")
+    @Test
+    void runAll_WhenDefaultPartitionExists_ShouldDeleteExpiredRowsBeforeCreating() {
+        // given
+        RetentionPolicy policy = RetentionPolicy.partitioned(Duration.ZERO);
+        policy.setPartitionLookaheadDays(0);
+        policy.setBatchSize(10);
+        policy.setBatchPauseMillis(0);
+        setPolicies(Map.of(RetentionTarget.AUTH_REFRESH_TOKEN, policy));
+
+        when(retentionRepository.findPartitionNames("auth_refresh_token")).thenReturn(List.of(
+            "auth_refresh_token_default",
+            "auth_refresh_token_p20250111"));
+        when(retentionRepository.deleteRefreshTokensInDefaultPartitionExpiredBefore(NOW, 10))
+            .thenReturn(10, 3);
+
+        // when
+        List<RetentionRunResult> results = retentionService.runAll();
+
+        // then : 13건 삭제 후 01-10, 01-12 생성
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.deletedRows()).isEqualTo(13);
+            assertThat(result.createdPartitions()).isEqualTo(2);
+            assertThat(result.completed()).isTrue();
+        });
+        InOrder inOrder = inOrder(retentionRepository);
+        inOrder.verify(retentionRepository, times(2)).deleteRefreshTokensInDefaultPartitionExpiredBefore(NOW, 10);
+        inOrder.verify(retentionRepository).createPartition(eq("auth_refresh_token"),
+            eq("auth_refresh_token_p20250110"), any(), any());
+    }
+
+    private void setPolicies(Map<RetentionTarget, RetentionPolicy> policies) {
+        appProperties.setRetention(new EnumMap<>(policies));
+    }
+}
@@ -0,0 +1,107 @@
+package net.detalk.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import net.detalk.api.auth.repository.AuthRefreshTokenRepository;
+import net.detalk.api.auth.service.RevokedRefreshTokenFilter;
+import net.detalk.api.mock.FakeTimeHolder;
+import net.detalk.api.support.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class RevokedRefreshTokenFilterTest {
+
+    @Mock
+    private AuthRefreshTokenRepository authRefreshTokenRepository;
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private FakeTimeHolder timeHolder;
+    private RevokedRefreshTokenFilter revokedRefreshTokenFilter;
+
+    @BeforeEach
+    void setUp() {
+        timeHolder = new FakeTimeHolder(
+            Instant.parse("2025-01-01T12:00:00Z"), LocalDateTime.of(2025, 1, 1, 12, 0));
+        revokedRefreshTokenFilter = new RevokedRefreshTokenFilter(
+            authRefreshTokenRepository, timeHolder, taskScheduler, new AppProperties());
+    }
+
+    @DisplayName("[isRevoked] 첫 적재 전에는 판단하지 않는다")
+    @Test
+    void isRevoked_BeforeRebuild_ShouldReturnFalse() {
+        // when
+        revokedRefreshTokenFilter.addAfterCommit("revoked-token");
+
+        // then
+        assertThat(revokedRefreshTokenFilter.isRevoked("revoked-token")).isFalse();
+    }
+
+    @DisplayName("[rebuild] DB 의 무효화 토큰과 이후 무효화한 토큰은 거절 대상이어야 한다")
+    @Test
+    void rebuild_ShouldLoadRevokedTokens() {
+        // given
+        when(authRefreshTokenRepository.findRevokedTokensNotExpired(any()))
+            .thenReturn(List.of("revoked-1", "revoked-2"));
+
+        // when
+        int loaded = revokedRefreshTokenFilter.rebuild();
+        revokedRefreshTokenFilter.addAfterCommit("revoked-3");
+
+        // then
+        assertThat(loaded).isEqualTo(2);
+        assertThat(revokedRefreshTokenFilter.isRevoked("revoked-1")).isTrue();
+        assertThat(revokedRefreshTokenFilter.isRevoked("revoked-2")).isTrue();
+        assertThat(revokedRefreshTokenFilter.isRevoked("revoked-3")).isTrue();
+        assertThat(revokedRefreshTokenFilter.isRevoked("active")).isFalse();
+    }
+
+    @DisplayName("[isRevoked] Bloom filter 오탐이어도 무효화되지 않은 토큰은 거절하지 않는다")
+    @Test
+    void isRevoked_WhenFilterSaturated_ShouldNotRejectActiveToken() {
+        // given
+        AppProperties appProperties = new AppProperties();
+        appProperties.setRevokedRefreshTokenFilterExpectedInsertions(1);
+        appProperties.setRevokedRefreshTokenFilterFpp(0.5);
+        RevokedRefreshTokenFilter saturatedFilter = new RevokedRefreshTokenFilter(
+            authRefreshTokenRepository, timeHolder, taskScheduler, appProperties);
+        List<String> revoked = IntStream.range(0, 500).mapToObj(i -> "revoked-" + i).toList();
+        when(authRefreshTokenRepository.findRevokedTokensNotExpired(any())).thenReturn(revoked);
+
+        // when
+        saturatedFilter.rebuild();
+
+        // then
+        assertThat(saturatedFilter.isRevoked("revoked-499")).isTrue();
+        assertThat(saturatedFilter.isRevoked("active")).isFalse();
+    }
+
+    @DisplayName("[rebuild] 재생성 실패 시 기존 필터를 유지한다")
+    @Test
+    void rebuild_WhenQueryFails_ShouldKeepCurrentFilter() {
+        // given
+        when(authRefreshTokenRepository.findRevokedTokensNotExpired(any()))
+            .thenReturn(List.of("revoked-1"))
+            .thenThrow(new IllegalStateException("db down"));
+        revokedRefreshTokenFilter.rebuild();
+
+        // when
+        int loaded = revokedRefreshTokenFilter.rebuild();
+
+        // then
+        assertThat(loaded).isEqualTo(-1);
+        assertThat(revokedRefreshTokenFilter.isRevoked("revoked-1")).isTrue();
+    }
+}
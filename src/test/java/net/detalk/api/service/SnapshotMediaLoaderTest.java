@@ -0,0 +1,64 @@
+package net.detalk.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import net.detalk.api.post.controller.v1.response.GetProductPostResponse.Media;
+import net.detalk.api.post.repository.ProductPostSnapshotAttachmentFileRepository;
+import net.detalk.api.post.repository.SnapshotMediaLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotMediaLoaderTest {
+
+    @Mock
+    private ProductPostSnapshotAttachmentFileRepository attachmentFileRepository;
+
+    private SnapshotMediaLoader snapshotMediaLoader;
+
+    @BeforeEach
+    void setUp() {
+        snapshotMediaLoader = new SnapshotMediaLoader(attachmentFileRepository);
+    }
+
+    @DisplayName("[loadAll] 요청한 스냅샷 모두 반환하고, 이미지 없는 스냅샷은 빈 목록이어야 한다")
+    @Test
+    void loadAll_WhenSomeSnapshotsHaveNoImages_ShouldReturnEmptyList() {
+        // given
+        var media = List.of(new Media("https://image1.com", 0), new Media("https://image2.com", 1));
+        when(attachmentFileRepository.findMediaBySnapshotIds(argThat(ids -> ids.size() == 2)))
+            .thenReturn(Map.of(1L, media));
+
+        // when
+        Map<Long, List<Media>> result = snapshotMediaLoader.loadAll(List.of(1L, 2L));
+
+        // then
+        assertThat(result).containsOnlyKeys(1L, 2L);
+        assertThat(result.get(1L)).containsExactlyElementsOf(media);
+        assertThat(result.get(2L)).isEmpty();
+    }
+
+    @DisplayName("[load] 이미지 없는 스냅샷은 빈 목록을 반환해야 한다")
+    @Test
+    void load_WhenNoImages_ShouldReturnEmptyList() {
+        // given
+        when(attachmentFileRepository.findMediaBySnapshotIds(List.of(1L))).thenReturn(Map.of());
+
+        // when
+        List<Media> result = snapshotMediaLoader.load(1L);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(attachmentFileRepository, times(1)).findMediaBySnapshotIds(List.of(1L));
+    }
+}
@@ -0,0 +1,116 @@
+package net.detalk.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import net.detalk.api.support.config.AppProperties;
+import net.detalk.api.tag.domain.Tag;
+import net.detalk.api.tag.domain.TagVersion;
+import net.detalk.api.tag.repository.TagRepository;
+import net.detalk.api.tag.service.TagDictionary;
+import net.detalk.api.tag.service.TagDictionary.SerializedTagList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class TagDictionaryTest {
+
+    @Mock
+    private TagRepository tagRepository;
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private TagDictionary tagDictionary;
+
+    private final Tag ai = Tag.builder().id(1L).name("ai").build();
+    private final Tag design = Tag.builder().id(2L).name("design").build();
+
+    @BeforeEach
+    void setUp() {
+        tagDictionary = new TagDictionary(tagRepository, new ObjectMapper(), taskScheduler,
+            new AppProperties());
+
+        when(tagRepository.findVersion()).thenReturn(new TagVersion(2, 2));
+        when(tagRepository.findAll()).thenReturn(List.of(design, ai));
+        tagDictionary.start();
+    }
+
+    @DisplayName("[start] 이름 <-> ID 양방향 조회, ID 오름차순 태그 목록 JSON 을 만들어야 한다")
+    @Test
+    void start_ShouldLoadEntries() {
+        // then
+        assertThat(tagDictionary.findId("ai")).contains(1L);
+        assertThat(tagDictionary.findName(2L)).contains("design");
+        assertThat(tagDictionary.findId("none")).isEmpty();
+        assertThat(tagDictionary.containsAll(List.of("ai", "design"))).isTrue();
+        assertThat(tagDictionary.containsAll(List.of("ai", "none"))).isFalse();
+
+        SerializedTagList tagList = tagDictionary.serializedTagList();
+        assertThat(new String(tagList.json(), StandardCharsets.UTF_8))
+            .isEqualTo("[{\"name\":\"ai\"},{\"name\":\"design\"}]");
+        assertThat(tagList.eTag()).startsWith("\"").endsWith("\"");
+    }
+
+    @DisplayName("[register] 새 태그는 DB 조회 없이 바로 반영되고 ETag 가 바뀌어야 한다")
+    @Test
+    void register_ShouldUpdateInPlace() {
+        // given
+        String before = tagDictionary.serializedTagList().eTag();
+        Tag newTag = Tag.builder().id(3L).name("game").build();
+
+        // when
+        tagDictionary.register(List.of(newTag));
+
+        // then
+        assertThat(tagDictionary.findId("game")).isEqualTo(Optional.of(3L));
+        assertThat(tagDictionary.serializedTagList().eTag()).isNotEqualTo(before);
+        verify(tagRepository, times(1)).findAll();
+    }
+
+    @DisplayName("[registerAfterCommit] 트랜잭션이 롤백되면 새 태그를 사전에 반영하지 않아야 한다")
+    @Test
+    void registerAfterCommit_WhenRolledBack_ShouldNotRegister() {
+        // given
+        Tag newTag = Tag.builder().id(3L).name("game").build();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tagDictionary.registerAfterCommit(List.of(newTag));
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(tagDictionary.findId("game")).isEmpty();
+    }
+
+    @DisplayName("[refreshIfChanged] 버전이 같으면 다시 읽지 않고, 다르면 다시 읽어야 한다")
+    @Test
+    void refreshIfChanged_ShouldReloadOnlyWhenVersionChanged() {
+        // when & then
+        assertThat(tagDictionary.refreshIfChanged()).isFalse();
+
+        when(tagRepository.findVersion()).thenReturn(new TagVersion(3, 3));
+        when(tagRepository.findAll()).thenReturn(
+            List.of(ai, design, Tag.builder().id(3L).name("game").build()));
+
+        assertThat(tagDictionary.refreshIfChanged()).isTrue();
+        assertThat(tagDictionary.findId("game")).contains(3L);
+    }
+}
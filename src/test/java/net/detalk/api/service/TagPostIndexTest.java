@@ -0,0 +1,111 @@
+package net.detalk.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import net.detalk.api.post.domain.LastSnapshotTag;
+import net.detalk.api.post.repository.ProductPostSnapshotTagRepository;
+import net.detalk.api.post.service.TagPostIndex;
+import net.detalk.api.support.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class TagPostIndexTest {
+
+    private static final long AI = 1L;
+    private static final long DESIGN = 2L;
+
+    @Mock
+    private ProductPostSnapshotTagRepository snapshotTagRepository;
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private TagPostIndex tagPostIndex;
+
+    @BeforeEach
+    void setUp() {
+        tagPostIndex = new TagPostIndex(snapshotTagRepository, taskScheduler, new AppProperties());
+
+        // post 1 : ai, post 2 : ai + design, post 3 : design, post 4 : 태그 없음
+        when(snapshotTagRepository.findLastSnapshotTagsAfter(0L)).thenReturn(List.of(
+            new LastSnapshotTag(1L, 10L, AI),
+            new LastSnapshotTag(2L, 20L, AI),
+            new LastSnapshotTag(2L, 20L, DESIGN),
+            new LastSnapshotTag(3L, 30L, DESIGN),
+            new LastSnapshotTag(4L, 40L, null)
+        ));
+        tagPostIndex.sync();
+    }
+
+    @DisplayName("[sync] 첫 동기화로 전체 적재 후 조회 가능해야 한다")
+    @Test
+    void sync_ShouldLoadAll() {
+        assertThat(tagPostIndex.isReady()).isTrue();
+        assertThat(tagPostIndex.findPostIds(List.of(AI), null, 10)).containsExactly(2L, 1L);
+        assertThat(tagPostIndex.findPostIds(List.of(DESIGN), null, 10)).containsExactly(3L, 2L);
+    }
+
+    @DisplayName("[findPostIds] 여러 태그는 교집합, nextId 미만부터 limit 개만 조회해야 한다")
+    @Test
+    void findPostIds_ShouldIntersectAndPage() {
+        assertThat(tagPostIndex.findPostIds(List.of(AI, DESIGN), null, 10)).containsExactly(2L);
+        assertThat(tagPostIndex.findPostIds(List.of(AI), null, 1)).containsExactly(2L);
+        assertThat(tagPostIndex.findPostIds(List.of(AI), 2L, 10)).containsExactly(1L);
+        assertThat(tagPostIndex.findPostIds(List.of(AI, 99L), null, 10)).isEmpty();
+    }
+
+    @DisplayName("[indexAfterCommit] 수정된 게시글은 이전 태그에서 빠지고 새 태그에 들어가야 한다")
+    @Test
+    void indexAfterCommit_ShouldMovePost() {
+        // when : 트랜잭션 밖에서는 바로 반영
+        tagPostIndex.indexAfterCommit(2L, 21L, List.of(DESIGN));
+
+        // then
+        assertThat(tagPostIndex.findPostIds(List.of(AI), null, 10)).containsExactly(1L);
+        assertThat(tagPostIndex.findPostIds(List.of(DESIGN), null, 10)).containsExactly(3L, 2L);
+    }
+
+    @DisplayName("[sync] 이미 반영된 것보다 오래된 스냅샷은 무시해야 한다")
+    @Test
+    void sync_ShouldIgnoreOlderSnapshot() {
+        // given
+        tagPostIndex.indexAfterCommit(1L, 50L, List.of(DESIGN));
+        when(snapshotTagRepository.findLastSnapshotTagsAfter(0L)).thenReturn(List.of(
+            new LastSnapshotTag(1L, 10L, AI)
+        ));
+
+        // when
+        tagPostIndex.sync();
+
+        // then
+        assertThat(tagPostIndex.findPostIds(List.of(AI), null, 10)).containsExactly(2L);
+    }
+
+    @DisplayName("[reconcile] 늦게 커밋되어 변경분 동기화에서 빠진 게시글을 전체 대조로 반영해야 한다")
+    @Test
+    void reconcile_ShouldApplyLateCommittedSnapshot() {
+        // given : 스냅샷 5 는 먼저 발급됐지만 40 보다 늦게 커밋됨
+        when(snapshotTagRepository.findLastSnapshotTagsAfter(0L)).thenReturn(List.of(
+            new LastSnapshotTag(1L, 10L, AI),
+            new LastSnapshotTag(2L, 20L, AI),
+            new LastSnapshotTag(2L, 20L, DESIGN),
+            new LastSnapshotTag(3L, 30L, DESIGN),
+            new LastSnapshotTag(4L, 40L, null),
+            new LastSnapshotTag(5L, 5L, AI)
+        ));
+
+        // when
+        tagPostIndex.reconcile();
+
+        // then
+        assertThat(tagPostIndex.findPostIds(List.of(AI), null, 10)).containsExactly(5L, 2L, 1L);
+        assertThat(tagPostIndex.findPostIds(List.of(DESIGN), null, 10)).containsExactly(3L, 2L);
+    }
+}
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -12,6 +13,7 @@ import java.util.Optional;
 import net.detalk.api.tag.controller.v1.response.GetTagResponse;
 import net.detalk.api.tag.domain.Tag;
 import net.detalk.api.tag.repository.TagRepository;
+import net.detalk.api.tag.service.TagDictionary;
 import net.detalk.api.tag.service.TagService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,11 +27,13 @@ class TagServiceTest {
 
     @Mock
     private TagRepository tagRepository;
+    @Mock
+    private TagDictionary tagDictionary;
     private TagService tagService;
 
     @BeforeEach
     void setUp() {
-        tagService = new TagService(tagRepository);
+        tagService = new TagService(tagRepository, tagDictionary);
     }
 
     @DisplayName("[findAll] 모든 태그 조회 성공")
@@ -42,7 +46,7 @@ class TagServiceTest {
 
         List<Tag> tags = List.of(tag1, tag2);
 
-        when(tagRepository.findAll()).thenReturn(tags);
+        when(tagDictionary.findAll()).thenReturn(tags);
 
         // when
         List<GetTagResponse> result = tagService.findAll();
@@ -95,8 +99,65 @@ class TagServiceTest {
         verify(tagRepository).save(argThat(tag ->
             tag.getName().equals(tagName)
         ));
+
+        // 새 태그는 태그 사전에 반영
+        verify(tagDictionary).registerAfterCommit(List.of(newTag));
+    }
+
+    @DisplayName("[getOrCreateTag] 태그 사전에 있는 태그는 DB 를 조회하지 않는다")
+    @Test
+    void getOrTagWhenInDictionaryThenSkipRepository() {
+
+        // given
+        String tagName = "태그1";
+        when(tagDictionary.findId(tagName)).thenReturn(Optional.of(1L));
+
+        // when
+        Tag result = tagService.getOrCreateTag(tagName);
+
+        // then
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getName()).isEqualTo(tagName);
+        verifyNoInteractions(tagRepository);
+    }
+
+    @DisplayName("[getOrCreateTags] 중복 태그 이름은 제외하고 한 번에 조회 또는 생성")
+    @Test
+    void getOrCreateTagsWithDistinctNames() {
+
+        // given
+        Tag tag1 = Tag.builder().id(1L).name("태그1").build();
+        Tag tag2 = Tag.builder().id(2L).name("태그2").build();
+
+        when(tagRepository.getOrCreateAll(List.of("태그1", "태그2")))
+            .thenReturn(List.of(tag1, tag2));
+
+        // when
+        List<Tag> result = tagService.getOrCreateTags(List.of("태그1", "태그2", "태그1"));
+
+        // then
+        assertThat(result).containsExactly(tag1, tag2);
+        verify(tagRepository, never()).findByName(any());
+        verify(tagDictionary).registerAfterCommit(List.of(tag1, tag2));
     }
 
+    @DisplayName("[getOrCreateTags] 태그 사전에 없는 태그만 DB 에서 조회 또는 생성")
+    @Test
+    void getOrCreateTagsOnlyUnknownNames() {
+
+        // given
+        Tag tag2 = Tag.builder().id(2L).name("태그2").build();
+
+        when(tagDictionary.findId("태그1")).thenReturn(Optional.of(1L));
+        when(tagRepository.getOrCreateAll(List.of("태그2"))).thenReturn(List.of(tag2));
+
+        // when
+        List<Tag> result = tagService.getOrCreateTags(List.of("태그1", "태그2"));
 
+        // then
+        assertThat(result)
+            .extracting("id")
+            .containsExactly(1L, 2L);
+    }
 
-}
\ No newline at end of file
+}
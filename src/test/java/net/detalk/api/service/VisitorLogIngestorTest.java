@@ -0,0 +1,217 @@
+package net.detalk.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import net.detalk.api.admin.domain.VisitEvent;
+import net.detalk.api.admin.domain.VisitorLog;
+import net.detalk.api.admin.domain.VisitorLogIngestionMetrics;
+import net.detalk.api.admin.domain.VisitorLogOverflowPolicy;
+import net.detalk.api.admin.repository.VisitorLogRepository;
+import net.detalk.api.admin.service.VisitorLogIngestor;
+import net.detalk.api.admin.service.VisitorLogService;
+import net.detalk.api.admin.service.VisitorRollupService;
+import net.detalk.api.mock.FakeTimeHolder;
+import net.detalk.api.support.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class VisitorLogIngestorTest {
+
+    @Mock
+    private VisitorLogService visitorLogService;
+    @Mock
+    private VisitorLogRepository visitorLogRepository;
+    @Mock
+    private VisitorRollupService visitorRollupService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @TempDir
+    private Path tempDir;
+
+    private AppProperties appProperties;
+
+    @BeforeEach
+    void setUp() {
+        appProperties = new AppProperties();
+        appProperties.setVisitorLogBatchSize(100);
+        appProperties.setVisitorLogSpillPath(tempDir.resolve("visitor-log.spill").toString());
+    }
+
+    @DisplayName("[flush] 큐에 쌓인 방문 기록을 위치 조회 후 배치로 저장해야 한다")
+    @Test
+    void flush_ShouldResolveAndSaveInBatches() {
+        // given
+        appProperties.setVisitorLogBatchSize(2);
+        appProperties.setVisitorLogQueueCapacity(8);
+        VisitorLogIngestor ingestor = createIngestor();
+        givenResolvable();
+        when(taskScheduler.getClock()).thenReturn(Clock.systemUTC());
+
+        ingestor.offer("1.1.1.1", "s1", "ua", null);
+        ingestor.offer("1.1.1.2", "s2", "ua", null);
+        ingestor.offer("1.1.1.3", "s3", "ua", null);
+
+        // when
+        int rows = ingestor.flush();
+
+        // then
+        assertThat(rows).isEqualTo(3);
+        verify(visitorLogRepository, times(2)).saveAll(anyList());
+        verify(visitorRollupService, times(2)).record(anyList());
+        VisitorLogIngestionMetrics metrics = ingestor.getMetrics();
+        assertThat(metrics.queueDepth()).isZero();
+        assertThat(metrics.enqueuedCount()).isEqualTo(3);
+        assertThat(metrics.flushedRows()).isEqualTo(3);
+        assertThat(metrics.flushCount()).isEqualTo(2);
+    }
+
+    @DisplayName("[offer] SAMPLE 정책은 큐가 3/4 이상 차면 표본만 받고, 가득 차면 버려야 한다")
+    @Test
+    void offer_WhenSampling_ShouldSampleAboveWatermarkAndDropWhenFull() {
+        // given
+        appProperties.setVisitorLogQueueCapacity(4);
+        appProperties.setVisitorLogOverflowPolicy(VisitorLogOverflowPolicy.SAMPLE);
+        appProperties.setVisitorLogSampleRate(2);
+        VisitorLogIngestor ingestor = createIngestor();
+
+        // when
+        for (int i = 0; i < 7; i++) {
+            ingestor.offer("1.1.1.1", "s" + i, "ua", null);
+        }
+
+        // then
+        VisitorLogIngestionMetrics metrics = ingestor.getMetrics();
+        assertThat(metrics.enqueuedCount()).isEqualTo(4);
+        assertThat(metrics.sampledOutCount()).isEqualTo(2);
+        assertThat(metrics.droppedCount()).isEqualTo(1);
+        assertThat(metrics.queueDepth()).isEqualTo(4);
+    }
+
+    @DisplayName("[offer] SPILL 정책은 큐가 가득 차면 넘침 버퍼를 거쳐 파일에 기록하고, flush 때 다시 읽어 저장해야 한다")
+    @Test
+    void offer_WhenSpilling_ShouldReplayAfterQueueDrained() {
+        // given
+        appProperties.setVisitorLogQueueCapacity(2);
+        VisitorLogIngestor ingestor = createIngestor();
+        givenResolvable();
+
+        ingestor.offer("1.1.1.1", "s1", "ua", null);
+        ingestor.offer("1.1.1.2", "s2", "ua", null);
+        boolean accepted = ingestor.offer("1.1.1.3", "s3", "ua", null);
+
+        // when
+        int rows = ingestor.flush();
+
+        // then
+        assertThat(accepted).isTrue();
+        assertThat(rows).isEqualTo(3);
+        assertThat(ingestor.getMetrics().spilledCount()).isEqualTo(1);
+        assertThat(ingestor.getMetrics().droppedCount()).isZero();
+        assertThat(tempDir.toFile().list()).isEmpty();
+    }
+
+    @DisplayName("[offer] SPILL 정책에서 요청 스레드는 파일에 쓰지 않고, 넘침 버퍼도 가득 차면 버려야 한다")
+    @Test
+    void offer_WhenSpilling_ShouldNotWriteFileOnRequestThread() {
+        // given
+        appProperties.setVisitorLogQueueCapacity(2);
+        VisitorLogIngestor ingestor = createIngestor();
+        givenResolvable();
+
+        for (int i = 0; i < 5; i++) {
+            ingestor.offer("1.1.1.1", "s" + i, "ua", null);
+        }
+        assertThat(tempDir.toFile().list()).isEmpty();
+
+        // when
+        int rows = ingestor.flush();
+
+        // then : 큐 2건 + 넘침 버퍼 2건 저장, 1건 버림
+        assertThat(rows).isEqualTo(4);
+        assertThat(ingestor.getMetrics().spilledCount()).isEqualTo(2);
+        assertThat(ingestor.getMetrics().droppedCount()).isEqualTo(1);
+    }
+
+    @DisplayName("[flush] 저장 실패한 배치는 넘침 파일로 옮겨 다음 flush 때 재시도해야 한다")
+    @Test
+    void flush_WhenSaveFails_ShouldSpillAndRetry() {
+        // given
+        VisitorLogIngestor ingestor = createIngestor();
+        givenResolvable();
+        when(visitorLogRepository.saveAll(anyList()))
+            .thenThrow(new IllegalStateException("db down"))
+            .thenReturn(1);
+
+        ingestor.offer("1.1.1.1", "s1", "ua", null);
+
+        // when
+        int first = ingestor.flush();
+        int second = ingestor.flush();
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1);
+        assertThat(ingestor.getMetrics().spilledCount()).isEqualTo(1);
+        assertThat(ingestor.getMetrics().droppedCount()).isZero();
+    }
+
+    @DisplayName("[flush] 큐가 비어 있으면 DB 를 호출하지 않는다")
+    @Test
+    void flush_WhenEmpty_ShouldNotWrite() {
+        // given
+        VisitorLogIngestor ingestor = createIngestor();
+
+        // when
+        int rows = ingestor.flush();
+
+        // then
+        assertThat(rows).isZero();
+        verify(visitorLogRepository, never()).saveAll(anyList());
+    }
+
+    private VisitorLogIngestor createIngestor() {
+        return new VisitorLogIngestor(
+            visitorLogService,
+            visitorLogRepository,
+            visitorRollupService,
+            transactionManager,
+            new ObjectMapper().registerModule(new JavaTimeModule()),
+            new FakeTimeHolder(Instant.parse("2025-01-10T12:00:00Z"), LocalDateTime.of(2025, 1, 10, 12, 0)),
+            taskScheduler,
+            appProperties
+        );
+    }
+
+    private void givenResolvable() {
+        when(visitorLogService.resolveLocation(any())).thenAnswer(invocation -> {
+            VisitEvent event = invocation.getArgument(0);
+            return VisitorLog.builder()
+                .sessionId(event.sessionId())
+                .visitedAt(event.visitedAt())
+                .build();
+        });
+    }
+}
@@ -0,0 +1,153 @@
+package net.detalk.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import net.detalk.api.admin.domain.VisitorLog;
+import net.detalk.api.admin.domain.VisitorRollupDimension;
+import net.detalk.api.admin.domain.VisitorRollupGranularity;
+import net.detalk.api.admin.domain.VisitorRollupKey;
+import net.detalk.api.admin.domain.exception.InvalidVisitorRollupRangeException;
+import net.detalk.api.admin.repository.VisitorLogRepository;
+import net.detalk.api.admin.repository.VisitorRollupRepository;
+import net.detalk.api.admin.service.VisitorRollupService;
+import net.detalk.api.mock.FakeTimeHolder;
+import net.detalk.api.retention.domain.RetentionPolicy;
+import net.detalk.api.retention.domain.RetentionTarget;
+import net.detalk.api.support.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VisitorRollupServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 10, 12, 0);
+
+    @Mock
+    private VisitorRollupRepository visitorRollupRepository;
+    @Mock
+    private VisitorLogRepository visitorLogRepository;
+
+    private AppProperties appProperties;
+    private VisitorRollupService visitorRollupService;
+
+    @BeforeEach
+    void setUp() {
+        appProperties = new AppProperties();
+        visitorRollupService = new VisitorRollupService(visitorRollupRepository, visitorLogRepository,
+            new FakeTimeHolder(Instant.parse("2025-01-10T12:00:00Z"), NOW), appProperties);
+    }
+
+    @DisplayName("[aggregate] 방문 1건은 집계 단위와 기준마다 한 번씩 집계되어야 한다")
+    @Test
+    void aggregate_ShouldCountEachGranularityAndDimension() {
+        // given
+        VisitorLog chrome = visitorLog(1L, LocalDateTime.of(2025, 1, 9, 10, 15), "KR",
+            "Mozilla/5.0 (Windows NT 10.0) AppleWebKit/537.36 Chrome/120.0 Safari/537.36",
+            "https://www.google.com/search?q=detalk");
+        VisitorLog edge = visitorLog(2L, LocalDateTime.of(2025, 1, 9, 10, 40), "KR",
+            "Mozilla/5.0 AppleWebKit/537.36 Chrome/120.0 Safari/537.36 Edg/120.0", null);
+
+        // when
+        Map<VisitorRollupKey, Long> counts = visitorRollupService.aggregate(List.of(chrome, edge));
+
+        // then
+        LocalDateTime hour = LocalDateTime.of(2025, 1, 9, 10, 0);
+        LocalDateTime day = LocalDateTime.of(2025, 1, 9, 0, 0);
+        assertThat(counts)
+            .containsEntry(key(VisitorRollupGranularity.HOUR, VisitorRollupDimension.COUNTRY, hour, "KR"), 2L)
+            .containsEntry(key(VisitorRollupGranularity.DAY, VisitorRollupDimension.COUNTRY, day, "KR"), 2L)
+            .containsEntry(key(VisitorRollupGranularity.DAY, VisitorRollupDimension.REFERER_HOST, day, "google.com"), 1L)
+            .containsEntry(key(VisitorRollupGranularity.DAY, VisitorRollupDimension.REFERER_HOST, day,
+                VisitorRollupDimension.DIRECT_REFERER), 1L)
+            .containsEntry(key(VisitorRollupGranularity.DAY, VisitorRollupDimension.USER_AGENT_FAMILY, day, "CHROME"), 1L)
+            .containsEntry(key(VisitorRollupGranularity.DAY, VisitorRollupDimension.USER_AGENT_FAMILY, day, "EDGE"), 1L);
+        assertThat(counts.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(2L * 2 * 4);
+    }
+
+    @DisplayName("[findSeries] 시간 단위 조회 기간이 31일을 넘으면 예외가 발생한다")
+    @Test
+    void findSeries_WhenHourlyRangeTooLong_ShouldThrow() {
+        // when & then
+        assertThatThrownBy(() -> visitorRollupService.findSeries(VisitorRollupGranularity.HOUR,
+            VisitorRollupDimension.COUNTRY, null, NOW.minusDays(40), NOW))
+            .isInstanceOf(InvalidVisitorRollupRangeException.class);
+    }
+
+    @DisplayName("[rebuild] 오늘이 포함된 구간은 다시 만들 수 없다")
+    @Test
+    void rebuild_WhenRangeIncludesToday_ShouldThrow() {
+        // when & then
+        assertThatThrownBy(() -> visitorRollupService.rebuild(LocalDate.of(2025, 1, 9), LocalDate.of(2025, 1, 11)))
+            .isInstanceOf(InvalidVisitorRollupRangeException.class);
+        verify(visitorRollupRepository, never()).deleteBetween(any(), any());
+    }
+
+    @DisplayName("[rebuild] 원본 로그 보관 기간이 지난 구간은 다시 만들 수 없다")
+    @Test
+    void rebuild_WhenRangeOlderThanRetention_ShouldThrow() {
+        // given : 원본 로그 7일 보관 -> 2025-01-03 12시 이전은 지워졌을 수 있다
+        appProperties.getRetention().put(RetentionTarget.VISITOR_LOG, RetentionPolicy.deleting(Duration.ofDays(7)));
+
+        // when & then
+        assertThatThrownBy(() -> visitorRollupService.rebuild(LocalDate.of(2025, 1, 3), LocalDate.of(2025, 1, 5)))
+            .isInstanceOf(InvalidVisitorRollupRangeException.class);
+        verify(visitorLogRepository, never()).findVisitedBetween(any(), any(), any(), any(), anyInt());
+        verify(visitorRollupRepository, never()).deleteBetween(any(), any());
+    }
+
+    @DisplayName("[rebuild] 원본 로그를 keyset 으로 끝까지 읽어 구간 집계를 교체해야 한다")
+    @Test
+    void rebuild_ShouldScanAndReplaceRange() {
+        // given
+        LocalDateTime from = LocalDateTime.of(2025, 1, 8, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 1, 10, 0, 0);
+        VisitorLog visit = visitorLog(7L, LocalDateTime.of(2025, 1, 8, 9, 0), "US", null, null);
+        when(visitorLogRepository.findVisitedBetween(eq(from), eq(to), eq(null), eq(null), anyInt()))
+            .thenReturn(List.of(visit));
+
+        // when
+        int rows = visitorRollupService.rebuild(LocalDate.of(2025, 1, 8), LocalDate.of(2025, 1, 10));
+
+        // then
+        assertThat(rows).isEqualTo(2 * 4);
+        verify(visitorRollupRepository).deleteBetween(from, to);
+        verify(visitorRollupRepository).increment(anyMap());
+    }
+
+    private VisitorLog visitorLog(Long id, LocalDateTime visitedAt, String countryIso, String userAgent,
+        String referer) {
+        return VisitorLog.builder()
+            .id(id)
+            .sessionId("session-" + id)
+            .continentCode("AS")
+            .countryIso(countryIso)
+            .countryName(countryIso)
+            .visitedAt(visitedAt)
+            .userAgent(userAgent)
+            .referer(referer)
+            .build();
+    }
+
+    private VisitorRollupKey key(VisitorRollupGranularity granularity, VisitorRollupDimension dimension,
+        LocalDateTime bucketStart, String value) {
+        return new VisitorRollupKey(granularity, dimension, bucketStart, value);
+    }
+}
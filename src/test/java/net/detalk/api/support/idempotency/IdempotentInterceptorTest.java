@@ -0,0 +1,104 @@
+package net.detalk.api.support.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import net.detalk.api.support.config.AppProperties;
+import net.detalk.api.support.error.DuplicateRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+class IdempotentInterceptorTest {
+
+    private IdempotencyWindow idempotencyWindow;
+    private CreateHandler handler;
+    private CreateHandler proxy;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyWindow = new IdempotencyWindow(new AppProperties());
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("idempotencyWindow", idempotencyWindow);
+
+        handler = new CreateHandler();
+        ProxyFactory proxyFactory = new ProxyFactory(handler);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(
+            AnnotationMatchingPointcut.forMethodAnnotation(Idempotent.class),
+            new IdempotentInterceptor(beanFactory.getBeanProvider(IdempotencyWindow.class))));
+        proxy = (CreateHandler) proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("[invoke] 처리 완료된 키로 다시 요청하면 실행하지 않고 처음 결과를 반환한다")
+    void invoke_WhenCompleted_ShouldReturnPreviousResult() {
+        // when
+        Long first = proxy.create(1L, "key-1");
+        Long second = proxy.create(1L, "key-1");
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(handler.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[invoke] 키가 다르면 (다른 사용자 포함) 각각 실행한다")
+    void invoke_WhenDifferentKey_ShouldProceed() {
+        // when
+        Long first = proxy.create(1L, "key-1");
+        Long second = proxy.create(2L, "key-1");
+
+        // then
+        assertThat(second).isNotEqualTo(first);
+        assertThat(handler.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[invoke] 처리 중인 키로 다시 요청하면 DuplicateRequestException")
+    void invoke_WhenInFlight_ShouldThrow() {
+        // given
+        idempotencyWindow.claim("CreateHandler.create:1:key-1");
+
+        // then
+        assertThatThrownBy(() -> proxy.create(1L, "key-1"))
+            .isInstanceOf(DuplicateRequestException.class);
+        assertThat(handler.calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("[invoke] 실패한 요청의 키는 해제되어 다시 시도할 수 있다")
+    void invoke_WhenFailed_ShouldReleaseKey() {
+        // given
+        handler.failNext = true;
+        assertThatThrownBy(() -> proxy.create(1L, "key-1"))
+            .isInstanceOf(IllegalStateException.class);
+
+        // when
+        Long retried = proxy.create(1L, "key-1");
+
+        // then
+        assertThat(retried).isNotNull();
+        assertThat(handler.calls.get()).isEqualTo(2);
+    }
+
+    static class CreateHandler {
+        final AtomicInteger calls = new AtomicInteger();
+        boolean failNext;
+
+        @Idempotent(key = "#memberId + ':' + #idempotentKey")
+        public Long create(Long memberId, String idempotentKey) {
+            int call = calls.incrementAndGet();
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("fail");
+            }
+            return (long) call;
+        }
+    }
+}
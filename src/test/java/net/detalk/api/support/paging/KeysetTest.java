@@ -0,0 +1,122 @@
+package net.detalk.api.support.paging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import net.detalk.api.support.error.InvalidCursorException;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KeysetTest {
+
+    private static final Field<LocalDateTime> VISITED_AT = field(name("visited_at"), LocalDateTime.class);
+    private static final Field<Long> ID = field(name("id"), Long.class);
+
+    private final DSLContext dsl = DSL.using(SQLDialect.POSTGRES);
+
+    @Test
+    @DisplayName("[CursorCodec] 정렬 키 튜플을 인코딩한 커서는 같은 값으로 복원되어야 한다")
+    void encode_ShouldRoundTrip() {
+        // given
+        LocalDateTime visitedAt = LocalDateTime.of(2025, 1, 10, 12, 30, 15, 123_000_000);
+        Instant createdAt = Instant.parse("2025-01-10T03:00:00Z");
+
+        // when
+        String cursor = CursorCodec.encode(42L, -7, "한글 tag", visitedAt, createdAt);
+
+        // then
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+        assertThat(CursorCodec.decode(cursor)).containsExactly(42L, -7, "한글 tag", visitedAt, createdAt);
+    }
+
+    @Test
+    @DisplayName("[CursorCodec] 형식이 잘못되었거나 버전이 다른 커서는 예외가 발생한다")
+    void decode_Malformed_ShouldThrow() {
+        // given
+        String truncated = CursorCodec.encode(123_456_789L).substring(0, 3);
+        String otherVersion = "Ag";
+
+        // then
+        assertThatThrownBy(() -> CursorCodec.decode(truncated)).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> CursorCodec.decode(otherVersion)).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> CursorCodec.decode("not base64!")).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("[CursorCodec] 문자열 길이가 음수이거나 남은 바이트보다 긴 커서는 예외가 발생한다")
+    void decode_InvalidStringLength_ShouldThrow() {
+        // given : [버전 1][TYPE_STRING 3][길이 zigzag varint]
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String negativeLength = encoder.encodeToString(new byte[]{1, 3, 1});
+        String tooLong = encoder.encodeToString(new byte[]{1, 3, (byte) 0xC8, 0x01, 'a'});
+
+        // when & then
+        assertThatThrownBy(() -> CursorCodec.decode(negativeLength)).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> CursorCodec.decode(tooLong)).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("[after] 커서가 없으면 조건 없이 첫 페이지를 조회한다")
+    void after_WithoutCursor_ShouldBeNoCondition() {
+        // given
+        Keyset keyset = Keyset.descending(VISITED_AT, ID);
+
+        // then
+        assertThat(keyset.after(null)).isEqualTo(DSL.noCondition());
+    }
+
+    @Test
+    @DisplayName("[after] 내림차순 정렬 키는 row value 미만 비교 조건을 만든다")
+    void after_Descending_ShouldSeekWithRowComparison() {
+        // given
+        Keyset keyset = Keyset.descending(VISITED_AT, ID);
+        String cursor = keyset.cursor(LocalDateTime.of(2025, 1, 10, 12, 0), 99L);
+
+        // when
+        Condition condition = keyset.after(cursor);
+
+        // then
+        assertThat(dsl.renderInlined(condition))
+            .startsWith("(\"visited_at\", \"id\") < (")
+            .contains("2025-01-10 12:00:00")
+            .endsWith(", 99)");
+        assertThat(keyset.orderBy()).containsExactly(VISITED_AT.desc(), ID.desc());
+    }
+
+    @Test
+    @DisplayName("[after] 정렬 키와 개수나 타입이 다른 커서는 예외가 발생한다")
+    void after_MismatchedCursor_ShouldThrow() {
+        // given
+        Keyset keyset = Keyset.ascending(VISITED_AT, ID);
+        String wrongArity = CursorCodec.encode(99L);
+        String wrongType = CursorCodec.encode(99L, 99L);
+
+        // then
+        assertThatThrownBy(() -> keyset.after(wrongArity)).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> keyset.after(wrongType)).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("[KeysetPageData] pageSize 보다 많이 조회되면 마지막 항목으로 다음 커서를 만든다")
+    void of_WhenMoreThanPageSize_ShouldHaveNextCursor() {
+        // when
+        KeysetPageData<Long> page = KeysetPageData.of(List.of(5L, 4L, 3L), 2, CursorCodec::encode, 10L);
+
+        // then
+        assertThat(page.items()).containsExactly(5L, 4L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(CursorCodec.decode(page.nextCursor())).containsExactly(4L);
+        assertThat(page.totalElements()).isEqualTo(10L);
+    }
+}
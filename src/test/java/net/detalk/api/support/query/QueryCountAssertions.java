@@ -0,0 +1,70 @@
+package net.detalk.api.support.query;
+
+/**
+ * 테스트용 쿼리 수 검증
+ * PerformanceListener 가 등록된 DSLContext 로 실행한 쿼리를 RequestQueryTracker 범위로 집계해 검증한다.
+ * <pre>
+ * QueryCountAssertions.assertMaxQueries(requestQueryTracker, 3,
+ *     () -> productPostService.getProductPosts(5, null, ProductPostSort.LATEST));
+ * </pre>
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /**
+     * @return action 이 실행한 쿼리 통계
+     */
+    public static RequestQueryStats measure(RequestQueryTracker tracker, ThrowingRunnable action) {
+        try (RequestQueryScope scope = tracker.begin("test")) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return scope.stats();
+        }
+    }
+
+    /**
+     * action 이 maxQueries 번보다 많이 DB 를 왕복하면 AssertionError
+     */
+    public static RequestQueryStats assertMaxQueries(RequestQueryTracker tracker, int maxQueries,
+        ThrowingRunnable action) {
+        RequestQueryStats stats = measure(tracker, action);
+        if (stats.queryCount() > maxQueries) {
+            throw new AssertionError(String.format("최대 %d 개의 쿼리를 예상했지만 %d 개를 실행했습니다.%n%s",
+                maxQueries, stats.queryCount(), describe(stats)));
+        }
+        return stats;
+    }
+
+    /**
+     * action 이 같은 쿼리를 maxRepeats 번보다 많이 반복하면(N+1) AssertionError
+     */
+    public static RequestQueryStats assertNoRepeatedStatements(RequestQueryTracker tracker, int maxRepeats,
+        ThrowingRunnable action) {
+        RequestQueryStats stats = measure(tracker, action);
+        if (stats.maxStatementCount() > maxRepeats) {
+            throw new AssertionError(String.format("같은 쿼리는 최대 %d 번을 예상했지만 %d 번 반복했습니다.%n%s",
+                maxRepeats, stats.maxStatementCount(), describe(stats)));
+        }
+        return stats;
+    }
+
+    private static String describe(RequestQueryStats stats) {
+        StringBuilder description = new StringBuilder();
+        stats.statementCounts().forEach((fingerprint, count) ->
+            description.append(String.format("  %d x %s%n", count, fingerprint)));
+        return description.toString();
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,125 @@
+package net.detalk.api.support.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.List;
+import javax.sql.DataSource;
+import net.detalk.api.support.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class QueryMetricsRegistryTest {
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private QueryMetricsRegistry queryMetricsRegistry;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setQueryMetricsMaximumFingerprints(2);
+        queryMetricsRegistry = new QueryMetricsRegistry(dataSource, taskScheduler, appProperties);
+    }
+
+    @DisplayName("[record] 리터럴과 IN 목록 길이만 다른 쿼리는 같은 지문으로 집계되어야 한다")
+    @Test
+    void record_SameShape_ShouldShareFingerprint() {
+        // when
+        queryMetricsRegistry.record("select * from post where id in (?, ?) limit 6", 1_000, 2, false);
+        queryMetricsRegistry.record("select *  from post\n where id in (?, ?, ?) limit 21", 3_000, 3, true);
+
+        // then
+        List<QueryMetrics> metrics = queryMetricsRegistry.getMetrics(QueryMetricsSort.COUNT, 10);
+        assertThat(metrics).hasSize(1);
+        QueryMetrics post = metrics.get(0);
+        assertThat(post.fingerprint()).isEqualTo("select * from post where id in (?, ...) limit ?");
+        assertThat(post.latencyMicros().count()).isEqualTo(2);
+        assertThat(post.latencyMicros().sum()).isEqualTo(4_000);
+        assertThat(post.rows().max()).isEqualTo(3);
+        assertThat(post.errorCount()).isEqualTo(1);
+    }
+
+    @DisplayName("[record] 최대 지문 수를 넘는 쿼리는 (other) 로 모아야 한다")
+    @Test
+    void record_WhenFingerprintsFull_ShouldUseOther() {
+        // when
+        queryMetricsRegistry.record("select a from t1", 10, 1, false);
+        queryMetricsRegistry.record("select b from t2", 10, 1, false);
+        queryMetricsRegistry.record("select c from t3", 10, 1, false);
+        queryMetricsRegistry.record("select d from t4", 10, 1, false);
+
+        // then
+        List<QueryMetrics> metrics = queryMetricsRegistry.getMetrics(QueryMetricsSort.COUNT, 10);
+        assertThat(metrics).extracting(QueryMetrics::fingerprint)
+            .containsExactlyInAnyOrder("select a from t1", "select b from t2",
+                QueryMetricsRegistry.OTHER_FINGERPRINT);
+        assertThat(metrics.get(0).fingerprint()).isEqualTo(QueryMetricsRegistry.OTHER_FINGERPRINT);
+        assertThat(metrics.get(0).latencyMicros().count()).isEqualTo(2);
+    }
+
+    @DisplayName("[shouldExplain] 표본이 충분하고 p99 보다 느린 실행만, 지문마다 한 번씩 수집해야 한다")
+    @Test
+    void shouldExplain_OnlyOutliersOncePerInterval() {
+        // given
+        String sql = "select * from product_post_card order by post_id desc limit ?";
+        QueryStats stats = null;
+        for (int i = 0; i < 100; i++) {
+            stats = queryMetricsRegistry.record(sql, 20_000, 6, false);
+        }
+
+        // when
+        QueryStats slow = queryMetricsRegistry.record(sql, 400_000, 6, false);
+        boolean first = queryMetricsRegistry.shouldExplain(slow, 400_000);
+        boolean second = queryMetricsRegistry.shouldExplain(slow, 400_000);
+        boolean normal = queryMetricsRegistry.shouldExplain(stats, 20_000);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(normal).isFalse();
+    }
+
+    @DisplayName("[explain] 별도 커넥션으로 EXPLAIN 한 결과를 지문의 마지막 실행 계획으로 저장해야 한다")
+    @Test
+    void explain_ShouldStorePlan() throws Exception {
+        // given
+        QueryStats stats = queryMetricsRegistry.record("select * from post where id = ?", 400_000, 1, false);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("EXPLAIN select * from post where id = 1")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString(1)).thenReturn("Index Scan using post_pkey on post", "  Index Cond: (id = 1)");
+
+        // when
+        queryMetricsRegistry.explain(stats, "select * from post where id = 1", 400_000);
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(task.capture(), any(Instant.class));
+        task.getValue().run();
+
+        // then
+        ExplainSample sample = queryMetricsRegistry.getMetrics(QueryMetricsSort.COUNT, 1).get(0).lastExplain();
+        assertThat(sample.elapsedMicros()).isEqualTo(400_000);
+        assertThat(sample.plan()).isEqualTo("Index Scan using post_pkey on post\n  Index Cond: (id = 1)");
+    }
+}
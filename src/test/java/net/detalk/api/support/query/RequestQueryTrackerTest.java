@@ -0,0 +1,138 @@
+package net.detalk.api.support.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import net.detalk.api.alarm.service.AlarmSender;
+import net.detalk.api.support.config.AppProperties;
+import net.detalk.api.support.web.listener.PerformanceListener;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class RequestQueryTrackerTest {
+
+    @Mock
+    private AlarmSender alarmSender;
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private RequestQueryTracker requestQueryTracker;
+    private DSLContext dsl;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setQueryBudgetPerRequest(3);
+        appProperties.setQueryBudgets(Map.of("POST /api/v1/products/posts", 20));
+        appProperties.setQueryRepeatedStatementThreshold(5);
+
+        requestQueryTracker = new RequestQueryTracker(appProperties);
+        QueryMetricsRegistry queryMetricsRegistry = new QueryMetricsRegistry(dataSource, taskScheduler,
+            appProperties);
+
+        // 실제 DB 대신 빈 결과를 돌려주는 JDBC 커넥션, jOOQ ExecuteListener 는 그대로 호출된다
+        DSLContext mockDsl = DSL.using(SQLDialect.POSTGRES);
+        MockConnection connection = new MockConnection(ctx -> new MockResult[]{
+            new MockResult(0, mockDsl.newResult(DSL.field("id", Long.class)))
+        });
+        dsl = DSL.using(new DefaultConfiguration()
+            .set(connection)
+            .set(SQLDialect.POSTGRES)
+            .set(new PerformanceListener(alarmSender, queryMetricsRegistry, requestQueryTracker)));
+    }
+
+    @DisplayName("[record] 범위 안에서 실행한 쿼리 수와 반복 쿼리를 집계해야 한다")
+    @Test
+    void record_ShouldCountQueriesInScope() {
+        // when
+        RequestQueryStats stats;
+        try (RequestQueryScope scope = requestQueryTracker.begin("abcd1234")) {
+            dsl.fetch("select id from member where id = ?", 1L);
+            for (long postId = 1; postId <= 5; postId++) {
+                dsl.fetch("select id from product_post where id = ?", postId);
+            }
+            stats = scope.stats();
+        }
+
+        // then
+        assertThat(stats.correlationId()).isEqualTo("abcd1234");
+        assertThat(stats.queryCount()).isEqualTo(6);
+        assertThat(stats.maxStatementCount()).isEqualTo(5);
+        assertThat(stats.repeatedStatements(5))
+            .containsOnlyKeys("select id from product_post where id = ?");
+    }
+
+    @DisplayName("[record] 열린 범위가 없는 스레드의 쿼리는 집계하지 않고, 안쪽 범위의 쿼리는 바깥 범위에도 집계해야 한다")
+    @Test
+    void record_OutsideScope_ShouldIgnore_NestedScope_ShouldPropagate() {
+        // given
+        dsl.fetch("select id from member");
+
+        // when
+        RequestQueryStats outer;
+        RequestQueryStats inner;
+        try (RequestQueryScope outerScope = requestQueryTracker.begin("outer")) {
+            dsl.fetch("select id from member");
+            try (RequestQueryScope innerScope = requestQueryTracker.begin("inner")) {
+                dsl.fetch("select id from tag");
+                inner = innerScope.stats();
+            }
+            outer = outerScope.stats();
+        }
+
+        // then
+        assertThat(inner.queryCount()).isEqualTo(1);
+        assertThat(outer.queryCount()).isEqualTo(2);
+    }
+
+    @DisplayName("[checkBudget] 엔드포인트 예산을 넘거나 같은 쿼리를 반복하면 경고 대상이어야 한다")
+    @Test
+    void checkBudget_ShouldUseEndpointBudgetAndRepeatedStatements() {
+        // given
+        RequestQueryStats fourDistinct = new RequestQueryStats("a", 4, 1_000,
+            Map.of("q1", 1, "q2", 1, "q3", 1, "q4", 1));
+        RequestQueryStats nPlusOne = new RequestQueryStats("b", 6, 1_000, Map.of("q1", 1, "q2", 5));
+
+        // when & then
+        assertThat(requestQueryTracker.checkBudget("GET /api/v1/products/posts", fourDistinct)).isTrue();
+        assertThat(requestQueryTracker.checkBudget("POST /api/v1/products/posts", fourDistinct)).isFalse();
+        assertThat(requestQueryTracker.checkBudget("POST /api/v1/products/posts", nPlusOne)).isTrue();
+    }
+
+    @DisplayName("[QueryCountAssertions] 최대 쿼리 수를 넘거나 N+1 이면 AssertionError 가 발생해야 한다")
+    @Test
+    void queryCountAssertions_ShouldFailOverBudget() {
+        // when & then
+        QueryCountAssertions.assertMaxQueries(requestQueryTracker, 2, () -> {
+            dsl.fetch("select id from member");
+            dsl.fetch("select id from tag");
+        });
+
+        assertThatThrownBy(() -> QueryCountAssertions.assertMaxQueries(requestQueryTracker, 1, () -> {
+            dsl.fetch("select id from member");
+            dsl.fetch("select id from tag");
+        })).isInstanceOf(AssertionError.class)
+            .hasMessageContaining("select id from tag");
+
+        assertThatThrownBy(() -> QueryCountAssertions.assertNoRepeatedStatements(requestQueryTracker, 1, () -> {
+            dsl.fetch("select id from product_post where id = ?", 1L);
+            dsl.fetch("select id from product_post where id = ?", 2L);
+        })).isInstanceOf(AssertionError.class);
+    }
+}
@@ -0,0 +1,57 @@
+package net.detalk.api.support.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SecurityAuthoritiesTest {
+
+    @Test
+    @DisplayName("[of] 같은 역할 조합이면 같은 불변 인스턴스를 반환한다")
+    void of_SameRoles_ShouldReturnInternedInstance() {
+        // given
+        List<String> first = new ArrayList<>(List.of("ROLE_MEMBER", "ROLE_ADMIN"));
+        List<String> second = List.of("ROLE_MEMBER", "ROLE_ADMIN");
+
+        // when
+        SecurityAuthorities authorities = SecurityAuthorities.of(first);
+
+        // then
+        assertThat(SecurityAuthorities.of(second)).isSameAs(authorities);
+        assertThat(authorities.getAuthorities())
+            .extracting("authority")
+            .containsExactly("ROLE_MEMBER", "ROLE_ADMIN");
+        assertThatThrownBy(() -> authorities.getAuthorities().clear())
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("[hasAnyRole] 요구 역할 중 하나라도 가지고 있으면 true")
+    void hasAnyRole_ShouldCheckRoleMask() {
+        // given
+        SecurityAuthorities member = SecurityAuthorities.of(List.of("ROLE_MEMBER"));
+        SecurityAuthorities unknown = SecurityAuthorities.of(List.of("ROLE_UNKNOWN"));
+
+        // then
+        assertThat(member.hasAnyRole(SecurityRole.maskOf(SecurityRole.MEMBER))).isTrue();
+        assertThat(member.hasAnyRole(SecurityRole.maskOf(SecurityRole.MEMBER, SecurityRole.ADMIN))).isTrue();
+        assertThat(member.hasAnyRole(SecurityRole.maskOf(SecurityRole.ADMIN))).isFalse();
+        assertThat(unknown.getRoleMask()).isZero();
+    }
+
+    @Test
+    @DisplayName("[SecurityUser] 권한 목록으로 생성해도 역할 비트마스크가 계산된다")
+    void securityUser_FromGrantedAuthorities_ShouldComputeRoleMask() {
+        // when
+        SecurityUser user = new SecurityUser(1L, List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+
+        // then
+        assertThat(user.getRoleMask()).isEqualTo(SecurityRole.ADMIN.getMask());
+        assertThat(user.hasAnyRole(SecurityRole.maskOf(SecurityRole.MEMBER))).isFalse();
+    }
+}
@@ -85,4 +85,37 @@ class TokenProviderTest {
             .isInstanceOf(ExpiredTokenException.class);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("같은 액세스 토큰은 두 번째부터 검증 캐시에서 조회")
+    void parseAccessTokenTwiceUsesCache() {
+        // given
+        AccessToken accessToken = tokenProvider.createAccessToken(1L, List.of("ROLE_MEMBER"));
+
+        // when
+        AccessToken first = tokenProvider.parseAccessToken(accessToken.getValue());
+        AccessToken second = tokenProvider.parseAccessToken(accessToken.getValue());
+
+        // then
+        assertThat(second).isSameAs(first);
+        TokenVerificationMetrics metrics = tokenProvider.getVerificationMetrics();
+        assertThat(metrics.verifyCount()).isEqualTo(1L);
+        assertThat(metrics.cacheHitCount()).isEqualTo(1L);
+        assertThat(metrics.cacheSize()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐시하지 않음")
+    void invalidTokenIsNotCached() {
+        // when
+        assertThatThrownBy(() -> tokenProvider.parseAccessToken("invalid.token.format"))
+            .isInstanceOf(TokenException.class);
+        assertThatThrownBy(() -> tokenProvider.parseAccessToken("invalid.token.format"))
+            .isInstanceOf(TokenException.class);
+
+        // then
+        TokenVerificationMetrics metrics = tokenProvider.getVerificationMetrics();
+        assertThat(metrics.verifyCount()).isEqualTo(2L);
+        assertThat(metrics.cacheHitCount()).isZero();
+    }
+
+}